@@ -1,11 +1,14 @@
 package com.myorg.automation.config;
 
+import com.myorg.automation.enums.EvictionPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Configuration Manager for the automation framework
@@ -15,30 +18,45 @@ import java.util.Properties;
  * 3. Environment variables
  * 
  * Priority order: System Properties > Environment Variables > Properties File > Default Values
+ * 
+ * All known keys are resolved once into an immutable {@link FrameworkConfig} snapshot, so the
+ * typed getters are field reads. {@link #reload()} (also run by {@link #reset()} and
+ * {@link #setProperty(String, String)}) replaces the snapshot atomically.
+ * 
+ * A {@link ConfigScope} open on the calling thread takes precedence over all sources, so
+ * parallel sessions can run with different settings without sharing System properties.
  */
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
     private static final String PROPERTIES_FILE = "framework.properties";
-    private static final Properties properties = new Properties();
-    private static volatile boolean initialized = false;
+    private static final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
     
     static {
-        initialize();
+        reload();
     }
     
     /**
-     * Initialize the configuration by loading properties from file
+     * Re-read framework.properties, System properties and environment variables and swap in
+     * a new configuration snapshot. Readers see either the old or the new snapshot, never a mix.
+     * @throws IllegalStateException if a value is invalid; the current snapshot is then kept
      */
-    private static synchronized void initialize() {
-        if (initialized) {
-            return;
-        }
-        
+    public static void reload() {
+        Properties fileProperties = loadPropertiesFile();
+        FrameworkConfig config = FrameworkConfig.load(key -> lookup(key, fileProperties));
+        snapshot.set(new Snapshot(fileProperties, config));
+        logConfiguration();
+    }
+    
+    /**
+     * Load framework.properties into a new Properties object
+     */
+    private static Properties loadPropertiesFile() {
+        Properties fileProperties = new Properties();
         try (InputStream inputStream = ConfigManager.class.getClassLoader()
                 .getResourceAsStream(PROPERTIES_FILE)) {
             
             if (inputStream != null) {
-                properties.load(inputStream);
+                fileProperties.load(inputStream);
                 logger.info("Configuration loaded from {}", PROPERTIES_FILE);
             } else {
                 logger.warn("Configuration file {} not found, using default values", PROPERTIES_FILE);
@@ -47,18 +65,55 @@ public class ConfigManager {
         } catch (IOException e) {
             logger.error("Error loading configuration file: {}", e.getMessage());
         }
-        
-        initialized = true;
-        logConfiguration();
+        return fileProperties;
+    }
+    
+    /**
+     * Get the configuration seen by the calling thread: its scope's, or the global snapshot
+     * @return FrameworkConfig
+     */
+    public static FrameworkConfig config() {
+        ConfigScope scope = ConfigScope.current();
+        return scope != null ? scope.getConfig() : snapshot.get().config;
     }
     
     /**
-     * Get string property value with fallback hierarchy
+     * Get the global configuration snapshot, ignoring any scope on the calling thread
+     * @return FrameworkConfig
+     */
+    public static FrameworkConfig globalConfig() {
+        return snapshot.get().config;
+    }
+    
+    /**
+     * Get string property value with fallback hierarchy.
+     * Known keys are faster to read through their typed getter or {@link #config()}.
      * @param key Property key
      * @param defaultValue Default value if property not found
      * @return Property value
      */
     public static String getProperty(String key, String defaultValue) {
+        ConfigScope scope = ConfigScope.current();
+        String value = scope != null ? scope.get(key) : null;
+        if (value == null) {
+            value = lookup(key);
+        }
+        return value != null ? value : defaultValue;
+    }
+    
+    /**
+     * Resolve a key from the global sources, ignoring scopes
+     * @return Value, or null if no source sets it
+     */
+    static String lookup(String key) {
+        return lookup(key, snapshot.get().fileProperties);
+    }
+    
+    /**
+     * Resolve a key: System properties, then environment variables, then the properties file
+     * @return Value, or null if no source sets it
+     */
+    private static String lookup(String key, Properties fileProperties) {
         // 1. Check system properties first (highest priority)
         String value = System.getProperty(key);
         if (value != null && !value.trim().isEmpty()) {
@@ -73,13 +128,12 @@ public class ConfigManager {
         }
         
         // 3. Check properties file
-        value = properties.getProperty(key);
+        value = fileProperties.getProperty(key);
         if (value != null && !value.trim().isEmpty()) {
             return value;
         }
         
-        // 4. Return default value
-        return defaultValue;
+        return null;
     }
     
     /**
@@ -167,43 +221,59 @@ public class ConfigManager {
     // ===================================
     
     public static String getBrowser() {
-        return getProperty("browser", "chrome");
+        return config().getBrowser();
     }
     
     public static boolean isHeadless() {
-        return getBooleanProperty("headless", false);
+        return config().isHeadless();
     }
     
     public static String getBrowserSize() {
-        return getProperty("browser.size", "1920x1080");
+        return config().getBrowserSize();
     }
     
     public static long getBrowserTimeout() {
-        return getLongProperty("browser.timeout", 10000);
+        return config().getBrowserTimeout().toMillis();
     }
     
     public static long getPageLoadTimeout() {
-        return getLongProperty("browser.page.load.timeout", 30000);
+        return config().getPageLoadTimeout().toMillis();
     }
     
     public static boolean shouldTakeScreenshots() {
-        return getBooleanProperty("browser.screenshots", true);
+        return config().shouldTakeScreenshots();
     }
     
     public static boolean shouldSavePageSource() {
-        return getBooleanProperty("browser.save.page.source", false);
+        return config().shouldSavePageSource();
     }
     
     public static String getReportsFolder() {
-        return getProperty("browser.reports.folder", "target/selenide-screenshots");
+        return config().getReportsFolder();
+    }
+    
+    public static boolean isBrowserPoolEnabled() {
+        return config().isBrowserPoolEnabled();
+    }
+    
+    public static boolean shouldWarmUpBrowserPool() {
+        return config().shouldWarmUpBrowserPool();
+    }
+    
+    public static int getBrowserPoolMaxUses() {
+        return config().getBrowserPoolMaxUses();
     }
     
     public static boolean shouldUseFastSetValue() {
-        return getBooleanProperty("browser.fast.set.value", true);
+        return config().shouldUseFastSetValue();
     }
     
     public static boolean shouldClickViaJS() {
-        return getBooleanProperty("browser.click.via.js", false);
+        return config().shouldClickViaJS();
+    }
+    
+    public static boolean shouldUseBatchExtraction() {
+        return config().shouldUseBatchExtraction();
     }
     
     // ===================================
@@ -211,32 +281,27 @@ public class ConfigManager {
     // ===================================
     
     public static String getBaseUrl() {
-        String environment = getEnvironment();
-        String envSpecificUrl = getProperty(environment + ".base.url");
-        if (envSpecificUrl != null) {
-            return envSpecificUrl;
-        }
-        return getProperty("base.url", "https://www.agoda.com");
+        return config().getBaseUrl();
     }
     
     public static String getApiBaseUrl() {
-        return getProperty("api.base.url", "https://api.agoda.com");
+        return config().getApiBaseUrl();
     }
     
     public static String getEnvironment() {
-        return getProperty("application.environment", "test");
+        return config().getEnvironment();
     }
     
     public static String getLocale() {
-        return getProperty("application.locale", "en-US");
+        return config().getLocale();
     }
     
     public static String getCurrency() {
-        return getProperty("application.currency", "USD");
+        return config().getCurrency();
     }
     
     public static String getTimezone() {
-        return getProperty("application.timezone", "UTC");
+        return config().getTimezone();
     }
     
     // ===================================
@@ -244,31 +309,135 @@ public class ConfigManager {
     // ===================================
     
     public static int getRetryAttempts() {
-        return getIntProperty("test.retry.attempts", 3);
+        return config().getRetryAttempts();
     }
     
     public static long getRetryDelay() {
-        return getLongProperty("test.retry.delay", 2000);
+        return config().getRetryDelay().toMillis();
+    }
+    
+    public static String getRetryPolicy() {
+        return config().getRetryPolicy().getValue();
+    }
+    
+    public static long getRetryMaxDelay() {
+        return config().getRetryMaxDelay().toMillis();
+    }
+    
+    public static double getRetryJitter() {
+        return config().getRetryJitter();
+    }
+    
+    public static long getRetryDeadline() {
+        return config().getRetryDeadline().toMillis();
     }
     
     public static int getParallelThreads() {
-        return getIntProperty("test.parallel.threads", 3);
+        return config().getParallelThreads();
     }
     
     public static long getShortTimeout() {
-        return getLongProperty("test.timeout.short", 2000);
+        return config().getShortTimeout().toMillis();
     }
     
     public static long getMediumTimeout() {
-        return getLongProperty("test.timeout.medium", 5000);
+        return config().getMediumTimeout().toMillis();
     }
     
     public static long getLongTimeout() {
-        return getLongProperty("test.timeout.long", 10000);
+        return config().getLongTimeout().toMillis();
     }
     
     public static long getExtraLongTimeout() {
-        return getLongProperty("test.timeout.extra.long", 30000);
+        return config().getExtraLongTimeout().toMillis();
+    }
+    
+    // ===================================
+    // Wait Configuration
+    // ===================================
+    
+    public static long getWaitPollInitial() {
+        return config().getWaitPollInitial().toMillis();
+    }
+    
+    public static long getWaitPollMax() {
+        return config().getWaitPollMax().toMillis();
+    }
+    
+    public static long getDomQuietPeriod() {
+        return config().getDomQuietPeriod().toMillis();
+    }
+    
+    public static long getNetworkQuietPeriod() {
+        return config().getNetworkQuietPeriod().toMillis();
+    }
+    
+    // ===================================
+    // Cache Configuration
+    // ===================================
+    
+    public static int getPageCacheMaxSize() {
+        return config().getPageCacheMaxSize();
+    }
+    
+    public static int getElementCacheMaxSize() {
+        return config().getElementCacheMaxSize();
+    }
+    
+    public static int getTestDataCacheMaxSize() {
+        return config().getTestDataCacheMaxSize();
+    }
+    
+    public static int getRenderedLocatorCacheMaxSize() {
+        return config().getRenderedLocatorCacheMaxSize();
+    }
+    
+    public static EvictionPolicy getCacheEvictionPolicy() {
+        return config().getCacheEvictionPolicy();
+    }
+    
+    // ===================================
+    // JSON Configuration
+    // ===================================
+    
+    public static boolean isJsonBlackbirdEnabled() {
+        return config().isJsonBlackbirdEnabled();
+    }
+    
+    public static boolean isJsonBundleEnabled() {
+        return config().isJsonBundleEnabled();
+    }
+    
+    // ===================================
+    // Page Preloading Configuration
+    // ===================================
+    
+    public static boolean isPagePreloadEnabled() {
+        return config().isPagePreloadEnabled();
+    }
+    
+    public static int getPagePreloadParallelism() {
+        return config().getPagePreloadParallelism();
+    }
+    
+    // ===================================
+    // Locator Optimization Configuration
+    // ===================================
+    
+    public static boolean isLocatorOptimizationEnabled() {
+        return config().isLocatorOptimizationEnabled();
+    }
+    
+    // ===================================
+    // Hot Reload Configuration
+    // ===================================
+    
+    public static boolean isHotReloadEnabled() {
+        return config().isHotReloadEnabled();
+    }
+    
+    public static List<String> getHotReloadDirectories() {
+        return config().getHotReloadDirectories();
     }
     
     // ===================================
@@ -276,27 +445,27 @@ public class ConfigManager {
     // ===================================
     
     public static String getAllureResultsDirectory() {
-        return getProperty("allure.results.directory", "target/allure-results");
+        return config().getAllureResultsDirectory();
     }
     
     public static String getAllureReportDirectory() {
-        return getProperty("allure.report.directory", "target/allure-report");
+        return config().getAllureReportDirectory();
     }
     
     public static String getAllureCategoriesFile() {
-        return getProperty("allure.categories.file", "allure-categories.json");
+        return config().getAllureCategoriesFile();
     }
     
     public static boolean shouldCleanAllureResults() {
-        return getBooleanProperty("allure.clean.results", true);
+        return config().shouldCleanAllureResults();
     }
     
     public static String getAllureStepMode() {
-        return getProperty("allure.step.mode", "strict");
+        return config().getAllureStepMode();
     }
     
     public static String getAllureAttachMode() {
-        return getProperty("allure.attach.mode", "on_failure");
+        return config().getAllureAttachMode();
     }
     
     // ===================================
@@ -304,47 +473,47 @@ public class ConfigManager {
     // ===================================
     
     public static String getHealeniumServerUrl() {
-        return getProperty("healenium.server.url", "http://localhost:7878");
+        return config().getHealeniumServerUrl();
     }
     
     public static String getHealeniumServerUser() {
-        return getProperty("healenium.server.user", "user");
+        return config().getHealeniumServerUser();
     }
     
     public static String getHealeniumServerPassword() {
-        return getProperty("healenium.server.password", "password");
+        return config().getHealeniumServerPassword();
     }
     
     public static boolean isHealeniumRecoveryEnabled() {
-        return getBooleanProperty("healenium.recovery.enabled", true);
+        return config().isHealeniumRecoveryEnabled();
     }
     
     public static int getHealeniumRecoveryTimeout() {
-        return getIntProperty("healenium.recovery.timeout", 10);
+        return (int) config().getHealeniumRecoveryTimeout().toSeconds();
     }
     
     public static double getHealeniumRestoreRatio() {
-        return getDoubleProperty("healenium.restore.ratio", 0.8);
+        return config().getHealeniumRestoreRatio();
     }
     
     public static double getHealeniumScoreThreshold() {
-        return getDoubleProperty("healenium.score.threshold", 0.5);
+        return config().getHealeniumScoreThreshold();
     }
     
     public static boolean isHealeniumHealEnabled() {
-        return getBooleanProperty("healenium.heal.enabled", true);
+        return config().isHealeniumHealEnabled();
     }
     
     public static boolean isHealeniumReportEnabled() {
-        return getBooleanProperty("healenium.report.enabled", true);
+        return config().isHealeniumReportEnabled();
     }
     
     public static String getHealeniumReportPath() {
-        return getProperty("healenium.report.path", "target/healenium-reports");
+        return config().getHealeniumReportPath();
     }
     
     public static String getHealeniumScreenshotPath() {
-        return getProperty("healenium.screenshot.path", "target/healenium-screenshots");
+        return config().getHealeniumScreenshotPath();
     }
     
     // ===================================
@@ -352,24 +521,19 @@ public class ConfigManager {
     // ===================================
     
     public static String getDatabaseUrl() {
-        String environment = getEnvironment();
-        String envSpecificUrl = getProperty(environment + ".database.url");
-        if (envSpecificUrl != null) {
-            return envSpecificUrl;
-        }
-        return getProperty("database.url", "jdbc:postgresql://localhost:5432/healenium");
+        return config().getDatabaseUrl();
     }
     
     public static String getDatabaseUser() {
-        return getProperty("database.user", "healenium_user");
+        return config().getDatabaseUser();
     }
     
     public static String getDatabasePassword() {
-        return getProperty("database.password", "healenium_pass");
+        return config().getDatabasePassword();
     }
     
     public static String getDatabaseSchema() {
-        return getProperty("database.schema", "healenium");
+        return config().getDatabaseSchema();
     }
     
     // ===================================
@@ -377,12 +541,29 @@ public class ConfigManager {
     // ===================================
     
     /**
-     * Set a property programmatically
+     * Set a property programmatically: in the calling thread's scope if one is open,
+     * otherwise globally as a System property
      * @param key Property key
      * @param value Property value
+     * @throws IllegalStateException if the value is invalid; the configuration is then unchanged
      */
     public static void setProperty(String key, String value) {
-        System.setProperty(key, value);
+        ConfigScope scope = ConfigScope.current();
+        if (scope != null) {
+            scope.set(key, value);
+        } else {
+            String previous = System.setProperty(key, value);
+            try {
+                reload();
+            } catch (IllegalStateException e) {
+                if (previous != null) {
+                    System.setProperty(key, previous);
+                } else {
+                    System.clearProperty(key);
+                }
+                throw e;
+            }
+        }
         logger.debug("Property '{}' set to '{}'", key, value);
     }
     
@@ -403,15 +584,25 @@ public class ConfigManager {
     public static Properties getPropertiesWithPrefix(String prefix) {
         Properties result = new Properties();
         
+        // Check scope overrides of the calling thread
+        ConfigScope scope = ConfigScope.current();
+        if (scope != null) {
+            scope.getOverrides().forEach((key, value) -> {
+                if (key.startsWith(prefix)) {
+                    result.setProperty(key, value);
+                }
+            });
+        }
+        
         // Check system properties
         System.getProperties().forEach((key, value) -> {
-            if (key.toString().startsWith(prefix)) {
+            if (key.toString().startsWith(prefix) && !result.containsKey(key)) {
                 result.setProperty(key.toString(), value.toString());
             }
         });
         
         // Check loaded properties
-        properties.forEach((key, value) -> {
+        snapshot.get().fileProperties.forEach((key, value) -> {
             if (key.toString().startsWith(prefix) && !result.containsKey(key)) {
                 result.setProperty(key.toString(), value.toString());
             }
@@ -440,9 +631,20 @@ public class ConfigManager {
     /**
      * Reset configuration (mainly for testing)
      */
-    public static synchronized void reset() {
-        properties.clear();
-        initialized = false;
-        initialize();
+    public static void reset() {
+        reload();
+    }
+    
+    /**
+     * Properties file contents and the config built from them, swapped together
+     */
+    private static final class Snapshot {
+        private final Properties fileProperties;
+        private final FrameworkConfig config;
+        
+        private Snapshot(Properties fileProperties, FrameworkConfig config) {
+            this.fileProperties = fileProperties;
+            this.config = config;
+        }
     }
-}
\ No newline at end of file
+}
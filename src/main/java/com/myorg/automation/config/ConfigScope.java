@@ -0,0 +1,128 @@
+package com.myorg.automation.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ConfigScope - Thread-bound configuration overrides layered on top of {@link ConfigManager}
+ *
+ * While a scope is open on a thread, every ConfigManager getter on that thread sees the
+ * overridden values and other threads keep seeing their own. This lets parallel test classes
+ * use different browsers, sizes, timeouts or base URLs in one JVM without touching System
+ * properties. Scopes nest; closing one restores the enclosing scope.
+ *
+ * <pre>
+ * try (ConfigScope scope = ConfigScope.open(Map.of("browser", "firefox"))) {
+ *     ConfigManager.getBrowser(); // "firefox" on this thread only
+ * }
+ * </pre>
+ */
+public final class ConfigScope implements AutoCloseable {
+    private static final ThreadLocal<ConfigScope> current = new ThreadLocal<>();
+
+    private final ConfigScope parent;
+    private final Thread owner;
+    private final Map<String, String> overrides;
+    private volatile FrameworkConfig config;
+
+    private ConfigScope(ConfigScope parent, Map<String, String> overrides) {
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+        this.overrides = new HashMap<>();
+        if (parent != null) {
+            this.overrides.putAll(parent.overrides);
+        }
+        this.overrides.putAll(overrides);
+        this.config = build();
+    }
+
+    /**
+     * Open a scope on the calling thread
+     * @param overrides Property keys and values that take precedence over all other sources
+     * @return The new scope, to be closed on the same thread
+     * @throws IllegalStateException if an override is invalid
+     */
+    public static ConfigScope open(Map<String, String> overrides) {
+        ConfigScope scope = new ConfigScope(current.get(), overrides);
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return The calling thread's innermost scope, or null when none is open
+     */
+    public static ConfigScope current() {
+        return current.get();
+    }
+
+    private FrameworkConfig build() {
+        return FrameworkConfig.load(key -> {
+            String value = overrides.get(key);
+            return value != null ? value : ConfigManager.lookup(key);
+        });
+    }
+
+    /**
+     * @return Typed configuration of this scope
+     */
+    public FrameworkConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @param key Property key
+     * @return Overridden value, or null when this scope does not override the key
+     */
+    public String get(String key) {
+        return overrides.get(key);
+    }
+
+    /**
+     * Override one more key in this scope
+     * @param key Property key
+     * @param value Property value
+     * @throws IllegalStateException if the value is invalid; the scope is then unchanged
+     */
+    public void set(String key, String value) {
+        String previous = overrides.put(key, value);
+        try {
+            config = build();
+        } catch (IllegalStateException e) {
+            if (previous != null) {
+                overrides.put(key, previous);
+            } else {
+                overrides.remove(key);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return All overrides visible in this scope, including those of enclosing scopes
+     */
+    public Map<String, String> getOverrides() {
+        return Collections.unmodifiableMap(overrides);
+    }
+
+    /**
+     * Close this scope and restore the enclosing one
+     * @throws IllegalStateException if called from another thread or out of nesting order
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() != owner || current.get() != this) {
+            throw new IllegalStateException("Config scope must be closed on its own thread, innermost first");
+        }
+        if (parent != null) {
+            current.set(parent);
+        } else {
+            current.remove();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigScope" + overrides;
+    }
+}
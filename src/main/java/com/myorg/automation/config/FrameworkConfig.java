@@ -0,0 +1,673 @@
+package com.myorg.automation.config;
+
+import com.myorg.automation.enums.EvictionPolicy;
+import com.myorg.automation.enums.RetryPolicyType;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * FrameworkConfig - Immutable, typed snapshot of every known framework setting
+ *
+ * All keys are resolved, parsed and validated once when the snapshot is built; reading a
+ * value afterwards is a plain field access. Timeouts are exposed as {@link Duration}s in the
+ * unit their key is written in (milliseconds, except healenium.recovery.timeout in seconds).
+ * {@link ConfigManager} holds the current snapshot and replaces it as a whole on reload.
+ */
+public final class FrameworkConfig {
+    private static final Pattern BROWSER_SIZE = Pattern.compile("\\d+x\\d+");
+
+    // Browser
+    private final String browser;
+    private final boolean headless;
+    private final String browserSize;
+    private final Duration browserTimeout;
+    private final Duration pageLoadTimeout;
+    private final boolean screenshots;
+    private final boolean savePageSource;
+    private final String reportsFolder;
+    private final boolean browserPoolEnabled;
+    private final boolean browserPoolWarmUp;
+    private final int browserPoolMaxUses;
+    private final boolean fastSetValue;
+    private final boolean clickViaJs;
+    private final boolean batchExtraction;
+
+    // Application
+    private final String environment;
+    private final String baseUrl;
+    private final String apiBaseUrl;
+    private final String locale;
+    private final String currency;
+    private final String timezone;
+
+    // Test execution
+    private final int retryAttempts;
+    private final Duration retryDelay;
+    private final RetryPolicyType retryPolicy;
+    private final Duration retryMaxDelay;
+    private final double retryJitter;
+    private final Duration retryDeadline;
+    private final int parallelThreads;
+    private final Duration shortTimeout;
+    private final Duration mediumTimeout;
+    private final Duration longTimeout;
+    private final Duration extraLongTimeout;
+
+    // Wait
+    private final Duration waitPollInitial;
+    private final Duration waitPollMax;
+    private final Duration domQuietPeriod;
+    private final Duration networkQuietPeriod;
+
+    // Cache
+    private final int pageCacheMaxSize;
+    private final int elementCacheMaxSize;
+    private final int testDataCacheMaxSize;
+    private final int renderedLocatorCacheMaxSize;
+    private final EvictionPolicy cacheEvictionPolicy;
+
+    // JSON
+    private final boolean jsonBlackbirdEnabled;
+    private final boolean jsonBundleEnabled;
+
+    // Page preloading
+    private final boolean pagePreloadEnabled;
+    private final int pagePreloadParallelism;
+
+    // Locator optimization
+    private final boolean locatorOptimizationEnabled;
+
+    // Hot reload
+    private final boolean hotReloadEnabled;
+    private final List<String> hotReloadDirectories;
+
+    // Reporting
+    private final String allureResultsDirectory;
+    private final String allureReportDirectory;
+    private final String allureCategoriesFile;
+    private final boolean cleanAllureResults;
+    private final String allureStepMode;
+    private final String allureAttachMode;
+
+    // Healenium
+    private final String healeniumServerUrl;
+    private final String healeniumServerUser;
+    private final String healeniumServerPassword;
+    private final boolean healeniumRecoveryEnabled;
+    private final Duration healeniumRecoveryTimeout;
+    private final double healeniumRestoreRatio;
+    private final double healeniumScoreThreshold;
+    private final boolean healeniumHealEnabled;
+    private final boolean healeniumReportEnabled;
+    private final String healeniumReportPath;
+    private final String healeniumScreenshotPath;
+
+    // Database
+    private final String databaseUrl;
+    private final String databaseUser;
+    private final String databasePassword;
+    private final String databaseSchema;
+
+    private FrameworkConfig(Resolver r) {
+        browser = r.string("browser", "chrome");
+        headless = r.bool("headless", false);
+        browserSize = r.string("browser.size", "1920x1080");
+        browserTimeout = r.positiveDuration("browser.timeout", 10000, ChronoUnit.MILLIS);
+        pageLoadTimeout = r.positiveDuration("browser.page.load.timeout", 30000, ChronoUnit.MILLIS);
+        screenshots = r.bool("browser.screenshots", true);
+        savePageSource = r.bool("browser.save.page.source", false);
+        reportsFolder = r.string("browser.reports.folder", "target/selenide-screenshots");
+        browserPoolEnabled = r.bool("browser.pool.enabled", true);
+        browserPoolWarmUp = r.bool("browser.pool.warmup", true);
+        browserPoolMaxUses = r.positiveInt("browser.pool.max.uses", 20);
+        fastSetValue = r.bool("browser.fast.set.value", true);
+        clickViaJs = r.bool("browser.click.via.js", false);
+        batchExtraction = r.bool("browser.batch.extraction", true);
+
+        environment = r.string("application.environment", "test");
+        baseUrl = r.string(environment + ".base.url", r.string("base.url", "https://www.agoda.com"));
+        apiBaseUrl = r.string("api.base.url", "https://api.agoda.com");
+        locale = r.string("application.locale", "en-US");
+        currency = r.string("application.currency", "USD");
+        timezone = r.string("application.timezone", "UTC");
+
+        retryAttempts = r.positiveInt("test.retry.attempts", 3);
+        retryDelay = r.duration("test.retry.delay", 500, ChronoUnit.MILLIS);
+        retryPolicy = r.retryPolicy("test.retry.policy", RetryPolicyType.EXPONENTIAL);
+        retryMaxDelay = r.duration("test.retry.max.delay", 5000, ChronoUnit.MILLIS);
+        retryJitter = r.ratio("test.retry.jitter", 0.2);
+        retryDeadline = r.positiveDuration("test.retry.deadline", 15000, ChronoUnit.MILLIS);
+        parallelThreads = r.positiveInt("test.parallel.threads", 3);
+        shortTimeout = r.positiveDuration("test.timeout.short", 2000, ChronoUnit.MILLIS);
+        mediumTimeout = r.positiveDuration("test.timeout.medium", 5000, ChronoUnit.MILLIS);
+        longTimeout = r.positiveDuration("test.timeout.long", 10000, ChronoUnit.MILLIS);
+        extraLongTimeout = r.positiveDuration("test.timeout.extra.long", 30000, ChronoUnit.MILLIS);
+
+        waitPollInitial = r.positiveDuration("wait.poll.initial", 50, ChronoUnit.MILLIS);
+        waitPollMax = r.positiveDuration("wait.poll.max", 500, ChronoUnit.MILLIS);
+        domQuietPeriod = r.duration("wait.dom.quiet.period", 250, ChronoUnit.MILLIS);
+        networkQuietPeriod = r.duration("wait.network.quiet.period", 500, ChronoUnit.MILLIS);
+
+        pageCacheMaxSize = r.positiveInt("cache.pages.max.size", 256);
+        elementCacheMaxSize = r.positiveInt("cache.elements.max.size", 512);
+        testDataCacheMaxSize = r.positiveInt("cache.testdata.max.size", 128);
+        renderedLocatorCacheMaxSize = r.positiveInt("cache.locators.rendered.max.size", 32);
+        cacheEvictionPolicy = r.evictionPolicy("cache.eviction.policy", EvictionPolicy.LRU);
+
+        jsonBlackbirdEnabled = r.bool("json.blackbird.enabled", false);
+        jsonBundleEnabled = r.bool("json.bundle.enabled", false);
+
+        pagePreloadEnabled = r.bool("pages.preload.enabled", true);
+        pagePreloadParallelism = r.positiveInt("pages.preload.parallelism", Runtime.getRuntime().availableProcessors());
+
+        locatorOptimizationEnabled = r.bool("locators.optimize.enabled", false);
+
+        hotReloadEnabled = r.bool("hot.reload.enabled", false);
+        hotReloadDirectories = Arrays.stream(r.string("hot.reload.directories", "src/main/resources,src/test/resources").split(","))
+                .map(String::trim)
+                .filter(directory -> !directory.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+
+        allureResultsDirectory = r.string("allure.results.directory", "target/allure-results");
+        allureReportDirectory = r.string("allure.report.directory", "target/allure-report");
+        allureCategoriesFile = r.string("allure.categories.file", "allure-categories.json");
+        cleanAllureResults = r.bool("allure.clean.results", true);
+        allureStepMode = r.string("allure.step.mode", "strict");
+        allureAttachMode = r.string("allure.attach.mode", "on_failure");
+
+        healeniumServerUrl = r.string("healenium.server.url", "http://localhost:7878");
+        healeniumServerUser = r.string("healenium.server.user", "user");
+        healeniumServerPassword = r.string("healenium.server.password", "password");
+        healeniumRecoveryEnabled = r.bool("healenium.recovery.enabled", true);
+        healeniumRecoveryTimeout = r.positiveDuration("healenium.recovery.timeout", 10, ChronoUnit.SECONDS);
+        healeniumRestoreRatio = r.ratio("healenium.restore.ratio", 0.8);
+        healeniumScoreThreshold = r.ratio("healenium.score.threshold", 0.5);
+        healeniumHealEnabled = r.bool("healenium.heal.enabled", true);
+        healeniumReportEnabled = r.bool("healenium.report.enabled", true);
+        healeniumReportPath = r.string("healenium.report.path", "target/healenium-reports");
+        healeniumScreenshotPath = r.string("healenium.screenshot.path", "target/healenium-screenshots");
+
+        databaseUrl = r.string(environment + ".database.url",
+                r.string("database.url", "jdbc:postgresql://localhost:5432/healenium"));
+        databaseUser = r.string("database.user", "healenium_user");
+        databasePassword = r.string("database.password", "healenium_pass");
+        databaseSchema = r.string("database.schema", "healenium");
+
+        if (!BROWSER_SIZE.matcher(browserSize).matches()) {
+            r.error("browser.size", browserSize, "expected WIDTHxHEIGHT, e.g. 1920x1080");
+        }
+        if (waitPollMax.compareTo(waitPollInitial) < 0) {
+            r.error("wait.poll.max", waitPollMax.toMillis(), "must not be below wait.poll.initial (" + waitPollInitial.toMillis() + ")");
+        }
+        if (retryMaxDelay.compareTo(retryDelay) < 0) {
+            r.error("test.retry.max.delay", retryMaxDelay.toMillis(), "must not be below test.retry.delay (" + retryDelay.toMillis() + ")");
+        }
+    }
+
+    /**
+     * Resolve, parse and validate every known key
+     * @param lookup Raw value for a key, or null/blank when the key is not set
+     * @return New snapshot
+     * @throws IllegalStateException listing every invalid value
+     */
+    public static FrameworkConfig load(Function<String, String> lookup) {
+        Resolver resolver = new Resolver(lookup);
+        FrameworkConfig config = new FrameworkConfig(resolver);
+        if (!resolver.errors.isEmpty()) {
+            throw new IllegalStateException("Invalid framework configuration:" + System.lineSeparator()
+                    + "  " + String.join(System.lineSeparator() + "  ", resolver.errors));
+        }
+        return config;
+    }
+
+    // ===================================
+    // Browser Configuration
+    // ===================================
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public String getBrowserSize() {
+        return browserSize;
+    }
+
+    public Duration getBrowserTimeout() {
+        return browserTimeout;
+    }
+
+    public Duration getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    public boolean shouldTakeScreenshots() {
+        return screenshots;
+    }
+
+    public boolean shouldSavePageSource() {
+        return savePageSource;
+    }
+
+    public String getReportsFolder() {
+        return reportsFolder;
+    }
+
+    public boolean isBrowserPoolEnabled() {
+        return browserPoolEnabled;
+    }
+
+    public boolean shouldWarmUpBrowserPool() {
+        return browserPoolWarmUp;
+    }
+
+    public int getBrowserPoolMaxUses() {
+        return browserPoolMaxUses;
+    }
+
+    public boolean shouldUseFastSetValue() {
+        return fastSetValue;
+    }
+
+    public boolean shouldClickViaJS() {
+        return clickViaJs;
+    }
+
+    public boolean shouldUseBatchExtraction() {
+        return batchExtraction;
+    }
+
+    // ===================================
+    // Application Configuration
+    // ===================================
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * @return &lt;environment&gt;.base.url if set, else base.url
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getApiBaseUrl() {
+        return apiBaseUrl;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getTimezone() {
+        return timezone;
+    }
+
+    // ===================================
+    // Test Execution Configuration
+    // ===================================
+
+    public int getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public RetryPolicyType getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public Duration getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    public double getRetryJitter() {
+        return retryJitter;
+    }
+
+    public Duration getRetryDeadline() {
+        return retryDeadline;
+    }
+
+    public int getParallelThreads() {
+        return parallelThreads;
+    }
+
+    public Duration getShortTimeout() {
+        return shortTimeout;
+    }
+
+    public Duration getMediumTimeout() {
+        return mediumTimeout;
+    }
+
+    public Duration getLongTimeout() {
+        return longTimeout;
+    }
+
+    public Duration getExtraLongTimeout() {
+        return extraLongTimeout;
+    }
+
+    // ===================================
+    // Wait Configuration
+    // ===================================
+
+    public Duration getWaitPollInitial() {
+        return waitPollInitial;
+    }
+
+    public Duration getWaitPollMax() {
+        return waitPollMax;
+    }
+
+    public Duration getDomQuietPeriod() {
+        return domQuietPeriod;
+    }
+
+    public Duration getNetworkQuietPeriod() {
+        return networkQuietPeriod;
+    }
+
+    // ===================================
+    // Cache Configuration
+    // ===================================
+
+    public int getPageCacheMaxSize() {
+        return pageCacheMaxSize;
+    }
+
+    public int getElementCacheMaxSize() {
+        return elementCacheMaxSize;
+    }
+
+    public int getTestDataCacheMaxSize() {
+        return testDataCacheMaxSize;
+    }
+
+    public int getRenderedLocatorCacheMaxSize() {
+        return renderedLocatorCacheMaxSize;
+    }
+
+    public EvictionPolicy getCacheEvictionPolicy() {
+        return cacheEvictionPolicy;
+    }
+
+    // ===================================
+    // JSON Configuration
+    // ===================================
+
+    public boolean isJsonBlackbirdEnabled() {
+        return jsonBlackbirdEnabled;
+    }
+
+    public boolean isJsonBundleEnabled() {
+        return jsonBundleEnabled;
+    }
+
+    // ===================================
+    // Page Preloading Configuration
+    // ===================================
+
+    public boolean isPagePreloadEnabled() {
+        return pagePreloadEnabled;
+    }
+
+    public int getPagePreloadParallelism() {
+        return pagePreloadParallelism;
+    }
+
+    // ===================================
+    // Locator Optimization Configuration
+    // ===================================
+
+    public boolean isLocatorOptimizationEnabled() {
+        return locatorOptimizationEnabled;
+    }
+
+    // ===================================
+    // Hot Reload Configuration
+    // ===================================
+
+    public boolean isHotReloadEnabled() {
+        return hotReloadEnabled;
+    }
+
+    public List<String> getHotReloadDirectories() {
+        return hotReloadDirectories;
+    }
+
+    // ===================================
+    // Reporting Configuration
+    // ===================================
+
+    public String getAllureResultsDirectory() {
+        return allureResultsDirectory;
+    }
+
+    public String getAllureReportDirectory() {
+        return allureReportDirectory;
+    }
+
+    public String getAllureCategoriesFile() {
+        return allureCategoriesFile;
+    }
+
+    public boolean shouldCleanAllureResults() {
+        return cleanAllureResults;
+    }
+
+    public String getAllureStepMode() {
+        return allureStepMode;
+    }
+
+    public String getAllureAttachMode() {
+        return allureAttachMode;
+    }
+
+    // ===================================
+    // Healenium Configuration
+    // ===================================
+
+    public String getHealeniumServerUrl() {
+        return healeniumServerUrl;
+    }
+
+    public String getHealeniumServerUser() {
+        return healeniumServerUser;
+    }
+
+    public String getHealeniumServerPassword() {
+        return healeniumServerPassword;
+    }
+
+    public boolean isHealeniumRecoveryEnabled() {
+        return healeniumRecoveryEnabled;
+    }
+
+    public Duration getHealeniumRecoveryTimeout() {
+        return healeniumRecoveryTimeout;
+    }
+
+    public double getHealeniumRestoreRatio() {
+        return healeniumRestoreRatio;
+    }
+
+    public double getHealeniumScoreThreshold() {
+        return healeniumScoreThreshold;
+    }
+
+    public boolean isHealeniumHealEnabled() {
+        return healeniumHealEnabled;
+    }
+
+    public boolean isHealeniumReportEnabled() {
+        return healeniumReportEnabled;
+    }
+
+    public String getHealeniumReportPath() {
+        return healeniumReportPath;
+    }
+
+    public String getHealeniumScreenshotPath() {
+        return healeniumScreenshotPath;
+    }
+
+    // ===================================
+    // Database Configuration
+    // ===================================
+
+    /**
+     * @return &lt;environment&gt;.database.url if set, else database.url
+     */
+    public String getDatabaseUrl() {
+        return databaseUrl;
+    }
+
+    public String getDatabaseUser() {
+        return databaseUser;
+    }
+
+    public String getDatabasePassword() {
+        return databasePassword;
+    }
+
+    public String getDatabaseSchema() {
+        return databaseSchema;
+    }
+
+    /**
+     * Parses raw values and collects every problem so that one load reports them all
+     */
+    private static final class Resolver {
+        private final Function<String, String> lookup;
+        private final List<String> errors = new ArrayList<>();
+
+        private Resolver(Function<String, String> lookup) {
+            this.lookup = lookup;
+        }
+
+        private String raw(String key) {
+            String value = lookup.apply(key);
+            return value != null && !value.trim().isEmpty() ? value.trim() : null;
+        }
+
+        private void error(String key, Object value, String problem) {
+            errors.add(String.format("%s='%s': %s", key, value, problem));
+        }
+
+        String string(String key, String defaultValue) {
+            String value = raw(key);
+            return value != null ? value : defaultValue;
+        }
+
+        boolean bool(String key, boolean defaultValue) {
+            String value = raw(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                error(key, value, "expected true or false");
+                return defaultValue;
+            }
+            return Boolean.parseBoolean(value);
+        }
+
+        int positiveInt(String key, int defaultValue) {
+            String value = raw(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                int parsed = Integer.parseInt(value);
+                if (parsed <= 0) {
+                    error(key, value, "must be positive");
+                    return defaultValue;
+                }
+                return parsed;
+            } catch (NumberFormatException e) {
+                error(key, value, "expected an integer");
+                return defaultValue;
+            }
+        }
+
+        double ratio(String key, double defaultValue) {
+            String value = raw(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                double parsed = Double.parseDouble(value);
+                if (parsed < 0 || parsed > 1) {
+                    error(key, value, "must be between 0 and 1");
+                    return defaultValue;
+                }
+                return parsed;
+            } catch (NumberFormatException e) {
+                error(key, value, "expected a number");
+                return defaultValue;
+            }
+        }
+
+        Duration duration(String key, long defaultAmount, ChronoUnit unit) {
+            return duration(key, defaultAmount, unit, false);
+        }
+
+        Duration positiveDuration(String key, long defaultAmount, ChronoUnit unit) {
+            return duration(key, defaultAmount, unit, true);
+        }
+
+        private Duration duration(String key, long defaultAmount, ChronoUnit unit, boolean positive) {
+            String value = raw(key);
+            if (value == null) {
+                return Duration.of(defaultAmount, unit);
+            }
+            try {
+                long parsed = Long.parseLong(value);
+                if (parsed < 0 || (positive && parsed == 0)) {
+                    error(key, value, positive ? "must be positive" : "must not be negative");
+                    return Duration.of(defaultAmount, unit);
+                }
+                return Duration.of(parsed, unit);
+            } catch (NumberFormatException e) {
+                error(key, value, "expected a whole number of " + unit.toString().toLowerCase());
+                return Duration.of(defaultAmount, unit);
+            }
+        }
+
+        RetryPolicyType retryPolicy(String key, RetryPolicyType defaultType) {
+            String value = raw(key);
+            RetryPolicyType type = RetryPolicyType.fromString(value, null);
+            if (value != null && type == null) {
+                error(key, value, "expected fixed, exponential or deadline");
+            }
+            return type != null ? type : defaultType;
+        }
+
+        EvictionPolicy evictionPolicy(String key, EvictionPolicy defaultPolicy) {
+            String value = raw(key);
+            EvictionPolicy policy = EvictionPolicy.fromString(value, null);
+            if (value != null && policy == null) {
+                error(key, value, "expected LRU or LFU");
+            }
+            return policy != null ? policy : defaultPolicy;
+        }
+    }
+}
@@ -12,13 +12,17 @@ import com.myorg.automation.core.elements.Collection;
 import com.myorg.automation.core.elements.DynamicLabel;
 import com.myorg.automation.core.elements.DynamicButton;
 import com.myorg.automation.core.elements.DynamicLink;
+import com.myorg.automation.core.elements.ElementTypeRegistry;
+import com.myorg.automation.config.ConfigManager;
 import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.cache.ConcurrentCache;
+import com.myorg.automation.core.locator.LocatorOptimizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Dynamic page object that loads elements from JSON definition
@@ -26,15 +30,32 @@ import java.util.Map;
 public class DynamicPage {
     private static final Logger logger = LoggerFactory.getLogger(DynamicPage.class);
     
-    private final PageDefinition pageDefinition;
-    private final Map<String, BaseElement> elementCache;
+    // Replaced by reload when the page JSON is re-read
+    private volatile PageDefinition pageDefinition;
+    private final ConcurrentCache<String, BaseElement> elementCache;
 
     public DynamicPage(PageDefinition pageDefinition) {
         this.pageDefinition = pageDefinition;
-        this.elementCache = new HashMap<>();
+        this.elementCache = new ConcurrentCache<>("elements:" + pageDefinition.getPageName(),
+                ConfigManager.getElementCacheMaxSize(), ConfigManager.getCacheEvictionPolicy());
         logger.info("Created DynamicPage for: {}", pageDefinition.getPageName());
     }
 
+    /**
+     * Get an element by name, typed by its JSON "type" (see ElementTypeRegistry)
+     * 
+     * @param elementName Name of the element in JSON definition
+     * @return Element instance of the registered type, e.g. a Button for "type": "Button"
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends BaseElement> T el(String elementName) {
+        ElementDefinition elementDef = pageDefinition.getElementByName(elementName);
+        if (elementDef == null) {
+            throw new RuntimeException(String.format(FrameworkConstants.ELEMENT_NOT_FOUND_ERROR, elementName, pageDefinition.getPageName()));
+        }
+        return (T) el(elementName, ElementTypeRegistry.typeOf(elementDef.getType()));
+    }
+
     /**
      * Get an element by name and type
      * 
@@ -45,33 +66,50 @@ public class DynamicPage {
     @SuppressWarnings("unchecked")
     public <T extends BaseElement> T el(String elementName, Class<T> elementType) {
         String cacheKey = elementName + "_" + elementType.getSimpleName();
-        
-        if (elementCache.containsKey(cacheKey)) {
-            return (T) elementCache.get(cacheKey);
-        }
+        return (T) elementCache.get(cacheKey, key -> createElement(elementName, elementType));
+    }
 
+    /**
+     * Creates an element instance based on the element definition and type
+     */
+    private <T extends BaseElement> T createElement(String elementName, Class<T> elementType) {
         ElementDefinition elementDef = pageDefinition.getElementByName(elementName);
         if (elementDef == null) {
             throw new RuntimeException(String.format(FrameworkConstants.ELEMENT_NOT_FOUND_ERROR, elementName, pageDefinition.getPageName()));
         }
+        String locator = LocatorOptimizer.optimize(elementDef.getLocator()).getLocator();
 
         try {
-            // Get constructor that takes locator and elementName
-            Constructor<T> constructor = elementType.getConstructor(String.class, String.class);
-            T element = constructor.newInstance(elementDef.getLocator(), elementName);
+            T element = ElementTypeRegistry.factoryFor(elementType).create(locator, elementName);
+            if (elementDef.isCacheHandle()) {
+                element.enableHandleCache();
+            }
             
-            elementCache.put(cacheKey, element);
             logger.debug("Created and cached {} element '{}' with locator: {}", 
-                elementType.getSimpleName(), elementName, elementDef.getLocator());
+                elementType.getSimpleName(), elementName, locator);
             
             return element;
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             throw new RuntimeException(String.format(FrameworkConstants.ELEMENT_CREATION_ERROR, 
                 elementType.getSimpleName() + " " + elementName + ": " + e.getMessage()), e);
         }
-    }    /**
-     * Creates an element instance based on the element definition and type
+    }
+
+    /**
+     * Gets the locator of an element
+     * 
+     * @param elementName Name of the element in JSON definition
+     * @return Locator string used to find the element, e.g. "css=button" for "xpath=//button" (see LocatorOptimizer)
+     * @throws RuntimeException if the page has no such element
      */
+    public String locatorOf(String elementName) {
+        ElementDefinition elementDef = pageDefinition.getElementByName(elementName);
+        if (elementDef == null) {
+            throw new RuntimeException(String.format(FrameworkConstants.ELEMENT_NOT_FOUND_ERROR, elementName, pageDefinition.getPageName()));
+        }
+        return LocatorOptimizer.optimize(elementDef.getLocator()).getLocator();
+    }
+
     /**
      * Gets the page URL
      * 
@@ -132,7 +170,33 @@ public class DynamicPage {
      */
     public void clearElementCache() {
         logger.info("Clearing element cache for page: {}", pageDefinition.getPageName());
-        elementCache.clear();
+        elementCache.invalidateAll();
+    }
+
+    /**
+     * Switch to a re-read definition of this page. Cached elements whose locator, type or handle caching changed,
+     * or that were removed, are dropped; the others are kept.
+     * 
+     * @param newDefinition Re-read definition of this page
+     * @return Names of the elements whose definition changed
+     */
+    public Set<String> reload(PageDefinition newDefinition) {
+        PageDefinition oldDefinition = pageDefinition;
+        pageDefinition = newDefinition;
+        Set<String> changed = new HashSet<>();
+        for (ElementDefinition oldElement : oldDefinition.getElements()) {
+            ElementDefinition newElement = newDefinition.getElementByName(oldElement.getName());
+            if (newElement == null
+                    || !Objects.equals(oldElement.getLocator(), newElement.getLocator())
+                    || !Objects.equals(oldElement.getType(), newElement.getType())
+                    || oldElement.isCacheHandle() != newElement.isCacheHandle()) {
+                changed.add(oldElement.getName());
+            }
+        }
+        // Cache keys are "<elementName>_<ElementClass>"
+        elementCache.invalidateIf(key -> changed.contains(key.substring(0, key.lastIndexOf('_'))));
+        logger.info("Reloaded DynamicPage {}: {} changed element(s) {}", newDefinition.getPageName(), changed.size(), changed);
+        return changed;
     }
 
     /**
@@ -144,6 +208,15 @@ public class DynamicPage {
         return elementCache.size();
     }
 
+    /**
+     * Gets the element cache statistics
+     * 
+     * @return Hit, miss and load-time statistics
+     */
+    public ConcurrentCache.Stats getCacheStats() {
+        return elementCache.stats();
+    }
+
     /**
      * Helper method to get Button element
      */
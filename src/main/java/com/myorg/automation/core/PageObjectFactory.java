@@ -1,21 +1,22 @@
 package com.myorg.automation.core;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.cache.ConcurrentCache;
 import com.myorg.automation.models.PageDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Factory class for creating DynamicPage instances from JSON page definitions
  */
 public class PageObjectFactory {
     private static final Logger logger = LoggerFactory.getLogger(PageObjectFactory.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final ConcurrentHashMap<String, DynamicPage> pageCache = new ConcurrentHashMap<>();
+    private static final ConcurrentCache<String, DynamicPage> pageCache = new ConcurrentCache<>(
+            "dynamic-pages", ConfigManager.getPageCacheMaxSize(), ConfigManager.getCacheEvictionPolicy());
     
     // Private constructor to prevent instantiation
     private PageObjectFactory() {}
@@ -30,36 +31,16 @@ public class PageObjectFactory {
     public static DynamicPage loadPage(String jsonFilePath) {
         logger.info("Loading page from JSON file: {}", jsonFilePath);
         
-        // Check cache first
-        if (pageCache.containsKey(jsonFilePath)) {
-            logger.info("Returning cached page for: {}", jsonFilePath);
-            return pageCache.get(jsonFilePath);
-        }
-        
-        try {
-            // Load JSON file from resources
-            InputStream inputStream = PageObjectFactory.class.getResourceAsStream(jsonFilePath);
-            if (inputStream == null) {
-                throw new RuntimeException("JSON file not found: " + jsonFilePath);
-            }
-            
-            // Parse JSON to PageDefinition
-            PageDefinition pageDefinition = objectMapper.readValue(inputStream, PageDefinition.class);
-            logger.info("Successfully parsed page definition: {}", pageDefinition.getPageName());
-            
-            // Create DynamicPage instance
-            DynamicPage dynamicPage = new DynamicPage(pageDefinition);
-            
-            // Cache the page
-            pageCache.put(jsonFilePath, dynamicPage);
-            
-            logger.info("Successfully loaded and cached page: {} from {}", pageDefinition.getPageName(), jsonFilePath);
-            return dynamicPage;
-            
-        } catch (IOException e) {
-            logger.error("Failed to load page from JSON file: {}", jsonFilePath, e);
-            throw new RuntimeException("Failed to load page from JSON file: " + jsonFilePath, e);
+        // Parsed once in the PageRepository, shared with JsonLocatorHelper
+        String key = PageRepository.resourcePath(jsonFilePath);
+        PageDefinition pageDefinition = PageRepository.getDefinition(key);
+        DynamicPage dynamicPage = pageCache.get(key, k -> new DynamicPage(pageDefinition));
+        if (dynamicPage.getPageDefinition() != pageDefinition) {
+            // The repository re-read the page since this DynamicPage was created; update it in
+            // place so callers holding it see the change
+            dynamicPage.reload(pageDefinition);
         }
+        return dynamicPage;
     }
 
     /**
@@ -78,7 +59,8 @@ public class PageObjectFactory {
      */
     public static void clearCache() {
         logger.info("Clearing page cache");
-        pageCache.clear();
+        pageCache.invalidateAll();
+        PageRepository.clear();
     }
 
     /**
@@ -88,7 +70,25 @@ public class PageObjectFactory {
      */
     public static void removeFromCache(String jsonFilePath) {
         logger.info("Removing page from cache: {}", jsonFilePath);
-        pageCache.remove(jsonFilePath);
+        pageCache.invalidate(PageRepository.resourcePath(jsonFilePath));
+        PageRepository.invalidate(jsonFilePath);
+    }
+
+    /**
+     * Brings a cached page object up to date with the PageRepository, e.g. after a hot reload;
+     * elements whose definition did not change stay cached
+     * 
+     * @param jsonFilePath Path to the JSON file
+     * @return Names of the elements that changed, empty if the page is not cached or unchanged
+     */
+    public static Set<String> refreshPage(String jsonFilePath) {
+        String key = PageRepository.resourcePath(jsonFilePath);
+        DynamicPage dynamicPage = pageCache.getIfPresent(key);
+        if (dynamicPage == null || !PageRepository.isCached(key)) {
+            return Collections.emptySet();
+        }
+        PageDefinition pageDefinition = PageRepository.getDefinition(key);
+        return dynamicPage.getPageDefinition() != pageDefinition ? dynamicPage.reload(pageDefinition) : Collections.emptySet();
     }
 
     /**
@@ -100,6 +100,15 @@ public class PageObjectFactory {
         return pageCache.size();
     }
 
+    /**
+     * Gets the page cache statistics
+     * 
+     * @return Hit, miss and load-time statistics
+     */
+    public static ConcurrentCache.Stats getCacheStats() {
+        return pageCache.stats();
+    }
+
     /**
      * Checks if a page is cached
      * 
@@ -107,7 +116,7 @@ public class PageObjectFactory {
      * @return true if page is cached, false otherwise
      */
     public static boolean isCached(String jsonFilePath) {
-        return pageCache.containsKey(jsonFilePath);
+        return pageCache.containsKey(PageRepository.resourcePath(jsonFilePath));
     }
 
     /**
@@ -121,29 +130,18 @@ public class PageObjectFactory {
     }
 
     /**
-     * Validates if a JSON file contains valid page definition
+     * Validates if a JSON file contains a valid page definition with syntactically valid locators
      * 
      * @param jsonFilePath Path to the JSON file
      * @return true if valid, false otherwise
      */
     public static boolean validatePageDefinition(String jsonFilePath) {
         try {
-            InputStream inputStream = PageObjectFactory.class.getResourceAsStream(jsonFilePath);
-            if (inputStream == null) {
-                logger.warn("JSON file not found: {}", jsonFilePath);
-                return false;
-            }
-            
-            PageDefinition pageDefinition = objectMapper.readValue(inputStream, PageDefinition.class);
-            
-            // Basic validation
-            if (pageDefinition.getPageName() == null || pageDefinition.getPageName().trim().isEmpty()) {
-                logger.warn("Page definition missing pageName: {}", jsonFilePath);
-                return false;
-            }
+            PageDefinition pageDefinition = PageRepository.getDefinition(jsonFilePath);
             
-            if (pageDefinition.getElements() == null || pageDefinition.getElements().isEmpty()) {
-                logger.warn("Page definition missing elements: {}", jsonFilePath);
+            List<String> problems = PagePreloader.validate(jsonFilePath, pageDefinition);
+            if (!problems.isEmpty()) {
+                problems.forEach(problem -> logger.warn("Invalid page definition: {}", problem));
                 return false;
             }
             
@@ -0,0 +1,215 @@
+package com.myorg.automation.core;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.locator.CompiledPage;
+import com.myorg.automation.core.locator.LocatorValidator;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * PagePreloader - Suite-start warm-up of all page JSON files
+ *
+ * Finds every pages/*.json on the classpath (directories and jars), parses the files in parallel
+ * on a ForkJoin pool into the shared {@link PageRepository} and syntax-checks every locator with
+ * {@link LocatorValidator}. All problems found are reported together in one exception, so a
+ * broken locator fails the run before any browser starts.
+ */
+public final class PagePreloader {
+    private static final Logger logger = LoggerFactory.getLogger(PagePreloader.class);
+    private static final String PAGES_DIRECTORY = "pages";
+    private static final String JSON_EXTENSION = ".json";
+
+    private PagePreloader() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Preload and validate all pages on the classpath
+     * @return Summary of the preloaded pages
+     * @throws IllegalStateException listing every page that cannot be loaded and every invalid locator
+     */
+    public static Report preloadAll() {
+        return preload(discoverPages(PagePreloader.class.getClassLoader()));
+    }
+
+    /**
+     * Preload and validate pages in parallel
+     * @param resourcePaths Page resource paths, e.g. "pages/AgodaHomePage.json"
+     * @return Summary of the preloaded pages
+     * @throws IllegalStateException listing every page that cannot be loaded and every invalid locator
+     */
+    public static Report preload(Collection<String> resourcePaths) {
+        long start = System.nanoTime();
+        int parallelism = Math.min(ConfigManager.getPagePreloadParallelism(), Math.max(1, resourcePaths.size()));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<String> problems = new ArrayList<>();
+        int elements = 0;
+        try {
+            List<ForkJoinTask<List<String>>> tasks = new ArrayList<>();
+            for (String resourcePath : resourcePaths) {
+                tasks.add(pool.submit(() -> load(resourcePath)));
+            }
+            for (ForkJoinTask<List<String>> task : tasks) {
+                problems.addAll(task.join());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException(String.format("Invalid page definitions:%n  %s",
+                    String.join(System.lineSeparator() + "  ", problems)));
+        }
+        for (String resourcePath : resourcePaths) {
+            elements += PageRepository.getDefinition(resourcePath).getElements().size();
+        }
+        Report report = new Report(resourcePaths.size(), elements, parallelism, System.nanoTime() - start);
+        logger.info("{}", report);
+        return report;
+    }
+
+    /**
+     * Parse one page into the repository and check its locators
+     * @return Problems found, empty if the page is valid
+     */
+    private static List<String> load(String resourcePath) {
+        CompiledPage page;
+        try {
+            page = PageRepository.get(resourcePath);
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return List.of(String.format("%s: %s", resourcePath, cause.getMessage()));
+        }
+        return validate(resourcePath, page.getDefinition());
+    }
+
+    /**
+     * Check a page definition and the syntax of its locators
+     * @param source Name used in the problem descriptions, e.g. the resource path
+     * @param definition Page definition
+     * @return Problems found, empty if the page is valid
+     */
+    public static List<String> validate(String source, PageDefinition definition) {
+        List<String> problems = new ArrayList<>();
+        if (definition.getPageName() == null || definition.getPageName().trim().isEmpty()) {
+            problems.add(source + ": missing pageName");
+        }
+        if (definition.getElements() == null || definition.getElements().isEmpty()) {
+            problems.add(source + ": missing elements");
+            return problems;
+        }
+        for (ElementDefinition element : definition.getElements()) {
+            String problem = LocatorValidator.validate(element.getLocator());
+            if (problem != null) {
+                problems.add(String.format("%s: element '%s': %s", source, element.getName(), problem));
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Find the page JSON files of a class loader
+     * @param classLoader Class loader to search
+     * @return Resource paths of all pages/*.json files, sorted; a file on several classpath entries is listed once
+     */
+    public static List<String> discoverPages(ClassLoader classLoader) {
+        TreeSet<String> resourcePaths = new TreeSet<>();
+        try {
+            Enumeration<URL> directories = classLoader.getResources(PAGES_DIRECTORY);
+            while (directories.hasMoreElements()) {
+                URL directory = directories.nextElement();
+                if ("file".equals(directory.getProtocol())) {
+                    addFromDirectory(Paths.get(directory.toURI()), resourcePaths);
+                } else if ("jar".equals(directory.getProtocol())) {
+                    addFromJar(directory, resourcePaths);
+                } else {
+                    logger.warn("Cannot list pages in {}", directory);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Failed to discover page JSON files on the classpath", e);
+        }
+        return new ArrayList<>(resourcePaths);
+    }
+
+    private static void addFromDirectory(Path directory, Collection<String> resourcePaths) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(JSON_EXTENSION))
+                    .forEach(name -> resourcePaths.add(PAGES_DIRECTORY + "/" + name));
+        }
+    }
+
+    private static void addFromJar(URL directory, Collection<String> resourcePaths) throws IOException {
+        URLConnection connection = directory.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+        connection.setUseCaches(false);
+        try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+            String prefix = PAGES_DIRECTORY + "/";
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(prefix) && name.endsWith(JSON_EXTENSION) && name.indexOf('/', prefix.length()) < 0) {
+                    resourcePaths.add(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Result of a preload run
+     */
+    public static final class Report {
+        private final int pages;
+        private final int elements;
+        private final int threads;
+        private final long nanos;
+
+        private Report(int pages, int elements, int threads, long nanos) {
+            this.pages = pages;
+            this.elements = elements;
+            this.threads = threads;
+            this.nanos = nanos;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public int getElements() {
+            return elements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Preloaded %d page(s), %d locator(s) validated on %d thread(s) in %.1f ms",
+                    pages, elements, threads, nanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.myorg.automation.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.cache.ConcurrentCache;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.json.JsonBundle;
+import com.myorg.automation.core.locator.CompiledPage;
+import com.myorg.automation.core.locator.LocatorRegistry;
+import com.myorg.automation.models.PageDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * PageRepository - The single parsed and cached form of every page JSON file
+ *
+ * Each file is parsed once into a {@link PageDefinition} and compiled into a {@link CompiledPage};
+ * both page stacks read from here: BasePage subclasses through JsonLocatorHelper and DynamicPage
+ * through PageObjectFactory. Pages may be named either way the stacks did, by page name
+ * ("AgodaHomePage") or by resource path ("/pages/AgodaHomePage.json"); both resolve to the same entry.
+ */
+public final class PageRepository {
+    private static final Logger logger = LoggerFactory.getLogger(PageRepository.class);
+    private static final String PAGES_DIRECTORY = "pages/";
+    private static final String JSON_EXTENSION = ".json";
+    private static final ConcurrentCache<String, CompiledPage> pages = new ConcurrentCache<>(
+            "pages", ConfigManager.getPageCacheMaxSize(), ConfigManager.getCacheEvictionPolicy());
+
+    private PageRepository() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Get a page, parsing and compiling it on first access
+     * @param page Page name or resource path
+     * @return CompiledPage holding the page definition and its compiled locators
+     */
+    public static CompiledPage get(String page) {
+        return pages.get(resourcePath(page), PageRepository::load);
+    }
+
+    /**
+     * Get the parsed definition of a page
+     * @param page Page name or resource path
+     * @return PageDefinition shared by both page stacks
+     */
+    public static PageDefinition getDefinition(String page) {
+        return get(page).getDefinition();
+    }
+
+    /**
+     * Resolve a page name or resource path to its cache key
+     * @param page "AgodaHomePage", "pages/AgodaHomePage.json" or "/pages/AgodaHomePage.json"
+     * @return Classpath resource path, e.g. "pages/AgodaHomePage.json"
+     */
+    public static String resourcePath(String page) {
+        if (page.endsWith(JSON_EXTENSION)) {
+            return page.startsWith("/") ? page.substring(1) : page;
+        }
+        return PAGES_DIRECTORY + page + JSON_EXTENSION;
+    }
+
+    private static CompiledPage load(String resourcePath) {
+        CompiledPage page = compile(resourcePath, readDefinition(resourcePath));
+        logger.info("Loaded page {} ({} elements) from {}", page.getDefinition().getPageName(), page.getLocators().size(), resourcePath);
+        return page;
+    }
+
+    private static CompiledPage compile(String resourcePath, PageDefinition definition) {
+        String fileName = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+        return LocatorRegistry.compile(fileName.substring(0, fileName.length() - JSON_EXTENSION.length()), definition);
+    }
+
+    /**
+     * Replace a page with a definition read elsewhere, e.g. an edited source file during hot reload.
+     * Readers see either the old or the new page, never a mix.
+     * @param page Page name or resource path
+     * @param definition New page definition
+     * @return Compiled new page
+     */
+    public static CompiledPage replace(String page, PageDefinition definition) {
+        String resourcePath = resourcePath(page);
+        CompiledPage compiled = compile(resourcePath, definition);
+        pages.put(resourcePath, compiled);
+        logger.info("Replaced page {} ({} elements) at {}", definition.getPageName(), compiled.getLocators().size(), resourcePath);
+        return compiled;
+    }
+
+    /**
+     * Read and parse a page JSON file (uncached)
+     */
+    private static PageDefinition readDefinition(String resourcePath) {
+        try {
+            JsonNode bundled = JsonBundle.get(resourcePath);
+            if (bundled != null) {
+                return FrameworkJson.mapper().treeToValue(bundled, PageDefinition.class);
+            }
+            try (InputStream inputStream = PageRepository.class.getClassLoader().getResourceAsStream(resourcePath)) {
+                if (inputStream == null) {
+                    throw new RuntimeException("Page JSON file not found: " + resourcePath);
+                }
+                return FrameworkJson.read(resourcePath, inputStream, PageDefinition.class);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("Failed to load page JSON: " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Remove a page so it is read again on next access
+     * @param page Page name or resource path
+     */
+    public static void invalidate(String page) {
+        pages.invalidate(resourcePath(page));
+    }
+
+    /**
+     * Remove all pages
+     */
+    public static void clear() {
+        pages.invalidateAll();
+        logger.info("Page repository cleared");
+    }
+
+    /**
+     * @param page Page name or resource path
+     * @return true if the page is parsed and cached
+     */
+    public static boolean isCached(String page) {
+        return pages.containsKey(resourcePath(page));
+    }
+
+    /**
+     * @return Number of cached pages
+     */
+    public static int size() {
+        return pages.size();
+    }
+
+    /**
+     * Get page cache statistics
+     * @return Hit, miss and load-time statistics
+     */
+    public static ConcurrentCache.Stats getCacheStats() {
+        return pages.stats();
+    }
+}
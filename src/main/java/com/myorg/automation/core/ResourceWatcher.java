@@ -0,0 +1,238 @@
+package com.myorg.automation.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.automation.utils.TestDataBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ResourceWatcher - Hot reload of page and test data JSON for local development
+ *
+ * Watches the pages/ and testdata/ directories of the source resource roots (hot.reload.directories)
+ * with a {@link WatchService}. An edited file is parsed on its own and swapped into the caches that
+ * serve its resource path: pages into the {@link PageRepository} (both page stacks) with cached
+ * DynamicPage elements of changed locators dropped, test data into TestDataBinder (which TestDataResolver reads).
+ * Nothing else is re-read and the browser keeps running. A file that no longer parses, or a page with
+ * an invalid locator, is reported and the previous content stays in use.
+ *
+ * Edits are read from the source directories, not the build output, so no rebuild is needed; element
+ * objects a test already holds keep their old locator until fetched again from the page.
+ */
+public final class ResourceWatcher implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceWatcher.class);
+    private static final String[] WATCHED_DIRECTORIES = {"pages", "testdata"};
+    private static final String JSON_EXTENSION = ".json";
+    // Editors write a file in several steps; changes arriving within this window are read once
+    private static final long SETTLE_MILLIS = 100;
+
+    private static ResourceWatcher instance;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final List<Path> roots;
+    private final Thread thread;
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private ResourceWatcher(List<Path> roots) throws IOException {
+        this.roots = roots.stream().map(root -> root.toAbsolutePath().normalize()).collect(Collectors.toList());
+        this.watchService = FileSystems.getDefault().newWatchService();
+        for (Path root : this.roots) {
+            for (String directory : WATCHED_DIRECTORIES) {
+                registerTree(root.resolve(directory));
+            }
+        }
+        this.thread = new Thread(this::run, "resource-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Start the suite-wide watcher if hot.reload.enabled is set; does nothing when it already runs
+     */
+    public static synchronized void startIfEnabled() {
+        if (instance != null || !ConfigManager.isHotReloadEnabled()) {
+            return;
+        }
+        List<Path> roots = ConfigManager.getHotReloadDirectories().stream()
+                .map(Paths::get)
+                .filter(Files::isDirectory)
+                .collect(Collectors.toList());
+        instance = start(roots);
+    }
+
+    /**
+     * Stop the suite-wide watcher, if running
+     */
+    public static synchronized void stopIfRunning() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Watch resource roots
+     * @param roots Resource roots whose pages/ and testdata/ directories are watched, e.g. src/test/resources
+     * @return Running watcher; close it to stop
+     */
+    public static ResourceWatcher start(List<Path> roots) {
+        try {
+            ResourceWatcher watcher = new ResourceWatcher(roots);
+            watcher.thread.start();
+            logger.info("Hot reload watching {} director(ies) under {}", watcher.directories.size(), roots);
+            return watcher;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start hot reload for " + roots, e);
+        }
+    }
+
+    private void registerTree(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> tree = Files.walk(directory)) {
+            for (Path path : tree.filter(Files::isDirectory).collect(Collectors.toList())) {
+                WatchKey key = path.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(key, path);
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(SETTLE_MILLIS);
+                Set<Path> changed = new LinkedHashSet<>();
+                while (key != null) {
+                    collect(key, changed);
+                    key = watchService.poll();
+                }
+                changed.forEach(this::reload);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (Files.isDirectory(file)) {
+                try {
+                    registerTree(file);
+                } catch (IOException e) {
+                    logger.warn("Hot reload cannot watch {}: {}", file, e.getMessage());
+                }
+            } else if (file.toString().endsWith(JSON_EXTENSION)) {
+                changed.add(file);
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Read one edited file and swap it into the caches
+     */
+    private void reload(Path file) {
+        String resourcePath = resourcePathOf(file);
+        if (resourcePath == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            boolean replaced = resourcePath.startsWith("pages/")
+                    ? reloadPage(resourcePath, FrameworkJson.read(resourcePath, inputStream, PageDefinition.class))
+                    : reloadTestData(resourcePath, FrameworkJson.readTree(resourcePath, inputStream));
+            (replaced ? reloads : failures).incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            logger.warn("Hot reload kept the previous {}: {}", resourcePath, e.getMessage());
+        }
+    }
+
+    private static boolean reloadPage(String resourcePath, PageDefinition definition) {
+        List<String> problems = PagePreloader.validate(resourcePath, definition);
+        if (!problems.isEmpty()) {
+            logger.warn("Hot reload kept the previous {}:{}  {}", resourcePath, System.lineSeparator(),
+                    String.join(System.lineSeparator() + "  ", problems));
+            return false;
+        }
+        PageRepository.replace(resourcePath, definition);
+        Set<String> changed = PageObjectFactory.refreshPage(resourcePath);
+        logger.info("Hot reloaded {} ({} changed element(s))", resourcePath, changed.size());
+        return true;
+    }
+
+    private static boolean reloadTestData(String resourcePath, JsonNode root) {
+        TestDataBinder.replace(resourcePath, root);
+        logger.info("Hot reloaded {}", resourcePath);
+        return true;
+    }
+
+    /**
+     * @return Classpath resource path of a file under one of the roots, e.g. "pages/AgodaHomePage.json"
+     */
+    private String resourcePathOf(Path file) {
+        for (Path root : roots) {
+            if (file.startsWith(root)) {
+                return root.relativize(file).toString().replace('\\', '/');
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Number of files swapped into the caches
+     */
+    public long getReloadCount() {
+        return reloads.get();
+    }
+
+    /**
+     * @return Number of edited files rejected, with the previous content kept
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Closing the watch service failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.myorg.automation.core.cache;
+
+import com.myorg.automation.enums.EvictionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe, bounded cache shared by the framework's page, locator, element and test data caches.
+ *
+ * Features:
+ * - Each entry is loaded exactly once per key (computeIfAbsent semantics), even under contention
+ * - Size cap with LRU or LFU eviction
+ * - Hit, miss, eviction and load-time statistics
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class ConcurrentCache<K, V> {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentCache.class);
+
+    private final String name;
+    private final int maxSize;
+    private final EvictionPolicy evictionPolicy;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    // Logical clock used to order accesses for LRU
+    private final AtomicLong accessClock = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * @param name Cache name used in logs and stats
+     * @param maxSize Maximum number of entries (must be positive)
+     * @param evictionPolicy Policy used to pick the entry to drop when the cache is full
+     */
+    public ConcurrentCache(String name, int maxSize, EvictionPolicy evictionPolicy) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache '" + name + "' max size must be positive: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * Get a value, loading it exactly once if it is absent.
+     * Concurrent callers for the same key block until the single load completes.
+     * A loader returning null caches nothing; a loader exception propagates and caches nothing.
+     *
+     * @param key Cache key
+     * @param loader Function computing the value for the key
+     * @return Cached or freshly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            entry.touch(accessClock.incrementAndGet());
+            return entry.value;
+        }
+
+        boolean[] loadedHere = {false};
+        entry = entries.computeIfAbsent(key, k -> {
+            loadedHere[0] = true;
+            misses.increment();
+            long start = System.nanoTime();
+            try {
+                V value = loader.apply(k);
+                return value == null ? null : new Entry<>(value, accessClock.incrementAndGet());
+            } finally {
+                loadNanos.add(System.nanoTime() - start);
+            }
+        });
+
+        if (loadedHere[0]) {
+            if (entry != null) {
+                evictIfNeeded(key);
+            }
+        } else if (entry != null) {
+            // Another thread finished the load while we waited for it
+            hits.increment();
+            entry.touch(accessClock.incrementAndGet());
+        }
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Get a value without loading it
+     * @param key Cache key
+     * @return Cached value or null
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.touch(accessClock.incrementAndGet());
+        return entry.value;
+    }
+
+    /**
+     * Put a value, replacing any existing one
+     * @param key Cache key
+     * @param value Value to cache
+     */
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(value, accessClock.incrementAndGet()));
+        evictIfNeeded(key);
+    }
+
+    /**
+     * Check if a key is cached
+     * @param key Cache key
+     * @return true if cached, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Remove a key
+     * @param key Cache key
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove the entries whose key matches
+     * @param predicate Condition on the key
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Remove all entries (statistics are kept)
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return Number of cached entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * @return Snapshot of the cache statistics
+     */
+    public Stats stats() {
+        return new Stats(name, hits.sum(), misses.sum(), evictions.sum(), loadNanos.sum(), entries.size());
+    }
+
+    /**
+     * Drop entries until the cache is back within its size cap, never dropping the key just added
+     */
+    private void evictIfNeeded(K protectedKey) {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        synchronized (evictionLock) {
+            while (entries.size() > maxSize) {
+                K victim = selectVictim(protectedKey);
+                if (victim == null || entries.remove(victim) == null) {
+                    return;
+                }
+                evictions.increment();
+                logger.debug("Cache '{}' evicted key '{}' ({})", name, victim, evictionPolicy.name());
+            }
+        }
+    }
+
+    private K selectVictim(K protectedKey) {
+        K victim = null;
+        long victimHits = Long.MAX_VALUE;
+        long victimAccess = Long.MAX_VALUE;
+        for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+            if (candidate.getKey().equals(protectedKey)) {
+                continue;
+            }
+            Entry<V> entry = candidate.getValue();
+            long entryHits = evictionPolicy == EvictionPolicy.LFU ? entry.hitCount.get() : 0;
+            long entryAccess = entry.lastAccess;
+            if (entryHits < victimHits || (entryHits == victimHits && entryAccess < victimAccess)) {
+                victim = candidate.getKey();
+                victimHits = entryHits;
+                victimAccess = entryAccess;
+            }
+        }
+        return victim;
+    }
+
+    @Override
+    public String toString() {
+        return stats().toString();
+    }
+
+    /**
+     * Cached value with access bookkeeping for eviction
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final AtomicLong hitCount = new AtomicLong();
+        private volatile long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+        private void touch(long tick) {
+            lastAccess = tick;
+            hitCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Immutable snapshot of cache statistics
+     */
+    public static final class Stats {
+        private final String cacheName;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long totalLoadTimeNanos;
+        private final int size;
+
+        Stats(String cacheName, long hitCount, long missCount, long evictionCount, long totalLoadTimeNanos, int size) {
+            this.cacheName = cacheName;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.totalLoadTimeNanos = totalLoadTimeNanos;
+            this.size = size;
+        }
+
+        public String getCacheName() {
+            return cacheName;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return Number of lookups that ran the loader (one per load)
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getTotalLoadTimeNanos() {
+            return totalLoadTimeNanos;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0.0 : (double) hitCount / requests;
+        }
+
+        public double getAverageLoadTimeMillis() {
+            return missCount == 0 ? 0.0 : totalLoadTimeNanos / 1_000_000.0 / missCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Cache '%s': size=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, " +
+                            "totalLoadTime=%.1fms, avgLoadTime=%.2fms",
+                    cacheName, size, hitCount, missCount, getHitRate() * 100, evictionCount,
+                    totalLoadTimeNanos / 1_000_000.0, getAverageLoadTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.myorg.automation.core.codegen;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * PageAccessorProcessor - Generates a typed accessor class for every page JSON during compilation
+ *
+ * For pages/AgodaHomePage.json it writes com.myorg.automation.pages.generated.AgodaHomePageElements
+ * with one method per element, e.g. {@code Textbox searchBox()}. Elements are built with a direct
+ * constructor call and kept in a field, so access is a plain field read the JIT can inline, and a
+ * misspelt or removed element is a compile error instead of a runtime lookup failure.
+ *
+ * Configured on the main compile in pom.xml, with the pages directory passed as
+ * -ApageAccessors.pagesDir and framework.properties as -ApageAccessors.properties. It runs inside
+ * javac before the framework classes exist, so it reads the JSON with its own mapper (same read
+ * features as FrameworkJson) and names element classes by string. Element types map to classes as
+ * in {@link #ELEMENT_TYPES}, which ElementTypeRegistry registers at runtime, plus the
+ * element.type.&lt;type&gt;=&lt;class&gt; entries of framework.properties. Any other type is
+ * generated as a Label with a warning; a duplicate name or a name that is not a Java identifier
+ * fails the compile.
+ *
+ * Locators are still read from the page definition at runtime, so only adding, renaming or
+ * removing elements needs a rebuild; Maven does not recompile for a JSON-only change, so run
+ * mvn clean compile after one.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({PageAccessorProcessor.PAGES_DIR_OPTION, PageAccessorProcessor.PACKAGE_OPTION,
+        PageAccessorProcessor.PROPERTIES_OPTION})
+public class PageAccessorProcessor extends AbstractProcessor {
+    static final String PAGES_DIR_OPTION = "pageAccessors.pagesDir";
+    static final String PACKAGE_OPTION = "pageAccessors.package";
+    static final String PROPERTIES_OPTION = "pageAccessors.properties";
+    /** Package of the built-in element classes named in {@link #ELEMENT_TYPES} */
+    public static final String ELEMENTS_PACKAGE = "com.myorg.automation.core.elements";
+    /** Configuration prefix of custom element types, element.type.&lt;type&gt;=&lt;class name&gt; */
+    public static final String ELEMENT_TYPE_PREFIX = "element.type.";
+    private static final String DEFAULT_PACKAGE = "com.myorg.automation.pages.generated";
+    private static final String DEFAULT_ELEMENT_TYPE = "Label";
+    private static final Set<String> RESERVED_NAMES = Set.of("load", "dynamicPage", "JSON_PATH");
+
+    /**
+     * Built-in JSON "type" values and the element class (in {@link #ELEMENTS_PACKAGE}) each one maps to.
+     * The single table of built-in types: ElementTypeRegistry registers exactly these at runtime
+     */
+    public static final Map<String, String> ELEMENT_TYPES = Map.ofEntries(
+            Map.entry("Button", "Button"),
+            Map.entry("Textbox", "Textbox"),
+            Map.entry("Label", "Label"),
+            Map.entry("Text", "Label"),
+            Map.entry("Element", "Label"),
+            Map.entry("Container", "Label"),
+            Map.entry("Checkbox", "Checkbox"),
+            Map.entry("Combobox", "Combobox"),
+            Map.entry("Dropdown", "Combobox"),
+            Map.entry("Option", "Button"),
+            Map.entry("Collection", "Collection"),
+            Map.entry("List", "ListElement"),
+            Map.entry("ListElement", "ListElement"),
+            Map.entry("Dynamic", "DynamicLabel"),
+            Map.entry("DynamicLabel", "DynamicLabel"),
+            Map.entry("DynamicButton", "DynamicButton"),
+            Map.entry("DynamicLink", "DynamicLink"));
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .build();
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated) {
+            return false;
+        }
+        generated = true;
+        String pagesDir = processingEnv.getOptions().get(PAGES_DIR_OPTION);
+        if (pagesDir == null) {
+            warning("No -A" + PAGES_DIR_OPTION + " given, no page accessors generated");
+            return false;
+        }
+        String packageName = processingEnv.getOptions().getOrDefault(PACKAGE_OPTION, DEFAULT_PACKAGE);
+        try {
+            Map<String, String> elementTypes = elementTypes(processingEnv.getOptions().get(PROPERTIES_OPTION));
+            for (Path file : findPages(Paths.get(pagesDir))) {
+                generate(file, packageName, elementTypes);
+            }
+        } catch (IOException e) {
+            error("Could not generate page accessors from " + pagesDir + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Built-in types with the element.type.* entries of the properties file on top, as ElementTypeRegistry
+     * resolves them; built-in classes by simple name, configured classes by fully qualified name
+     */
+    private static Map<String, String> elementTypes(String propertiesFile) throws IOException {
+        Map<String, String> elementTypes = new HashMap<>(ELEMENT_TYPES);
+        if (propertiesFile != null) {
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(Paths.get(propertiesFile))) {
+                properties.load(input);
+            }
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith(ELEMENT_TYPE_PREFIX)) {
+                    // Binary name as for Class.forName; nested classes are written Outer.Inner in source
+                    elementTypes.put(key.substring(ELEMENT_TYPE_PREFIX.length()),
+                            properties.getProperty(key).trim().replace('$', '.'));
+                }
+            }
+        }
+        return elementTypes;
+    }
+
+    private static List<Path> findPages(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private void generate(Path file, String packageName, Map<String, String> elementTypes) throws IOException {
+        String fileName = file.getFileName().toString();
+        JsonNode page = mapper.readTree(file.toFile());
+        String pageName = page.path("pageName").asText(fileName.substring(0, fileName.length() - ".json".length()));
+        String className = pageName + "Elements";
+        if (!isIdentifier(pageName)) {
+            error(String.format("%s: page name '%s' is not a valid Java class name", fileName, pageName));
+            return;
+        }
+
+        List<String[]> elements = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (JsonNode element : page.path("elements")) {
+            String name = element.path("name").asText("");
+            String type = element.path("type").asText(DEFAULT_ELEMENT_TYPE);
+            String elementClass = elementTypes.get(type);
+            if (elementClass == null) {
+                warning(String.format("%s: element '%s' has type '%s', which is not built in or configured as %s%s; "
+                        + "its accessor returns a %s", fileName, name, type, ELEMENT_TYPE_PREFIX, type, DEFAULT_ELEMENT_TYPE));
+                elementClass = DEFAULT_ELEMENT_TYPE;
+            }
+            if (!isIdentifier(name) || RESERVED_NAMES.contains(name)) {
+                error(String.format("%s: element name '%s' cannot be used as an accessor name", fileName, name));
+            } else if (!names.add(name)) {
+                error(String.format("%s: duplicate element name '%s'", fileName, name));
+            } else {
+                elements.add(new String[] {name, elementClass, element.path("description").asText(""),
+                        String.valueOf(element.path("cacheHandle").asBoolean(false))});
+            }
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className).openWriter()) {
+            writer.write(render(packageName, className, "/pages/" + fileName, pageName, elements));
+        }
+    }
+
+    private static String render(String packageName, String className, String jsonPath, String pageName, List<String[]> elements) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import com.myorg.automation.core.DynamicPage;\n");
+        source.append("import com.myorg.automation.core.PageObjectFactory;\n");
+        // Configured element classes are written fully qualified, so they cannot clash with built-in names
+        elements.stream().map(element -> element[1]).filter(type -> type.indexOf('.') < 0).distinct().sorted()
+                .forEach(type -> source.append("import ").append(ELEMENTS_PACKAGE).append('.').append(type).append(";\n"));
+        source.append("\nimport javax.annotation.processing.Generated;\n\n");
+        source.append("/**\n * Typed elements of ").append(pageName).append(", generated from ").append(jsonPath).append("\n")
+                .append(" *\n * Each accessor builds its element once per instance; use one instance per test thread.\n */\n");
+        source.append("@Generated(\"").append(PageAccessorProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(className).append(" {\n");
+        source.append("    public static final String JSON_PATH = \"").append(jsonPath).append("\";\n\n");
+        source.append("    private final DynamicPage dynamicPage;\n");
+        for (String[] element : elements) {
+            source.append("    private ").append(element[1]).append(' ').append(element[0]).append(";\n");
+        }
+        source.append("\n    public ").append(className).append("(DynamicPage dynamicPage) {\n")
+                .append("        this.dynamicPage = dynamicPage;\n    }\n\n");
+        source.append("    /**\n     * @return Accessors over the cached page from PageObjectFactory\n     */\n");
+        source.append("    public static ").append(className).append(" load() {\n")
+                .append("        return new ").append(className).append("(PageObjectFactory.loadPage(JSON_PATH));\n    }\n\n");
+        source.append("    public DynamicPage dynamicPage() {\n        return dynamicPage;\n    }\n");
+        for (String[] element : elements) {
+            String name = element[0];
+            String type = element[1];
+            source.append('\n');
+            if (!element[2].isEmpty()) {
+                source.append("    /**\n     * ").append(element[2].replace("*/", "*&#47;").replace('\n', ' ')).append("\n     */\n");
+            }
+            source.append("    public ").append(type).append(' ').append(name).append("() {\n")
+                    .append("        ").append(type).append(" element = ").append(name).append(";\n")
+                    .append("        if (element == null) {\n")
+                    .append("            element = new ").append(type).append("(dynamicPage.locatorOf(\"").append(name)
+                    .append("\"), \"").append(name).append("\");\n");
+            if (Boolean.parseBoolean(element[3])) {
+                source.append("            element.enableHandleCache();\n");
+            }
+            source.append("            ").append(name).append(" = element;\n")
+                    .append("        }\n")
+                    .append("        return element;\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static boolean isIdentifier(String name) {
+        return SourceVersion.isIdentifier(name) && !SourceVersion.isKeyword(name);
+    }
+
+    private void warning(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message);
+    }
+
+    private void error(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message);
+    }
+}
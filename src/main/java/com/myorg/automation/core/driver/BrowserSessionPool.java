@@ -0,0 +1,448 @@
+package com.myorg.automation.core.driver;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.webdriver.WebDriverFactory;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.config.FrameworkConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * BrowserSessionPool - Keeps launched browsers alive across tests and test classes
+ *
+ * Each test thread leases a session, and the lease is reset (extra tabs closed, storage and
+ * cookies cleared, about:blank loaded) when it is returned instead of quitting the browser.
+ * A session is recycled after a configured number of uses or when its health check fails.
+ *
+ * Sessions bound with {@link #bindToCurrentThread()} are handed to Selenide wrapped so that
+ * Selenide's quit (closeWebDriver) returns the session to the pool rather than closing it.
+ *
+ * Every session is launched with its own SelenideConfig built from the leasing thread's
+ * configuration (see {@link com.myorg.automation.config.ConfigScope}), and idle sessions are
+ * kept per browser profile, so threads asking for different browsers, modes or window sizes
+ * never receive each other's sessions.
+ */
+public final class BrowserSessionPool {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserSessionPool.class);
+
+    // Runs in the page being left; storage of about:blank is not accessible, hence the guard
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String POOL_OWNER = "BrowserSessionPool";
+
+    private static volatile BrowserSessionPool instance;
+
+    private final int size;
+    private final int maxUses;
+    private final Function<SelenideConfig, WebDriver> launcher;
+    private final Map<String, ConcurrentLinkedDeque<PooledSession>> idle = new ConcurrentHashMap<>();
+    private final ThreadLocal<PooledSession> boundSession = new ThreadLocal<>();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger nextSessionId = new AtomicInteger();
+
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+
+    /**
+     * @param size Number of sessions kept warm; also the warm-up launch count
+     * @param maxUses Leases after which a session is quit and replaced
+     * @param launcher Starts a new browser, ignoring the requested profile
+     */
+    public BrowserSessionPool(int size, int maxUses, Supplier<WebDriver> launcher) {
+        this(size, maxUses, config -> launcher.get());
+    }
+
+    /**
+     * @param size Number of sessions kept warm per browser profile; also the warm-up launch count
+     * @param maxUses Leases after which a session is quit and replaced
+     * @param launcher Starts a new browser for the given Selenide configuration
+     */
+    public BrowserSessionPool(int size, int maxUses, Function<SelenideConfig, WebDriver> launcher) {
+        if (size <= 0 || maxUses <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Browser pool size and max uses must be positive: size=%d, maxUses=%d", size, maxUses));
+        }
+        this.size = size;
+        this.maxUses = maxUses;
+        this.launcher = launcher;
+    }
+
+    /**
+     * Get the shared pool, sized from test.parallel.threads and launching browsers
+     * with the leasing thread's configuration
+     * @return BrowserSessionPool
+     */
+    public static BrowserSessionPool getInstance() {
+        if (instance == null) {
+            synchronized (BrowserSessionPool.class) {
+                if (instance == null) {
+                    instance = new BrowserSessionPool(ConfigManager.getParallelThreads(),
+                            ConfigManager.getBrowserPoolMaxUses(), BrowserSessionPool::launchBrowser);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Build the Selenide configuration for a session of the calling thread: browser settings
+     * come from its framework configuration, everything else from the global Selenide Configuration
+     * @return SelenideConfig owned by one session
+     */
+    public static SelenideConfig currentSessionConfig() {
+        FrameworkConfig config = ConfigManager.config();
+        return new SelenideConfig()
+                .browser(config.getBrowser())
+                .headless(config.isHeadless())
+                .browserSize(config.getBrowserSize())
+                .timeout(config.getBrowserTimeout().toMillis())
+                .pageLoadTimeout(config.getPageLoadTimeout().toMillis())
+                .browserPosition(Configuration.browserPosition)
+                .browserBinary(Configuration.browserBinary)
+                .browserCapabilities(Configuration.browserCapabilities)
+                .pageLoadStrategy(Configuration.pageLoadStrategy)
+                .remote(Configuration.remote)
+                .downloadsFolder(Configuration.downloadsFolder);
+    }
+
+    /**
+     * Start a browser from a session's Selenide configuration, the way Selenide itself would
+     * @param config Session configuration
+     * @return New WebDriver
+     */
+    public static WebDriver launchBrowser(SelenideConfig config) {
+        return new WebDriverFactory().createWebDriver(config, null, new File(config.downloadsFolder()));
+    }
+
+    /**
+     * Key under which idle sessions are shared: only settings fixed at browser launch
+     */
+    static String profileOf(SelenideConfig config) {
+        return config.browser() + '|' + config.headless() + '|' + config.browserSize() + '|'
+                + config.pageLoadTimeout() + '|' + config.remote();
+    }
+
+    private ConcurrentLinkedDeque<PooledSession> idleFor(String profile) {
+        return idle.computeIfAbsent(profile, key -> new ConcurrentLinkedDeque<>());
+    }
+
+    /**
+     * Launch browsers in parallel, for the calling thread's profile, until the pool holds its full size
+     */
+    public void warmUp() {
+        SelenideConfig config = currentSessionConfig();
+        ConcurrentLinkedDeque<PooledSession> sessions = idleFor(profileOf(config));
+        int missing = size - sessions.size() - leased.get();
+        if (missing <= 0) {
+            return;
+        }
+        logger.info("Warming up browser pool: launching {} session(s)", missing);
+        ExecutorService executor = Executors.newFixedThreadPool(missing);
+        try {
+            List<CompletableFuture<Void>> launchesInFlight = new ArrayList<>();
+            for (int i = 0; i < missing; i++) {
+                launchesInFlight.add(CompletableFuture.runAsync(() -> sessions.offer(launch(config)), executor));
+            }
+            for (CompletableFuture<Void> launch : launchesInFlight) {
+                try {
+                    launch.join();
+                } catch (Exception e) {
+                    // The lease that needs the session will launch it and report the failure
+                    logger.warn("Browser warm-up launch failed: {}", e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Take a healthy idle session matching the calling thread's configuration,
+     * launching a new one when none is available
+     * @return Leased session; hand it back with {@link #release(PooledSession)}
+     */
+    public PooledSession lease() {
+        SelenideConfig config = currentSessionConfig();
+        ConcurrentLinkedDeque<PooledSession> sessions = idleFor(profileOf(config));
+        PooledSession session;
+        while ((session = sessions.poll()) != null) {
+            if (isHealthy(session)) {
+                reuses.increment();
+                break;
+            }
+            logger.info("Recycling browser session #{}: health check failed", session.getId());
+            discard(session);
+        }
+        if (session == null) {
+            session = launch(config);
+        } else {
+            // Recorded for reporting only: nothing applies it to the running browser, and Selenide's
+            // static API keeps reading timeouts from the global Configuration
+            session.config = config;
+        }
+        session.uses++;
+        session.inUse.set(true);
+        leases.increment();
+        leased.incrementAndGet();
+        return session;
+    }
+
+    /**
+     * Return a session; it is reset and kept, or quit when worn out, broken or surplus.
+     * Releasing a session that is not leased does nothing.
+     * @param session Session obtained from {@link #lease()}
+     */
+    public void release(PooledSession session) {
+        if (!session.inUse.compareAndSet(true, false)) {
+            return;
+        }
+        leased.decrementAndGet();
+        if (session.uses >= maxUses) {
+            logger.info("Recycling browser session #{} after {} uses", session.getId(), session.uses);
+            discard(session);
+        } else if (!reset(session)) {
+            logger.info("Recycling browser session #{}: reset failed", session.getId());
+            discard(session);
+        } else {
+            ConcurrentLinkedDeque<PooledSession> sessions = idleFor(session.getProfile());
+            if (sessions.size() >= size) {
+                discard(session);
+            } else {
+                sessions.offerFirst(session);
+            }
+        }
+    }
+
+    /**
+     * Lease a session for the calling thread and make it Selenide's driver there.
+     * Does nothing if the thread already holds one.
+     */
+    public void bindToCurrentThread() {
+        if (boundSession.get() != null) {
+            return;
+        }
+        PooledSession session = lease();
+        boundSession.set(session);
+        // Selenide's listeners only reach drivers it creates, so navigation tracking is added here
+        WebDriverRunner.setWebDriver(NavigationTracker.decorate(new ReturningDecorator(session).decorate(session.getDriver())));
+    }
+
+    /**
+     * Return the calling thread's session to the pool and detach it from Selenide
+     */
+    public void releaseCurrentThread() {
+        if (boundSession.get() != null) {
+            // Selenide's quit on the decorated driver ends up in releaseBound()
+            WebDriverRunner.closeWebDriver();
+        }
+        releaseBound();
+    }
+
+    private void releaseBound() {
+        PooledSession session = boundSession.get();
+        if (session != null) {
+            boundSession.remove();
+            release(session);
+        }
+    }
+
+    /**
+     * Quit all idle sessions; leased ones are quit when released
+     */
+    public void shutdown() {
+        for (ConcurrentLinkedDeque<PooledSession> sessions : idle.values()) {
+            PooledSession session;
+            while ((session = sessions.poll()) != null) {
+                quitQuietly(session);
+            }
+        }
+        logger.info(getReport());
+    }
+
+    private PooledSession launch(SelenideConfig config) {
+        long start = System.currentTimeMillis();
+        WebDriver driver = launcher.apply(config);
+        launches.increment();
+        PooledSession session = new PooledSession(nextSessionId.incrementAndGet(), driver, config);
+        DriverRegistry.register(driver, POOL_OWNER);
+        logger.info("Launched browser session #{} ({}) in {}ms", session.getId(), session.getProfile(),
+                System.currentTimeMillis() - start);
+        return session;
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            return !session.getDriver().getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean reset(PooledSession session) {
+        WebDriver driver = session.getDriver();
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            if (handles.size() > 1) {
+                String first = handles.iterator().next();
+                for (String handle : handles) {
+                    if (!handle.equals(first)) {
+                        driver.switchTo().window(handle).close();
+                    }
+                }
+                driver.switchTo().window(first);
+            }
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.manage().deleteAllCookies();
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (Exception e) {
+            logger.debug("Reset of browser session #{} failed: {}", session.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void discard(PooledSession session) {
+        recycled.increment();
+        quitQuietly(session);
+    }
+
+    private void quitQuietly(PooledSession session) {
+        // The registry quits the browser, ignoring failures, and measures the memory released
+        DriverRegistry.close(session.getDriver());
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getIdleCount() {
+        return idle.values().stream().mapToInt(ConcurrentLinkedDeque::size).sum();
+    }
+
+    public int getLeasedCount() {
+        return leased.get();
+    }
+
+    public long getLaunchCount() {
+        return launches.sum();
+    }
+
+    public long getLeaseCount() {
+        return leases.sum();
+    }
+
+    public long getReuseCount() {
+        return reuses.sum();
+    }
+
+    public long getRecycleCount() {
+        return recycled.sum();
+    }
+
+    /**
+     * @return One-line summary of pool activity
+     */
+    public String getReport() {
+        return String.format("Browser pool: %d lease(s) served by %d launch(es), %d reuse(s), %d recycled, %d idle",
+                getLeaseCount(), getLaunchCount(), getReuseCount(), getRecycleCount(), getIdleCount());
+    }
+
+    /**
+     * A pooled browser, the configuration it runs with and its lease count
+     */
+    public static final class PooledSession {
+        private final int id;
+        private final WebDriver driver;
+        private final String profile;
+        private final AtomicBoolean inUse = new AtomicBoolean();
+        private volatile SelenideConfig config;
+        private int uses;
+
+        private PooledSession(int id, WebDriver driver, SelenideConfig config) {
+            this.id = id;
+            this.driver = driver;
+            this.config = config;
+            this.profile = profileOf(config);
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        public int getUses() {
+            return uses;
+        }
+
+        /**
+         * @return Selenide configuration the current lease asked for; informational, it is not applied
+         *         to the running browser
+         */
+        public SelenideConfig getConfig() {
+            return config;
+        }
+
+        /**
+         * @return Launch settings shared by sessions that can stand in for each other
+         */
+        public String getProfile() {
+            return profile;
+        }
+    }
+
+    /**
+     * Turns quit on the bound driver into a return to the pool
+     */
+    private final class ReturningDecorator extends WebDriverDecorator<WebDriver> {
+        private final PooledSession session;
+
+        private ReturningDecorator(PooledSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            if ("quit".equals(method.getName()) && target.getOriginal() == session.getDriver()) {
+                if (boundSession.get() == session) {
+                    releaseBound();
+                } else {
+                    // Quit from another thread (e.g. Selenide's dead-thread watchdog)
+                    release(session);
+                }
+                return null;
+            }
+            return super.call(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.myorg.automation.core.driver;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * DriverRegistry - Records every WebDriver the framework or Selenide starts, and closes them
+ *
+ * Each driver is registered with one or more owners (usually test classes). Closing an owner
+ * quits the drivers no other owner still uses, so a browser shared by two classes on the same
+ * worker thread survives until both are done. Anything still open at suite end is quit, and a
+ * JVM shutdown hook quits the rest and kills browser processes this JVM started and left behind.
+ *
+ * Memory reclaimed is the drop in resident memory of this JVM's browser and driver processes
+ * across each close; it is measured where /proc is available (Linux) and reported as
+ * unavailable elsewhere.
+ */
+public final class DriverRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(DriverRegistry.class);
+
+    private static final Pattern BROWSER_PROCESS = Pattern.compile(
+            "chromedriver|chrome|chromium|geckodriver|firefox|msedgedriver|msedge|safaridriver");
+    private static final Path PROC = Paths.get("/proc");
+
+    private static final Map<WebDriver, Registration> drivers = new ConcurrentHashMap<>();
+    private static final AtomicInteger peak = new AtomicInteger();
+    private static final AtomicLong registered = new AtomicLong();
+    private static final AtomicLong closed = new AtomicLong();
+    private static final AtomicLong reclaimedBytes = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverRegistry::reclaimOnShutdown, "driver-registry-shutdown"));
+    }
+
+    private DriverRegistry() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Record a driver for an owner; registering it again adds the owner
+     * @param driver Driver to track
+     * @param owner Owner name, e.g. the test class
+     */
+    public static void register(WebDriver driver, String owner) {
+        Registration registration = drivers.computeIfAbsent(driver, key -> {
+            registered.incrementAndGet();
+            return new Registration(Thread.currentThread().getName());
+        });
+        registration.owners.add(owner);
+        peak.accumulateAndGet(drivers.size(), Math::max);
+    }
+
+    /**
+     * Record the driver Selenide has bound to the calling thread, if it started one
+     * @param owner Owner name, e.g. the test class
+     */
+    public static void trackCurrentThread(String owner) {
+        if (WebDriverRunner.hasWebDriverStarted()) {
+            register(WebDriverRunner.getWebDriver(), owner);
+        }
+    }
+
+    /**
+     * Forget a driver that was quit elsewhere
+     * @param driver Driver to forget
+     */
+    public static void unregister(WebDriver driver) {
+        drivers.remove(driver);
+    }
+
+    /**
+     * Quit a driver now and forget it, whoever owns it
+     * @param driver Driver to close
+     */
+    public static void close(WebDriver driver) {
+        long before = browserMemoryBytes();
+        quit(driver);
+        recordReclaimed(before);
+    }
+
+    /**
+     * Release an owner's hold on its drivers and quit those no other owner still uses
+     * @param owner Owner name
+     * @return Number of drivers quit
+     */
+    public static int closeOwnedBy(String owner) {
+        List<WebDriver> orphaned = new ArrayList<>();
+        for (Map.Entry<WebDriver, Registration> entry : drivers.entrySet()) {
+            Set<String> owners = entry.getValue().owners;
+            if (owners.remove(owner) && owners.isEmpty()) {
+                orphaned.add(entry.getKey());
+            }
+        }
+        return quitAll(orphaned);
+    }
+
+    /**
+     * Quit every registered driver
+     * @return Number of drivers quit
+     */
+    public static int closeAll() {
+        return quitAll(new ArrayList<>(drivers.keySet()));
+    }
+
+    private static int quitAll(List<WebDriver> toClose) {
+        if (toClose.isEmpty()) {
+            return 0;
+        }
+        long before = browserMemoryBytes();
+        for (WebDriver driver : toClose) {
+            quit(driver);
+        }
+        recordReclaimed(before);
+        logger.info("Closed {} browser(s); {} still open", toClose.size(), drivers.size());
+        return toClose.size();
+    }
+
+    private static void quit(WebDriver driver) {
+        Registration registration = drivers.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            // Usually quit already, e.g. by Selenide's closeWebDriver on the owning thread
+            logger.debug("Quitting driver from thread '{}' failed: {}",
+                    registration != null ? registration.threadName : "?", e.getMessage());
+        }
+        closed.incrementAndGet();
+    }
+
+    private static void recordReclaimed(long beforeBytes) {
+        if (beforeBytes >= 0) {
+            long after = browserMemoryBytes();
+            reclaimedBytes.addAndGet(Math.max(0, beforeBytes - Math.max(0, after)));
+        }
+    }
+
+    /**
+     * Shutdown hook: quit what is still registered, then kill leftover browser processes of this JVM
+     */
+    private static void reclaimOnShutdown() {
+        if (!drivers.isEmpty()) {
+            logger.warn("{} browser(s) still open at JVM shutdown, closing", drivers.size());
+            closeAll();
+        }
+        ProcessHandle.current().descendants()
+                .filter(DriverRegistry::isBrowserProcess)
+                .forEach(process -> {
+                    logger.warn("Killing orphaned browser process {} ({})", process.pid(),
+                            process.info().command().orElse("?"));
+                    process.destroyForcibly();
+                });
+    }
+
+    private static boolean isBrowserProcess(ProcessHandle process) {
+        return process.info().command()
+                .map(command -> BROWSER_PROCESS.matcher(Paths.get(command).getFileName().toString().toLowerCase(Locale.ROOT)).find())
+                .orElse(false);
+    }
+
+    /**
+     * @return Resident memory of this JVM's browser and driver processes, or -1 if it cannot be read
+     */
+    static long browserMemoryBytes() {
+        if (!Files.isDirectory(PROC)) {
+            return -1;
+        }
+        return ProcessHandle.current().descendants()
+                .filter(DriverRegistry::isBrowserProcess)
+                .mapToLong(process -> residentBytes(process.pid()))
+                .sum();
+    }
+
+    private static long residentBytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(pid + "/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    // Format: "VmRSS:     123456 kB"
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024L;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited while being read
+        }
+        return 0;
+    }
+
+    public static int getActiveCount() {
+        return drivers.size();
+    }
+
+    /**
+     * @return Highest number of browsers registered at the same time
+     */
+    public static int getPeakCount() {
+        return peak.get();
+    }
+
+    public static long getRegisteredCount() {
+        return registered.get();
+    }
+
+    public static long getClosedCount() {
+        return closed.get();
+    }
+
+    public static long getReclaimedMemoryBytes() {
+        return reclaimedBytes.get();
+    }
+
+    /**
+     * @return One-line summary of browser lifecycle activity
+     */
+    public static String getReport() {
+        String memory = Files.isDirectory(PROC)
+                ? String.format("%.1f MB", reclaimedBytes.get() / (1024.0 * 1024.0))
+                : "unavailable";
+        return String.format("Driver registry: %d registered, %d closed, %d still open, peak %d concurrent, memory reclaimed %s",
+                registered.get(), closed.get(), drivers.size(), peak.get(), memory);
+    }
+
+    private static final class Registration {
+        private final String threadName;
+        private final Set<String> owners = ConcurrentHashMap.newKeySet();
+
+        private Registration(String threadName) {
+            this.threadName = threadName;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.myorg.automation.core.driver;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NavigationTracker - Counts page navigations so cached element handles know when to look again
+ *
+ * The navigation epoch advances on every get, navigate().to, back, forward and refresh of a tracked
+ * driver. Drivers Selenide creates are tracked once {@link #install()} has run; drivers handed to
+ * Selenide with setWebDriver (e.g. pooled sessions) must be wrapped with {@link #decorate}. The epoch
+ * is shared by all drivers, so a navigation in one thread only costs other threads an extra lookup.
+ */
+public final class NavigationTracker implements WebDriverListener {
+    private static final NavigationTracker INSTANCE = new NavigationTracker();
+    private static final AtomicLong epoch = new AtomicLong();
+    private static final AtomicBoolean installed = new AtomicBoolean();
+
+    private NavigationTracker() {
+        // Single shared listener
+    }
+
+    /**
+     * Track the drivers Selenide creates from now on; repeated calls do nothing
+     */
+    public static void install() {
+        if (installed.compareAndSet(false, true)) {
+            WebDriverRunner.addListener(INSTANCE);
+        }
+    }
+
+    /**
+     * Track a driver created outside Selenide
+     * @param driver Driver to track
+     * @return Decorated driver to use instead
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * @return Current navigation epoch
+     */
+    public static long currentEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Advance the epoch for a navigation the drivers do not see, e.g. a click that loads a new page
+     */
+    public static void navigated() {
+        epoch.incrementAndGet();
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        navigated();
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, String url) {
+        navigated();
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, URL url) {
+        navigated();
+    }
+
+    @Override
+    public void afterBack(WebDriver.Navigation navigation) {
+        navigated();
+    }
+
+    @Override
+    public void afterForward(WebDriver.Navigation navigation) {
+        navigated();
+    }
+
+    @Override
+    public void afterRefresh(WebDriver.Navigation navigation) {
+        navigated();
+    }
+}
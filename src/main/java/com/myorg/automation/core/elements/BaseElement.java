@@ -1,11 +1,15 @@
 package com.myorg.automation.core.elements;
 
 import com.codeborne.selenide.SelenideElement;
+import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.Locators;
 import io.qameta.allure.Step;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
 
 /**
  * Base element class that provides common functionality for all web elements.
@@ -17,6 +21,8 @@ public abstract class BaseElement {
     protected SelenideElement element;
     protected String elementName;
     protected String locator;
+    // Set by enableHandleCache; null while every call looks the element up again
+    private volatile ElementHandle handle;
 
     public BaseElement(String locator, String elementName) {
         this.locator = locator;
@@ -31,24 +37,29 @@ public abstract class BaseElement {
     }
 
     /**
-     * Creates a SelenideElement from a locator string
-     * Supports various locator types: xpath, css, id, class, etc.
+     * Creates a SelenideElement from a locator string (see {@link Locators} for the grammar)
      */
     protected SelenideElement createElement(String locatorString) {
-        if (locatorString.startsWith("xpath=")) {
-            return $x(locatorString.substring(6));
-        } else if (locatorString.startsWith("css=")) {
-            return $(locatorString.substring(4));
-        } else if (locatorString.startsWith("id=")) {
-            return $("#" + locatorString.substring(3));
-        } else if (locatorString.startsWith("class=")) {
-            return $("." + locatorString.substring(6));
-        } else if (locatorString.startsWith("name=")) {
-            return $("[name='" + locatorString.substring(5) + "']");
-        } else {
-            // Default to CSS selector
-            return $(locatorString);
+        return $(Locators.toBy(locatorString));
+    }
+
+    /**
+     * Reuse the found WebElement for isDisplayed, exists, getText, getAttribute and scrollTo until it
+     * goes stale or the page navigates (see {@link ElementHandle}); set by "cacheHandle": true in page JSON
+     * @return this element
+     */
+    public BaseElement enableHandleCache() {
+        if (handle == null) {
+            handle = new ElementHandle(element, elementName);
         }
+        return this;
+    }
+
+    /**
+     * @return The element's handle cache, or null if it is not enabled
+     */
+    public ElementHandle getHandle() {
+        return handle;
     }
 
     /**
@@ -62,7 +73,7 @@ public abstract class BaseElement {
     public boolean isDisplayed() {
         try {
             logger.info("Checking if element '{}' is displayed", elementName);
-            boolean displayed = element.isDisplayed();
+            boolean displayed = handle != null ? handle.read(WebElement::isDisplayed) : element.isDisplayed();
             logger.info("Element '{}' is displayed: {}", elementName, displayed);
             return displayed;
         } catch (Exception e) {
@@ -75,7 +86,7 @@ public abstract class BaseElement {
     public boolean exists() {
         try {
             logger.info("Checking if element '{}' exists", elementName);
-            boolean exists = element.exists();
+            boolean exists = handle != null ? handle.read(found -> found.getTagName() != null) : element.exists();
             logger.info("Element '{}' exists: {}", elementName, exists);
             return exists;
         } catch (Exception e) {
@@ -103,7 +114,7 @@ public abstract class BaseElement {
     @Step("Get text from element '{elementName}'")
     public String getText() {
         logger.info("Getting text from element '{}'", elementName);
-        String text = element.getText().trim();
+        String text = (handle != null ? handle.read(WebElement::getText) : element.getText()).trim();
         logger.info("Text from element '{}': '{}'", elementName, text);
         return text;
     }
@@ -111,7 +122,9 @@ public abstract class BaseElement {
     @Step("Get attribute '{attributeName}' from element '{elementName}'")
     public String getAttribute(String attributeName) {
         logger.info("Getting attribute '{}' from element '{}'", attributeName, elementName);
-        String attributeValue = element.getAttribute(attributeName);
+        String attributeValue = handle != null
+                ? handle.read(found -> found.getAttribute(attributeName))
+                : element.getAttribute(attributeName);
         logger.info("Attribute '{}' from element '{}': '{}'", attributeName, elementName, attributeValue);
         return attributeValue;
     }
@@ -119,7 +132,11 @@ public abstract class BaseElement {
     @Step("Scroll to element '{elementName}'")
     public BaseElement scrollTo() {
         logger.info("Scrolling to element '{}'", elementName);
-        element.scrollTo();
+        if (handle != null) {
+            handle.read(found -> executeJavaScript(FrameworkConstants.SCROLL_TO_ELEMENT_JS, found));
+        } else {
+            element.scrollTo();
+        }
         logger.info("Scrolled to element '{}'", elementName);
         return this;
     }
@@ -3,18 +3,26 @@ package com.myorg.automation.core.elements;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.Locators;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
+import static com.codeborne.selenide.Selenide.$$;
+import static com.codeborne.selenide.Selenide.$$x;
+
 /**
  * Collection element wrapper for handling multiple elements
  */
 public class Collection extends BaseElement {
     private static final Logger logger = LoggerFactory.getLogger(Collection.class);
 
+    private final String locatorType;
+    private final String locatorValue;
+    private ElementsCollection collection;
+
     /**
      * Constructor for Collection
      * @param locator Element locator
@@ -22,15 +30,53 @@ public class Collection extends BaseElement {
      */
     public Collection(String locator, String elementName) {
         super(locator, elementName);
+        String type = Locators.typeOf(locator);
+        String value = Locators.valueOf(locator);
+        if (FrameworkConstants.LOCATOR_TYPE_XPATH.equals(type)) {
+            this.locatorType = FrameworkConstants.LOCATOR_TYPE_XPATH;
+            this.locatorValue = value;
+        } else {
+            String css = Locators.toCssSelector(type, value);
+            if (css == null) {
+                throw new IllegalArgumentException(String.format("Collection '%s' needs an XPath or CSS locator: %s", elementName, locator));
+            }
+            this.locatorType = FrameworkConstants.LOCATOR_TYPE_CSS;
+            this.locatorValue = css;
+        }
         logger.debug(FrameworkConstants.ELEMENT_CREATED_LOG, FrameworkConstants.ELEMENT_TYPE_COLLECTION, locator);
     }
 
     /**
-     * Get the collection of elements
+     * Get the collection of elements. The ElementsCollection is lazy and re-queries
+     * the DOM on every use, so one instance is built and reused.
      * @return ElementsCollection
      */
     private ElementsCollection getCollection() {
-        return createElement(locator).$$("");
+        if (collection == null) {
+            collection = FrameworkConstants.LOCATOR_TYPE_XPATH.equals(locatorType) ? $$x(locatorValue) : $$(locatorValue);
+        }
+        return collection;
+    }
+
+    /**
+     * Capture texts, the given attributes, visibility and bounding boxes of all members
+     * in one round trip. Use the snapshot for repeated reads, filtering and sorting
+     * instead of per-element calls; {@link CollectionSnapshot#isStale()} and
+     * {@link CollectionSnapshot#refresh()} keep it in step with the page.
+     * @param attributes Attribute names to capture for every member
+     * @return CollectionSnapshot
+     */
+    @Step("Snapshot collection: {this.elementName}")
+    public CollectionSnapshot snapshot(String... attributes) {
+        try {
+            CollectionSnapshot snapshot = new CollectionSnapshot(locatorType, locatorValue, attributes);
+            logger.info(FrameworkConstants.COLLECTION_SIZE_LOG, locator, snapshot.size());
+            return snapshot;
+        } catch (Exception e) {
+            logger.error("Failed to snapshot collection '{}': {}", locator, e.getMessage());
+            throw new RuntimeException(String.format("Failed to snapshot collection '%s': %s",
+                locator, e.getMessage()), e);
+        }
     }
 
     /**
@@ -122,11 +168,12 @@ public class Collection extends BaseElement {
     @Step("Check if collection is empty: {this.elementName}")
     public boolean isEmpty() {
         try {
-            boolean empty = size() == 0;
+            int size = size();
+            boolean empty = size == 0;
             if (empty) {
                 logger.info(FrameworkConstants.COLLECTION_EMPTY_LOG, locator);
             } else {
-                logger.info(FrameworkConstants.COLLECTION_NOT_EMPTY_LOG, locator, size());
+                logger.info(FrameworkConstants.COLLECTION_NOT_EMPTY_LOG, locator, size);
             }
             return empty;
         } catch (Exception e) {
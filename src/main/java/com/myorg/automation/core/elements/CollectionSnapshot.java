@@ -0,0 +1,297 @@
+package com.myorg.automation.core.elements;
+
+import com.myorg.automation.constants.FrameworkConstants;
+import org.openqa.selenium.Rectangle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+
+/**
+ * CollectionSnapshot - Point-in-time copy of every member of a collection
+ *
+ * Texts, chosen attributes, visibility and bounding boxes of all members are captured
+ * in one scripted round trip; indexed access, filtering and sorting then run in memory.
+ * Each captured DOM node is tagged with the snapshot token, so {@link #isStale()} can tell
+ * (in one more round trip) whether members were added, removed, re-rendered or re-texted.
+ */
+public class CollectionSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(CollectionSnapshot.class);
+
+    // Shared by both scripts: resolves the collection from locator type and value
+    private static final String RESOLVE_SCRIPT =
+            "function resolve(type, value) {" +
+            "  if (type === 'xpath') {" +
+            "    var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), nodes = [];" +
+            "    for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }" +
+            "    return nodes;" +
+            "  }" +
+            "  return Array.prototype.slice.call(document.querySelectorAll(value));" +
+            "}" +
+            "function textOf(el) { return (el.innerText || el.textContent || '').trim(); }";
+
+    private static final String CAPTURE_SCRIPT = RESOLVE_SCRIPT +
+            "var nodes = resolve(arguments[0], arguments[1]), attributes = arguments[2], token = arguments[3], members = [];" +
+            "for (var i = 0; i < nodes.length; i++) {" +
+            "  var el = nodes[i], rect = el.getBoundingClientRect(), style = window.getComputedStyle(el), attrs = {};" +
+            "  for (var a = 0; a < attributes.length; a++) { attrs[attributes[a]] = el.getAttribute(attributes[a]); }" +
+            "  var text = textOf(el);" +
+            "  el.__fwSnapshotToken = token;" +
+            "  el.__fwSnapshotText = text;" +
+            "  members.push({text: text, attributes: attrs," +
+            "    visible: rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden' && style.display !== 'none'," +
+            "    x: Math.round(rect.left), y: Math.round(rect.top), width: Math.round(rect.width), height: Math.round(rect.height)});" +
+            "}" +
+            "return members;";
+
+    private static final String STALE_SCRIPT = RESOLVE_SCRIPT +
+            "var nodes = resolve(arguments[0], arguments[1]), token = arguments[2], size = arguments[3];" +
+            "if (nodes.length !== size) { return true; }" +
+            "for (var i = 0; i < nodes.length; i++) {" +
+            "  if (nodes[i].__fwSnapshotToken !== token || nodes[i].__fwSnapshotText !== textOf(nodes[i])) { return true; }" +
+            "}" +
+            "return false;";
+
+    private final String locatorType;
+    private final String locatorValue;
+    private final List<String> attributeNames;
+    private String token;
+    private long capturedAt;
+    private List<Member> members = Collections.emptyList();
+
+    /**
+     * Create and capture a snapshot
+     * @param locatorType Locator type, "xpath" or "css"
+     * @param locatorValue Locator value without prefix
+     * @param attributeNames Attributes to capture for every member
+     */
+    CollectionSnapshot(String locatorType, String locatorValue, String... attributeNames) {
+        if (!FrameworkConstants.LOCATOR_TYPE_XPATH.equals(locatorType) && !FrameworkConstants.LOCATOR_TYPE_CSS.equals(locatorType)) {
+            throw new IllegalArgumentException("Snapshots support xpath and css locators only, got: " + locatorType);
+        }
+        this.locatorType = locatorType;
+        this.locatorValue = locatorValue;
+        this.attributeNames = Collections.unmodifiableList(Arrays.asList(attributeNames));
+        refresh();
+    }
+
+    /**
+     * Re-capture all members in one round trip
+     * @return this snapshot, now current
+     */
+    @SuppressWarnings("unchecked")
+    public CollectionSnapshot refresh() {
+        String newToken = UUID.randomUUID().toString();
+        List<Map<String, Object>> raw = executeJavaScript(CAPTURE_SCRIPT, locatorType, locatorValue, attributeNames, newToken);
+
+        List<Member> captured = new ArrayList<>();
+        if (raw != null) {
+            for (Map<String, Object> item : raw) {
+                Map<String, String> attributes = new LinkedHashMap<>();
+                Map<String, Object> rawAttributes = (Map<String, Object>) item.get("attributes");
+                for (String attributeName : attributeNames) {
+                    Object value = rawAttributes != null ? rawAttributes.get(attributeName) : null;
+                    attributes.put(attributeName, value != null ? value.toString() : null);
+                }
+                captured.add(new Member(captured.size(), (String) item.get("text"), attributes,
+                        Boolean.TRUE.equals(item.get("visible")),
+                        new Rectangle(toInt(item.get("x")), toInt(item.get("y")), toInt(item.get("height")), toInt(item.get("width")))));
+            }
+        }
+
+        this.members = Collections.unmodifiableList(captured);
+        this.token = newToken;
+        this.capturedAt = System.currentTimeMillis();
+        logger.debug("Captured snapshot of {} members for {} '{}'", members.size(), locatorType, locatorValue);
+        return this;
+    }
+
+    /**
+     * Check whether the page changed since capture: members added, removed,
+     * replaced by new DOM nodes, or with different text
+     * @return true if the snapshot no longer matches the page
+     */
+    public boolean isStale() {
+        Boolean stale = executeJavaScript(STALE_SCRIPT, locatorType, locatorValue, token, members.size());
+        return !Boolean.FALSE.equals(stale);
+    }
+
+    /**
+     * Refresh only if the snapshot is stale
+     * @return this snapshot, now current
+     */
+    public CollectionSnapshot refreshIfStale() {
+        return isStale() ? refresh() : this;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * Get member by index
+     * @param index Index (0-based)
+     * @return Member at index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Member get(int index) {
+        if (index < 0 || index >= members.size()) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for snapshot of '%s' with size %d",
+                    index, locatorValue, members.size()));
+        }
+        return members.get(index);
+    }
+
+    public Optional<Member> first() {
+        return members.isEmpty() ? Optional.empty() : Optional.of(members.get(0));
+    }
+
+    public Optional<Member> last() {
+        return members.isEmpty() ? Optional.empty() : Optional.of(members.get(members.size() - 1));
+    }
+
+    /**
+     * @return All members in document order
+     */
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    /**
+     * @return Texts of all members in document order
+     */
+    public List<String> texts() {
+        return members.stream().map(Member::getText).collect(Collectors.toList());
+    }
+
+    /**
+     * @param attributeName A captured attribute name
+     * @return Values of the attribute for all members in document order
+     */
+    public List<String> attributes(String attributeName) {
+        return members.stream().map(member -> member.getAttribute(attributeName)).collect(Collectors.toList());
+    }
+
+    public List<Member> filter(Predicate<Member> predicate) {
+        return members.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    public List<Member> sorted(Comparator<Member> comparator) {
+        return members.stream().sorted(comparator).collect(Collectors.toList());
+    }
+
+    public Optional<Member> find(Predicate<Member> predicate) {
+        return members.stream().filter(predicate).findFirst();
+    }
+
+    public List<Member> visibleMembers() {
+        return filter(Member::isVisible);
+    }
+
+    /**
+     * @param text Exact text to look for
+     * @return Index of the first member with that text, or -1
+     */
+    public int indexOfText(String text) {
+        return find(member -> member.getText().equals(text)).map(Member::getIndex).orElse(-1);
+    }
+
+    /**
+     * @return Epoch millis of the last capture
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    public List<String> getAttributeNames() {
+        return attributeNames;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CollectionSnapshot{locator='%s', size=%d, capturedAt=%d}", locatorValue, members.size(), capturedAt);
+    }
+
+    /**
+     * Captured state of one collection member
+     */
+    public static final class Member {
+        private final int index;
+        private final String text;
+        private final Map<String, String> attributes;
+        private final boolean visible;
+        private final Rectangle bounds;
+
+        Member(int index, String text, Map<String, String> attributes, boolean visible, Rectangle bounds) {
+            this.index = index;
+            this.text = text != null ? text : "";
+            this.attributes = Collections.unmodifiableMap(attributes);
+            this.visible = visible;
+            this.bounds = bounds;
+        }
+
+        /**
+         * @return Position in the collection (0-based), usable with Collection.clickElementAt
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @param attributeName A captured attribute name
+         * @return Attribute value, or null if absent or not captured
+         */
+        public String getAttribute(String attributeName) {
+            return attributes.get(attributeName);
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        /**
+         * @return Bounding box relative to the viewport
+         */
+        public Rectangle getBounds() {
+            return bounds;
+        }
+
+        @Override
+        public String toString() {
+            return "Member{" +
+                    "index=" + index +
+                    ", text='" + text + '\'' +
+                    ", attributes=" + attributes +
+                    ", visible=" + visible +
+                    '}';
+        }
+    }
+}
@@ -2,23 +2,30 @@ package com.myorg.automation.core.elements;
 
 import com.codeborne.selenide.SelenideElement;
 import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.LocatorTemplate;
 import io.qameta.allure.Step;
+import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.codeborne.selenide.Selenide.$;
+
 /**
  * Dynamic Button element that accepts parameters for locator formatting
  */
 public class DynamicButton extends BaseElement {
     private static final Logger logger = LoggerFactory.getLogger(DynamicButton.class);
 
+    private final LocatorTemplate template;
+
     /**
      * Constructor for DynamicButton
-     * @param locator Element locator template with %s placeholders
+     * @param locator Element locator template with %s or named ({index}, {name}, {id}) placeholders
      * @param elementName Element name for logging
      */
     public DynamicButton(String locator, String elementName) {
         super(locator, elementName);
+        this.template = LocatorTemplate.compile(locator);
         logger.debug(FrameworkConstants.ELEMENT_CREATED_LOG, FrameworkConstants.ELEMENT_TYPE_DYNAMIC_BUTTON, locator);
     }
 
@@ -34,10 +41,10 @@ public class DynamicButton extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
+            By dynamicLocator = template.toBy(parameter);
             logger.debug(FrameworkConstants.DYNAMIC_LOCATOR_CREATED_LOG, dynamicLocator, parameter);
             
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(dynamicLocator);
             element.click();
             
             logger.info(FrameworkConstants.DYNAMIC_ELEMENT_CLICKED_LOG, locator, parameter);
@@ -60,8 +67,7 @@ public class DynamicButton extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             element.doubleClick();
             logger.info("Double clicked dynamic button '{}' with parameter '{}'", locator, parameter);
         } catch (Exception e) {
@@ -85,8 +91,7 @@ public class DynamicButton extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             element.contextClick();
             logger.info("Right clicked dynamic button '{}' with parameter '{}'", locator, parameter);
         } catch (Exception e) {
@@ -110,8 +115,7 @@ public class DynamicButton extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             boolean enabled = element.isEnabled();
             logger.debug("Dynamic button '{}' with parameter '{}' is enabled: {}", locator, parameter, enabled);
             return enabled;
@@ -134,8 +138,7 @@ public class DynamicButton extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             String text = element.getText();
             logger.info(FrameworkConstants.DYNAMIC_ELEMENT_TEXT_RETRIEVED_LOG, text, locator, parameter);
             return text;
@@ -157,8 +160,7 @@ public class DynamicButton extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             element.should(com.codeborne.selenide.Condition.enabled);
             logger.debug("Dynamic button '{}' with parameter '{}' is now clickable", locator, parameter);
         } catch (Exception e) {
@@ -2,23 +2,30 @@ package com.myorg.automation.core.elements;
 
 import com.codeborne.selenide.SelenideElement;
 import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.LocatorTemplate;
 import io.qameta.allure.Step;
+import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.codeborne.selenide.Selenide.$;
+
 /**
  * Dynamic Label element that accepts parameters for locator formatting
  */
 public class DynamicLabel extends BaseElement {
     private static final Logger logger = LoggerFactory.getLogger(DynamicLabel.class);
 
+    private final LocatorTemplate template;
+
     /**
      * Constructor for DynamicLabel
-     * @param locator Element locator template with %s placeholders
+     * @param locator Element locator template with %s or named ({index}, {name}, {id}) placeholders
      * @param elementName Element name for logging
      */
     public DynamicLabel(String locator, String elementName) {
         super(locator, elementName);
+        this.template = LocatorTemplate.compile(locator);
         logger.debug(FrameworkConstants.ELEMENT_CREATED_LOG, FrameworkConstants.ELEMENT_TYPE_DYNAMIC_LABEL, locator);
     }
 
@@ -34,10 +41,10 @@ public class DynamicLabel extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
+            By dynamicLocator = template.toBy(parameter);
             logger.debug(FrameworkConstants.DYNAMIC_LOCATOR_CREATED_LOG, dynamicLocator, parameter);
             
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(dynamicLocator);
             String text = element.getText();
             
             logger.info(FrameworkConstants.DYNAMIC_ELEMENT_TEXT_RETRIEVED_LOG, text, locator, parameter);
@@ -104,8 +111,7 @@ public class DynamicLabel extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             boolean displayed = element.isDisplayed();
             logger.debug("Dynamic label '{}' with parameter '{}' is displayed: {}", locator, parameter, displayed);
             return displayed;
@@ -128,8 +134,7 @@ public class DynamicLabel extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             element.should(com.codeborne.selenide.Condition.visible);
             logger.debug("Dynamic label '{}' with parameter '{}' is now visible", locator, parameter);
         } catch (Exception e) {
@@ -2,23 +2,30 @@ package com.myorg.automation.core.elements;
 
 import com.codeborne.selenide.SelenideElement;
 import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.LocatorTemplate;
 import io.qameta.allure.Step;
+import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.codeborne.selenide.Selenide.$;
+
 /**
  * Dynamic Link element that accepts parameters for locator formatting
  */
 public class DynamicLink extends BaseElement {
     private static final Logger logger = LoggerFactory.getLogger(DynamicLink.class);
 
+    private final LocatorTemplate template;
+
     /**
      * Constructor for DynamicLink
-     * @param locator Element locator template with %s placeholders
+     * @param locator Element locator template with %s or named ({index}, {name}, {id}) placeholders
      * @param elementName Element name for logging
      */
     public DynamicLink(String locator, String elementName) {
         super(locator, elementName);
+        this.template = LocatorTemplate.compile(locator);
         logger.debug(FrameworkConstants.ELEMENT_CREATED_LOG, FrameworkConstants.ELEMENT_TYPE_DYNAMIC_LINK, locator);
     }
 
@@ -34,10 +41,10 @@ public class DynamicLink extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
+            By dynamicLocator = template.toBy(parameter);
             logger.debug(FrameworkConstants.DYNAMIC_LOCATOR_CREATED_LOG, dynamicLocator, parameter);
             
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(dynamicLocator);
             element.click();
             
             logger.info(FrameworkConstants.DYNAMIC_ELEMENT_CLICKED_LOG, locator, parameter);
@@ -60,8 +67,7 @@ public class DynamicLink extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             String href = element.getAttribute(FrameworkConstants.HREF_ATTRIBUTE);
             logger.info("Retrieved href '{}' from dynamic link '{}' with parameter '{}'", href, locator, parameter);
             return href;
@@ -85,8 +91,7 @@ public class DynamicLink extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             String text = element.getText();
             logger.info(FrameworkConstants.DYNAMIC_ELEMENT_TEXT_RETRIEVED_LOG, text, locator, parameter);
             return text;
@@ -134,8 +139,7 @@ public class DynamicLink extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             boolean displayed = element.isDisplayed();
             logger.debug("Dynamic link '{}' with parameter '{}' is displayed: {}", locator, parameter, displayed);
             return displayed;
@@ -158,8 +162,7 @@ public class DynamicLink extends BaseElement {
         }
         
         try {
-            String dynamicLocator = String.format(locator, parameter);
-            SelenideElement element = createElement(dynamicLocator);
+            SelenideElement element = $(template.toBy(parameter));
             element.should(com.codeborne.selenide.Condition.visible);
             logger.debug("Dynamic link '{}' with parameter '{}' is now visible", locator, parameter);
         } catch (Exception e) {
@@ -0,0 +1,16 @@
+package com.myorg.automation.core.elements;
+
+/**
+ * Creates an element wrapper from its locator and name, e.g. {@code Button::new}
+ * @param <T> Element type
+ */
+@FunctionalInterface
+public interface ElementFactory<T extends BaseElement> {
+
+    /**
+     * @param locator Element locator, e.g. "xpath=//button"
+     * @param elementName Element name for logging
+     * @return New element
+     */
+    T create(String locator, String elementName);
+}
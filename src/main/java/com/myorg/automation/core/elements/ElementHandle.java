@@ -0,0 +1,126 @@
+package com.myorg.automation.core.elements;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.core.driver.NavigationTracker;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ElementHandle - The found WebElement of one element, kept between calls
+ *
+ * A lazy SelenideElement looks the element up again on every call. With the handle cache enabled
+ * ("cacheHandle": true in page JSON) the element is found once and the WebElement reused until it
+ * goes stale, the page navigates ({@link NavigationTracker}) or the thread's driver changes; the next
+ * call then finds it again, transparently. A handle is only used for reads that return at once;
+ * waits still go through Selenide so they see the page as it changes.
+ */
+public final class ElementHandle {
+    private static final Logger logger = LoggerFactory.getLogger(ElementHandle.class);
+
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalMisses = new LongAdder();
+    private static final LongAdder totalStale = new LongAdder();
+
+    private final SelenideElement source;
+    private final String elementName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private volatile Found found;
+
+    static {
+        NavigationTracker.install();
+    }
+
+    ElementHandle(SelenideElement source, String elementName) {
+        this.source = source;
+        this.elementName = elementName;
+    }
+
+    /**
+     * Run a read on the cached WebElement, finding it again once if it has gone stale
+     * @param read Operation on the element
+     * @return Result of the read
+     */
+    <R> R read(Function<WebElement, R> read) {
+        try {
+            return read.apply(get());
+        } catch (StaleElementReferenceException e) {
+            stale.increment();
+            totalStale.increment();
+            logger.debug("Cached handle of '{}' is stale, finding it again", elementName);
+            found = null;
+            return read.apply(get());
+        }
+    }
+
+    private WebElement get() {
+        Found current = found;
+        long epoch = NavigationTracker.currentEpoch();
+        if (current != null && current.epoch == epoch && WebDriverRunner.hasWebDriverStarted()
+                && current.driver == WebDriverRunner.getWebDriver()) {
+            hits.increment();
+            totalHits.increment();
+            return current.element;
+        }
+        misses.increment();
+        totalMisses.increment();
+        WebElement element = source.toWebElement();
+        found = new Found(WebDriverRunner.getWebDriver(), epoch, element);
+        return element;
+    }
+
+    /**
+     * Forget the cached WebElement; the next read finds it again
+     */
+    public void invalidate() {
+        found = null;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Lookups made: the first find and every one after a stale handle, navigation or driver change
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getStaleCount() {
+        return stale.sum();
+    }
+
+    /**
+     * @return One-line summary of all element handles
+     */
+    public static String getReport() {
+        long hitCount = totalHits.sum();
+        long lookups = hitCount + totalMisses.sum();
+        return String.format("Element handle cache: %d hit(s), %d lookup(s) (%d after a stale handle), %.1f%% of reads without a lookup",
+                hitCount, totalMisses.sum(), totalStale.sum(), lookups == 0 ? 0.0 : 100.0 * hitCount / lookups);
+    }
+
+    /**
+     * A found element and the driver and navigation epoch it was found in
+     */
+    private static final class Found {
+        private final WebDriver driver;
+        private final long epoch;
+        private final WebElement element;
+
+        private Found(WebDriver driver, long epoch, WebElement element) {
+            this.driver = driver;
+            this.epoch = epoch;
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.myorg.automation.core.elements;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.codegen.PageAccessorProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ElementTypeRegistry - Element classes by JSON "type" and a constructor-free factory per class
+ *
+ * The (String locator, String elementName) constructor of each element class is resolved once
+ * into an {@link ElementFactory} built with LambdaMetafactory, so creating an element is a plain
+ * constructor call instead of reflection. Classes the registry cannot spin a lambda for (e.g.
+ * from another class loader) fall back to a cached MethodHandle.
+ *
+ * The built-in types are those of {@link PageAccessorProcessor#ELEMENT_TYPES}, the one table the
+ * generated page accessors use as well. Custom element types are added with {@link #register}, or
+ * in configuration as element.type.&lt;JSON type&gt;=&lt;class name&gt;; the accessor generator reads
+ * the same entries from framework.properties.
+ */
+public final class ElementTypeRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ElementTypeRegistry.class);
+    private static final String CONFIG_PREFIX = PageAccessorProcessor.ELEMENT_TYPE_PREFIX;
+    private static final Class<? extends BaseElement> DEFAULT_TYPE = Label.class;
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class, String.class, String.class);
+
+    private static final Map<String, Class<? extends BaseElement>> types = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ElementFactory<?>> factories = new ConcurrentHashMap<>();
+
+    static {
+        PageAccessorProcessor.ELEMENT_TYPES.forEach((typeName, className) ->
+                register(typeName, elementClass(PageAccessorProcessor.ELEMENTS_PACKAGE + "." + className)));
+        registerConfiguredTypes();
+    }
+
+    private ElementTypeRegistry() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Register an element class for a JSON type, resolving its (String, String) constructor
+     * @param typeName JSON "type" value, e.g. "DatePicker"
+     * @param type Element class
+     */
+    public static <T extends BaseElement> void register(String typeName, Class<T> type) {
+        types.put(typeName, type);
+        factoryFor(type);
+    }
+
+    /**
+     * Register an element class for a JSON type with its factory
+     * @param typeName JSON "type" value
+     * @param type Element class
+     * @param factory Factory for the class, e.g. {@code DatePicker::new}
+     */
+    public static <T extends BaseElement> void register(String typeName, Class<T> type, ElementFactory<T> factory) {
+        types.put(typeName, type);
+        factories.put(type, factory);
+    }
+
+    /**
+     * Get the element class of a JSON type
+     * @param typeName JSON "type" value; null means a Label
+     * @return Registered element class
+     * @throws IllegalArgumentException if the type is not registered
+     */
+    public static Class<? extends BaseElement> typeOf(String typeName) {
+        if (typeName == null) {
+            return DEFAULT_TYPE;
+        }
+        Class<? extends BaseElement> type = types.get(typeName);
+        if (type == null) {
+            throw new IllegalArgumentException(String.format("Unknown element type '%s'; register it with "
+                    + "ElementTypeRegistry.register or %s%s=<class>", typeName, CONFIG_PREFIX, typeName));
+        }
+        return type;
+    }
+
+    /**
+     * Get the factory of an element class, resolving its constructor on first use
+     * @param type Element class with a public (String locator, String elementName) constructor
+     * @return Cached factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends BaseElement> ElementFactory<T> factoryFor(Class<T> type) {
+        return (ElementFactory<T>) factories.computeIfAbsent(type, ElementTypeRegistry::resolve);
+    }
+
+    /**
+     * Create an element of a JSON type
+     * @param typeName JSON "type" value
+     * @param locator Element locator
+     * @param elementName Element name
+     * @return New element
+     */
+    public static BaseElement create(String typeName, String locator, String elementName) {
+        return factoryFor(typeOf(typeName)).create(locator, elementName);
+    }
+
+    private static ElementFactory<?> resolve(Class<?> type) {
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup().findConstructor(type, CONSTRUCTOR);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(String.format(
+                    "Element type %s needs a public (String locator, String elementName) constructor", type.getName()), e);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "create",
+                    MethodType.methodType(ElementFactory.class),
+                    MethodType.methodType(BaseElement.class, String.class, String.class),
+                    constructor,
+                    MethodType.methodType(type, String.class, String.class));
+            return (ElementFactory<?>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            logger.debug("No lambda factory for {} ({}), using a method handle", type.getName(), e.toString());
+            MethodHandle handle = constructor.asType(MethodType.methodType(BaseElement.class, String.class, String.class));
+            return (locator, elementName) -> {
+                try {
+                    return (BaseElement) handle.invokeExact(locator, elementName);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * Register element.type.&lt;name&gt;=&lt;class&gt; entries from configuration
+     */
+    private static void registerConfiguredTypes() {
+        ConfigManager.getPropertiesWithPrefix(CONFIG_PREFIX).forEach((key, value) -> {
+            String typeName = key.toString().substring(CONFIG_PREFIX.length());
+            try {
+                Class<? extends BaseElement> type = elementClass(value.toString().trim());
+                register(typeName, type);
+                logger.info("Registered element type '{}' as {}", typeName, type.getName());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Invalid element type %s%s=%s: %s",
+                        CONFIG_PREFIX, typeName, value, e.getMessage()), e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends BaseElement> elementClass(String className) {
+        Class<?> type;
+        try {
+            type = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Element type class not found: " + className, e);
+        }
+        if (!BaseElement.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + " does not extend BaseElement");
+        }
+        return (Class<? extends BaseElement>) type;
+    }
+}
@@ -0,0 +1,235 @@
+package com.myorg.automation.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.myorg.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * FrameworkJson - The framework's single JSON service
+ *
+ * All page, locator and test data files are read through one mapper, so serializer and
+ * deserializer caches are shared and built once per JVM. Readers are prebuilt per target type,
+ * comments and trailing commas are accepted in the hand-edited files, and bean binding can use
+ * the Blackbird module (json.blackbird.enabled) for generated accessors instead of reflection.
+ *
+ * Every file read through {@link #read} or {@link #readTree} is timed; see {@link #getParseStats()}.
+ */
+public final class FrameworkJson {
+    private static final Logger logger = LoggerFactory.getLogger(FrameworkJson.class);
+
+    private static final ObjectMapper mapper = buildMapper();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final ObjectReader treeReader = mapper.reader();
+    private static final Map<String, ParseStats> parseStats = new ConcurrentHashMap<>();
+
+    private FrameworkJson() {
+        // Utility class - private constructor
+    }
+
+    private static ObjectMapper buildMapper() {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+                .enable(JsonReadFeature.ALLOW_TRAILING_COMMA);
+        if (ConfigManager.isJsonBlackbirdEnabled()) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return The shared mapper; do not reconfigure it
+     */
+    public static ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * Get the reader for a type, building it on first use
+     * @param type Target class
+     * @return Shared, thread-safe ObjectReader
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    /**
+     * Parse a file into a typed value and record its parse time
+     * @param source File name, used as the metrics key
+     * @param inputStream File content; closed afterwards
+     * @param type Target class
+     * @return Parsed value
+     * @throws IOException if the content is not valid JSON for the type
+     */
+    public static <T> T read(String source, InputStream inputStream, Class<T> type) throws IOException {
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        long start = System.nanoTime();
+        try (counting) {
+            T value = reader(type).readValue(counting);
+            record(source, System.nanoTime() - start, counting.count);
+            return value;
+        }
+    }
+
+    /**
+     * Parse a file into a tree and record its parse time
+     * @param source File name, used as the metrics key
+     * @param inputStream File content; closed afterwards
+     * @return Root node
+     * @throws IOException if the content is not valid JSON
+     */
+    public static JsonNode readTree(String source, InputStream inputStream) throws IOException {
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        long start = System.nanoTime();
+        try (counting) {
+            JsonNode root = treeReader.readTree(counting);
+            record(source, System.nanoTime() - start, counting.count);
+            return root;
+        }
+    }
+
+    /**
+     * Open a streaming parser with the framework's read features
+     * @param inputStream Content to parse; closed with the parser
+     * @return Parser whose codec is the shared mapper
+     * @throws IOException if the parser cannot be created
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return mapper.createParser(inputStream);
+    }
+
+    /**
+     * Convert an already parsed value, e.g. a map of test data, to another type
+     * @param value Value to convert
+     * @param type Target class
+     * @return Converted value
+     */
+    public static <T> T convert(Object value, Class<T> type) {
+        return mapper.convertValue(value, type);
+    }
+
+    private static void record(String source, long nanos, long bytes) {
+        parseStats.computeIfAbsent(source, ParseStats::new).add(nanos, bytes);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Parsed {} ({} bytes) in {} us", source, bytes, nanos / 1000);
+        }
+    }
+
+    /**
+     * @return Parse statistics per file, read-only
+     */
+    public static Map<String, ParseStats> getParseStats() {
+        return Collections.unmodifiableMap(parseStats);
+    }
+
+    /**
+     * @return Total time spent parsing files, in milliseconds
+     */
+    public static double getTotalParseMillis() {
+        return parseStats.values().stream().mapToLong(ParseStats::getTotalNanos).sum() / 1_000_000.0;
+    }
+
+    /**
+     * Forget recorded parse statistics
+     */
+    public static void resetStats() {
+        parseStats.clear();
+    }
+
+    /**
+     * @return Summary of parse time, slowest files first
+     */
+    public static String getReport() {
+        String files = parseStats.values().stream()
+                .sorted(Comparator.comparingLong(ParseStats::getTotalNanos).reversed())
+                .map(ParseStats::toString)
+                .collect(Collectors.joining(", "));
+        return String.format("JSON parsing: %d file(s) in %.1f ms [%s]", parseStats.size(), getTotalParseMillis(), files);
+    }
+
+    /**
+     * Parse count, time and size of one file
+     */
+    public static final class ParseStats {
+        private final String source;
+        private final LongAdder parses = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private ParseStats(String source) {
+            this.source = source;
+        }
+
+        private void add(long nanos, long size) {
+            parses.increment();
+            totalNanos.add(nanos);
+            bytes.add(size);
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public long getParseCount() {
+            return parses.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %dx %.2f ms %d B", source, getParseCount(), getTotalNanos() / 1_000_000.0, getBytes());
+        }
+    }
+
+    /**
+     * Counts bytes read, for the size column of the parse statistics
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.myorg.automation.core.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.myorg.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JsonBundle - Page and test data JSON precompiled at build time, loaded with one read per bundle
+ *
+ * {@link JsonBundleBuilder} validates the JSON resources during the Maven build and writes them into
+ * {@value #RESOURCE} files (Smile binary JSON). With json.bundle.enabled=true loaders ask this
+ * class first and read the raw JSON only when it has no entry: no bundle on the classpath (e.g. an
+ * IDE run without the Maven build) or a file edited after its bundle was built. Reading the bundle
+ * is off by default, as it only beats the raw files for suites with many or large JSON files.
+ *
+ * Returned nodes are shared; callers that modify a tree must copy it first.
+ */
+public final class JsonBundle {
+    private static final Logger logger = LoggerFactory.getLogger(JsonBundle.class);
+
+    public static final String RESOURCE = "framework-bundle.smile";
+    static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+
+    private static volatile Contents contents;
+
+    private JsonBundle() {
+        // Utility class - private constructor
+    }
+
+    static ObjectMapper smileMapper() {
+        return smileMapper;
+    }
+
+    /**
+     * Get a bundled file
+     * @param resourcePath Classpath path, e.g. "pages/AgodaHomePage.json" (a leading '/' is ignored)
+     * @return Parsed content, or null when the raw file has to be read
+     */
+    public static JsonNode get(String resourcePath) {
+        if (!ConfigManager.isJsonBundleEnabled()) {
+            return null;
+        }
+        String path = resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
+        return contents().files.get(path);
+    }
+
+    /**
+     * Drop the loaded bundles; they are read again on next use
+     */
+    public static void reset() {
+        contents = null;
+    }
+
+    private static Contents contents() {
+        Contents loaded = contents;
+        if (loaded == null) {
+            synchronized (JsonBundle.class) {
+                loaded = contents;
+                if (loaded == null) {
+                    loaded = load();
+                    contents = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static Contents load() {
+        long start = System.nanoTime();
+        Map<String, JsonNode> files = new HashMap<>();
+        long bytes = 0;
+        int bundles = 0;
+        int stale = 0;
+        try {
+            // Test resources come first on the test classpath, so their files win
+            Enumeration<URL> urls = JsonBundle.class.getClassLoader().getResources(RESOURCE);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                byte[] content;
+                try (InputStream inputStream = url.openStream()) {
+                    content = inputStream.readAllBytes();
+                }
+                bytes += content.length;
+                bundles++;
+                stale += addFiles(url, smileMapper.readTree(content), files);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read JSON bundles, falling back to raw JSON: {}", e.getMessage());
+            files.clear();
+        }
+        Contents loaded = new Contents(files, bundles, bytes, System.nanoTime() - start);
+        if (bundles == 0) {
+            logger.info("No {} on the classpath, reading raw JSON", RESOURCE);
+        } else {
+            logger.info("{}{}", loaded, stale > 0 ? String.format("; %d edited file(s) read raw", stale) : "");
+        }
+        return loaded;
+    }
+
+    /**
+     * Add the files of one bundle that are not already present and not edited since it was built
+     * @return Number of files skipped as edited
+     */
+    private static int addFiles(URL bundleUrl, JsonNode bundle, Map<String, JsonNode> files) {
+        if (bundle.path("format").asInt() != FORMAT_VERSION) {
+            logger.warn("Ignoring {}: unsupported format {}", bundleUrl, bundle.path("format"));
+            return 0;
+        }
+        Path root = directoryOf(bundleUrl);
+        JsonNode modified = bundle.path("modified");
+        int stale = 0;
+        Iterator<Map.Entry<String, JsonNode>> entries = bundle.path("files").fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            String path = entry.getKey();
+            if (files.containsKey(path)) {
+                continue;
+            }
+            if (root != null && isEdited(root.resolve(path), modified.path(path).asLong())) {
+                stale++;
+                continue;
+            }
+            files.put(path, entry.getValue());
+        }
+        return stale;
+    }
+
+    /**
+     * @return Directory of a bundle in an exploded output folder, or null inside a jar
+     */
+    private static Path directoryOf(URL bundleUrl) {
+        if (!"file".equals(bundleUrl.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(bundleUrl.toURI()).getParent();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isEdited(Path file, long bundledModified) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis() != bundledModified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static int getFileCount() {
+        return contents().files.size();
+    }
+
+    /**
+     * @return One-line summary of the loaded bundles
+     */
+    public static String getReport() {
+        if (!ConfigManager.isJsonBundleEnabled()) {
+            return "JSON bundle: disabled, reading raw JSON";
+        }
+        return contents().toString();
+    }
+
+    private static final class Contents {
+        private final Map<String, JsonNode> files;
+        private final int bundles;
+        private final long bytes;
+        private final long loadNanos;
+
+        private Contents(Map<String, JsonNode> files, int bundles, long bytes, long loadNanos) {
+            this.files = Collections.unmodifiableMap(files);
+            this.bundles = bundles;
+            this.bytes = bytes;
+            this.loadNanos = loadNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("JSON bundle: %d file(s) from %d bundle(s), %d bytes loaded in %.1f ms",
+                    files.size(), bundles, bytes, loadNanos / 1_000_000.0);
+        }
+    }
+}
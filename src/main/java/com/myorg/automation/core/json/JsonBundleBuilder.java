@@ -0,0 +1,172 @@
+package com.myorg.automation.core.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.myorg.automation.models.PageDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JsonBundleBuilder - Build step that validates page and test data JSON and writes the bundle
+ *
+ * Run by the Maven build (process-classes and process-test-classes) on each output directory:
+ * every file under pages/ and testdata/ is parsed and checked, and all of them are written into
+ * one Smile file ({@link JsonBundle#RESOURCE}) with shared field names and string values, so each
+ * repeated key or locator prefix is stored once. Any invalid file fails the build with a list of
+ * all problems found.
+ */
+public final class JsonBundleBuilder {
+    private static final Logger logger = LoggerFactory.getLogger(JsonBundleBuilder.class);
+    private static final String[] SOURCE_DIRECTORIES = {"pages", "testdata"};
+
+    private JsonBundleBuilder() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * @param args Output directory holding the copied resources, e.g. target/classes
+     * @throws IOException if a file cannot be read or the bundle cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: JsonBundleBuilder <resource output directory>");
+        }
+        build(Paths.get(args[0]));
+    }
+
+    /**
+     * Validate the JSON files of a resource directory and write its bundle next to them
+     * @param root Resource root, e.g. target/classes
+     * @return Number of files bundled
+     * @throws IOException if a file cannot be read or the bundle cannot be written
+     * @throws IllegalStateException if any file is invalid
+     */
+    public static int build(Path root) throws IOException {
+        List<Path> sources = findSources(root);
+        Path bundleFile = root.resolve(JsonBundle.RESOURCE);
+        if (sources.isEmpty()) {
+            Files.deleteIfExists(bundleFile);
+            logger.info("No page or test data JSON under {}, no bundle written", root);
+            return 0;
+        }
+
+        List<String> errors = new ArrayList<>();
+        ObjectNode files = JsonNodeFactory.instance.objectNode();
+        ObjectNode modified = JsonNodeFactory.instance.objectNode();
+        for (Path source : sources) {
+            String path = root.relativize(source).toString().replace('\\', '/');
+            JsonNode content;
+            try (InputStream inputStream = Files.newInputStream(source)) {
+                content = FrameworkJson.mapper().readTree(inputStream);
+            } catch (IOException e) {
+                errors.add(String.format("%s: invalid JSON: %s", path, e.getMessage()));
+                continue;
+            }
+            if (path.startsWith("pages/")) {
+                validatePage(path, content, errors);
+            } else {
+                validateTestData(path, content, errors);
+            }
+            files.set(path, content);
+            modified.put(path, Files.getLastModifiedTime(source).toMillis());
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(String.format("Invalid JSON resources under %s:%n  %s",
+                    root, String.join(System.lineSeparator() + "  ", errors)));
+        }
+
+        ObjectNode bundle = JsonNodeFactory.instance.objectNode();
+        bundle.put("format", JsonBundle.FORMAT_VERSION);
+        bundle.set("modified", modified);
+        bundle.set("files", files);
+        try (OutputStream outputStream = Files.newOutputStream(bundleFile)) {
+            JsonBundle.smileMapper().writeValue(outputStream, bundle);
+        }
+        long rawBytes = 0;
+        for (Path source : sources) {
+            rawBytes += Files.size(source);
+        }
+        logger.info("Bundled {} JSON file(s) from {} into {} ({} -> {} bytes)",
+                sources.size(), root, JsonBundle.RESOURCE, rawBytes, Files.size(bundleFile));
+        return sources.size();
+    }
+
+    private static List<Path> findSources(Path root) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for (String directory : SOURCE_DIRECTORIES) {
+            Path dir = root.resolve(directory);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(dir)) {
+                sources.addAll(walk.filter(file -> file.toString().endsWith(".json"))
+                        .sorted()
+                        .collect(Collectors.toList()));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * A page needs an elements array of uniquely named elements with locators, and must bind to PageDefinition
+     */
+    private static void validatePage(String path, JsonNode page, List<String> errors) {
+        JsonNode elements = page.get("elements");
+        if (elements == null || !elements.isArray()) {
+            errors.add(path + ": missing \"elements\" array");
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < elements.size(); i++) {
+            JsonNode element = elements.get(i);
+            String name = element.path("name").asText("");
+            if (name.trim().isEmpty()) {
+                errors.add(String.format("%s: element #%d has no name", path, i));
+                continue;
+            }
+            if (!names.add(name)) {
+                errors.add(String.format("%s: duplicate element name '%s'", path, name));
+            }
+            if (element.path("locator").asText("").trim().isEmpty()) {
+                errors.add(String.format("%s: element '%s' has no locator", path, name));
+            }
+        }
+        try {
+            FrameworkJson.mapper().treeToValue(page, PageDefinition.class);
+        } catch (IOException e) {
+            errors.add(String.format("%s: not a valid page definition: %s", path, e.getMessage()));
+        }
+    }
+
+    /**
+     * A test data file is an object of test cases, each an object
+     */
+    private static void validateTestData(String path, JsonNode data, List<String> errors) {
+        if (!data.isObject()) {
+            errors.add(path + ": must be an object of test cases");
+            return;
+        }
+        Iterator<String> names = data.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!data.get(name).isObject()) {
+                errors.add(String.format("%s: test case '%s' is not an object", path, name));
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.models.RetrySettings;
+import org.openqa.selenium.By;
+
+/**
+ * Immutable, pre-resolved view of a single element from a page JSON file.
+ * Holds everything BasePage needs for an element so that a lookup is a single hash probe.
+ */
+public final class CompiledLocator {
+
+    private final String elementName;
+    private final String rawLocator;
+    private final String locatorType;
+    private final String locatorValue;
+    private final By by;
+    private final String waitType;
+    private final String description;
+    private final Integer timeout;
+    private final RetrySettings retrySettings;
+    private final LocatorTemplate template;
+    private final OptimizedLocator optimization;
+
+    public CompiledLocator(String elementName, String rawLocator, String locatorType, String locatorValue,
+                           By by, String waitType, String description, Integer timeout, RetrySettings retrySettings,
+                           OptimizedLocator optimization) {
+        this.elementName = elementName;
+        this.rawLocator = rawLocator;
+        this.locatorType = locatorType;
+        this.locatorValue = locatorValue;
+        this.by = by;
+        this.waitType = waitType;
+        this.description = description;
+        this.timeout = timeout;
+        this.retrySettings = retrySettings;
+        this.template = locatorValue != null && (locatorValue.indexOf('{') >= 0 || locatorValue.contains("%s"))
+                ? LocatorTemplate.compile(locatorType, locatorValue)
+                : null;
+        this.optimization = optimization;
+    }
+
+    public String getElementName() {
+        return elementName;
+    }
+
+    /**
+     * @return Locator exactly as written in JSON, including its prefix (may be null)
+     */
+    public String getRawLocator() {
+        return rawLocator;
+    }
+
+    /**
+     * @return Locator type (xpath, css, id, ...) of the locator used, after optimization
+     */
+    public String getLocatorType() {
+        return locatorType;
+    }
+
+    /**
+     * @return Value of the locator used, without its prefix (may be null)
+     */
+    public String getLocatorValue() {
+        return locatorValue;
+    }
+
+    /**
+     * @return Prebuilt By for the locator, or null when the element has no locator
+     */
+    public By getBy() {
+        return by;
+    }
+
+    public String getWaitType() {
+        return waitType;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return Element timeout in milliseconds, or null when the JSON does not define one
+     */
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return Element "retry" block merged over the page one, or null when neither defines one
+     */
+    public RetrySettings getRetrySettings() {
+        return retrySettings;
+    }
+
+    /**
+     * @return Compiled template for a dynamic locator, or null when the locator has no placeholders
+     */
+    public LocatorTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return Rewrite and estimated cost of the locator, or null when the element has no locator
+     */
+    public OptimizedLocator getOptimization() {
+        return optimization;
+    }
+
+    public boolean hasLocator() {
+        return locatorValue != null;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledLocator{" +
+                "elementName='" + elementName + '\'' +
+                ", locatorType='" + locatorType + '\'' +
+                ", locatorValue='" + locatorValue + '\'' +
+                ", waitType='" + waitType + '\'' +
+                ", timeout=" + timeout +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.automation.models.RetrySettings;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable, compiled form of a page JSON file: the parsed {@link PageDefinition} plus one
+ * {@link CompiledLocator} per element, indexed by element name.
+ */
+public final class CompiledPage {
+
+    private final String pageName;
+    private final PageDefinition definition;
+    private final Map<String, CompiledLocator> locators;
+
+    public CompiledPage(String pageName, PageDefinition definition, Map<String, CompiledLocator> locators) {
+        this.pageName = pageName;
+        this.definition = definition;
+        this.locators = Collections.unmodifiableMap(locators);
+    }
+
+    /**
+     * @return The parsed page definition this page was compiled from
+     */
+    public PageDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * @return Page-level "retry" block, or null when the JSON does not define one
+     */
+    public RetrySettings getRetrySettings() {
+        return definition.getRetry();
+    }
+
+    /**
+     * @return Page name used to look the page up (e.g. "AgodaHomePage")
+     */
+    public String getPageName() {
+        return pageName;
+    }
+
+    /**
+     * @return The "pageName" value from JSON, or the lookup name when it is missing
+     */
+    public String getTitle() {
+        return definition.getPageName() != null ? definition.getPageName() : pageName;
+    }
+
+    /**
+     * @return Page URL, or an empty string when the JSON does not define one
+     */
+    public String getUrl() {
+        return definition.getUrl() != null ? definition.getUrl() : "";
+    }
+
+    /**
+     * @return true if the page JSON contains an "elements" array
+     */
+    public boolean hasElementsArray() {
+        return definition.getElements() != null;
+    }
+
+    /**
+     * Find a compiled locator by element name
+     * @param elementName The element name
+     * @return CompiledLocator if found, null otherwise
+     */
+    public CompiledLocator find(String elementName) {
+        return locators.get(elementName);
+    }
+
+    /**
+     * @return Read-only map of element name to compiled locator
+     */
+    public Map<String, CompiledLocator> getLocators() {
+        return locators;
+    }
+}
@@ -0,0 +1,390 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.constants.FrameworkConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorOptimizer - Rewrites XPath locators to CSS where the meaning is unchanged
+ *
+ * Browsers answer CSS selectors from their style engine while XPath is evaluated step by step,
+ * so an XPath that is only tags, attribute tests, descendant (//) and child (/) steps becomes the
+ * equivalent CSS selector: //div[@data-x='a']//button[contains(@class,'go')] becomes
+ * css=div[data-x='a'] button[class*='go'], and //*[@id='x'] or //*[@name='x'] become the native
+ * id= and name= strategies. Positional predicates, text(), other functions and axes have no CSS
+ * equivalent and are kept, as are dynamic locators, whose placeholders are escaped per locator type.
+ *
+ * Every locator gets an estimated cost (relative units, see {@link #estimateCost}); descendant
+ * wildcards (//*) and text() matches are flagged. Rewriting is off unless locators.optimize.enabled
+ * is set; costs and flags are reported either way.
+ */
+public final class LocatorOptimizer {
+    public static final String WARNING_DESCENDANT_WILDCARD = "descendant wildcard //*";
+    public static final String WARNING_CONTAINS_TEXT = "contains(text())";
+    public static final String WARNING_TEXT = "text() match";
+
+    // Relative cost units, per locator type and per expensive construct
+    private static final int NATIVE_COST = 1;
+    private static final int CSS_COST = 2;
+    private static final int LINK_TEXT_COST = 6;
+    private static final int XPATH_COST = 5;
+    private static final int DESCENDANT_STEP_COST = 1;
+    private static final int SUBSTRING_MATCH_COST = 1;
+    private static final int BRANCH_COST = 3;
+    private static final int POSITIONAL_GROUP_COST = 3;
+    private static final int WILDCARD_COST = 10;
+    private static final int TEXT_MATCH_COST = 10;
+
+    private static final Pattern NODE_TEST = Pattern.compile("\\*|[A-Za-z][\\w-]*");
+    private static final Pattern ATTRIBUTE_EQUALS = Pattern.compile("@([A-Za-z_][\\w-]*)\\s*=\\s*('[^']*'|\"[^\"]*\")");
+    private static final Pattern ATTRIBUTE_FUNCTION =
+            Pattern.compile("(contains|starts-with)\\(\\s*@([A-Za-z_][\\w-]*)\\s*,\\s*('[^']*'|\"[^\"]*\")\\s*\\)");
+    private static final Pattern ATTRIBUTE_EXISTS = Pattern.compile("@([A-Za-z_][\\w-]*)");
+    private static final Pattern POSITION = Pattern.compile("\\d+|last\\(\\)|position\\(\\).*");
+
+    private LocatorOptimizer() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Optimize a locator, rewriting it when locators.optimize.enabled is set
+     * @param rawLocator Locator as written in page JSON, e.g. "xpath=//button[@id='go']"
+     * @return Locator to use with the original and both costs
+     */
+    public static OptimizedLocator optimize(String rawLocator) {
+        return optimize(rawLocator, ConfigManager.isLocatorOptimizationEnabled());
+    }
+
+    /**
+     * Optimize a locator
+     * @param rawLocator Locator as written in page JSON
+     * @param rewrite Whether XPath may be rewritten; false only assesses the locator
+     * @return Locator to use with the original and both costs
+     */
+    public static OptimizedLocator optimize(String rawLocator, boolean rewrite) {
+        List<String> originalWarnings = new ArrayList<>();
+        int originalCost = assess(rawLocator, originalWarnings);
+        if (!FrameworkConstants.LOCATOR_TYPE_XPATH.equals(Locators.typeOf(rawLocator))) {
+            return new OptimizedLocator(rawLocator, rawLocator, originalCost, originalCost, originalWarnings, null);
+        }
+        String xpath = Locators.valueOf(rawLocator).trim();
+        String note;
+        if (!rewrite) {
+            note = "kept: optimization disabled";
+        } else if (xpath.indexOf('{') >= 0 || xpath.contains("%s")) {
+            note = "kept: dynamic locator";
+        } else {
+            try {
+                String rewritten = rewrite(xpath);
+                List<String> warnings = new ArrayList<>();
+                int cost = assess(rewritten, warnings);
+                return new OptimizedLocator(rawLocator, rewritten, originalCost, cost, warnings,
+                        "rewritten to " + Locators.typeOf(rewritten));
+            } catch (NotRewritable e) {
+                note = "kept: " + e.getMessage();
+            }
+        }
+        return new OptimizedLocator(rawLocator, rawLocator, originalCost, originalCost, originalWarnings, note);
+    }
+
+    /**
+     * Estimate how expensive a locator is to find. Native id/name lookups cost 1 and CSS 2, plus 1 per
+     * descendant combinator and substring match; XPath starts at 5, plus 1 per descendant step, 3 per
+     * extra union branch or positional group, and 10 each for //* and text() matches, which make the
+     * browser visit every element or read every text node.
+     * @param rawLocator Locator as written in page JSON
+     * @return Estimated cost in relative units
+     */
+    public static int estimateCost(String rawLocator) {
+        return assess(rawLocator, new ArrayList<>());
+    }
+
+    private static int assess(String rawLocator, List<String> warnings) {
+        String value = Locators.valueOf(rawLocator);
+        switch (Locators.typeOf(rawLocator)) {
+            case FrameworkConstants.LOCATOR_TYPE_ID:
+            case FrameworkConstants.LOCATOR_TYPE_NAME:
+                return NATIVE_COST;
+            case FrameworkConstants.LOCATOR_TYPE_CLASS:
+            case FrameworkConstants.LOCATOR_TYPE_TAG:
+                return CSS_COST;
+            case FrameworkConstants.LOCATOR_TYPE_TEXT:
+                return LINK_TEXT_COST;
+            case FrameworkConstants.LOCATOR_TYPE_XPATH:
+                return xpathCost(withoutLiterals(value), warnings);
+            default:
+                return cssCost(withoutLiterals(value));
+        }
+    }
+
+    private static int xpathCost(String xpath, List<String> warnings) {
+        int cost = XPATH_COST;
+        cost += count(xpath, "//") * DESCENDANT_STEP_COST;
+        cost += count(xpath, "|") * BRANCH_COST;
+        cost += xpath.trim().startsWith("(") ? POSITIONAL_GROUP_COST : 0;
+        int wildcards = count(xpath, "//*");
+        if (wildcards > 0) {
+            cost += wildcards * WILDCARD_COST;
+            warnings.add(WARNING_DESCENDANT_WILDCARD);
+        }
+        String compact = xpath.replaceAll("\\s+", "");
+        int textMatches = count(compact, "text()");
+        if (textMatches > 0) {
+            cost += textMatches * TEXT_MATCH_COST;
+            warnings.add(compact.contains("contains(text()") ? WARNING_CONTAINS_TEXT : WARNING_TEXT);
+        }
+        return cost;
+    }
+
+    private static int cssCost(String selector) {
+        selector = selector.trim();
+        int cost = CSS_COST;
+        cost += (count(selector, "*=") + count(selector, "^=") + count(selector, "$=") + count(selector, "~="))
+                * SUBSTRING_MATCH_COST;
+        cost += count(selector, ",") * BRANCH_COST;
+        int depth = 0;
+        boolean inCombinator = false;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            depth += c == '[' || c == '(' ? 1 : c == ']' || c == ')' ? -1 : 0;
+            boolean combinator = depth == 0 && (Character.isWhitespace(c) || c == '>' || c == '+' || c == '~');
+            if (combinator && !inCombinator) {
+                cost += DESCENDANT_STEP_COST;
+            }
+            inCombinator = combinator || (depth == 0 && c == ',');
+        }
+        return cost;
+    }
+
+    /**
+     * Rewrite an XPath to a CSS or native locator
+     * @return Rewritten locator with its prefix
+     * @throws NotRewritable naming the first construct CSS cannot express
+     */
+    private static String rewrite(String xpath) throws NotRewritable {
+        List<String> branches = split(xpath, "|");
+        if (branches.size() == 1) {
+            List<Step> steps = parsePath(xpath);
+            String nativeLocator = nativeLocator(steps);
+            return nativeLocator != null ? nativeLocator : FrameworkConstants.LOCATOR_TYPE_CSS + "=" + toCss(steps);
+        }
+        StringJoiner selectors = new StringJoiner(", ");
+        for (String branch : branches) {
+            selectors.add(toCss(parsePath(branch.trim())));
+        }
+        return FrameworkConstants.LOCATOR_TYPE_CSS + "=" + selectors;
+    }
+
+    private static List<Step> parsePath(String path) throws NotRewritable {
+        if (path.startsWith("(")) {
+            throw new NotRewritable("positional group (...)[n]");
+        }
+        if (!path.startsWith("//")) {
+            throw new NotRewritable("path does not start with //");
+        }
+        List<Step> steps = new ArrayList<>();
+        int i = 0;
+        while (i < path.length()) {
+            String combinator;
+            if (path.startsWith("//", i)) {
+                combinator = steps.isEmpty() ? "" : " ";
+                i += 2;
+            } else if (path.charAt(i) == '/') {
+                combinator = " > ";
+                i++;
+            } else {
+                throw new NotRewritable(String.format("unsupported '%s'", path.substring(i)));
+            }
+            Matcher nodeTest = NODE_TEST.matcher(path).region(i, path.length());
+            if (!nodeTest.lookingAt()) {
+                throw new NotRewritable(String.format("unsupported step '%s'", path.substring(i)));
+            }
+            i = nodeTest.end();
+            if (i < path.length() && (path.charAt(i) == ':' || path.charAt(i) == '(')) {
+                throw new NotRewritable(String.format("axis or node test '%s'", path.substring(nodeTest.start())));
+            }
+            List<Condition> conditions = new ArrayList<>();
+            while (i < path.length() && path.charAt(i) == '[') {
+                int end = closingBracket(path, i);
+                for (String condition : split(path.substring(i + 1, end), " and ")) {
+                    conditions.add(parseCondition(condition.trim()));
+                }
+                i = end + 1;
+            }
+            steps.add(new Step(combinator, nodeTest.group(), conditions));
+        }
+        return steps;
+    }
+
+    private static Condition parseCondition(String condition) throws NotRewritable {
+        Matcher matcher = ATTRIBUTE_EQUALS.matcher(condition);
+        if (matcher.matches()) {
+            return new Condition(matcher.group(1), "=", unquote(matcher.group(2)));
+        }
+        matcher = ATTRIBUTE_FUNCTION.matcher(condition);
+        if (matcher.matches()) {
+            String value = unquote(matcher.group(3));
+            if (value.isEmpty()) {
+                // contains(@a, '') is true even without the attribute
+                throw new NotRewritable(String.format("empty %s() argument", matcher.group(1)));
+            }
+            return new Condition(matcher.group(2), "contains".equals(matcher.group(1)) ? "*=" : "^=", value);
+        }
+        if (ATTRIBUTE_EXISTS.matcher(condition).matches()) {
+            return new Condition(condition.substring(1), null, null);
+        }
+        if (POSITION.matcher(condition).matches()) {
+            throw new NotRewritable(String.format("positional predicate [%s]", condition));
+        }
+        if (condition.contains("text()")) {
+            throw new NotRewritable("text() match");
+        }
+        throw new NotRewritable(String.format("predicate [%s]", condition));
+    }
+
+    /**
+     * @return id= or name= for a lone //*[@id='x'] or //*[@name='x']
+     */
+    private static String nativeLocator(List<Step> steps) {
+        if (steps.size() != 1 || !"*".equals(steps.get(0).nodeTest) || steps.get(0).conditions.size() != 1) {
+            return null;
+        }
+        Condition condition = steps.get(0).conditions.get(0);
+        boolean supported = "=".equals(condition.operator) && !condition.value.isEmpty()
+                && (FrameworkConstants.LOCATOR_TYPE_ID.equals(condition.attribute)
+                || FrameworkConstants.LOCATOR_TYPE_NAME.equals(condition.attribute));
+        return supported ? condition.attribute + "=" + condition.value : null;
+    }
+
+    private static String toCss(List<Step> steps) {
+        StringBuilder css = new StringBuilder();
+        for (Step step : steps) {
+            css.append(step.combinator);
+            if (!"*".equals(step.nodeTest) || step.conditions.isEmpty()) {
+                css.append(step.nodeTest);
+            }
+            for (Condition condition : step.conditions) {
+                css.append('[').append(condition.attribute);
+                if (condition.operator != null) {
+                    css.append(condition.operator).append(cssString(condition.value));
+                }
+                css.append(']');
+            }
+        }
+        return css.toString();
+    }
+
+    private static String cssString(String value) {
+        char quote = value.indexOf('\'') < 0 ? '\'' : '"';
+        String escaped = value.replace("\\", "\\\\").replace("\n", "\\a ");
+        return quote + escaped + quote;
+    }
+
+    private static String unquote(String literal) {
+        return literal.substring(1, literal.length() - 1);
+    }
+
+    private static int closingBracket(String path, int open) throws NotRewritable {
+        char quote = 0;
+        for (int i = open + 1; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                throw new NotRewritable("nested predicate");
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        throw new NotRewritable("unclosed predicate");
+    }
+
+    /**
+     * Split at a delimiter outside string literals, brackets and parentheses
+     */
+    private static List<String> split(String expression, String delimiter) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        char quote = 0;
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (depth == 0 && expression.startsWith(delimiter, i)) {
+                parts.add(expression.substring(start, i));
+                start = i + delimiter.length();
+                i = start - 1;
+            }
+        }
+        parts.add(expression.substring(start));
+        return parts;
+    }
+
+    /**
+     * @return Expression with the content of every string literal removed, so it is not counted
+     */
+    private static String withoutLiterals(String expression) {
+        return expression.replaceAll("'[^']*'|\"[^\"]*\"", "''");
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * One location step: combinator to the previous step, tag or *, and attribute conditions
+     */
+    private static final class Step {
+        private final String combinator;
+        private final String nodeTest;
+        private final List<Condition> conditions;
+
+        private Step(String combinator, String nodeTest, List<Condition> conditions) {
+            this.combinator = combinator;
+            this.nodeTest = nodeTest;
+            this.conditions = conditions;
+        }
+    }
+
+    /**
+     * An attribute test; a null operator tests presence only
+     */
+    private static final class Condition {
+        private final String attribute;
+        private final String operator;
+        private final String value;
+
+        private Condition(String attribute, String operator, String value) {
+            this.attribute = attribute;
+            this.operator = operator;
+            this.value = value;
+        }
+    }
+
+    /**
+     * An XPath construct CSS cannot express; the message names it
+     */
+    private static final class NotRewritable extends Exception {
+        private NotRewritable(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.automation.models.RetrySettings;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LocatorRegistry - Compiles page definitions into {@link CompiledPage} records
+ *
+ * Every element becomes a {@link CompiledLocator} holding the prebuilt By, wait type,
+ * description and timeout, so element lookups are a single hash probe. Locators are parsed
+ * with the {@link Locators} grammar after {@link LocatorOptimizer} has rewritten XPath that has a
+ * CSS equivalent; the JSON locator stays available for reports. Compiled pages are cached by PageRepository.
+ */
+public final class LocatorRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(LocatorRegistry.class);
+
+    private LocatorRegistry() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Compile a page definition into a CompiledPage
+     * @param pageName The page name used for lookups (e.g. "AgodaHomePage")
+     * @param definition The parsed page definition
+     * @return CompiledPage with one CompiledLocator per element
+     */
+    public static CompiledPage compile(String pageName, PageDefinition definition) {
+        RetrySettings pageRetry = definition.getRetry();
+        boolean rewrite = ConfigManager.isLocatorOptimizationEnabled();
+        Map<String, CompiledLocator> locators = new LinkedHashMap<>();
+        int rewritten = 0;
+        if (definition.getElements() != null) {
+            for (ElementDefinition element : definition.getElements()) {
+                CompiledLocator locator = compileElement(element, pageRetry, rewrite);
+                locators.put(element.getName(), locator);
+                OptimizedLocator optimization = locator.getOptimization();
+                if (optimization == null) {
+                    continue;
+                }
+                if (optimization.isRewritten()) {
+                    rewritten++;
+                    logger.debug("{}.{}: {}", pageName, element.getName(), optimization);
+                }
+                if (optimization.isFlagged()) {
+                    logger.warn("Expensive locator {}.{}: {}", pageName, element.getName(), optimization);
+                }
+            }
+        }
+
+        logger.debug("Compiled {} locators for page: {} ({} rewritten)", locators.size(), pageName, rewritten);
+        return new CompiledPage(pageName, definition, locators);
+    }
+
+    /**
+     * Compile a single element definition
+     */
+    private static CompiledLocator compileElement(ElementDefinition element, RetrySettings pageRetry, boolean rewrite) {
+        String rawLocator = element.getLocator();
+        OptimizedLocator optimization = rawLocator != null ? LocatorOptimizer.optimize(rawLocator, rewrite) : null;
+        String locator = optimization != null ? optimization.getLocator() : null;
+        String locatorType = locator != null ? Locators.typeOf(locator) : FrameworkConstants.LOCATOR_TYPE_XPATH;
+        String locatorValue = locator != null ? Locators.valueOf(locator) : null;
+        By by = locatorValue != null ? Locators.toBy(locatorType, locatorValue) : null;
+        RetrySettings elementRetry = element.getRetry();
+
+        return new CompiledLocator(
+                element.getName(),
+                rawLocator,
+                locatorType,
+                locatorValue,
+                by,
+                resolveWaitType(element.getType()),
+                element.getDescription() != null ? element.getDescription() : "No description available",
+                element.getTimeout(),
+                elementRetry != null ? elementRetry.mergeOver(pageRetry) : pageRetry,
+                optimization);
+    }
+
+    /**
+     * Return appropriate wait type based on element type
+     */
+    private static String resolveWaitType(String elementType) {
+        if (elementType == null) {
+            return FrameworkConstants.WAIT_TYPE_VISIBLE;
+        }
+        String type = elementType.toLowerCase();
+        if (type.equals("button") || type.equals("dropdown") || type.equals("option")) {
+            return FrameworkConstants.WAIT_TYPE_CLICKABLE;
+        }
+        return FrameworkConstants.WAIT_TYPE_VISIBLE;
+    }
+}
@@ -0,0 +1,324 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.cache.ConcurrentCache;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LocatorTemplate - A dynamic locator parsed once into literal and placeholder segments
+ *
+ * Supported placeholders are named ones such as {index}, {name} and {id}, and positional %s.
+ * A placeholder wrapped in quotes ('{name}' or "%s") is rendered as a properly escaped
+ * string literal: XPath values containing quotes become concat(...) expressions, CSS values
+ * are backslash-escaped. Unquoted CSS placeholders are escaped as identifiers, the same way as
+ * id= and class= values (#{id} with "1abc" gives #\31 abc), so they cannot fill an+b arguments
+ * such as :nth-child(); unquoted XPath placeholders (e.g. [{index}]) are inserted as is.
+ *
+ * Rendered {@link By} instances are kept in a small per-template cache keyed by the parameters,
+ * so repeating the same parameters costs one hash lookup.
+ */
+public final class LocatorTemplate {
+
+    private static final String POSITIONAL = "%s";
+    private static final String VALUE_SEPARATOR = "\u0000";
+
+    private final String rawLocator;
+    private final String locatorType;
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final List<String> placeholderNames;
+    // Position in render(String...) values for each placeholder
+    private final int[] valueIndexes;
+    private final int staticLength;
+    private final ConcurrentCache<String, By> byCache;
+
+    private LocatorTemplate(String rawLocator, String locatorType, List<String> literals,
+                            List<Placeholder> placeholders, int byCacheSize) {
+        this.rawLocator = rawLocator;
+        this.locatorType = locatorType;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new Placeholder[0]);
+
+        Set<String> names = new LinkedHashSet<>();
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        for (Placeholder placeholder : placeholders) {
+            if (!placeholder.isPositional()) {
+                names.add(placeholder.name);
+            }
+        }
+        this.placeholderNames = Collections.unmodifiableList(new ArrayList<>(names));
+        this.valueIndexes = new int[this.placeholders.length];
+        int next = placeholderNames.size();
+        for (int i = 0; i < this.placeholders.length; i++) {
+            valueIndexes[i] = this.placeholders[i].isPositional() ? next++ : placeholderNames.indexOf(this.placeholders[i].name);
+        }
+        this.staticLength = length;
+        this.byCache = new ConcurrentCache<>("locator-template:" + rawLocator, byCacheSize,
+                ConfigManager.getCacheEvictionPolicy());
+    }
+
+    /**
+     * Compile a locator in the {@link Locators} grammar
+     * @param rawLocator Locator string with placeholders
+     * @return LocatorTemplate
+     */
+    public static LocatorTemplate compile(String rawLocator) {
+        return compile(Locators.typeOf(rawLocator), Locators.valueOf(rawLocator));
+    }
+
+    /**
+     * Compile a locator value of a known type
+     * @param locatorType Locator type (xpath, css, id, ...)
+     * @param locatorValue Locator value with placeholders, without prefix
+     * @return LocatorTemplate
+     */
+    public static LocatorTemplate compile(String locatorType, String locatorValue) {
+        return compile(locatorType, locatorValue, ConfigManager.getRenderedLocatorCacheMaxSize());
+    }
+
+    /**
+     * Compile a locator value of a known type
+     * @param locatorType Locator type (xpath, css, id, ...)
+     * @param locatorValue Locator value with placeholders, without prefix
+     * @param byCacheSize Number of rendered By instances to keep
+     * @return LocatorTemplate
+     */
+    public static LocatorTemplate compile(String locatorType, String locatorValue, int byCacheSize) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < locatorValue.length()) {
+            int end = placeholderEnd(locatorValue, i);
+            if (end < 0) {
+                literal.append(locatorValue.charAt(i++));
+                continue;
+            }
+            String name = locatorValue.charAt(i) == '%' ? POSITIONAL : locatorValue.substring(i + 1, end - 1);
+
+            // A placeholder between matching quotes takes the quotes over, so it can pick the escaping
+            char quote = 0;
+            int length = literal.length();
+            if (length > 0 && end < locatorValue.length()) {
+                char before = literal.charAt(length - 1);
+                if ((before == '\'' || before == '"') && locatorValue.charAt(end) == before) {
+                    quote = before;
+                    literal.setLength(length - 1);
+                    end++;
+                }
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(new Placeholder(name, quote));
+            i = end;
+        }
+        literals.add(literal.toString());
+
+        return new LocatorTemplate(locatorType + "=" + locatorValue, locatorType, literals, placeholders, byCacheSize);
+    }
+
+    /**
+     * @return Index just past the placeholder starting at position, or -1 if there is none
+     */
+    private static int placeholderEnd(String value, int position) {
+        char c = value.charAt(position);
+        if (c == '%' && value.startsWith(POSITIONAL, position)) {
+            return position + POSITIONAL.length();
+        }
+        if (c != '{') {
+            return -1;
+        }
+        int i = position + 1;
+        while (i < value.length() && (Character.isLetterOrDigit(value.charAt(i)) || value.charAt(i) == '_')) {
+            i++;
+        }
+        return i > position + 1 && i < value.length() && value.charAt(i) == '}' ? i + 1 : -1;
+    }
+
+    /**
+     * Render with positional values. Each distinct named placeholder takes the next value in
+     * order of first appearance (so a repeated {name} is filled once); each %s takes the next value.
+     * @param values Placeholder values
+     * @return Rendered locator value, without prefix
+     * @throws IllegalArgumentException if fewer values than placeholders are given
+     */
+    public String render(String... values) {
+        StringBuilder result = new StringBuilder(staticLength + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(literals[i]);
+            int valueIndex = valueIndexes[i];
+            if (valueIndex >= values.length) {
+                throw new IllegalArgumentException(String.format("Locator '%s' needs %d parameter(s), got %d",
+                        rawLocator, getParameterCount(), values.length));
+            }
+            appendValue(result, placeholders[i], values[valueIndex]);
+        }
+        result.append(literals[placeholders.length]);
+        return result.toString();
+    }
+
+    /**
+     * Render with named values; %s placeholders are not supported by this variant
+     * @param values Values by placeholder name (e.g. "index" -> "3")
+     * @return Rendered locator value, without prefix
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder result = new StringBuilder(staticLength + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(literals[i]);
+            String value = values.get(placeholders[i].name);
+            if (value == null) {
+                throw new IllegalArgumentException(String.format("Locator '%s' has no value for placeholder '%s'",
+                        rawLocator, placeholders[i]));
+            }
+            appendValue(result, placeholders[i], value);
+        }
+        result.append(literals[placeholders.length]);
+        return result.toString();
+    }
+
+    /**
+     * Render and convert to a By, reusing a cached instance for repeated values
+     * @param values Placeholder values, as for {@link #render(String...)}
+     * @return By locator
+     */
+    public By toBy(String... values) {
+        // Keyed by the values, not the rendered locator, so a hit skips rendering entirely
+        String key = values.length == 1 ? values[0] : String.join(VALUE_SEPARATOR, values);
+        return byCache.get(key, k -> Locators.toBy(locatorType, render(values)));
+    }
+
+    private void appendValue(StringBuilder result, Placeholder placeholder, String value) {
+        if (FrameworkConstants.LOCATOR_TYPE_XPATH.equals(locatorType)) {
+            if (placeholder.quote != 0) {
+                appendXPathLiteral(result, value);
+            } else {
+                result.append(value);
+            }
+        } else if (FrameworkConstants.LOCATOR_TYPE_CSS.equals(locatorType)) {
+            if (placeholder.quote != 0) {
+                appendCssString(result, value, placeholder.quote);
+            } else {
+                result.append(Locators.escapeCssIdentifier(value));
+            }
+        } else {
+            // id, name and class locators take the raw value
+            if (placeholder.quote != 0) {
+                result.append(placeholder.quote).append(value).append(placeholder.quote);
+            } else {
+                result.append(value);
+            }
+        }
+    }
+
+    /**
+     * XPath 1.0 has no escape sequences: use the quote the value lacks, or concat() when it has both
+     */
+    static void appendXPathLiteral(StringBuilder result, String value) {
+        if (value.indexOf('\'') < 0) {
+            result.append('\'').append(value).append('\'');
+        } else if (value.indexOf('"') < 0) {
+            result.append('"').append(value).append('"');
+        } else {
+            result.append("concat(");
+            int start = 0;
+            int quote;
+            while ((quote = value.indexOf('\'', start)) >= 0) {
+                if (quote > start) {
+                    result.append('\'').append(value, start, quote).append("',");
+                }
+                result.append("\"'\",");
+                start = quote + 1;
+            }
+            if (start < value.length()) {
+                result.append('\'').append(value, start, value.length()).append('\'');
+            } else {
+                result.setLength(result.length() - 1);
+            }
+            result.append(')');
+        }
+    }
+
+    static void appendCssString(StringBuilder result, String value, char quote) {
+        result.append(quote);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == quote || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c == '\n') {
+                result.append("\\a ");
+            } else {
+                result.append(c);
+            }
+        }
+        result.append(quote);
+    }
+
+    public String getLocatorType() {
+        return locatorType;
+    }
+
+    /**
+     * @return Distinct named placeholders in order of first appearance
+     */
+    public List<String> getPlaceholderNames() {
+        return placeholderNames;
+    }
+
+    /**
+     * @return Number of positional values {@link #render(String...)} expects
+     */
+    public int getParameterCount() {
+        int count = 0;
+        for (int valueIndex : valueIndexes) {
+            count = Math.max(count, valueIndex + 1);
+        }
+        return count;
+    }
+
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    public ConcurrentCache.Stats getCacheStats() {
+        return byCache.stats();
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorTemplate{" + rawLocator + ", placeholders=" + placeholders.length + '}';
+    }
+
+    private static final class Placeholder {
+        private final String name;
+        // Quote character that wrapped the placeholder in the template, or 0
+        private final char quote;
+
+        private Placeholder(String name, char quote) {
+            this.name = name;
+            this.quote = quote;
+        }
+
+        private boolean isPositional() {
+            return POSITIONAL.equals(name);
+        }
+
+        @Override
+        public String toString() {
+            return isPositional() ? POSITIONAL : "{" + name + "}";
+        }
+    }
+}
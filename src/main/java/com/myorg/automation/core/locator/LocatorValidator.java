@@ -0,0 +1,149 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.constants.FrameworkConstants;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * LocatorValidator - Syntax check of locators without a browser
+ *
+ * XPath is compiled with javax.xml.xpath, which implements XPath 1.0 as browsers do, so a
+ * function the browser does not know (e.g. matches()) is reported too. CSS selectors are checked
+ * for their structure: balanced brackets and quotes, no empty selectors around combinators or
+ * commas, and a name after '#' and '.'. Pseudo-classes are not checked against a list, so a valid
+ * selector is never rejected. Placeholders of dynamic locators are filled with a sample value first.
+ */
+public final class LocatorValidator {
+    private static final String SAMPLE_VALUE = "1";
+    // XPath objects are not thread-safe
+    private static final ThreadLocal<XPath> xpath = ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+    private LocatorValidator() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Check a locator
+     * @param rawLocator Locator as written in page JSON, e.g. "xpath=//button[@id='go']"
+     * @return Description of the problem, or null if the locator is valid
+     */
+    public static String validate(String rawLocator) {
+        if (rawLocator == null || rawLocator.trim().isEmpty()) {
+            return "empty locator";
+        }
+        String type = Locators.typeOf(rawLocator);
+        String value = withSampleValues(type, Locators.valueOf(rawLocator));
+        if (value.trim().isEmpty()) {
+            return String.format("empty %s locator", type);
+        }
+        switch (type) {
+            case FrameworkConstants.LOCATOR_TYPE_XPATH:
+                return xpathProblem(value);
+            case FrameworkConstants.LOCATOR_TYPE_CSS:
+                return cssProblem(value);
+            case FrameworkConstants.LOCATOR_TYPE_CLASS:
+            case FrameworkConstants.LOCATOR_TYPE_TAG:
+                return value.trim().chars().anyMatch(Character::isWhitespace)
+                        ? String.format("%s locator '%s' must be a single name", type, value)
+                        : null;
+            default:
+                return null;
+        }
+    }
+
+    private static String withSampleValues(String type, String value) {
+        if (value.indexOf('{') < 0 && !value.contains("%s")) {
+            return value;
+        }
+        LocatorTemplate template = LocatorTemplate.compile(type, value, 1);
+        if (!template.hasPlaceholders()) {
+            return value;
+        }
+        String[] samples = new String[template.getParameterCount()];
+        Arrays.fill(samples, SAMPLE_VALUE);
+        return template.render(samples);
+    }
+
+    private static String xpathProblem(String expression) {
+        try {
+            xpath.get().compile(expression);
+            return null;
+        } catch (XPathExpressionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return String.format("invalid XPath '%s': %s", expression, cause.getMessage());
+        }
+    }
+
+    private static String cssProblem(String selector) {
+        Deque<Integer> open = new ArrayDeque<>();
+        char quote = 0;
+        // True at the start and after a combinator or comma, where a compound selector must follow
+        boolean expectSelector = true;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (c == '\\') {
+                i++;
+                expectSelector = false;
+            } else if (c == '"' || c == '\'') {
+                if (open.isEmpty()) {
+                    return String.format("invalid CSS '%s': string outside brackets at %d", selector, i);
+                }
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                open.push(i);
+                expectSelector = false;
+            } else if (c == ']' || c == ')') {
+                char expected = c == ']' ? '[' : '(';
+                if (open.isEmpty() || selector.charAt(open.peek()) != expected) {
+                    return String.format("invalid CSS '%s': unmatched '%c' at %d", selector, c, i);
+                }
+                int start = open.pop();
+                if (c == ']' && selector.substring(start + 1, i).trim().isEmpty()) {
+                    return String.format("invalid CSS '%s': empty attribute selector at %d", selector, start);
+                }
+            } else if (!open.isEmpty() || Character.isWhitespace(c)) {
+                continue;
+            } else if (c == ',' || c == '>' || c == '+' || c == '~') {
+                if (expectSelector) {
+                    return String.format("invalid CSS '%s': '%c' at %d has no selector before it", selector, c, i);
+                }
+                expectSelector = true;
+            } else if ((c == '#' || c == '.') && !startsName(selector, i + 1)) {
+                return String.format("invalid CSS '%s': '%c' at %d is not followed by a name", selector, c, i);
+            } else {
+                expectSelector = false;
+            }
+        }
+        if (quote != 0) {
+            return String.format("invalid CSS '%s': unterminated string", selector);
+        }
+        if (!open.isEmpty()) {
+            return String.format("invalid CSS '%s': unclosed '%c' at %d", selector, selector.charAt(open.peek()), open.peek());
+        }
+        if (expectSelector) {
+            return String.format("invalid CSS '%s': ends without a selector", selector);
+        }
+        return null;
+    }
+
+    private static boolean startsName(String selector, int index) {
+        if (index >= selector.length()) {
+            return false;
+        }
+        char c = selector.charAt(index);
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '\\' || c > 0x7F;
+    }
+}
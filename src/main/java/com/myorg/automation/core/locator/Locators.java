@@ -0,0 +1,153 @@
+package com.myorg.automation.core.locator;
+
+import com.myorg.automation.constants.FrameworkConstants;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+/**
+ * Locators - The framework's locator grammar and its conversion into Selenium {@link By} instances
+ *
+ * A locator is "type=value" with type one of xpath, css, id, class, name, tag or text. Without a
+ * known type prefix it is XPath when it starts with '/' or '(' and CSS otherwise, so "=" inside
+ * an unprefixed selector (e.g. //input[@id='q']) is never mistaken for a prefix. Page JSON,
+ * element wrappers and locator templates all parse locators here.
+ */
+public final class Locators {
+    private static final Logger logger = LoggerFactory.getLogger(Locators.class);
+    private static final Set<String> TYPES = Set.of(
+            FrameworkConstants.LOCATOR_TYPE_XPATH, FrameworkConstants.LOCATOR_TYPE_CSS, FrameworkConstants.LOCATOR_TYPE_ID,
+            FrameworkConstants.LOCATOR_TYPE_CLASS, FrameworkConstants.LOCATOR_TYPE_NAME, FrameworkConstants.LOCATOR_TYPE_TAG,
+            FrameworkConstants.LOCATOR_TYPE_TEXT);
+
+    private Locators() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Create By locator based on type and value
+     * @param locatorType The type of locator (id, css, xpath, etc.)
+     * @param locatorValue The locator value
+     * @return By locator
+     */
+    public static By toBy(String locatorType, String locatorValue) {
+        switch (locatorType.toLowerCase()) {
+            case FrameworkConstants.LOCATOR_TYPE_ID:
+                return By.id(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_CSS:
+                return By.cssSelector(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_XPATH:
+                return By.xpath(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_CLASS:
+                return By.className(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_NAME:
+                return By.name(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_TAG:
+                return By.tagName(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_TEXT:
+                return By.linkText(locatorValue);
+            default:
+                logger.warn("Unknown locator type '{}', defaulting to CSS selector", locatorType);
+                return By.cssSelector(locatorValue);
+        }
+    }
+
+    /**
+     * Get the type of a locator
+     * @param rawLocator Locator as written in page JSON, e.g. "css=#search"
+     * @return Prefix type, or xpath/css inferred for an unprefixed locator
+     */
+    public static String typeOf(String rawLocator) {
+        String prefix = prefixOf(rawLocator);
+        if (prefix != null) {
+            return prefix;
+        }
+        return rawLocator.startsWith("/") || rawLocator.startsWith("(")
+                ? FrameworkConstants.LOCATOR_TYPE_XPATH
+                : FrameworkConstants.LOCATOR_TYPE_CSS;
+    }
+
+    /**
+     * Get the value of a locator
+     * @param rawLocator Locator as written in page JSON
+     * @return Locator without its type prefix
+     */
+    public static String valueOf(String rawLocator) {
+        String prefix = prefixOf(rawLocator);
+        return prefix != null ? rawLocator.substring(prefix.length() + 1) : rawLocator;
+    }
+
+    /**
+     * Create By locator from a locator string
+     * @param rawLocator Locator as written in page JSON
+     * @return By locator
+     */
+    public static By toBy(String rawLocator) {
+        return toBy(typeOf(rawLocator), valueOf(rawLocator));
+    }
+
+    /**
+     * Express a non-XPath locator as a CSS selector
+     * @param locatorType Locator type
+     * @param locatorValue Locator value
+     * @return CSS selector, or null for xpath and text locators. Id, class and name values are
+     *         escaped, so id=a.b becomes #a\.b and id=1x becomes #\31 x
+     */
+    public static String toCssSelector(String locatorType, String locatorValue) {
+        switch (locatorType) {
+            case FrameworkConstants.LOCATOR_TYPE_CSS:
+            case FrameworkConstants.LOCATOR_TYPE_TAG:
+                return locatorValue;
+            case FrameworkConstants.LOCATOR_TYPE_ID:
+                return FrameworkConstants.ID_SELECTOR_PREFIX + escapeCssIdentifier(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_CLASS:
+                return FrameworkConstants.CLASS_SELECTOR_PREFIX + escapeCssIdentifier(locatorValue);
+            case FrameworkConstants.LOCATOR_TYPE_NAME:
+                return String.format(FrameworkConstants.NAME_ATTRIBUTE_SELECTOR, escapeCssString(locatorValue));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Escape a value for use as a CSS identifier, following CSS.escape() from CSSOM.
+     * Shared with LocatorTemplate for unquoted CSS placeholders
+     */
+    static String escapeCssIdentifier(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean leadingDigit = c >= '0' && c <= '9' && (i == 0 || (i == 1 && value.charAt(0) == '-'));
+            if (c == 0) {
+                escaped.append('\uFFFD');
+            } else if (c < 0x20 || c == 0x7F || leadingDigit) {
+                escaped.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else if (c == '-' && i == 0 && value.length() == 1) {
+                escaped.append("\\-");
+            } else if (c >= 0x80 || c == '-' || c == '_' || Character.isLetterOrDigit(c)) {
+                escaped.append(c);
+            } else {
+                escaped.append('\\').append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Escape a value for use inside a single-quoted CSS string
+     */
+    private static String escapeCssString(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+
+    private static String prefixOf(String rawLocator) {
+        int separator = rawLocator.indexOf('=');
+        if (separator <= 0) {
+            return null;
+        }
+        String prefix = rawLocator.substring(0, separator);
+        return TYPES.contains(prefix) ? prefix : null;
+    }
+}
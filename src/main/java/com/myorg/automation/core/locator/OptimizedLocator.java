@@ -0,0 +1,83 @@
+package com.myorg.automation.core.locator;
+
+import java.util.List;
+
+/**
+ * Immutable result of {@link LocatorOptimizer#optimize}: the locator to find an element with,
+ * the locator as written in page JSON, and the estimated cost of both.
+ */
+public final class OptimizedLocator {
+
+    private final String originalLocator;
+    private final String locator;
+    private final int originalCost;
+    private final int cost;
+    private final List<String> warnings;
+    private final String note;
+
+    OptimizedLocator(String originalLocator, String locator, int originalCost, int cost, List<String> warnings, String note) {
+        this.originalLocator = originalLocator;
+        this.locator = locator;
+        this.originalCost = originalCost;
+        this.cost = cost;
+        this.warnings = List.copyOf(warnings);
+        this.note = note;
+    }
+
+    /**
+     * @return Locator exactly as written in JSON
+     */
+    public String getOriginalLocator() {
+        return originalLocator;
+    }
+
+    /**
+     * @return Locator to find the element with, including its prefix; the original when not rewritten
+     */
+    public String getLocator() {
+        return locator;
+    }
+
+    public boolean isRewritten() {
+        return !locator.equals(originalLocator);
+    }
+
+    /**
+     * @return Estimated cost of the original locator, see {@link LocatorOptimizer#estimateCost}
+     */
+    public int getOriginalCost() {
+        return originalCost;
+    }
+
+    /**
+     * @return Estimated cost of the locator used
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * @return Expensive constructs left in the locator used, e.g. "descendant wildcard //*"; empty if none
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    public boolean isFlagged() {
+        return !warnings.isEmpty();
+    }
+
+    /**
+     * @return What was rewritten, or why an XPath was kept; null for other locators
+     */
+    public String getNote() {
+        return note;
+    }
+
+    @Override
+    public String toString() {
+        return isRewritten()
+                ? String.format("%s -> %s (cost %d -> %d)", originalLocator, locator, originalCost, cost)
+                : String.format("%s (cost %d%s)", locator, cost, warnings.isEmpty() ? "" : ": " + String.join(", ", warnings));
+    }
+}
@@ -0,0 +1,51 @@
+package com.myorg.automation.core.retry;
+
+/**
+ * Bounds another policy by a total time budget: no attempt starts after the deadline,
+ * and the last back-off is shortened so that it ends at the deadline
+ */
+public class DeadlineRetryPolicy implements RetryPolicy {
+    private final RetryPolicy delegate;
+    private final long deadlineMillis;
+
+    /**
+     * @param delegate Policy providing attempt limits and delays
+     * @param deadlineMillis Total time budget for the operation in milliseconds
+     */
+    public DeadlineRetryPolicy(RetryPolicy delegate, long deadlineMillis) {
+        this.delegate = delegate;
+        this.deadlineMillis = Math.max(0, deadlineMillis);
+    }
+
+    @Override
+    public long nextDelayMillis(int failedAttempts, long elapsedMillis) {
+        long remaining = deadlineMillis - elapsedMillis;
+        if (remaining <= 0) {
+            return STOP;
+        }
+        long delay = delegate.nextDelayMillis(failedAttempts, elapsedMillis);
+        if (delay == STOP) {
+            return STOP;
+        }
+        return Math.min(delay, remaining);
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return delegate.getMaxAttempts();
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    @Override
+    public String describe() {
+        return String.format("deadline(%dms, %s)", deadlineMillis, delegate.describe());
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
@@ -0,0 +1,59 @@
+package com.myorg.automation.core.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries with a delay that doubles after every failure, capped at a maximum and
+ * spread by a random jitter so that parallel threads do not retry in lock step
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final double jitter;
+
+    /**
+     * @param maxAttempts Maximum number of attempts (at least 1)
+     * @param baseDelayMillis Delay after the first failure in milliseconds
+     * @param maxDelayMillis Upper bound for any single delay in milliseconds
+     * @param jitter Random spread as a fraction of the delay (0.2 = +/-20%), clamped to [0, 1]; the jittered
+     *               delay stays within [baseDelayMillis, maxDelayMillis]
+     */
+    public ExponentialBackoffRetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, double jitter) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(0, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        this.jitter = Math.min(1.0, Math.max(0.0, jitter));
+    }
+
+    @Override
+    public long nextDelayMillis(int failedAttempts, long elapsedMillis) {
+        if (failedAttempts >= maxAttempts) {
+            return STOP;
+        }
+        // Shift is capped so that large attempt counts cannot overflow
+        long delay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(failedAttempts - 1, 20));
+        if (jitter > 0 && delay > 0) {
+            double spread = 1.0 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            // Jitter never takes a delay outside [base, max]
+            delay = Math.max(baseDelayMillis, Math.min(maxDelayMillis, Math.round(delay * spread)));
+        }
+        return delay;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public String describe() {
+        return String.format("exponential(attempts=%d, base=%dms, max=%dms, jitter=%.0f%%)",
+                maxAttempts, baseDelayMillis, maxDelayMillis, jitter * 100);
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
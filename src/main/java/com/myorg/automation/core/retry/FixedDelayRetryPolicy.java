@@ -0,0 +1,38 @@
+package com.myorg.automation.core.retry;
+
+/**
+ * Retries up to a fixed number of attempts with the same delay between them
+ */
+public class FixedDelayRetryPolicy implements RetryPolicy {
+    private final int maxAttempts;
+    private final long delayMillis;
+
+    /**
+     * @param maxAttempts Maximum number of attempts (at least 1)
+     * @param delayMillis Delay between attempts in milliseconds
+     */
+    public FixedDelayRetryPolicy(int maxAttempts, long delayMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.delayMillis = Math.max(0, delayMillis);
+    }
+
+    @Override
+    public long nextDelayMillis(int failedAttempts, long elapsedMillis) {
+        return failedAttempts >= maxAttempts ? STOP : delayMillis;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public String describe() {
+        return String.format("fixed(attempts=%d, delay=%dms)", maxAttempts, delayMillis);
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
@@ -0,0 +1,57 @@
+package com.myorg.automation.core.retry;
+
+import com.codeborne.selenide.ex.UIAssertionError;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Classifies failures into how they should be retried
+ *
+ * - Stale element: the DOM node was replaced, re-locating right away usually succeeds
+ * - Missing, hidden, intercepted or otherwise transient WebDriver errors: back off, the page is still changing
+ * - Broken selectors, lost sessions and framework errors (e.g. unknown element name): fail immediately
+ */
+public final class RetryClassifier {
+
+    /**
+     * How a failure should be retried
+     */
+    public enum Decision {
+        RETRY_IMMEDIATELY,
+        BACKOFF,
+        FAIL
+    }
+
+    // Selenide wraps driver exceptions; look this deep for the root cause
+    private static final int MAX_CAUSE_DEPTH = 5;
+
+    private RetryClassifier() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Classify a failure
+     * @param failure Exception or assertion error thrown by the operation
+     * @return Retry decision
+     */
+    public static Decision classify(Throwable failure) {
+        Throwable current = failure;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof StaleElementReferenceException) {
+                return Decision.RETRY_IMMEDIATELY;
+            }
+            if (current instanceof InvalidSelectorException || current instanceof NoSuchSessionException) {
+                return Decision.FAIL;
+            }
+            current = current.getCause();
+        }
+        if (failure instanceof WebDriverException || failure instanceof UIAssertionError) {
+            // Includes NoSuchElementException, ElementNotInteractableException, TimeoutException
+            // and Selenide's ElementNotFound / ElementShould
+            return Decision.BACKOFF;
+        }
+        return Decision.FAIL;
+    }
+}
@@ -0,0 +1,156 @@
+package com.myorg.automation.core.retry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * RetryExecutor - Runs an operation under a {@link RetryPolicy}
+ *
+ * Each failure is classified by {@link RetryClassifier}: stale elements are retried
+ * without delay, transient failures back off as the policy dictates, and anything else
+ * fails on the spot. Attempts and wasted time are recorded in {@link RetryMetrics}.
+ */
+public final class RetryExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(RetryExecutor.class);
+
+    private RetryExecutor() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Run an operation, retrying failures according to the policy
+     * @param operation Operation name used in logs and metrics
+     * @param policy Retry policy
+     * @param action The operation
+     * @return The operation result
+     * @throws RuntimeException if the operation still fails when the policy gives up
+     */
+    public static <T> T execute(String operation, RetryPolicy policy, Supplier<T> action) {
+        Outcome<T> outcome = run(operation, policy, action, result -> true);
+        if (outcome.succeeded) {
+            return outcome.result;
+        }
+        if (outcome.decision == RetryClassifier.Decision.FAIL && outcome.failure instanceof RuntimeException) {
+            throw (RuntimeException) outcome.failure;
+        }
+        throw new RuntimeException(String.format("Operation '%s' failed after %d attempt(s) with %s: %s",
+                operation, outcome.attempts, policy.describe(),
+                outcome.failure != null ? outcome.failure.getMessage() : "no result"), outcome.failure);
+    }
+
+    /**
+     * Run an operation with no result, retrying failures according to the policy
+     * @param operation Operation name used in logs and metrics
+     * @param policy Retry policy
+     * @param action The operation
+     * @throws RuntimeException if the operation still fails when the policy gives up
+     */
+    public static void execute(String operation, RetryPolicy policy, Runnable action) {
+        execute(operation, policy, () -> {
+            action.run();
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Run a check until it returns true; a false result backs off like a transient failure
+     * @param operation Operation name used in logs and metrics
+     * @param policy Retry policy
+     * @param check The check
+     * @return true if the check passed within the policy, false otherwise (never throws for check failures)
+     */
+    public static boolean executeUntilTrue(String operation, RetryPolicy policy, Supplier<Boolean> check) {
+        return run(operation, policy, check, Boolean.TRUE::equals).succeeded;
+    }
+
+    private static <T> Outcome<T> run(String operation, RetryPolicy policy, Supplier<T> action, Predicate<T> accept) {
+        long start = System.nanoTime();
+        int attempts = 0;
+        int immediateRetries = 0;
+        long backoffMillis = 0;
+        long failedAttemptMillis = 0;
+        Throwable lastFailure = null;
+        RetryClassifier.Decision decision;
+
+        while (true) {
+            attempts++;
+            long attemptStart = System.nanoTime();
+            try {
+                T result = action.get();
+                if (accept.test(result)) {
+                    if (attempts > 1) {
+                        logger.debug("Operation '{}' succeeded on attempt {}", operation, attempts);
+                    }
+                    RetryMetrics.record(operation, true, attempts, immediateRetries, backoffMillis, failedAttemptMillis);
+                    return Outcome.success(result, attempts);
+                }
+                lastFailure = null;
+                decision = RetryClassifier.Decision.BACKOFF;
+            } catch (RuntimeException | AssertionError e) {
+                lastFailure = e;
+                decision = RetryClassifier.classify(e);
+            }
+            failedAttemptMillis += (System.nanoTime() - attemptStart) / 1_000_000L;
+
+            if (decision == RetryClassifier.Decision.FAIL) {
+                logger.debug("Operation '{}' failed with a non-retryable error: {}", operation, lastFailure);
+                break;
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+            long delay = policy.nextDelayMillis(attempts, elapsedMillis);
+            if (delay == RetryPolicy.STOP) {
+                break;
+            }
+            if (decision == RetryClassifier.Decision.RETRY_IMMEDIATELY) {
+                immediateRetries++;
+                delay = 0;
+            }
+            logger.debug("Attempt {}/{} of '{}' failed ({}), retrying in {}ms", attempts, policy.getMaxAttempts(),
+                    operation, lastFailure != null ? lastFailure.getClass().getSimpleName() : "condition not met", delay);
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("Sleep interrupted during retry of '{}'", operation);
+                    break;
+                }
+                backoffMillis += delay;
+            }
+        }
+
+        logger.warn("Operation '{}' failed after {} attempt(s) with {}", operation, attempts, policy.describe());
+        RetryMetrics.record(operation, false, attempts, immediateRetries, backoffMillis, failedAttemptMillis);
+        return Outcome.failure(lastFailure, decision, attempts);
+    }
+
+    /**
+     * Result of a retried run
+     */
+    private static final class Outcome<T> {
+        private final boolean succeeded;
+        private final T result;
+        private final Throwable failure;
+        private final RetryClassifier.Decision decision;
+        private final int attempts;
+
+        private Outcome(boolean succeeded, T result, Throwable failure, RetryClassifier.Decision decision, int attempts) {
+            this.succeeded = succeeded;
+            this.result = result;
+            this.failure = failure;
+            this.decision = decision;
+            this.attempts = attempts;
+        }
+
+        private static <T> Outcome<T> success(T result, int attempts) {
+            return new Outcome<>(true, result, null, null, attempts);
+        }
+
+        private static <T> Outcome<T> failure(Throwable failure, RetryClassifier.Decision decision, int attempts) {
+            return new Outcome<>(false, null, failure, decision, attempts);
+        }
+    }
+}
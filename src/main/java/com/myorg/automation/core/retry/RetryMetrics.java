@@ -0,0 +1,90 @@
+package com.myorg.automation.core.retry;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RetryMetrics - Attempt counts and wasted time per retried operation
+ *
+ * Wasted time is the time spent in failed attempts plus the back-off between attempts.
+ */
+public final class RetryMetrics {
+    private static final Map<String, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
+    private RetryMetrics() {
+        // Utility class - private constructor
+    }
+
+    static void record(String operation, boolean succeeded, int attempts, int immediateRetries,
+                       long backoffMillis, long failedAttemptMillis) {
+        OperationMetrics entry = metrics.computeIfAbsent(operation, key -> new OperationMetrics());
+        entry.executions.increment();
+        if (!succeeded) {
+            entry.failures.increment();
+        }
+        entry.attempts.add(attempts);
+        entry.immediateRetries.add(immediateRetries);
+        entry.backoffMillis.add(backoffMillis);
+        entry.failedAttemptMillis.add(failedAttemptMillis);
+    }
+
+    /**
+     * @return Total attempts beyond the first one across all operations
+     */
+    public static long getTotalRetries() {
+        return metrics.values().stream().mapToLong(m -> m.attempts.sum() - m.executions.sum()).sum();
+    }
+
+    /**
+     * @return Total milliseconds spent in failed attempts and back-offs across all operations
+     */
+    public static long getTotalWastedMillis() {
+        return metrics.values().stream().mapToLong(OperationMetrics::getWastedMillis).sum();
+    }
+
+    /**
+     * Build a report with one line per operation that needed at least one retry
+     * @return Formatted report
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder("Retry metrics:");
+        for (Map.Entry<String, OperationMetrics> entry : new TreeMap<>(metrics).entrySet()) {
+            OperationMetrics m = entry.getValue();
+            long retries = m.attempts.sum() - m.executions.sum();
+            if (retries == 0 && m.failures.sum() == 0) {
+                continue;
+            }
+            report.append(String.format("%n  %-60s executions=%d failures=%d retries=%d immediate=%d " +
+                            "backoff=%dms failedAttempts=%dms wasted=%dms",
+                    entry.getKey(), m.executions.sum(), m.failures.sum(), retries, m.immediateRetries.sum(),
+                    m.backoffMillis.sum(), m.failedAttemptMillis.sum(), m.getWastedMillis()));
+        }
+        report.append(String.format("%n  TOTAL retries=%d wasted=%dms", getTotalRetries(), getTotalWastedMillis()));
+        return report.toString();
+    }
+
+    /**
+     * Clear all recorded metrics
+     */
+    public static void reset() {
+        metrics.clear();
+    }
+
+    /**
+     * Aggregated counters for one operation
+     */
+    private static final class OperationMetrics {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder immediateRetries = new LongAdder();
+        private final LongAdder backoffMillis = new LongAdder();
+        private final LongAdder failedAttemptMillis = new LongAdder();
+
+        private long getWastedMillis() {
+            return backoffMillis.sum() + failedAttemptMillis.sum();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.myorg.automation.core.retry;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.enums.RetryPolicyType;
+import com.myorg.automation.models.RetrySettings;
+
+/**
+ * RetryPolicies - Builds {@link RetryPolicy} instances from JSON retry settings and test.retry.* configuration
+ */
+public final class RetryPolicies {
+
+    private RetryPolicies() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Build the policy configured in framework.properties
+     * @return Default RetryPolicy
+     */
+    public static RetryPolicy defaultPolicy() {
+        return fromSettings(null);
+    }
+
+    /**
+     * Build a policy from JSON settings, falling back to configuration for unset fields
+     * @param settings Merged element/page retry settings (may be null)
+     * @return RetryPolicy
+     */
+    public static RetryPolicy fromSettings(RetrySettings settings) {
+        RetrySettings effective = settings != null ? settings : new RetrySettings();
+        RetryPolicyType type = RetryPolicyType.fromString(
+                effective.getPolicy() != null ? effective.getPolicy() : ConfigManager.getRetryPolicy(),
+                RetryPolicyType.EXPONENTIAL);
+        int maxAttempts = effective.getMaxAttempts() != null ? effective.getMaxAttempts() : ConfigManager.getRetryAttempts();
+        long delay = effective.getDelay() != null ? effective.getDelay() : ConfigManager.getRetryDelay();
+
+        if (type == RetryPolicyType.FIXED) {
+            return new FixedDelayRetryPolicy(maxAttempts, delay);
+        }
+
+        RetryPolicy backoff = new ExponentialBackoffRetryPolicy(
+                maxAttempts,
+                delay,
+                effective.getMaxDelay() != null ? effective.getMaxDelay() : ConfigManager.getRetryMaxDelay(),
+                effective.getJitter() != null ? effective.getJitter() : ConfigManager.getRetryJitter());
+
+        if (type == RetryPolicyType.DEADLINE) {
+            long deadline = effective.getDeadline() != null ? effective.getDeadline() : ConfigManager.getRetryDeadline();
+            return new DeadlineRetryPolicy(backoff, deadline);
+        }
+        return backoff;
+    }
+}
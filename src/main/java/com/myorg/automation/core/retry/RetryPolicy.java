@@ -0,0 +1,30 @@
+package com.myorg.automation.core.retry;
+
+/**
+ * Decides whether a failed operation is attempted again and how long to back off first
+ */
+public interface RetryPolicy {
+
+    /**
+     * Returned by {@link #nextDelayMillis(int, long)} when no further attempt should be made
+     */
+    long STOP = -1;
+
+    /**
+     * Compute the back-off before the next attempt
+     * @param failedAttempts Number of attempts made so far (all failed), starting at 1
+     * @param elapsedMillis Time spent on the operation so far, including back-offs
+     * @return Delay in milliseconds before the next attempt, or {@link #STOP}
+     */
+    long nextDelayMillis(int failedAttempts, long elapsedMillis);
+
+    /**
+     * @return Maximum number of attempts, including the first one
+     */
+    int getMaxAttempts();
+
+    /**
+     * @return Human readable description used in logs
+     */
+    String describe();
+}
@@ -0,0 +1,86 @@
+package com.myorg.automation.core.wait;
+
+import com.myorg.automation.core.retry.DeadlineRetryPolicy;
+import com.myorg.automation.core.retry.RetryPolicy;
+
+import java.time.Duration;
+
+/**
+ * WaitBudget - One time budget shared by everything a logical action waits on
+ *
+ * A page action (click, get text, visibility check) starts a budget of the element's
+ * timeout; the smart wait, the Selenide command and any retries all draw from it, so the
+ * action as a whole never waits longer than that one timeout.
+ */
+public final class WaitBudget {
+    private final long timeoutMillis;
+    private final long startNanos;
+
+    private WaitBudget(long timeoutMillis) {
+        this.timeoutMillis = Math.max(0, timeoutMillis);
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Start a budget now
+     * @param timeoutMillis Total budget in milliseconds
+     * @return WaitBudget
+     */
+    public static WaitBudget start(long timeoutMillis) {
+        return new WaitBudget(timeoutMillis);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * @return Milliseconds since the budget started
+     */
+    public long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    /**
+     * @return Milliseconds left, never negative
+     */
+    public long remainingMillis() {
+        return Math.max(0, timeoutMillis - elapsedMillis());
+    }
+
+    /**
+     * @return Time left as a Duration, for Selenide should* and command timeouts
+     */
+    public Duration remaining() {
+        return Duration.ofMillis(remainingMillis());
+    }
+
+    public boolean isExhausted() {
+        return remainingMillis() == 0;
+    }
+
+    /**
+     * Fail fast when nothing is left of the budget
+     * @param action Action description for the error message
+     * @throws RuntimeException if the budget is exhausted
+     */
+    public void ensureRemaining(String action) {
+        if (isExhausted()) {
+            throw new RuntimeException(String.format("Wait budget of %dms exhausted before %s", timeoutMillis, action));
+        }
+    }
+
+    /**
+     * Bound a retry policy so that no retry starts once the budget is spent
+     * @param policy Policy providing attempts and delays
+     * @return Policy limited to the remaining budget
+     */
+    public RetryPolicy bound(RetryPolicy policy) {
+        return new DeadlineRetryPolicy(policy, remainingMillis());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WaitBudget{timeout=%dms, remaining=%dms}", timeoutMillis, remainingMillis());
+    }
+}
@@ -0,0 +1,45 @@
+package com.myorg.automation.core.wait;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A named condition polled by {@link WaitEngine}
+ */
+public interface WaitCondition {
+
+    /**
+     * Check the condition once
+     * @return true when the condition is met
+     */
+    boolean isMet();
+
+    /**
+     * @return Human readable description used in logs and timeout messages
+     */
+    String describe();
+
+    /**
+     * Create a condition from a description and a check
+     * @param description Condition description
+     * @param check Check evaluated on every poll
+     * @return WaitCondition
+     */
+    static WaitCondition of(String description, BooleanSupplier check) {
+        return new WaitCondition() {
+            @Override
+            public boolean isMet() {
+                return check.getAsBoolean();
+            }
+
+            @Override
+            public String describe() {
+                return description;
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
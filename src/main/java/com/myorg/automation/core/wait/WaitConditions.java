@@ -0,0 +1,163 @@
+package com.myorg.automation.core.wait;
+
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideElement;
+import com.myorg.automation.config.ConfigManager;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import static com.codeborne.selenide.Selenide.executeJavaScript;
+
+/**
+ * WaitConditions - Factory of the conditions page objects wait on
+ *
+ * Conditions:
+ * - elementVisible / elementCountChanged / textEquals / valueEquals / focused for element state
+ * - networkIdle: document loaded and no new resource requests for wait.network.quiet.period
+ * - domQuiescent: no DOM mutations for wait.dom.quiet.period
+ */
+public final class WaitConditions {
+
+    // Installs a MutationObserver once per document and returns ms since the last mutation
+    private static final String DOM_IDLE_SCRIPT =
+            "if (!window.__fwMutationObserver) {" +
+            "  window.__fwLastMutation = Date.now();" +
+            "  window.__fwMutationObserver = new MutationObserver(function() { window.__fwLastMutation = Date.now(); });" +
+            "  window.__fwMutationObserver.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "}" +
+            "return Date.now() - window.__fwLastMutation;";
+
+    // Returns the resource count, or -1 while the document is still loading
+    private static final String NETWORK_STATE_SCRIPT =
+            "if (document.readyState !== 'complete') { return -1; }" +
+            "return performance.getEntriesByType('resource').length;";
+
+    private WaitConditions() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Element is displayed
+     * @param element Element to check
+     * @param elementName Element name for logging
+     * @return WaitCondition
+     */
+    public static WaitCondition elementVisible(SelenideElement element, String elementName) {
+        return WaitCondition.of("'" + elementName + "' visible", element::isDisplayed);
+    }
+
+    /**
+     * Collection size differs from a previously observed count
+     * @param elements Collection to count
+     * @param elementName Element name for logging
+     * @param previousCount Count observed before the action
+     * @return WaitCondition
+     */
+    public static WaitCondition elementCountChanged(ElementsCollection elements, String elementName, int previousCount) {
+        return WaitCondition.of("'" + elementName + "' count changed from " + previousCount,
+                () -> elements.size() != previousCount);
+    }
+
+    /**
+     * Trimmed element text equals the expected value (e.g. a counter after a +/- click).
+     * Reads without Selenide's implicit wait; a missing element is "not met yet"
+     * @param element Element to read
+     * @param elementName Element name for logging
+     * @param expected Expected text
+     * @return WaitCondition
+     */
+    public static WaitCondition textEquals(SelenideElement element, String elementName, String expected) {
+        return WaitCondition.of("'" + elementName + "' text equals '" + expected + "'", () -> {
+            WebElement found = findNow(element);
+            return found != null && expected.equals(found.getText().trim());
+        });
+    }
+
+    /**
+     * Input value equals the expected value.
+     * Reads without Selenide's implicit wait; a missing element is "not met yet"
+     * @param element Input element
+     * @param elementName Element name for logging
+     * @param expected Expected value
+     * @return WaitCondition
+     */
+    public static WaitCondition valueEquals(SelenideElement element, String elementName, String expected) {
+        return WaitCondition.of("'" + elementName + "' value equals typed text", () -> {
+            WebElement found = findNow(element);
+            return found != null && expected.equals(found.getAttribute("value"));
+        });
+    }
+
+    /**
+     * Look the element up once, so each poll costs one driver call instead of Configuration.timeout
+     * @return The element, or null if it is not in the DOM
+     */
+    private static WebElement findNow(SelenideElement element) {
+        try {
+            return element.toWebElement();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Element has keyboard focus
+     * @param element Element to check
+     * @param elementName Element name for logging
+     * @return WaitCondition
+     */
+    public static WaitCondition focused(SelenideElement element, String elementName) {
+        return WaitCondition.of("'" + elementName + "' focused",
+                () -> Boolean.TRUE.equals(executeJavaScript(
+                        "return document.activeElement === arguments[0];", element.toWebElement())));
+    }
+
+    /**
+     * Document finished loading and no new resources were requested for the quiet period
+     * @return WaitCondition
+     */
+    public static WaitCondition networkIdle() {
+        return networkIdle(ConfigManager.getNetworkQuietPeriod());
+    }
+
+    /**
+     * Document finished loading and no new resources were requested for the quiet period
+     * @param quietMillis Required quiet period in milliseconds
+     * @return WaitCondition
+     */
+    public static WaitCondition networkIdle(long quietMillis) {
+        long[] lastCount = {-1};
+        long[] lastChange = {System.nanoTime()};
+        return WaitCondition.of("network idle", () -> {
+            Number count = executeJavaScript(NETWORK_STATE_SCRIPT);
+            long current = count != null ? count.longValue() : -1;
+            long now = System.nanoTime();
+            if (current < 0 || current != lastCount[0]) {
+                lastCount[0] = current;
+                lastChange[0] = now;
+                return false;
+            }
+            return (now - lastChange[0]) / 1_000_000L >= quietMillis;
+        });
+    }
+
+    /**
+     * No DOM mutations for the quiet period
+     * @return WaitCondition
+     */
+    public static WaitCondition domQuiescent() {
+        return domQuiescent(ConfigManager.getDomQuietPeriod());
+    }
+
+    /**
+     * No DOM mutations for the quiet period
+     * @param quietMillis Required quiet period in milliseconds
+     * @return WaitCondition
+     */
+    public static WaitCondition domQuiescent(long quietMillis) {
+        return WaitCondition.of("DOM quiescent", () -> {
+            Number sinceLastMutation = executeJavaScript(DOM_IDLE_SCRIPT);
+            return sinceLastMutation != null && sinceLastMutation.longValue() >= quietMillis;
+        });
+    }
+}
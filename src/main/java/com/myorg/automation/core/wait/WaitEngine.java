@@ -0,0 +1,168 @@
+package com.myorg.automation.core.wait;
+
+import com.myorg.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WaitEngine - Polls {@link WaitCondition}s instead of sleeping for a fixed time
+ *
+ * Features:
+ * - Adaptive polling: starts at wait.poll.initial and doubles up to wait.poll.max
+ * - Exceptions thrown by a condition (stale or missing element) count as "not met yet"
+ * - Per-label report of the time saved compared with the fixed sleep each wait replaced
+ */
+public final class WaitEngine {
+    private static final Logger logger = LoggerFactory.getLogger(WaitEngine.class);
+    private static final Map<String, WaitRecord> records = new ConcurrentHashMap<>();
+
+    private WaitEngine() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Poll a condition until it is met or the timeout expires
+     * @param condition Condition to poll
+     * @param timeoutMillis Maximum time to wait in milliseconds
+     * @return true if the condition was met, false on timeout
+     */
+    public static boolean until(WaitCondition condition, long timeoutMillis) {
+        return until(condition, timeoutMillis, 0);
+    }
+
+    /**
+     * Poll a condition until it is met or the timeout expires, recording the time saved
+     * versus the fixed sleep it replaces
+     * @param condition Condition to poll
+     * @param timeoutMillis Maximum time to wait in milliseconds
+     * @param replacedSleepMillis Fixed sleep this wait replaces (0 to skip reporting)
+     * @return true if the condition was met, false on timeout
+     */
+    public static boolean until(WaitCondition condition, long timeoutMillis, long replacedSleepMillis) {
+        long start = System.nanoTime();
+        long deadline = start + timeoutMillis * 1_000_000L;
+        long pollInterval = ConfigManager.getWaitPollInitial();
+        long maxPollInterval = ConfigManager.getWaitPollMax();
+        int polls = 0;
+        boolean met = false;
+
+        while (true) {
+            polls++;
+            if (check(condition)) {
+                met = true;
+                break;
+            }
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000L;
+            if (remainingMillis <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(pollInterval, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Wait interrupted for condition: {}", condition.describe());
+                break;
+            }
+            pollInterval = Math.min(pollInterval * 2, maxPollInterval);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        if (met) {
+            logger.debug("Condition '{}' met after {}ms ({} polls)", condition.describe(), elapsedMillis, polls);
+        } else {
+            logger.warn("Condition '{}' not met within {}ms ({} polls)", condition.describe(), timeoutMillis, polls);
+        }
+        if (replacedSleepMillis > 0) {
+            records.computeIfAbsent(condition.describe(), key -> new WaitRecord())
+                    .record(replacedSleepMillis, elapsedMillis, met);
+        }
+        return met;
+    }
+
+    /**
+     * Poll a condition and fail if it is not met in time
+     * @param condition Condition to poll
+     * @param timeoutMillis Maximum time to wait in milliseconds
+     * @param replacedSleepMillis Fixed sleep this wait replaces (0 to skip reporting)
+     * @throws RuntimeException if the condition is not met within the timeout
+     */
+    public static void require(WaitCondition condition, long timeoutMillis, long replacedSleepMillis) {
+        if (!until(condition, timeoutMillis, replacedSleepMillis)) {
+            throw new RuntimeException(String.format("Condition '%s' not met within %dms",
+                    condition.describe(), timeoutMillis));
+        }
+    }
+
+    private static boolean check(WaitCondition condition) {
+        try {
+            return condition.isMet();
+        } catch (RuntimeException | AssertionError e) {
+            // Selenide reports a missing element as ElementNotFound, an AssertionError
+            logger.trace("Condition '{}' check failed: {}", condition.describe(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return Total milliseconds saved across all recorded waits
+     */
+    public static long getTotalTimeSavedMillis() {
+        return records.values().stream().mapToLong(WaitRecord::getSavedMillis).sum();
+    }
+
+    /**
+     * Build a report of time saved versus the fixed sleeps, one line per condition
+     * @return Formatted report
+     */
+    public static String getTimeSavedReport() {
+        StringBuilder report = new StringBuilder("Wait engine time saved vs fixed sleeps:");
+        long totalReplaced = 0;
+        long totalActual = 0;
+        for (Map.Entry<String, WaitRecord> entry : new TreeMap<>(records).entrySet()) {
+            WaitRecord record = entry.getValue();
+            totalReplaced += record.replacedMillis.sum();
+            totalActual += record.actualMillis.sum();
+            report.append(String.format("%n  %-60s waits=%d timeouts=%d fixed=%dms actual=%dms saved=%dms",
+                    entry.getKey(), record.count.sum(), record.timeouts.sum(),
+                    record.replacedMillis.sum(), record.actualMillis.sum(), record.getSavedMillis()));
+        }
+        report.append(String.format("%n  TOTAL fixed=%dms actual=%dms saved=%dms",
+                totalReplaced, totalActual, totalReplaced - totalActual));
+        return report.toString();
+    }
+
+    /**
+     * Clear the recorded wait statistics
+     */
+    public static void resetStats() {
+        records.clear();
+    }
+
+    /**
+     * Aggregated timings for one condition description
+     */
+    private static final class WaitRecord {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder replacedMillis = new LongAdder();
+        private final LongAdder actualMillis = new LongAdder();
+
+        private void record(long replaced, long actual, boolean met) {
+            count.increment();
+            if (!met) {
+                timeouts.increment();
+            }
+            replacedMillis.add(replaced);
+            actualMillis.add(actual);
+        }
+
+        private long getSavedMillis() {
+            return replacedMillis.sum() - actualMillis.sum();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.myorg.automation.enums;
+
+/**
+ * Enum for eviction policies supported by the framework caches
+ */
+public enum EvictionPolicy {
+    LRU("Least Recently Used"),
+    LFU("Least Frequently Used");
+
+    private final String displayName;
+
+    EvictionPolicy(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Resolve a policy from its name, ignoring case
+     * @param value Policy name (e.g. "lru", "LFU")
+     * @param defaultPolicy Policy returned when value is null or unknown
+     * @return Matching EvictionPolicy
+     */
+    public static EvictionPolicy fromString(String value, EvictionPolicy defaultPolicy) {
+        if (value == null) {
+            return defaultPolicy;
+        }
+        for (EvictionPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value.trim())) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
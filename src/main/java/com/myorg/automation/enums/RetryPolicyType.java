@@ -0,0 +1,49 @@
+package com.myorg.automation.enums;
+
+/**
+ * Enum for the retry policies supported by the framework
+ */
+public enum RetryPolicyType {
+    FIXED("fixed", "Fixed Delay"),
+    EXPONENTIAL("exponential", "Exponential Backoff with Jitter"),
+    DEADLINE("deadline", "Deadline Bounded Backoff");
+
+    private final String value;
+    private final String displayName;
+
+    RetryPolicyType(String value, String displayName) {
+        this.value = value;
+        this.displayName = displayName;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Resolve a policy type from its value, ignoring case
+     * @param value Policy value (e.g. "fixed", "EXPONENTIAL")
+     * @param defaultType Type returned when value is null or unknown
+     * @return Matching RetryPolicyType
+     */
+    public static RetryPolicyType fromString(String value, RetryPolicyType defaultType) {
+        if (value == null) {
+            return defaultType;
+        }
+        for (RetryPolicyType type : values()) {
+            if (type.value.equalsIgnoreCase(value.trim()) || type.name().equalsIgnoreCase(value.trim())) {
+                return type;
+            }
+        }
+        return defaultType;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -29,6 +29,13 @@ public class ElementDefinition {
     
     @JsonProperty("tags")
     private List<String> tags;
+    
+    @JsonProperty("retry")
+    private RetrySettings retry;
+    
+    // Reuse the found WebElement between reads (see ElementHandle)
+    @JsonProperty("cacheHandle")
+    private Boolean cacheHandle;
 
     // Default constructor for Jackson
     public ElementDefinition() {}
@@ -97,6 +104,22 @@ public class ElementDefinition {
         this.tags = tags;
     }
 
+    public RetrySettings getRetry() {
+        return retry;
+    }
+
+    public void setRetry(RetrySettings retry) {
+        this.retry = retry;
+    }
+
+    public Boolean getCacheHandle() {
+        return cacheHandle;
+    }
+
+    public void setCacheHandle(Boolean cacheHandle) {
+        this.cacheHandle = cacheHandle;
+    }
+
     /**
      * Check if element has a specific tag
      * @param tag Tag to check for
@@ -106,6 +129,14 @@ public class ElementDefinition {
         return tags != null && tags.contains(tag);
     }
 
+    /**
+     * Check if the element's found WebElement is reused between reads
+     * @return true if "cacheHandle" is set, false otherwise
+     */
+    public boolean isCacheHandle() {
+        return Boolean.TRUE.equals(cacheHandle);
+    }
+
     /**
      * Check if element is required
      * @return true if element is required, false otherwise
@@ -0,0 +1,118 @@
+package com.myorg.automation.models;
+
+import java.util.Objects;
+
+/**
+ * HotelCard - Immutable record of one hotel card on the search results page
+ *
+ * Values are kept as displayed; numeric accessors parse them on demand.
+ */
+public final class HotelCard {
+    private final int index;
+    private final String name;
+    private final String price;
+    private final String rating;
+    private final String link;
+
+    /**
+     * @param index 1-based position of the card in the result list
+     * @param name Hotel name text
+     * @param price Price text as displayed (e.g. "USD 1,234")
+     * @param rating Rating text as displayed, or null if the card has none
+     * @param link Hotel details URL, or null if the card has none
+     */
+    public HotelCard(int index, String name, String price, String rating, String link) {
+        this.index = index;
+        this.name = name;
+        this.price = price;
+        this.rating = rating;
+        this.link = link;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPrice() {
+        return price;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public String getLink() {
+        return link;
+    }
+
+    /**
+     * @return Price as a number with currency symbols and separators removed, or null if it has no digits
+     */
+    public Double getPriceValue() {
+        return parseNumber(price);
+    }
+
+    /**
+     * @return Rating as a number, or null if it has no digits
+     */
+    public Double getRatingValue() {
+        return parseNumber(rating);
+    }
+
+    /**
+     * Check the fields every result card must show
+     * @return true if both name and price are present
+     */
+    public boolean hasNameAndPrice() {
+        return name != null && !name.trim().isEmpty() && price != null && !price.trim().isEmpty();
+    }
+
+    private static Double parseNumber(String text) {
+        if (text == null) {
+            return null;
+        }
+        String digits = text.replaceAll("[^0-9.]", "");
+        if (digits.isEmpty() || digits.equals(".")) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HotelCard{" +
+                "index=" + index +
+                ", name='" + name + '\'' +
+                ", price='" + price + '\'' +
+                ", rating='" + rating + '\'' +
+                ", link='" + link + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HotelCard that = (HotelCard) o;
+
+        return index == that.index
+                && Objects.equals(name, that.name)
+                && Objects.equals(price, that.price)
+                && Objects.equals(rating, that.rating)
+                && Objects.equals(link, that.link);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, name, price, rating, link);
+    }
+}
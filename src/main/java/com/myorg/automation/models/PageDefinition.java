@@ -1,12 +1,18 @@
 package com.myorg.automation.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Data class representing a page definition in JSON page objects
+ * Data class representing a page definition in JSON page objects.
+ * Element lookups go through name, tag and type indexes that are built
+ * once when the element list is set (i.e. at deserialization time).
  */
 public class PageDefinition {
     
@@ -30,6 +36,14 @@ public class PageDefinition {
     
     @JsonProperty("tags")
     private List<String> tags;
+    
+    @JsonProperty("retry")
+    private RetrySettings retry;
+
+    // Read-only indexes derived from elements
+    private Map<String, ElementDefinition> elementIndex = Map.of();
+    private Map<String, List<ElementDefinition>> tagIndex = Map.of();
+    private Map<String, List<ElementDefinition>> typeIndex = Map.of();
 
     // Default constructor for Jackson
     public PageDefinition() {}
@@ -38,7 +52,7 @@ public class PageDefinition {
     public PageDefinition(String pageName, String url, List<ElementDefinition> elements) {
         this.pageName = pageName;
         this.url = url;
-        this.elements = elements;
+        setElements(elements);
     }
 
     // Getters and Setters
@@ -70,8 +84,55 @@ public class PageDefinition {
         return elements;
     }
 
+    /**
+     * Set the element list and rebuild the lookup indexes
+     * @param elements Element definitions
+     * @throws IllegalArgumentException if an element has no name or a name is defined twice
+     */
     public void setElements(List<ElementDefinition> elements) {
-        this.elements = elements;
+        if (elements == null) {
+            this.elements = null;
+            this.elementIndex = Map.of();
+            this.tagIndex = Map.of();
+            this.typeIndex = Map.of();
+            return;
+        }
+
+        Map<String, ElementDefinition> byName = new LinkedHashMap<>();
+        Map<String, List<ElementDefinition>> byTag = new LinkedHashMap<>();
+        Map<String, List<ElementDefinition>> byType = new LinkedHashMap<>();
+
+        for (ElementDefinition element : elements) {
+            String name = element.getName();
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("Element without a name in page definition: " + pageName);
+            }
+            if (byName.putIfAbsent(name, element) != null) {
+                throw new IllegalArgumentException(String.format("Duplicate element name '%s' in page definition: %s", name, pageName));
+            }
+            if (element.getType() != null) {
+                byType.computeIfAbsent(element.getType(), key -> new ArrayList<>()).add(element);
+            }
+            if (element.getTags() != null) {
+                for (String tag : element.getTags()) {
+                    byTag.computeIfAbsent(tag, key -> new ArrayList<>()).add(element);
+                }
+            }
+        }
+
+        this.elements = List.copyOf(elements);
+        this.elementIndex = Collections.unmodifiableMap(byName);
+        this.tagIndex = freeze(byTag);
+        this.typeIndex = freeze(byType);
+    }
+
+    /**
+     * Get the read-only name to element index
+     * @return Map of element name to ElementDefinition, in definition order
+     */
+    @JsonIgnore
+    public Map<String, ElementDefinition> getElementIndex() {
+        return elementIndex;
     }
 
     public Map<String, Object> getMetadata() {
@@ -98,19 +159,21 @@ public class PageDefinition {
         this.tags = tags;
     }
 
+    public RetrySettings getRetry() {
+        return retry;
+    }
+
+    public void setRetry(RetrySettings retry) {
+        this.retry = retry;
+    }
+
     /**
      * Find element definition by name
      * @param elementName Name of the element
      * @return ElementDefinition if found, null otherwise
      */
     public ElementDefinition findElement(String elementName) {
-        if (elements == null) {
-            return null;
-        }
-        return elements.stream()
-                .filter(element -> elementName.equals(element.getName()))
-                .findFirst()
-                .orElse(null);
+        return elementIndex.get(elementName);
     }
 
     /**
@@ -127,12 +190,7 @@ public class PageDefinition {
      * @return List of element names
      */
     public List<String> getElementNames() {
-        if (elements == null) {
-            return List.of();
-        }
-        return elements.stream()
-                .map(ElementDefinition::getName)
-                .toList();
+        return List.copyOf(elementIndex.keySet());
     }
 
     /**
@@ -141,7 +199,7 @@ public class PageDefinition {
      * @return true if element exists, false otherwise
      */
     public boolean hasElement(String elementName) {
-        return findElement(elementName) != null;
+        return elementIndex.containsKey(elementName);
     }
 
     /**
@@ -150,12 +208,7 @@ public class PageDefinition {
      * @return List of elements with the specified type
      */
     public List<ElementDefinition> getElementsByType(String elementType) {
-        if (elements == null) {
-            return List.of();
-        }
-        return elements.stream()
-                .filter(element -> elementType.equals(element.getType()))
-                .toList();
+        return typeIndex.getOrDefault(elementType, List.of());
     }
 
     /**
@@ -164,12 +217,7 @@ public class PageDefinition {
      * @return List of elements with the specified tag
      */
     public List<ElementDefinition> getElementsByTag(String tag) {
-        if (elements == null) {
-            return List.of();
-        }
-        return elements.stream()
-                .filter(element -> element.getTags() != null && element.getTags().contains(tag))
-                .toList();
+        return tagIndex.getOrDefault(tag, List.of());
     }
 
     /**
@@ -201,6 +249,15 @@ public class PageDefinition {
         return value != null ? value.toString() : defaultValue;
     }
 
+    /**
+     * Copy a grouping map into an unmodifiable map of unmodifiable lists
+     */
+    private static Map<String, List<ElementDefinition>> freeze(Map<String, List<ElementDefinition>> source) {
+        Map<String, List<ElementDefinition>> frozen = new LinkedHashMap<>();
+        source.forEach((key, value) -> frozen.put(key, List.copyOf(value)));
+        return Collections.unmodifiableMap(frozen);
+    }
+
     @Override
     public String toString() {
         return "PageDefinition{" +
@@ -0,0 +1,112 @@
+package com.myorg.automation.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Data class representing a "retry" block in JSON page objects.
+ * Can be declared on a page or on an element; unset fields fall back to the
+ * enclosing page and then to the test.retry.* configuration.
+ */
+public class RetrySettings {
+
+    @JsonProperty("policy")
+    private String policy;
+
+    @JsonProperty("maxAttempts")
+    private Integer maxAttempts;
+
+    @JsonProperty("delay")
+    private Long delay;
+
+    @JsonProperty("maxDelay")
+    private Long maxDelay;
+
+    @JsonProperty("jitter")
+    private Double jitter;
+
+    @JsonProperty("deadline")
+    private Long deadline;
+
+    // Default constructor for Jackson
+    public RetrySettings() {}
+
+    // Getters and Setters
+    public String getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(String policy) {
+        this.policy = policy;
+    }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Long getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Long delay) {
+        this.delay = delay;
+    }
+
+    public Long getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public Double getJitter() {
+        return jitter;
+    }
+
+    public void setJitter(Double jitter) {
+        this.jitter = jitter;
+    }
+
+    public Long getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Overlay these settings on a fallback, field by field
+     * @param fallback Settings used for every field not set here (may be null)
+     * @return New merged settings
+     */
+    public RetrySettings mergeOver(RetrySettings fallback) {
+        if (fallback == null) {
+            return this;
+        }
+        RetrySettings merged = new RetrySettings();
+        merged.policy = policy != null ? policy : fallback.policy;
+        merged.maxAttempts = maxAttempts != null ? maxAttempts : fallback.maxAttempts;
+        merged.delay = delay != null ? delay : fallback.delay;
+        merged.maxDelay = maxDelay != null ? maxDelay : fallback.maxDelay;
+        merged.jitter = jitter != null ? jitter : fallback.jitter;
+        merged.deadline = deadline != null ? deadline : fallback.deadline;
+        return merged;
+    }
+
+    @Override
+    public String toString() {
+        return "RetrySettings{" +
+                "policy='" + policy + '\'' +
+                ", maxAttempts=" + maxAttempts +
+                ", delay=" + delay +
+                ", maxDelay=" + maxDelay +
+                ", jitter=" + jitter +
+                ", deadline=" + deadline +
+                '}';
+    }
+}
@@ -1,15 +1,37 @@
 package com.myorg.automation.pages;
 
+import com.codeborne.selenide.ClickOptions;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
+import com.myorg.automation.config.ConfigManager;
 import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.CompiledLocator;
+import com.myorg.automation.core.locator.LocatorTemplate;
+import com.myorg.automation.core.locator.Locators;
+import com.myorg.automation.core.retry.FixedDelayRetryPolicy;
+import com.myorg.automation.core.retry.RetryExecutor;
+import com.myorg.automation.core.retry.RetryPolicies;
+import com.myorg.automation.core.retry.RetryPolicy;
+import com.myorg.automation.core.wait.WaitBudget;
+import com.myorg.automation.core.wait.WaitCondition;
+import com.myorg.automation.core.wait.WaitConditions;
+import com.myorg.automation.core.wait.WaitEngine;
 import com.myorg.automation.utils.JsonLocatorHelper;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.codeborne.selenide.Selenide.$;
 import static com.codeborne.selenide.Selenide.$$;
+import static com.codeborne.selenide.Selenide.executeJavaScript;
 
 /**
  * BasePage - Foundation class for all page objects
@@ -23,6 +45,29 @@ import static com.codeborne.selenide.Selenide.$$;
  * - Reusable utility methods
  */
 public abstract class BasePage {
+    // Reads every field of rows 1..maxRows in one round trip; stops at the first missing row.
+    // href and src are read as resolved absolute URLs, as WebElement.getAttribute returns them
+    private static final String DYNAMIC_ROWS_SCRIPT =
+            "var rowTemplate = arguments[0], fields = arguments[1], maxRows = arguments[2], rows = [];" +
+            "function find(template, index) {" +
+            "  return document.evaluate(template.split('{index}').join(index), document, null," +
+            "    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "}" +
+            "function read(node, attribute) {" +
+            "  if (!node.hasAttribute(attribute)) { return null; }" +
+            "  return attribute === 'href' || attribute === 'src' ? node[attribute] : node.getAttribute(attribute);" +
+            "}" +
+            "for (var i = 1; i <= maxRows && find(rowTemplate, i); i++) {" +
+            "  var row = {};" +
+            "  for (var f = 0; f < fields.length; f++) {" +
+            "    var node = find(fields[f][1], i);" +
+            "    row[fields[f][0]] = !node ? null" +
+            "      : fields[f][2] ? read(node, fields[f][2]) : (node.innerText || node.textContent || '').trim();" +
+            "  }" +
+            "  rows.push(row);" +
+            "}" +
+            "return rows;";
+    
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
     protected final String pageName;
     
@@ -35,60 +80,91 @@ public abstract class BasePage {
      * Get element using JSON locator configuration
      * @param elementName The element name from JSON
      * @return SelenideElement with smart waiting applied
+     * @throws com.codeborne.selenide.ex.UIAssertionError if the element does not reach its wait state in time
      */
     protected SelenideElement getElement(String elementName) {
-        String locatorValue = JsonLocatorHelper.getLocator(pageName, elementName);
-        String locatorType = JsonLocatorHelper.getLocatorType(pageName, elementName);
-        String waitType = JsonLocatorHelper.getElementWaitType(pageName, elementName);
-        
-        By locator = createLocator(locatorType, locatorValue);
-        SelenideElement element = $(locator);
+        return getElement(elementName, startBudget(elementName));
+    }
+    
+    /**
+     * Get element using JSON locator configuration, waiting only for what is left of the action's budget
+     * @param elementName The element name from JSON
+     * @param budget The wait budget of the current action
+     * @return SelenideElement with smart waiting applied
+     * @throws RuntimeException if the budget is already exhausted
+     * @throws com.codeborne.selenide.ex.UIAssertionError if the element does not reach its wait state in time
+     */
+    protected SelenideElement getElement(String elementName, WaitBudget budget) {
+        budget.ensureRemaining("locating element '" + elementName + "'");
+        CompiledLocator compiledLocator = JsonLocatorHelper.getCompiledLocator(pageName, elementName);
+        SelenideElement element = $(compiledLocator.getBy());
         
         // Apply smart waiting based on wait type
-        applySmartWait(element, waitType, elementName);
+        applySmartWait(element, compiledLocator.getWaitType(), elementName, budget.remaining());
         
         return element;
     }
     
+    /**
+     * Start the wait budget for one logical action on an element
+     * @param elementName The element name from JSON whose timeout sets the budget
+     * @return WaitBudget
+     */
+    protected WaitBudget startBudget(String elementName) {
+        return WaitBudget.start(getElementTimeout(elementName));
+    }
+    
+    /**
+     * Get element using JSON locator configuration without any waiting
+     * @param elementName The element name from JSON
+     * @return Lazily resolved SelenideElement
+     */
+    protected SelenideElement locateElement(String elementName) {
+        return $(JsonLocatorHelper.getCompiledLocator(pageName, elementName).getBy());
+    }
+    
+    /**
+     * Get the wait timeout for an element: its JSON "timeout" (ms) or the session's browser.timeout
+     * @param elementName The element name from JSON
+     * @return Timeout in milliseconds
+     */
+    protected long getElementTimeout(String elementName) {
+        return getElementTimeout(JsonLocatorHelper.getCompiledLocator(pageName, elementName));
+    }
+    
+    private long getElementTimeout(CompiledLocator compiledLocator) {
+        return compiledLocator.getTimeout() != null ? compiledLocator.getTimeout() : ConfigManager.getBrowserTimeout();
+    }
+    
+    /**
+     * Poll a condition using the element's timeout instead of sleeping for a fixed time
+     * @param elementName The element name from JSON whose timeout applies
+     * @param condition The condition to wait for
+     * @param replacedSleepMillis The fixed sleep this wait replaces, used for the time-saved report
+     * @return true if the condition was met, false on timeout
+     */
+    protected boolean waitForCondition(String elementName, WaitCondition condition, long replacedSleepMillis) {
+        return WaitEngine.until(condition, getElementTimeout(elementName), replacedSleepMillis);
+    }
+    
+    /**
+     * Poll a condition using the element's timeout and fail if it is not met
+     * @param elementName The element name from JSON whose timeout applies
+     * @param condition The condition to wait for
+     * @param replacedSleepMillis The fixed sleep this wait replaces, used for the time-saved report
+     * @throws RuntimeException if the condition is not met within the timeout
+     */
+    protected void requireCondition(String elementName, WaitCondition condition, long replacedSleepMillis) {
+        WaitEngine.require(condition, getElementTimeout(elementName), replacedSleepMillis);
+    }
+    
     /**
      * Get multiple elements using JSON locator configuration
      * @param elementName The element name from JSON
      * @return Collection of SelenideElements
      */
     protected com.codeborne.selenide.ElementsCollection getElements(String elementName) {
-        String locatorValue = JsonLocatorHelper.getLocator(pageName, elementName);
-        String locatorType = JsonLocatorHelper.getLocatorType(pageName, elementName);
-        
-        By locator = createLocator(locatorType, locatorValue);
-        return $$(locator);
-    }
-    
-    /**
-     * Create By locator based on type and value
-     * @param locatorType The type of locator (id, css, xpath, etc.)
-     * @param locatorValue The locator value
-     * @return By locator
-     */
-    private By createLocator(String locatorType, String locatorValue) {
-        switch (locatorType.toLowerCase()) {
-            case FrameworkConstants.LOCATOR_TYPE_ID:
-                return By.id(locatorValue);
-            case FrameworkConstants.LOCATOR_TYPE_CSS:
-                return By.cssSelector(locatorValue);
-            case FrameworkConstants.LOCATOR_TYPE_XPATH:
-                return By.xpath(locatorValue);
-            case FrameworkConstants.LOCATOR_TYPE_CLASS:
-                return By.className(locatorValue);
-            case FrameworkConstants.LOCATOR_TYPE_NAME:
-                return By.name(locatorValue);
-            case FrameworkConstants.LOCATOR_TYPE_TAG:
-                return By.tagName(locatorValue);
-            case FrameworkConstants.LOCATOR_TYPE_TEXT:
-                return By.linkText(locatorValue);
-            default:
-                logger.warn("Unknown locator type '{}', defaulting to CSS selector", locatorType);
-                return By.cssSelector(locatorValue);
-        }
+        return $$(JsonLocatorHelper.getCompiledLocator(pageName, elementName).getBy());
     }
     
     /**
@@ -96,32 +172,52 @@ public abstract class BasePage {
      * @param element The element to wait for
      * @param waitType The type of wait to apply
      * @param elementName The element name for logging
+     * @param timeout Maximum wait
      */
-    private void applySmartWait(SelenideElement element, String waitType, String elementName) {
+    private void applySmartWait(SelenideElement element, String waitType, String elementName, Duration timeout) {
         try {
             switch (waitType.toLowerCase()) {
                 case FrameworkConstants.WAIT_TYPE_VISIBLE:
-                    element.shouldBe(Condition.visible);
+                    element.shouldBe(Condition.visible, timeout);
                     break;
                 case FrameworkConstants.WAIT_TYPE_CLICKABLE:
-                    element.shouldBe(Condition.enabled);
+                    element.shouldBe(Condition.enabled, timeout);
                     break;
                 case FrameworkConstants.WAIT_TYPE_PRESENT:
-                    element.shouldBe(Condition.exist);
+                    element.shouldBe(Condition.exist, timeout);
                     break;
                 case FrameworkConstants.WAIT_TYPE_INVISIBLE:
-                    element.shouldBe(Condition.hidden);
+                    element.shouldBe(Condition.hidden, timeout);
                     break;
                 default:
-                    element.shouldBe(Condition.visible);
+                    element.shouldBe(Condition.visible, timeout);
                     break;
             }
             logger.debug("Smart wait applied for element '{}' with wait type '{}'", elementName, waitType);
-        } catch (Exception e) {
-            logger.warn("Smart wait failed for element '{}' with wait type '{}': {}", elementName, waitType, e.getMessage());
+        } catch (RuntimeException | AssertionError e) {
+            // Fail fast: the action would only wait for the same element again
+            logger.warn("Smart wait failed for element '{}' with wait type '{}' within {}ms", elementName, waitType, timeout.toMillis());
+            throw e;
         }
     }
     
+    /**
+     * Get the retry policy for an element: its JSON "retry" block, then the page one, then configuration
+     * @param elementName The element name from JSON
+     * @return RetryPolicy for actions on the element
+     */
+    protected RetryPolicy getRetryPolicy(String elementName) {
+        return RetryPolicies.fromSettings(JsonLocatorHelper.getCompiledLocator(pageName, elementName).getRetrySettings());
+    }
+    
+    /**
+     * Get the page retry policy: the page JSON "retry" block, then configuration
+     * @return RetryPolicy for page-level operations
+     */
+    protected RetryPolicy getPageRetryPolicy() {
+        return RetryPolicies.fromSettings(JsonLocatorHelper.getCompiledPage(pageName).getRetrySettings());
+    }
+    
     /**
      * Click element with smart waiting and retry logic
      * @param elementName The element name from JSON
@@ -131,22 +227,14 @@ public abstract class BasePage {
         String description = JsonLocatorHelper.getElementDescription(pageName, elementName);
         logger.info("Clicking element: {}", description);
         
-        boolean success = retryOperation(() -> {
-            try {
-                SelenideElement element = getElement(elementName);
-                element.click();
-                logger.debug("Successfully clicked element: {}", description);
-                return true;
-            } catch (Exception e) {
-                logger.debug("Failed to click element '{}': {}", description, e.getMessage());
-                return false;
-            }
+        WaitBudget budget = startBudget(elementName);
+        RetryExecutor.execute(operationName("click", elementName), budget.bound(getRetryPolicy(elementName)), () -> {
+            SelenideElement element = getElement(elementName, budget);
+            ClickOptions clickOptions = ConfigManager.shouldClickViaJS() ? ClickOptions.usingJavaScript() : ClickOptions.usingDefaultMethod();
+            element.click(clickOptions.timeout(budget.remaining()));
+            logger.debug("Successfully clicked element: {}", description);
         });
         
-        if (!success) {
-            throw new RuntimeException("Failed to click element '" + elementName + "' after 3 attempts");
-        }
-        
         return this;
     }
     
@@ -208,12 +296,8 @@ public abstract class BasePage {
         // First click to activate the element (important for search boxes)
         element.click();
         
-        // Small wait to ensure the element is activated
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Wait until the element has focus (at most the 500ms previously slept)
+        WaitEngine.until(WaitConditions.focused(element, elementName), 500, 500);
         
         // Clear any existing content first
         element.clear();
@@ -244,37 +328,28 @@ public abstract class BasePage {
     }
     
     /**
-     * Type text character by character with custom delays
+     * Type text character by character, waiting for each keystroke and for the DOM to settle
      * @param element The element to type into
      * @param text The text to type
-     * @param charDelay Delay between characters in milliseconds
-     * @param finalWait Wait time after complete text in milliseconds
+     * @param charDelay Maximum wait for each keystroke to register in milliseconds
+     * @param finalWait Maximum wait for the DOM to settle after complete text in milliseconds
      */
     protected void typeCharacterByCharacter(SelenideElement element, String text, int charDelay, int finalWait) {
-        logger.debug("Typing '{}' character by character with {}ms delay", text, charDelay);
+        logger.debug("Typing '{}' character by character (up to {}ms per character)", text, charDelay);
         
         // Type character by character to trigger autocomplete properly
+        StringBuilder typed = new StringBuilder();
         for (int i = 0; i < text.length(); i++) {
             String character = String.valueOf(text.charAt(i));
             element.sendKeys(character);
+            typed.append(character);
             
-            // Small delay between characters to trigger search events
-            try {
-                Thread.sleep(charDelay);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.warn("Character typing interrupted");
-                break;
-            }
+            // Wait until the input reflects the keystroke so search events fire per character
+            WaitEngine.until(WaitConditions.valueEquals(element, "input", typed.toString()), charDelay, charDelay);
         }
         
-        // Wait a bit more for suggestions to appear after complete text
-        try {
-            Thread.sleep(finalWait);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Final wait after typing interrupted");
-        }
+        // Wait for suggestions to finish rendering after complete text
+        WaitEngine.until(WaitConditions.domQuiescent(), finalWait, finalWait);
         
         logger.debug("Completed character-by-character typing for: {}", text);
     }
@@ -324,25 +399,16 @@ public abstract class BasePage {
         String description = JsonLocatorHelper.getElementDescription(pageName, elementName);
         logger.debug("Getting text from element: {}", description);
         
-        final String[] result = {null};
-        boolean success = retryOperation(() -> {
-            try {
-                SelenideElement element = getElement(elementName);
-                result[0] = element.getText();
-                logger.debug("Retrieved text '{}' from element: {}", result[0], description);
-                return true;
-            } catch (Exception e) {
-                logger.debug("Failed to get text from element '{}': {}", description, e.getMessage());
-                return false;
-            }
-        });
-        
-        if (!success) {
-            logger.warn("Failed to get text from element '{}' after 3 attempts, returning empty string", elementName);
+        try {
+            WaitBudget budget = startBudget(elementName);
+            String text = RetryExecutor.execute(operationName("getText", elementName), budget.bound(getRetryPolicy(elementName)),
+                () -> getElement(elementName, budget).getText());
+            logger.debug("Retrieved text '{}' from element: {}", text, description);
+            return text != null ? text : "";
+        } catch (RuntimeException e) {
+            logger.warn("Failed to get text from element '{}', returning empty string: {}", elementName, e.getMessage());
             return "";
         }
-        
-        return result[0] != null ? result[0] : "";
     }
     
     /**
@@ -362,48 +428,31 @@ public abstract class BasePage {
     }
     
     /**
-     * Retry operation with specified attempts
+     * Retry operation with specified attempts and a fixed delay
      * @param operation The operation to retry
-     * @param maxAttempts Maximum number of attempts (default: 3)
-     * @param delayBetweenAttempts Delay between attempts in milliseconds (default: 1000)
+     * @param maxAttempts Maximum number of attempts
+     * @param delayBetweenAttempts Delay between attempts in milliseconds
      * @return true if operation succeeded, false otherwise
      */
     protected boolean retryOperation(java.util.function.Supplier<Boolean> operation, int maxAttempts, long delayBetweenAttempts) {
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                if (operation.get()) {
-                    if (attempt > 1) {
-                        logger.debug("Operation succeeded on attempt {}/{}", attempt, maxAttempts);
-                    }
-                    return true;
-                }
-            } catch (Exception e) {
-                logger.debug("Attempt {}/{} failed: {}", attempt, maxAttempts, e.getMessage());
-            }
-            
-            if (attempt < maxAttempts) {
-                try {
-                    logger.debug("Waiting {}ms before retry attempt {}/{}", delayBetweenAttempts, attempt + 1, maxAttempts);
-                    Thread.sleep(delayBetweenAttempts);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    logger.warn("Sleep interrupted during retry");
-                    break;
-                }
-            }
-        }
-        
-        logger.warn("Operation failed after {} attempts", maxAttempts);
-        return false;
+        return RetryExecutor.executeUntilTrue(pageName + " operation",
+            new FixedDelayRetryPolicy(maxAttempts, delayBetweenAttempts), operation);
     }
     
     /**
-     * Retry operation with default settings (3 attempts, 1 second delay)
+     * Retry operation with the page retry policy
      * @param operation The operation to retry
      * @return true if operation succeeded, false otherwise
      */
     protected boolean retryOperation(java.util.function.Supplier<Boolean> operation) {
-        return retryOperation(operation, 3, 1000);
+        return RetryExecutor.executeUntilTrue(pageName + " operation", getPageRetryPolicy(), operation);
+    }
+    
+    /**
+     * Build the operation name used in retry logs and metrics
+     */
+    private String operationName(String action, String elementName) {
+        return pageName + "." + elementName + " " + action;
     }
     
     /**
@@ -414,19 +463,15 @@ public abstract class BasePage {
     public boolean isElementVisible(String elementName) {
         logger.debug("Checking visibility of element '{}' with retry", elementName);
         
-        return retryOperation(() -> {
-            try {
-                SelenideElement element = getElement(elementName);
-                boolean isVisible = element.isDisplayed();
-                
-                String description = JsonLocatorHelper.getElementDescription(pageName, elementName);
-                logger.debug("Element '{}' visibility: {}", description, isVisible);
-                
-                return isVisible;
-            } catch (Exception e) {
-                logger.debug("Element '{}' is not visible: {}", elementName, e.getMessage());
-                return false;
-            }
+        WaitBudget budget = startBudget(elementName);
+        return RetryExecutor.executeUntilTrue(operationName("isVisible", elementName), budget.bound(getRetryPolicy(elementName)), () -> {
+            SelenideElement element = getElement(elementName, budget);
+            boolean isVisible = element.isDisplayed();
+            
+            String description = JsonLocatorHelper.getElementDescription(pageName, elementName);
+            logger.debug("Element '{}' visibility: {}", description, isVisible);
+            
+            return isVisible;
         });
     }
     
@@ -456,11 +501,11 @@ public abstract class BasePage {
      * @return Current page instance for method chaining
      */
     public BasePage waitForElementVisible(String elementName) {
-        SelenideElement element = getElement(elementName);
+        SelenideElement element = locateElement(elementName);
         String description = JsonLocatorHelper.getElementDescription(pageName, elementName);
         
         logger.debug("Waiting for element to be visible: {}", description);
-        element.shouldBe(Condition.visible);
+        element.shouldBe(Condition.visible, Duration.ofMillis(getElementTimeout(elementName)));
         
         return this;
     }
@@ -471,11 +516,11 @@ public abstract class BasePage {
      * @return Current page instance for method chaining
      */
     public BasePage waitForElementClickable(String elementName) {
-        SelenideElement element = getElement(elementName);
+        SelenideElement element = locateElement(elementName);
         String description = JsonLocatorHelper.getElementDescription(pageName, elementName);
         
         logger.debug("Waiting for element to be clickable: {}", description);
-        element.shouldBe(Condition.enabled);
+        element.shouldBe(Condition.enabled, Duration.ofMillis(getElementTimeout(elementName)));
         
         return this;
     }
@@ -548,14 +593,8 @@ public abstract class BasePage {
      * @return The element text
      */
     public String getElementTextDynamic(String elementName, String... replacements) {
-        String locatorValue = JsonLocatorHelper.getLocator(pageName, elementName);
-        String locatorType = JsonLocatorHelper.getLocatorType(pageName, elementName);
-        
-        // Replace placeholders in the locator
-        String dynamicLocator = replacePlaceholders(locatorValue, replacements);
-        
-        By locator = createLocator(locatorType, dynamicLocator);
-        SelenideElement element = $(locator);
+        By dynamicLocator = getDynamicLocator(elementName, replacements);
+        SelenideElement element = $(dynamicLocator);
         
         String text = element.getText();
         logger.debug("Retrieved text '{}' from dynamic element: {}", text, dynamicLocator);
@@ -564,23 +603,79 @@ public abstract class BasePage {
     }
     
     /**
-     * Replace placeholders in locator string
-     * @param locatorValue The locator with placeholders
-     * @param replacements Array of replacement values
-     * @return The locator with placeholders replaced
+     * Get attribute value using dynamic locator (with placeholders)
+     * @param elementName The element name from JSON (should contain placeholders like {index})
+     * @param attributeName The attribute name
+     * @param replacements Array of replacement values for placeholders
+     * @return The attribute value
      */
-    private String replacePlaceholders(String locatorValue, String... replacements) {
-        String result = locatorValue;
+    public String getElementAttributeDynamic(String elementName, String attributeName, String... replacements) {
+        By dynamicLocator = getDynamicLocator(elementName, replacements);
         
-        // Replace {index} placeholder
-        if (replacements.length > 0) {
-            result = result.replace("{index}", replacements[0]);
+        String value = $(dynamicLocator).getAttribute(attributeName);
+        logger.debug("Retrieved attribute '{}' value '{}' from dynamic element: {}", attributeName, value, dynamicLocator);
+        
+        return value;
+    }
+    
+    /**
+     * Read several {index}-based dynamic elements for rows 1..maxRows in a single script call
+     * @param rowElementName Dynamic element marking a row; extraction stops at the first missing row
+     * @param fields Dynamic field element names mapped to the attribute to read, or null for the text
+     * @param maxRows Maximum number of rows to read
+     * @return One map per row, keyed by field element name (a missing field maps to null; href and src
+     *         are absolute URLs, as WebElement.getAttribute returns them)
+     * @throws IllegalStateException if a locator is not an XPath, which the script cannot evaluate
+     * @throws org.openqa.selenium.WebDriverException if the driver cannot run JavaScript
+     */
+    @SuppressWarnings("unchecked")
+    protected List<Map<String, String>> getDynamicRows(String rowElementName, Map<String, String> fields, int maxRows) {
+        List<List<String>> fieldSpecs = new ArrayList<>();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            fieldSpecs.add(Arrays.asList(field.getKey(), getXPathTemplate(field.getKey()), field.getValue()));
         }
         
-        // Add more placeholder types if needed in the future
-        // {id}, {class}, etc.
+        List<Map<String, Object>> rawRows = executeJavaScript(DYNAMIC_ROWS_SCRIPT,
+            getXPathTemplate(rowElementName), fieldSpecs, maxRows);
+        if (rawRows == null) {
+            return Collections.emptyList();
+        }
         
-        return result;
+        List<Map<String, String>> rows = new ArrayList<>(rawRows.size());
+        for (Map<String, Object> rawRow : rawRows) {
+            Map<String, String> row = new LinkedHashMap<>();
+            for (String fieldName : fields.keySet()) {
+                Object value = rawRow.get(fieldName);
+                row.put(fieldName, value != null ? value.toString() : null);
+            }
+            rows.add(row);
+        }
+        logger.debug("Extracted {} '{}' rows in one script call", rows.size(), rowElementName);
+        return rows;
+    }
+    
+    /**
+     * Get the XPath of a dynamic element as written in JSON, keeping its {index} placeholder
+     */
+    private String getXPathTemplate(String elementName) {
+        String rawLocator = JsonLocatorHelper.getCompiledLocator(pageName, elementName).getRawLocator();
+        if (rawLocator == null || !FrameworkConstants.LOCATOR_TYPE_XPATH.equals(Locators.typeOf(rawLocator))) {
+            throw new IllegalStateException(String.format(
+                "Element '%s' must use an XPath locator for batched extraction", elementName));
+        }
+        return Locators.valueOf(rawLocator);
+    }
+    
+    /**
+     * Render a dynamic element's locator through its compiled template
+     * @param elementName The element name from JSON
+     * @param replacements Placeholder values, in order of first appearance ({index} first for row locators)
+     * @return By locator, reused for repeated values
+     */
+    private By getDynamicLocator(String elementName, String... replacements) {
+        CompiledLocator compiledLocator = JsonLocatorHelper.getCompiledLocator(pageName, elementName);
+        LocatorTemplate template = compiledLocator.getTemplate();
+        return template != null ? template.toBy(replacements) : compiledLocator.getBy();
     }
     
     /**
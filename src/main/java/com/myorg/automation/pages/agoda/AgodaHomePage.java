@@ -1,9 +1,13 @@
 package com.myorg.automation.pages.agoda;
 
+import com.codeborne.selenide.ElementsCollection;
+import com.myorg.automation.core.wait.WaitConditions;
 import com.myorg.automation.pages.BasePage;
+import com.myorg.automation.utils.JsonLocatorHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.codeborne.selenide.Selenide.$$;
 import static com.codeborne.selenide.Selenide.title;
 
 /**
@@ -20,6 +24,7 @@ import static com.codeborne.selenide.Selenide.title;
 public class AgodaHomePage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(AgodaHomePage.class);
     private static final String PAGE_NAME = "AgodaHomePage";
+    private static final String RESULTS_PAGE_NAME = "AgodaSearchResultsPage";
     
     public AgodaHomePage() {
         super(PAGE_NAME);
@@ -289,21 +294,16 @@ public class AgodaHomePage extends BasePage {
     public AgodaHomePage selectCheckInDate(String date) {
         logger.info("Selecting check-in date: {}", date);
         
-        try {
-            // Click on check-in date selector to open calendar
-            clickElement("checkInDateSelector");
-            
-            // Wait a moment for calendar to open
-            Thread.sleep(1000);
-            
-            // For now, we'll use a simple approach - in real implementation,
-            // you would need to navigate the calendar based on the date
-            // This is a placeholder that clicks a generic date selector
-            logger.info("Date selection logic would be implemented here for date: {}", date);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Sleep interrupted while selecting check-in date");
-        }
+        // Click on check-in date selector to open calendar
+        clickElement("checkInDateSelector");
+        
+        // Wait for the calendar to open
+        waitForCalendar();
+        
+        // For now, we'll use a simple approach - in real implementation,
+        // you would need to navigate the calendar based on the date
+        // This is a placeholder that clicks a generic date selector
+        logger.info("Date selection logic would be implemented here for date: {}", date);
         
         return this;
     }
@@ -316,20 +316,15 @@ public class AgodaHomePage extends BasePage {
     public AgodaHomePage selectCheckOutDate(String date) {
         logger.info("Selecting check-out date: {}", date);
         
-        try {
-            // Click on check-out date selector
-            clickElement("checkOutDateSelector");
-            
-            // Wait a moment for calendar to open
-            Thread.sleep(1000);
-            
-            // For now, we'll use a simple approach - in real implementation,
-            // you would need to navigate the calendar based on the date
-            logger.info("Date selection logic would be implemented here for date: {}", date);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Sleep interrupted while selecting check-out date");
-        }
+        // Click on check-out date selector
+        clickElement("checkOutDateSelector");
+        
+        // Wait for the calendar to open
+        waitForCalendar();
+        
+        // For now, we'll use a simple approach - in real implementation,
+        // you would need to navigate the calendar based on the date
+        logger.info("Date selection logic would be implemented here for date: {}", date);
         
         return this;
     }
@@ -344,44 +339,56 @@ public class AgodaHomePage extends BasePage {
     public AgodaHomePage configureOccupancy(int rooms, int adults, int children) {
         logger.info("Configuring occupancy - Rooms: {}, Adults: {}, Children: {}", rooms, adults, children);
         
-        try {
-            // Open occupancy panel first
-            clickElement("occupancyPanel");
-            Thread.sleep(1000);
-            
-            // Configure rooms
-            int currentRooms = getCurrentRoomCount();
-            while (currentRooms < rooms) {
-                clickElement("roomPlusButton");
-                currentRooms++;
-                Thread.sleep(500);
-            }
-            
-            // Configure adults
-            int currentAdults = getCurrentAdultCount();
-            while (currentAdults < adults) {
-                clickElement("adultPlusButton");
-                currentAdults++;
-                Thread.sleep(500);
-            }
-            
-            // Configure children
-            int currentChildren = getCurrentChildrenCount();
-            while (currentChildren < children) {
-                clickElement("childrenPlusButton");
-                currentChildren++;
-                Thread.sleep(500);
-            }
-            
-            logger.info("Occupancy configuration completed");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Sleep interrupted while configuring occupancy");
+        // Open occupancy panel first and wait for the counters to render
+        clickElement("occupancyPanel");
+        waitForCondition("roomValue", WaitConditions.elementVisible(locateElement("roomValue"), "roomValue"), 1000);
+        
+        // Configure rooms
+        int currentRooms = getCurrentRoomCount();
+        while (currentRooms < rooms) {
+            clickElement("roomPlusButton");
+            currentRooms++;
+            waitForCounter("roomValue", currentRooms);
+        }
+        
+        // Configure adults
+        int currentAdults = getCurrentAdultCount();
+        while (currentAdults < adults) {
+            clickElement("adultPlusButton");
+            currentAdults++;
+            waitForCounter("adultValue", currentAdults);
+        }
+        
+        // Configure children
+        int currentChildren = getCurrentChildrenCount();
+        while (currentChildren < children) {
+            clickElement("childrenPlusButton");
+            currentChildren++;
+            waitForCounter("childrenValue", currentChildren);
         }
         
+        logger.info("Occupancy configuration completed");
         return this;
     }
 
+    /**
+     * Wait until the date picker calendar is displayed
+     */
+    private void waitForCalendar() {
+        waitForCondition("calendarDisplay",
+            WaitConditions.elementVisible(locateElement("calendarDisplay"), "calendarDisplay"), 1000);
+    }
+
+    /**
+     * Wait until an occupancy counter shows the expected value after a +/- click
+     * @param counterElement The counter element name from JSON
+     * @param expected The expected counter value
+     */
+    private void waitForCounter(String counterElement, int expected) {
+        waitForCondition(counterElement,
+            WaitConditions.textEquals(locateElement(counterElement), counterElement, String.valueOf(expected)), 500);
+    }
+
     /**
      * Get current room count from the occupancy display
      * @return current number of rooms
@@ -430,13 +437,14 @@ public class AgodaHomePage extends BasePage {
      */
     public AgodaHomePage executeSearch() {
         logger.info("Executing final search");
-        try {
-            clickElement("searchButtonFinal");
-            Thread.sleep(2000); // Wait for search results to load
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Sleep interrupted while executing search");
-        }
+        // Result cards are not on the home page, so the wait cannot pass before the search navigates;
+        // network idle is not used because analytics beacons may keep the page from ever going quiet
+        ElementsCollection resultCards = $$(JsonLocatorHelper.getCompiledLocator(RESULTS_PAGE_NAME, "firstHotel").getBy());
+        int cardsBefore = resultCards.size();
+        clickElement("searchButtonFinal");
+        
+        requireCondition("searchButtonFinal",
+            WaitConditions.elementCountChanged(resultCards, "search result cards", cardsBefore), 2000);
         return this;
     }
 
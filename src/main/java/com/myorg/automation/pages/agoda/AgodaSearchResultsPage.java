@@ -1,10 +1,18 @@
 package com.myorg.automation.pages.agoda;
 
+import com.myorg.automation.config.ConfigManager;
 import com.myorg.automation.pages.BasePage;
 import com.myorg.automation.enums.SortType;
+import com.myorg.automation.models.HotelCard;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 /**
  * AgodaSearchResultsPage - Page object for Agoda's search results
  * 
@@ -19,6 +27,15 @@ public class AgodaSearchResultsPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(AgodaSearchResultsPage.class);
     private static final String PAGE_NAME = "AgodaSearchResultsPage";
     
+    // Dynamic card fields read in one batch: element name -> attribute (null = text)
+    private static final Map<String, String> HOTEL_CARD_FIELDS = new LinkedHashMap<>();
+    static {
+        HOTEL_CARD_FIELDS.put("hotelName", null);
+        HOTEL_CARD_FIELDS.put("hotelPrice", null);
+        HOTEL_CARD_FIELDS.put("hotelRating", null);
+        HOTEL_CARD_FIELDS.put("hotelLink", "href");
+    }
+    
     public AgodaSearchResultsPage() {
         super(PAGE_NAME);
     }
@@ -173,6 +190,65 @@ public class AgodaSearchResultsPage extends BasePage {
         return rating;
     }
     
+    /**
+     * Get name, price, rating and link of the first N hotel cards.
+     * Uses one JavaScript call for all cards, falling back to per-element lookups
+     * when batch extraction is disabled or scripting is unavailable.
+     * @param count The maximum number of hotels to read
+     * @return Hotel cards in display order (fewer than count if fewer are shown)
+     */
+    public List<HotelCard> getHotelCards(int count) {
+        if (ConfigManager.shouldUseBatchExtraction()) {
+            try {
+                List<HotelCard> cards = new ArrayList<>();
+                int index = 1;
+                for (Map<String, String> row : getDynamicRows("hotelItem", HOTEL_CARD_FIELDS, count)) {
+                    cards.add(new HotelCard(index++, row.get("hotelName"), row.get("hotelPrice"),
+                        row.get("hotelRating"), row.get("hotelLink")));
+                }
+                logger.debug("Read {} hotel cards in one script call", cards.size());
+                return cards;
+            } catch (RuntimeException e) {
+                logger.warn("Batched hotel extraction unavailable, reading cards one element at a time: {}", e.getMessage());
+            }
+        }
+        return getHotelCardsPerElement(count);
+    }
+    
+    /**
+     * Read hotel cards with one driver call per field (fallback path)
+     * @param count The maximum number of hotels to read
+     * @return Hotel cards in display order, stopping at the first card whose name cannot be read
+     */
+    private List<HotelCard> getHotelCardsPerElement(int count) {
+        List<HotelCard> cards = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            int position = i;
+            String index = String.valueOf(i);
+            String name;
+            String price;
+            try {
+                name = getHotelNameDynamic(i);
+                price = getHotelPriceDynamic(i);
+            } catch (RuntimeException | AssertionError e) {
+                // Selenide reports a missing element as ElementNotFound, an AssertionError
+                logger.debug("No hotel card at index {}: {}", i, e.getMessage());
+                break;
+            }
+            cards.add(new HotelCard(i, name, price, readOptional(() -> getHotelRatingDynamic(position)),
+                readOptional(() -> getElementAttributeDynamic("hotelLink", "href", index))));
+        }
+        return cards;
+    }
+    
+    private String readOptional(Supplier<String> reader) {
+        try {
+            return reader.get();
+        } catch (RuntimeException | AssertionError e) {
+            return null;
+        }
+    }
+    
     /**
      * Verify first N hotels are displayed and have valid information
      * @param expectedCount The number of hotels to verify
@@ -181,26 +257,18 @@ public class AgodaSearchResultsPage extends BasePage {
     public boolean verifyFirstNHotels(int expectedCount) {
         logger.info("Verifying first {} hotels are displayed", expectedCount);
         
-        for (int i = 1; i <= expectedCount; i++) {
-            try {
-                String hotelName = getHotelNameDynamic(i);
-                String hotelPrice = getHotelPriceDynamic(i);
-                
-                if (hotelName == null || hotelName.trim().isEmpty()) {
-                    logger.warn("Hotel name is empty at index {}", i);
-                    return false;
-                }
-                
-                if (hotelPrice == null || hotelPrice.trim().isEmpty()) {
-                    logger.warn("Hotel price is empty at index {}", i);
-                    return false;
-                }
-                
-                logger.debug("Hotel {} verified: {} - {}", i, hotelName, hotelPrice);
-            } catch (Exception e) {
-                logger.error("Failed to verify hotel at index {}: {}", i, e.getMessage());
+        List<HotelCard> cards = getHotelCards(expectedCount);
+        if (cards.size() < expectedCount) {
+            logger.warn("Only {} of {} hotels are displayed", cards.size(), expectedCount);
+            return false;
+        }
+        
+        for (HotelCard card : cards) {
+            if (!card.hasNameAndPrice()) {
+                logger.warn("Hotel name or price is empty at index {}: {}", card.getIndex(), card);
                 return false;
             }
+            logger.debug("Hotel {} verified: {} - {}", card.getIndex(), card.getName(), card.getPrice());
         }
         
         logger.info("Successfully verified {} hotels", expectedCount);
@@ -3,31 +3,33 @@ package com.myorg.automation.utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 /**
  * Utility class for resolving date tokens and formatting dates
+ *
+ * Tokens such as {@code <TODAY>}, {@code <NEXT_FRIDAY>} or {@code <PLUS_3_DAYS>} are replaced in
+ * one left-to-right scan. All tokens are evaluated against one clock, frozen when the class is
+ * loaded, so every data file of a run sees the same "today" even across midnight. New tokens are
+ * added with {@link #registerToken(String, Function)} or {@link #registerToken(DateTokenHandler)}
+ * and removed again with the matching {@code unregisterToken} method.
  */
 public class DateTimeUtils {
     private static final Logger logger = LoggerFactory.getLogger(DateTimeUtils.class);
     
-    // Date token patterns
-    private static final Pattern NEXT_WEEKDAY_PATTERN = Pattern.compile("<NEXT_(MONDAY|TUESDAY|WEDNESDAY|THURSDAY|FRIDAY|SATURDAY|SUNDAY)>");
-    private static final Pattern PLUS_DAYS_PATTERN = Pattern.compile("<PLUS_(\\d+)_DAYS?>");
-    private static final Pattern PLUS_WEEKS_PATTERN = Pattern.compile("<PLUS_(\\d+)_WEEKS?>");
-    private static final Pattern PLUS_MONTHS_PATTERN = Pattern.compile("<PLUS_(\\d+)_MONTHS?>");
-    private static final Pattern PLUS_YEARS_PATTERN = Pattern.compile("<PLUS_(\\d+)_YEARS?>");
-    private static final Pattern MINUS_DAYS_PATTERN = Pattern.compile("<MINUS_(\\d+)_DAYS?>");
-    private static final Pattern MINUS_WEEKS_PATTERN = Pattern.compile("<MINUS_(\\d+)_WEEKS?>");
-    private static final Pattern MINUS_MONTHS_PATTERN = Pattern.compile("<MINUS_(\\d+)_MONTHS?>");
-    
     // Common date formats
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
     public static final String DEFAULT_DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
@@ -36,9 +38,88 @@ public class DateTimeUtils {
     public static final String ISO_DATE_FORMAT = "yyyy-MM-dd";
     public static final String ISO_DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
 
+    private static final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+    // Tokens matched by exact name, then handlers asked in registration order
+    private static final Map<String, Function<TokenContext, String>> namedTokens = new ConcurrentHashMap<>();
+    private static final List<DateTokenHandler> tokenHandlers = new CopyOnWriteArrayList<>();
+
+    private static volatile Clock tokenClock = frozenNow();
+
+    static {
+        registerToken("TODAY", context -> context.format(context.getToday()));
+        registerToken("YESTERDAY", context -> context.format(context.getToday().minusDays(1)));
+        registerToken("TOMORROW", context -> context.format(context.getToday().plusDays(1)));
+        registerToken("NOW", context -> formatDateTime(context.getNow(), DEFAULT_DATETIME_FORMAT));
+        for (DayOfWeek day : DayOfWeek.values()) {
+            registerToken("NEXT_" + day.name(), context -> context.format(context.getToday().with(TemporalAdjusters.next(day))));
+        }
+        registerToken(DateTimeUtils::resolveOffsetToken);
+    }
+
     // Private constructor to prevent instantiation
     private DateTimeUtils() {}
 
+    private static Clock frozenNow() {
+        return Clock.fixed(Instant.now(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Set the clock date tokens are evaluated against, e.g. a fixed clock in tests
+     * @param clock Clock to use
+     */
+    public static void setClock(Clock clock) {
+        tokenClock = clock;
+    }
+
+    /**
+     * Freeze the token clock at the current instant again
+     */
+    public static void resetClock() {
+        tokenClock = frozenNow();
+    }
+
+    /**
+     * @return Clock date tokens are evaluated against
+     */
+    public static Clock getClock() {
+        return tokenClock;
+    }
+
+    /**
+     * Register a token matched by its exact name; replaces a token of the same name
+     * @param name Token name without angle brackets, e.g. "END_OF_MONTH"
+     * @param handler Produces the replacement
+     */
+    public static void registerToken(String name, Function<TokenContext, String> handler) {
+        namedTokens.put(name, handler);
+    }
+
+    /**
+     * Register a handler for parameterised tokens; it is asked for names that match no exact token
+     * @param handler Returns the replacement, or null for names it does not recognise
+     */
+    public static void registerToken(DateTokenHandler handler) {
+        tokenHandlers.add(handler);
+    }
+
+    /**
+     * Remove a token registered by exact name
+     * @param name Token name without angle brackets
+     * @return true if the token was registered
+     */
+    public static boolean unregisterToken(String name) {
+        return namedTokens.remove(name) != null;
+    }
+
+    /**
+     * Remove a handler for parameterised tokens
+     * @param handler Handler instance passed to {@link #registerToken(DateTokenHandler)}
+     * @return true if the handler was registered
+     */
+    public static boolean unregisterToken(DateTokenHandler handler) {
+        return tokenHandlers.remove(handler);
+    }
+
     /**
      * Resolves date tokens in text using default date format
      * 
@@ -50,109 +131,130 @@ public class DateTimeUtils {
     }
 
     /**
-     * Resolves date tokens in text using specified format
+     * Resolves date tokens in text using specified format. Text without a token is returned
+     * as is, without copying; unknown tokens are left in place.
      * 
      * @param text Text containing date tokens
      * @param dateFormat Date format pattern
      * @return Text with resolved dates
      */
     public static String resolve(String text, String dateFormat) {
-        if (text == null || text.trim().isEmpty()) {
+        if (text == null) {
+            return null;
+        }
+        int open = text.indexOf('<');
+        if (open < 0) {
             return text;
         }
 
-        logger.debug("Resolving date tokens in text: {}", text);
-        String resolvedText = text;
-
-        // Resolve current date/time tokens
-        resolvedText = resolvedText.replace("<TODAY>", formatDate(LocalDate.now(), dateFormat));
-        resolvedText = resolvedText.replace("<NOW>", formatDateTime(LocalDateTime.now(), DEFAULT_DATETIME_FORMAT));
-        resolvedText = resolvedText.replace("<YESTERDAY>", formatDate(LocalDate.now().minusDays(1), dateFormat));
-        resolvedText = resolvedText.replace("<TOMORROW>", formatDate(LocalDate.now().plusDays(1), dateFormat));
-
-        // Resolve next weekday tokens
-        resolvedText = resolveNextWeekdayTokens(resolvedText, dateFormat);
-
-        // Resolve plus/minus tokens
-        resolvedText = resolvePlusMinusTokens(resolvedText, dateFormat);
+        StringBuilder result = null;
+        TokenContext context = null;
+        int copied = 0;
+        while (open >= 0) {
+            int close = text.indexOf('>', open + 1);
+            if (close < 0) {
+                break;
+            }
+            // In "a < b <TODAY>" the token starts at the last '<' before the '>'
+            open = text.lastIndexOf('<', close);
+
+            if (context == null) {
+                context = new TokenContext(tokenClock, dateFormat);
+            }
+            String name = text.substring(open + 1, close);
+            String replacement = resolveToken(name, context);
+            if (replacement != null) {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, copied, open).append(replacement);
+                copied = close + 1;
+                logger.debug("Resolved <{}> to {}", name, replacement);
+            }
+            open = text.indexOf('<', close + 1);
+        }
 
-        logger.debug("Resolved text: {}", resolvedText);
-        return resolvedText;
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copied, text.length()).toString();
     }
 
-    /**
-     * Resolves next weekday tokens (e.g., <NEXT_FRIDAY>)
-     */
-    private static String resolveNextWeekdayTokens(String text, String dateFormat) {
-        Matcher matcher = NEXT_WEEKDAY_PATTERN.matcher(text);
-        StringBuffer result = new StringBuffer();
-
-        while (matcher.find()) {
-            String weekdayName = matcher.group(1);
-            DayOfWeek targetDayOfWeek = DayOfWeek.valueOf(weekdayName);
-            LocalDate nextWeekday = LocalDate.now().with(TemporalAdjusters.next(targetDayOfWeek));
-            String formattedDate = formatDate(nextWeekday, dateFormat);
-            matcher.appendReplacement(result, formattedDate);
-            logger.debug("Resolved <NEXT_{}> to {}", weekdayName, formattedDate);
+    private static String resolveToken(String name, TokenContext context) {
+        Function<TokenContext, String> named = namedTokens.get(name);
+        if (named != null) {
+            return named.apply(context);
         }
-        matcher.appendTail(result);
-        return result.toString();
+        for (DateTokenHandler handler : tokenHandlers) {
+            String replacement = handler.resolve(name, context);
+            if (replacement != null) {
+                return replacement;
+            }
+        }
+        return null;
     }
 
     /**
-     * Resolves plus/minus tokens (e.g., <PLUS_3_DAYS>, <MINUS_2_WEEKS>)
+     * Resolves offset tokens: PLUS_n_DAYS, MINUS_n_WEEKS, ... (DAY[S], WEEK[S], MONTH[S], YEAR[S])
      */
-    private static String resolvePlusMinusTokens(String text, String dateFormat) {
-        String result = text;
-
-        // Plus days
-        result = resolvePattern(result, PLUS_DAYS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().plusDays(amount), "PLUS_DAYS");
-
-        // Plus weeks
-        result = resolvePattern(result, PLUS_WEEKS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().plusWeeks(amount), "PLUS_WEEKS");
-
-        // Plus months
-        result = resolvePattern(result, PLUS_MONTHS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().plusMonths(amount), "PLUS_MONTHS");
-
-        // Plus years
-        result = resolvePattern(result, PLUS_YEARS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().plusYears(amount), "PLUS_YEARS");
-
-        // Minus days
-        result = resolvePattern(result, MINUS_DAYS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().minusDays(amount), "MINUS_DAYS");
+    private static String resolveOffsetToken(String name, TokenContext context) {
+        int sign;
+        int position;
+        if (name.startsWith("PLUS_")) {
+            sign = 1;
+            position = 5;
+        } else if (name.startsWith("MINUS_")) {
+            sign = -1;
+            position = 6;
+        } else {
+            return null;
+        }
 
-        // Minus weeks
-        result = resolvePattern(result, MINUS_WEEKS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().minusWeeks(amount), "MINUS_WEEKS");
+        int digitsEnd = position;
+        while (digitsEnd < name.length() && Character.isDigit(name.charAt(digitsEnd))) {
+            digitsEnd++;
+        }
+        // Up to 9 digits always fits the arithmetic below
+        if (digitsEnd == position || digitsEnd - position > 9
+                || digitsEnd >= name.length() || name.charAt(digitsEnd) != '_') {
+            return null;
+        }
 
-        // Minus months
-        result = resolvePattern(result, MINUS_MONTHS_PATTERN, dateFormat, 
-                (amount) -> LocalDate.now().minusMonths(amount), "MINUS_MONTHS");
+        ChronoUnit unit = offsetUnit(name.substring(digitsEnd + 1));
+        if (unit == null) {
+            return null;
+        }
+        long amount = Long.parseLong(name.substring(position, digitsEnd));
+        return context.format(context.getToday().plus(sign * amount, unit));
+    }
 
-        return result;
+    private static ChronoUnit offsetUnit(String unit) {
+        switch (unit) {
+            case "DAY":
+            case "DAYS":
+                return ChronoUnit.DAYS;
+            case "WEEK":
+            case "WEEKS":
+                return ChronoUnit.WEEKS;
+            case "MONTH":
+            case "MONTHS":
+                return ChronoUnit.MONTHS;
+            case "YEAR":
+            case "YEARS":
+                return ChronoUnit.YEARS;
+            default:
+                return null;
+        }
     }
 
     /**
-     * Helper method to resolve patterns with date calculations
+     * Get a formatter for a pattern, building it only on first use
+     * @param format Date format pattern
+     * @return Cached DateTimeFormatter
+     * @throws IllegalArgumentException if the pattern is invalid
      */
-    private static String resolvePattern(String text, Pattern pattern, String dateFormat, 
-                                       DateCalculator calculator, String tokenType) {
-        Matcher matcher = pattern.matcher(text);
-        StringBuffer result = new StringBuffer();
-
-        while (matcher.find()) {
-            long amount = Long.parseLong(matcher.group(1));
-            LocalDate calculatedDate = calculator.calculate(amount);
-            String formattedDate = formatDate(calculatedDate, dateFormat);
-            matcher.appendReplacement(result, formattedDate);
-            logger.debug("Resolved <{}_{}> to {}", tokenType, amount, formattedDate);
-        }
-        matcher.appendTail(result);
-        return result.toString();
+    public static DateTimeFormatter formatter(String format) {
+        return formatters.computeIfAbsent(format, DateTimeFormatter::ofPattern);
     }
 
     /**
@@ -163,7 +265,7 @@ public class DateTimeUtils {
             return "";
         }
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
+            DateTimeFormatter formatter = formatter(format);
             return date.format(formatter);
         } catch (Exception e) {
             logger.error("Error formatting date {} with format {}", date, format, e);
@@ -179,7 +281,7 @@ public class DateTimeUtils {
             return "";
         }
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
+            DateTimeFormatter formatter = formatter(format);
             return dateTime.format(formatter);
         } catch (Exception e) {
             logger.error("Error formatting datetime {} with format {}", dateTime, format, e);
@@ -244,10 +346,53 @@ public class DateTimeUtils {
     }
 
     /**
-     * Functional interface for date calculations
+     * Produces the replacement for a date token
      */
     @FunctionalInterface
-    private interface DateCalculator {
-        LocalDate calculate(long amount);
+    public interface DateTokenHandler {
+        /**
+         * @param name Token name without angle brackets, e.g. "PLUS_3_DAYS"
+         * @param context Clock and date format of the current resolution
+         * @return Replacement, or null if the name is not recognised
+         */
+        String resolve(String name, TokenContext context);
+    }
+
+    /**
+     * Clock and output format shared by all tokens of one resolve call
+     */
+    public static final class TokenContext {
+        private final Clock clock;
+        private final String dateFormat;
+        private LocalDate today;
+
+        private TokenContext(Clock clock, String dateFormat) {
+            this.clock = clock;
+            this.dateFormat = dateFormat;
+        }
+
+        public LocalDate getToday() {
+            if (today == null) {
+                today = LocalDate.now(clock);
+            }
+            return today;
+        }
+
+        public LocalDateTime getNow() {
+            return LocalDateTime.now(clock);
+        }
+
+        public String getDateFormat() {
+            return dateFormat;
+        }
+
+        /**
+         * Format a date with the requested date format
+         * @param date Date to format
+         * @return Formatted date
+         */
+        public String format(LocalDate date) {
+            return formatDate(date, dateFormat);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.myorg.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.cache.ConcurrentCache;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.json.JsonBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestDataBinder - Binds test cases of a JSON data file to typed models
+ *
+ * Each file is parsed once into an index of its test cases, with date tokens already resolved
+ * in the tree. Cases are bound from those nodes with the ObjectReader FrameworkJson keeps per model class,
+ * so binding never goes through a JSON string and concurrent data providers share one parse.
+ * The index is the only cached form of a file: TestDataResolver converts its map views from it.
+ */
+public final class TestDataBinder {
+    private static final Logger logger = LoggerFactory.getLogger(TestDataBinder.class);
+    private static final ConcurrentCache<String, CaseIndex> indexes = new ConcurrentCache<>(
+            "test-data-index", ConfigManager.getTestDataCacheMaxSize(), ConfigManager.getCacheEvictionPolicy());
+
+    private TestDataBinder() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Bind one test case of a data file
+     * @param resourcePath Classpath resource, e.g. "testdata/agoda_search_data.json"
+     * @param testCaseName Test case name within the file
+     * @param type Model class
+     * @return Bound model with date tokens resolved
+     */
+    public static <T> T bind(String resourcePath, String testCaseName, Class<T> type) {
+        JsonNode node = index(resourcePath).cases.get(testCaseName);
+        if (node == null) {
+            throw new RuntimeException(String.format("Test case not found in JSON: %s (%s)", testCaseName, resourcePath));
+        }
+        try {
+            return FrameworkJson.reader(type).readValue(node);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Failed to bind test case %s of %s to %s",
+                    testCaseName, resourcePath, type.getSimpleName()), e);
+        }
+    }
+
+    /**
+     * @param resourcePath Classpath resource
+     * @return Test case names in file order; the same list on every call
+     */
+    public static List<String> getTestCaseNames(String resourcePath) {
+        return index(resourcePath).names;
+    }
+
+    /**
+     * @param resourcePath Classpath resource
+     * @param testCaseName Test case name
+     * @return true if the file contains the test case
+     */
+    public static boolean hasTestCase(String resourcePath, String testCaseName) {
+        return index(resourcePath).cases.containsKey(testCaseName);
+    }
+
+    /**
+     * Replace the cases of a file with content read elsewhere, e.g. an edited source file during hot reload
+     * @param resourcePath Classpath resource the content stands for
+     * @param root Parsed file content; date tokens are resolved in place
+     */
+    public static void replace(String resourcePath, JsonNode root) {
+        String normalized = normalize(resourcePath);
+        indexes.put(normalized, index(normalized, root));
+    }
+
+    /**
+     * Forget all parsed files
+     */
+    public static void clearCache() {
+        indexes.invalidateAll();
+    }
+
+    /**
+     * @return Resolved case nodes of a file in file order, parsed on first use; read-only
+     */
+    static Map<String, JsonNode> cases(String resourcePath) {
+        return index(resourcePath).cases;
+    }
+
+    static boolean isCached(String resourcePath) {
+        return indexes.containsKey(normalize(resourcePath));
+    }
+
+    static void removeFromCache(String resourcePath) {
+        indexes.invalidate(normalize(resourcePath));
+    }
+
+    static int getCacheSize() {
+        return indexes.size();
+    }
+
+    static ConcurrentCache.Stats getCacheStats() {
+        return indexes.stats();
+    }
+
+    private static String normalize(String resourcePath) {
+        return resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath;
+    }
+
+    private static CaseIndex index(String resourcePath) {
+        return indexes.get(normalize(resourcePath), TestDataBinder::readIndex);
+    }
+
+    private static CaseIndex readIndex(String resourcePath) {
+        JsonNode bundled = JsonBundle.get(resourcePath);
+        if (bundled != null) {
+            // Tokens are resolved in place, so work on a copy of the shared bundle tree
+            return index(resourcePath, bundled.deepCopy());
+        }
+        try (InputStream inputStream = TestDataBinder.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                throw new RuntimeException("Test data file not found: " + resourcePath);
+            }
+            return index(resourcePath, FrameworkJson.readTree(resourcePath, inputStream));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load test data from JSON file: " + resourcePath, e);
+        }
+    }
+
+    private static CaseIndex index(String resourcePath, JsonNode root) {
+        if (!root.isObject()) {
+            throw new RuntimeException("Test data file must be an object of test cases: " + resourcePath);
+        }
+        Map<String, JsonNode> cases = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            resolveTokens(field.getValue());
+            cases.put(field.getKey(), field.getValue());
+        }
+        logger.info("Indexed {} test case(s) from {}", cases.size(), resourcePath);
+        return new CaseIndex(cases);
+    }
+
+    /**
+     * Resolve date tokens of all text nodes in place
+     */
+    private static void resolveTokens(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode resolved = resolvedText(field.getValue());
+                if (resolved != null) {
+                    field.setValue(resolved);
+                } else {
+                    resolveTokens(field.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                JsonNode resolved = resolvedText(array.get(i));
+                if (resolved != null) {
+                    array.set(i, resolved);
+                } else {
+                    resolveTokens(array.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Replacement for a text node containing tokens, or null if nothing changes
+     */
+    private static JsonNode resolvedText(JsonNode node) {
+        if (!node.isTextual()) {
+            return null;
+        }
+        String text = node.textValue();
+        String resolved = DateTimeUtils.resolve(text);
+        return resolved == text ? null : TextNode.valueOf(resolved);
+    }
+
+    /**
+     * Parsed cases of one file, read-only once built
+     */
+    private static final class CaseIndex {
+        private final Map<String, JsonNode> cases;
+        private final List<String> names;
+
+        private CaseIndex(Map<String, JsonNode> cases) {
+            this.cases = Collections.unmodifiableMap(cases);
+            this.names = Collections.unmodifiableList(new ArrayList<>(cases.keySet()));
+        }
+    }
+}
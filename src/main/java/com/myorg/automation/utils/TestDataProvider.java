@@ -1,15 +1,11 @@
 package com.myorg.automation.utils;
 
 import com.myorg.automation.models.SearchTestData;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.annotations.DataProvider;
 
-import java.io.InputStream;
 import java.util.Iterator;
-import java.util.Map;
 
 /**
  * TestDataProvider - Centralized test data provider for TestNG tests
@@ -19,7 +15,7 @@ import java.util.Map;
  */
 public class TestDataProvider {
     private static final Logger logger = LoggerFactory.getLogger(TestDataProvider.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String SEARCH_DATA_FILE = "testdata/agoda_search_data.json";
     
     /**
      * Provides search test data for TC01 Da Nang family search
@@ -40,52 +36,16 @@ public class TestDataProvider {
     }
     
     /**
-     * Provides search test data for all test cases
-     * @return Object[][] containing SearchTestData for all test cases
+     * Provides search test data for all test cases, reading and resolving one case at a time
+     * @return Lazy rows containing SearchTestData for all test cases
      */
     @DataProvider(name = "all_search_test_data")
-    public static Object[][] provideAllSearchTestData() {
-        logger.info("Loading all search test data");
-        
-        try {
-            InputStream inputStream = TestDataProvider.class.getClassLoader()
-                    .getResourceAsStream("testdata/agoda_search_data.json");
-            
-            if (inputStream == null) {
-                throw new RuntimeException("Test data file not found: testdata/agoda_search_data.json");
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            
-            // Count test cases
-            int testCaseCount = 0;
-            Iterator<String> fieldNames = rootNode.fieldNames();
-            while (fieldNames.hasNext()) {
-                fieldNames.next();
-                testCaseCount++;
-            }
-            
-            // Create data array
-            Object[][] testDataArray = new Object[testCaseCount][1];
-            Iterator<String> fields = rootNode.fieldNames();
-            int index = 0;
-            
-            while (fields.hasNext()) {
-                String testCaseName = fields.next();
-                JsonNode testCaseNode = rootNode.get(testCaseName);
-                SearchTestData testData = objectMapper.treeToValue(testCaseNode, SearchTestData.class);
-                testDataArray[index][0] = testData;
-                index++;
-                logger.debug("Loaded test data for: {}", testCaseName);
-            }
-            
-            logger.info("Successfully loaded {} test cases", testCaseCount);
-            return testDataArray;
-            
-        } catch (Exception e) {
-            logger.error("Failed to load all test data: {}", e.getMessage());
-            throw new RuntimeException("All test data loading failed", e);
-        }
+    public static Iterator<Object[]> provideAllSearchTestData() {
+        logger.info("Streaming all search test data");
+        return TestDataStream.rows(SEARCH_DATA_FILE, testCase -> {
+            logger.debug("Loaded test data for: {}", testCase.getName());
+            return new Object[] { testCase.as(SearchTestData.class) };
+        });
     }
     
     /**
@@ -113,19 +73,8 @@ public class TestDataProvider {
      */
     public static SearchTestData loadSearchTestData(String testCaseName) {
         try {
-            // Use TestDataResolver to load and resolve date tokens
-            Map<String, Object> allTestData = TestDataResolver.loadTestData("/testdata/agoda_search_data.json");
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> testCaseData = (Map<String, Object>) allTestData.get(testCaseName);
-            
-            if (testCaseData == null) {
-                throw new RuntimeException("Test case not found in JSON: " + testCaseName);
-            }
-            
-            // Convert the resolved map to SearchTestData object
-            String jsonString = objectMapper.writeValueAsString(testCaseData);
-            SearchTestData testData = objectMapper.readValue(jsonString, SearchTestData.class);
+            // Bound from the cached, token-resolved index of the file
+            SearchTestData testData = TestDataBinder.bind(SEARCH_DATA_FILE, testCaseName, SearchTestData.class);
             
             logger.info("Successfully loaded test data for: {}", testCaseName);
             logger.debug("Test data: {}", testData);
@@ -146,21 +95,7 @@ public class TestDataProvider {
      */
     public static SearchTestData loadTestDataFromFile(String fileName, String testCaseName) {
         try {
-            InputStream inputStream = TestDataProvider.class.getClassLoader()
-                    .getResourceAsStream("testdata/" + fileName);
-            
-            if (inputStream == null) {
-                throw new RuntimeException("Test data file not found: testdata/" + fileName);
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            JsonNode testCaseNode = rootNode.get(testCaseName);
-            
-            if (testCaseNode == null) {
-                throw new RuntimeException("Test case not found in JSON: " + testCaseName);
-            }
-            
-            SearchTestData testData = objectMapper.treeToValue(testCaseNode, SearchTestData.class);
+            SearchTestData testData = TestDataBinder.bind("testdata/" + fileName, testCaseName, SearchTestData.class);
             logger.info("Successfully loaded test data from {} for: {}", fileName, testCaseName);
             
             return testData;
@@ -177,29 +112,10 @@ public class TestDataProvider {
      */
     public static String[] getAvailableTestCases() {
         try {
-            InputStream inputStream = TestDataProvider.class.getClassLoader()
-                    .getResourceAsStream("testdata/agoda_search_data.json");
-            
-            if (inputStream == null) {
-                throw new RuntimeException("Test data file not found: testdata/agoda_search_data.json");
-            }
-            
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            Iterator<String> fieldNames = rootNode.fieldNames();
-            
-            // Convert iterator to array
-            java.util.List<String> testCaseNames = new java.util.ArrayList<>();
-            while (fieldNames.hasNext()) {
-                String testCaseName = fieldNames.next();
-                testCaseNames.add(testCaseName);
-                logger.debug("Available test case: {}", testCaseName);
-            }
-            
-            return testCaseNames.toArray(new String[0]);
-                    
+            return TestDataBinder.getTestCaseNames(SEARCH_DATA_FILE).toArray(new String[0]);
         } catch (Exception e) {
             logger.error("Failed to get available test cases: {}", e.getMessage());
             return new String[0];
         }
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,23 @@
 package com.myorg.automation.utils;
 
+import com.myorg.automation.core.cache.ConcurrentCache;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myorg.automation.core.json.FrameworkJson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for loading and resolving test data from JSON files
+ *
+ * Files are parsed, token-resolved and cached once by {@link TestDataBinder}; the maps handed out
+ * here are converted from its case nodes on each call, so callers may change them freely.
+ * Large data sets are better read case by case with {@link TestDataStream}.
  */
 public class TestDataResolver {
     private static final Logger logger = LoggerFactory.getLogger(TestDataResolver.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final ConcurrentHashMap<String, Map<String, Object>> testDataCache = new ConcurrentHashMap<>();
 
     // Private constructor to prevent instantiation
     private TestDataResolver() {}
@@ -31,37 +30,13 @@ public class TestDataResolver {
      */
     public static Map<String, Object> loadTestData(String jsonFilePath) {
         logger.info("Loading test data from JSON file: {}", jsonFilePath);
-        
-        // Check cache first
-        if (testDataCache.containsKey(jsonFilePath)) {
-            logger.info("Returning cached test data for: {}", jsonFilePath);
-            return testDataCache.get(jsonFilePath);
-        }
-        
-        try {
-            // Load JSON file from resources
-            InputStream inputStream = TestDataResolver.class.getResourceAsStream(jsonFilePath);
-            if (inputStream == null) {
-                throw new RuntimeException("Test data JSON file not found: " + jsonFilePath);
-            }
-            
-            // Parse JSON to Map
-            JsonNode rootNode = objectMapper.readTree(inputStream);
-            Map<String, Object> testData = jsonNodeToMap(rootNode);
-            
-            // Resolve date tokens in the test data
-            Map<String, Object> resolvedTestData = resolveTokensInMap(testData);
-            
-            // Cache the test data
-            testDataCache.put(jsonFilePath, resolvedTestData);
-            
-            logger.info("Successfully loaded and cached test data from: {}", jsonFilePath);
-            return resolvedTestData;
-            
-        } catch (IOException e) {
-            logger.error("Failed to load test data from JSON file: {}", jsonFilePath, e);
-            throw new RuntimeException("Failed to load test data from JSON file: " + jsonFilePath, e);
-        }
+        Map<String, Object> testData = new LinkedHashMap<>();
+        TestDataBinder.cases(jsonFilePath).forEach((testCaseId, node) -> testData.put(testCaseId, toValue(node)));
+        return testData;
+    }
+
+    private static Object toValue(JsonNode node) {
+        return FrameworkJson.mapper().convertValue(node, Object.class);
     }
 
     /**
@@ -75,18 +50,17 @@ public class TestDataResolver {
     public static Map<String, Object> getTestCaseData(String jsonFilePath, String testCaseId) {
         logger.info("Getting test case data for: {} from {}", testCaseId, jsonFilePath);
         
-        Map<String, Object> allTestData = loadTestData(jsonFilePath);
-        Object testCaseData = allTestData.get(testCaseId);
+        JsonNode testCaseData = TestDataBinder.cases(jsonFilePath).get(testCaseId);
         
         if (testCaseData == null) {
             throw new RuntimeException("Test case '" + testCaseId + "' not found in " + jsonFilePath);
         }
         
-        if (!(testCaseData instanceof Map)) {
+        if (!testCaseData.isObject()) {
             throw new RuntimeException("Test case data for '" + testCaseId + "' is not a valid object");
         }
         
-        return (Map<String, Object>) testCaseData;
+        return (Map<String, Object>) toValue(testCaseData);
     }
 
     /**
@@ -162,84 +136,12 @@ public class TestDataResolver {
         return Boolean.parseBoolean(value);
     }
 
-    /**
-     * Resolves date tokens in all string values within a map
-     */
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> resolveTokensInMap(Map<String, Object> data) {
-        Map<String, Object> resolvedData = new HashMap<>();
-        
-        for (Map.Entry<String, Object> entry : data.entrySet()) {
-            Object value = entry.getValue();
-            
-            if (value instanceof String) {
-                // Resolve date tokens in string values
-                String resolvedValue = DateTimeUtils.resolve((String) value);
-                resolvedData.put(entry.getKey(), resolvedValue);
-            } else if (value instanceof Map) {
-                // Recursively resolve nested maps
-                resolvedData.put(entry.getKey(), resolveTokensInMap((Map<String, Object>) value));
-            } else {
-                // Keep other types as-is
-                resolvedData.put(entry.getKey(), value);
-            }
-        }
-        
-        return resolvedData;
-    }
-
-    /**
-     * Converts JsonNode to Map<String, Object>
-     */
-    private static Map<String, Object> jsonNodeToMap(JsonNode node) {
-        Map<String, Object> map = new HashMap<>();
-        
-        if (node.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> field = fields.next();
-                map.put(field.getKey(), jsonNodeToValue(field.getValue()));
-            }
-        }
-        
-        return map;
-    }
-
-    /**
-     * Converts JsonNode to appropriate Java object
-     */
-    private static Object jsonNodeToValue(JsonNode node) {
-        if (node.isTextual()) {
-            return node.asText();
-        } else if (node.isInt()) {
-            return node.asInt();
-        } else if (node.isLong()) {
-            return node.asLong();
-        } else if (node.isDouble()) {
-            return node.asDouble();
-        } else if (node.isBoolean()) {
-            return node.asBoolean();
-        } else if (node.isNull()) {
-            return null;
-        } else if (node.isArray()) {
-            java.util.List<Object> list = new java.util.ArrayList<>();
-            for (JsonNode item : node) {
-                list.add(jsonNodeToValue(item));
-            }
-            return list;
-        } else if (node.isObject()) {
-            return jsonNodeToMap(node);
-        }
-        
-        return node.asText();
-    }
-
     /**
      * Clears the test data cache
      */
     public static void clearCache() {
         logger.info("Clearing test data cache");
-        testDataCache.clear();
+        TestDataBinder.clearCache();
     }
 
     /**
@@ -249,7 +151,7 @@ public class TestDataResolver {
      */
     public static void removeFromCache(String jsonFilePath) {
         logger.info("Removing test data from cache: {}", jsonFilePath);
-        testDataCache.remove(jsonFilePath);
+        TestDataBinder.removeFromCache(jsonFilePath);
     }
 
     /**
@@ -258,7 +160,16 @@ public class TestDataResolver {
      * @return Number of cached test data files
      */
     public static int getCacheSize() {
-        return testDataCache.size();
+        return TestDataBinder.getCacheSize();
+    }
+
+    /**
+     * Gets the test data cache statistics
+     * 
+     * @return Hit, miss and load-time statistics
+     */
+    public static ConcurrentCache.Stats getCacheStats() {
+        return TestDataBinder.getCacheStats();
     }
 
     /**
@@ -268,7 +179,7 @@ public class TestDataResolver {
      * @return true if cached, false otherwise
      */
     public static boolean isCached(String jsonFilePath) {
-        return testDataCache.containsKey(jsonFilePath);
+        return TestDataBinder.isCached(jsonFilePath);
     }
 
     /**
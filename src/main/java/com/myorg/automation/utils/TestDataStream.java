@@ -0,0 +1,245 @@
+package com.myorg.automation.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.myorg.automation.core.json.FrameworkJson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * TestDataStream - Reads test cases one at a time from a JSON or JSON Lines file
+ *
+ * Only the case being handed out is held in memory, and its date tokens are resolved when it
+ * is handed out, so large generated data sets can back a TestNG {@code Iterator<Object[]>}
+ * data provider with flat heap use. Supported layouts:
+ * <ul>
+ *   <li>{@code .json} object of cases: {@code {"tc01": {...}, "tc02": {...}}}</li>
+ *   <li>{@code .json} array of cases: {@code [{...}, {...}]}</li>
+ *   <li>{@code .jsonl} / {@code .ndjson}: one case object per line</li>
+ * </ul>
+ * Cases of arrays and JSON Lines files are named by their "testCaseName" or "id" field, else by position.
+ *
+ * The stream closes its file when exhausted; close it explicitly when stopping early.
+ */
+public final class TestDataStream implements Iterator<TestDataStream.TestCase>, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(TestDataStream.class);
+    private static final String[] NAME_FIELDS = {"testCaseName", "id"};
+
+    private final String source;
+    private final JsonParser parser;
+    private final Layout layout;
+    private TestCase next;
+    private int index;
+    private boolean closed;
+
+    private enum Layout { OBJECT, ARRAY, LINES }
+
+    private TestDataStream(String source, InputStream inputStream) throws IOException {
+        this.source = source;
+        this.parser = FrameworkJson.createParser(inputStream);
+        String lower = source.toLowerCase();
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+            layout = Layout.LINES;
+        } else {
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.START_OBJECT) {
+                layout = Layout.OBJECT;
+            } else if (first == JsonToken.START_ARRAY) {
+                layout = Layout.ARRAY;
+            } else {
+                parser.close();
+                throw new IOException(String.format("Test data %s must be a JSON object or array of test cases", source));
+            }
+        }
+    }
+
+    /**
+     * Open a data file from the file system, or else from the classpath
+     * @param path File path, or classpath resource such as "testdata/search.jsonl"
+     * @return Stream positioned before the first case
+     */
+    public static TestDataStream open(String path) {
+        try {
+            Path file = Paths.get(path);
+            InputStream inputStream = Files.isRegularFile(file)
+                    ? Files.newInputStream(file)
+                    : TestDataStream.class.getClassLoader().getResourceAsStream(path.startsWith("/") ? path.substring(1) : path);
+            if (inputStream == null) {
+                throw new RuntimeException("Test data file not found: " + path);
+            }
+            logger.info("Streaming test data from: {}", path);
+            return new TestDataStream(path, inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open test data file: " + path, e);
+        }
+    }
+
+    /**
+     * Stream a data file as TestNG data provider rows, mapping each case when it is requested
+     * @param path File path or classpath resource
+     * @param mapper Turns a resolved case into the test method's arguments
+     * @return Lazy rows for an {@code Iterator<Object[]>} data provider
+     */
+    public static Iterator<Object[]> rows(String path, Function<TestCase, Object[]> mapper) {
+        TestDataStream stream = open(path);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return stream.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return mapper.apply(stream.next());
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            next = readNext();
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    /**
+     * @return Next case, with its date tokens resolved
+     */
+    @Override
+    public TestCase next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more test cases in " + source);
+        }
+        TestCase current = next;
+        next = null;
+        resolveTokens(current.data);
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TestCase readNext() {
+        try {
+            String name = null;
+            JsonToken token = parser.nextToken();
+            if (layout == Layout.OBJECT) {
+                if (token != JsonToken.FIELD_NAME) {
+                    return null;
+                }
+                name = parser.getCurrentName();
+                token = parser.nextToken();
+            }
+            if (token == null || token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new RuntimeException(String.format("Test case %s in %s is not an object",
+                        name != null ? name : "#" + index, source));
+            }
+            Map<String, Object> data = FrameworkJson.reader(Map.class).readValue(parser);
+            index++;
+            return new TestCase(name != null ? name : nameOf(data), data);
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException(String.format("Failed to read test case #%d from %s", index + 1, source), e);
+        }
+    }
+
+    private String nameOf(Map<String, Object> data) {
+        for (String field : NAME_FIELDS) {
+            Object value = data.get(field);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return String.valueOf(index);
+    }
+
+    /**
+     * Resolve date tokens of all string values in place
+     */
+    private static void resolveTokens(Map<String, Object> data) {
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            entry.setValue(resolveValue(entry.getValue()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object resolveValue(Object value) {
+        if (value instanceof String) {
+            return DateTimeUtils.resolve((String) value);
+        } else if (value instanceof Map) {
+            resolveTokens((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            for (int i = 0; i < list.size(); i++) {
+                list.set(i, resolveValue(list.get(i)));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return Number of cases read so far
+     */
+    public int getReadCount() {
+        return index;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            try {
+                parser.close();
+            } catch (IOException e) {
+                logger.debug("Closing test data {} failed: {}", source, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * One test case: its name and its data
+     */
+    public static final class TestCase {
+        private final String name;
+        private final Map<String, Object> data;
+
+        private TestCase(String name, Map<String, Object> data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, Object> getData() {
+            return data;
+        }
+
+        /**
+         * Bind the case data to a model class
+         * @param type Model class, e.g. SearchTestData
+         * @return Bound model
+         */
+        public <T> T as(Class<T> type) {
+            return FrameworkJson.convert(data, type);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.myorg.benchmarks;
+
+import com.myorg.automation.config.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigLookupBenchmark - Compares reading settings from the FrameworkConfig snapshot against
+ * the former per-call chain (System property, upper-cased env key, properties file, parse).
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ConfigLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+
+    private final Properties fileProperties = new Properties();
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("framework.properties")) {
+            fileProperties.load(inputStream);
+        }
+        ConfigManager.reload();
+    }
+
+    /**
+     * The lookup chain every getter used to run
+     */
+    private String legacyGetProperty(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value != null && !value.trim().isEmpty()) {
+            return value;
+        }
+        value = System.getenv(key.toUpperCase().replace('.', '_'));
+        if (value != null && !value.trim().isEmpty()) {
+            return value;
+        }
+        value = fileProperties.getProperty(key);
+        if (value != null && !value.trim().isEmpty()) {
+            return value;
+        }
+        return defaultValue;
+    }
+
+    @Benchmark
+    public long legacyLongLookup() {
+        String value = legacyGetProperty("browser.timeout", null);
+        return value != null ? Long.parseLong(value) : 10000;
+    }
+
+    @Benchmark
+    public long snapshotLongLookup() {
+        return ConfigManager.getBrowserTimeout();
+    }
+
+    @Benchmark
+    public String legacyBaseUrl() {
+        // Environment lookup plus the environment-specific and generic URL lookups
+        String environment = legacyGetProperty("application.environment", "test");
+        String envSpecificUrl = legacyGetProperty(environment + ".base.url", null);
+        return envSpecificUrl != null ? envSpecificUrl : legacyGetProperty("base.url", "https://www.agoda.com");
+    }
+
+    @Benchmark
+    public String snapshotBaseUrl() {
+        return ConfigManager.getBaseUrl();
+    }
+}
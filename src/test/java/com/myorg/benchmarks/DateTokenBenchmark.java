@@ -0,0 +1,129 @@
+package com.myorg.benchmarks;
+
+import com.myorg.automation.utils.DateTimeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DateTokenBenchmark - Resolves a 50,000-string test-data set with the single-pass token engine
+ * and with the former chain of String.replace calls and regex passes.
+ *
+ * About one string in five carries date tokens, like typical search and booking data files.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=DateTokenBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTokenBenchmark {
+    private static final int STRINGS = 50_000;
+    private static final String[] PLAIN = {
+            "Bangkok", "Grand Hyatt Erawan", "2 adults, 1 child", "Family room with view",
+            "Free cancellation before check-in", "john.doe@example.com", "+66 2 123 4567", "THB"
+    };
+    private static final String[] TOKENS = {
+            "<TODAY>", "<TOMORROW>", "<PLUS_7_DAYS>", "<NEXT_FRIDAY>", "<PLUS_2_WEEKS>",
+            "Check-in <PLUS_3_DAYS>, check-out <PLUS_5_DAYS>", "<MINUS_1_MONTHS>", "Booked at <NOW>"
+    };
+
+    private static final Pattern NEXT_WEEKDAY = Pattern.compile("<NEXT_(MONDAY|TUESDAY|WEDNESDAY|THURSDAY|FRIDAY|SATURDAY|SUNDAY)>");
+    private static final Pattern[] OFFSETS = {
+            Pattern.compile("<PLUS_(\\d+)_DAYS?>"), Pattern.compile("<PLUS_(\\d+)_WEEKS?>"),
+            Pattern.compile("<PLUS_(\\d+)_MONTHS?>"), Pattern.compile("<PLUS_(\\d+)_YEARS?>"),
+            Pattern.compile("<MINUS_(\\d+)_DAYS?>"), Pattern.compile("<MINUS_(\\d+)_WEEKS?>"),
+            Pattern.compile("<MINUS_(\\d+)_MONTHS?>")
+    };
+    @SuppressWarnings("unchecked")
+    private static final LongFunction<LocalDate>[] OFFSET_DATES = new LongFunction[]{
+            amount -> LocalDate.now().plusDays(amount), amount -> LocalDate.now().plusWeeks(amount),
+            amount -> LocalDate.now().plusMonths(amount), amount -> LocalDate.now().plusYears(amount),
+            amount -> LocalDate.now().minusDays(amount), amount -> LocalDate.now().minusWeeks(amount),
+            amount -> LocalDate.now().minusMonths(amount)
+    };
+
+    private String[] data;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        data = new String[STRINGS];
+        for (int i = 0; i < STRINGS; i++) {
+            data[i] = random.nextInt(5) == 0
+                    ? TOKENS[random.nextInt(TOKENS.length)]
+                    : PLAIN[random.nextInt(PLAIN.length)] + " " + i;
+        }
+    }
+
+    @Benchmark
+    public void tokenEngine(Blackhole blackhole) {
+        for (String text : data) {
+            blackhole.consume(DateTimeUtils.resolve(text));
+        }
+    }
+
+    @Benchmark
+    public void legacyReplaceAndRegex(Blackhole blackhole) {
+        for (String text : data) {
+            blackhole.consume(legacyResolve(text, DateTimeUtils.DEFAULT_DATE_FORMAT));
+        }
+    }
+
+    /**
+     * The resolution DateTimeUtils used to do: 4 replaces and 8 regex passes per string,
+     * a clock read per token and a new formatter per format call
+     */
+    private static String legacyResolve(String text, String dateFormat) {
+        if (text == null || text.trim().isEmpty()) {
+            return text;
+        }
+        String result = text;
+        result = result.replace("<TODAY>", LocalDate.now().format(DateTimeFormatter.ofPattern(dateFormat)));
+        result = result.replace("<NOW>", LocalDateTime.now().format(DateTimeFormatter.ofPattern(DateTimeUtils.DEFAULT_DATETIME_FORMAT)));
+        result = result.replace("<YESTERDAY>", LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern(dateFormat)));
+        result = result.replace("<TOMORROW>", LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern(dateFormat)));
+
+        Matcher matcher = NEXT_WEEKDAY.matcher(result);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find()) {
+            LocalDate date = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.valueOf(matcher.group(1))));
+            matcher.appendReplacement(buffer, date.format(DateTimeFormatter.ofPattern(dateFormat)));
+        }
+        matcher.appendTail(buffer);
+        result = buffer.toString();
+
+        for (int i = 0; i < OFFSETS.length; i++) {
+            matcher = OFFSETS[i].matcher(result);
+            buffer = new StringBuffer();
+            while (matcher.find()) {
+                LocalDate date = OFFSET_DATES[i].apply(Long.parseLong(matcher.group(1)));
+                matcher.appendReplacement(buffer, date.format(DateTimeFormatter.ofPattern(dateFormat)));
+            }
+            matcher.appendTail(buffer);
+            result = buffer.toString();
+        }
+        return result;
+    }
+}
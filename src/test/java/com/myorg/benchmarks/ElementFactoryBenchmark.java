@@ -0,0 +1,85 @@
+package com.myorg.benchmarks;
+
+import com.codeborne.selenide.SelenideElement;
+import com.myorg.automation.core.elements.BaseElement;
+import com.myorg.automation.core.elements.ElementFactory;
+import com.myorg.automation.core.elements.ElementTypeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ElementFactoryBenchmark - Cost of creating one element on a DynamicPage cache miss: the former
+ * reflective getConstructor/newInstance, a cached MethodHandle, the registry's factory and a
+ * direct constructor call. The probe element skips the Selenide lookup so only construction is measured.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ElementFactoryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementFactoryBenchmark {
+    private static final String LOCATOR = "css=#search";
+    private static final String NAME = "searchBox";
+
+    /**
+     * Element that does not resolve its locator
+     */
+    public static class ProbeElement extends BaseElement {
+        public ProbeElement(String locator, String elementName) {
+            super(locator, elementName);
+        }
+
+        @Override
+        protected SelenideElement createElement(String locatorString) {
+            return null;
+        }
+    }
+
+    private Class<ProbeElement> type;
+    private MethodHandle constructor;
+    private ElementFactory<ProbeElement> factory;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        type = ProbeElement.class;
+        constructor = MethodHandles.publicLookup().findConstructor(type,
+                MethodType.methodType(void.class, String.class, String.class));
+        factory = ElementTypeRegistry.factoryFor(type);
+    }
+
+    @Benchmark
+    public ProbeElement reflection() throws ReflectiveOperationException {
+        return type.getConstructor(String.class, String.class).newInstance(LOCATOR, NAME);
+    }
+
+    @Benchmark
+    public ProbeElement methodHandle() throws Throwable {
+        return (ProbeElement) constructor.invoke(LOCATOR, NAME);
+    }
+
+    @Benchmark
+    public ProbeElement registryFactory() {
+        return factory.create(LOCATOR, NAME);
+    }
+
+    @Benchmark
+    public ProbeElement directConstructor() {
+        return new ProbeElement(LOCATOR, NAME);
+    }
+}
@@ -0,0 +1,113 @@
+package com.myorg.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.models.SearchTestData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FrameworkJsonBenchmark - Compares the shared FrameworkJson service with a default ObjectMapper per caller
+ *
+ * - cold*: first load of the page and test data files in a fresh JVM (one shot per fork), the way
+ *   every forked test JVM starts; the legacy variant uses one default mapper per loader as before
+ * - bind*: steady-state binding of a search case with the default mapper and with FrameworkJson
+ *
+ * Pass -Djson.blackbird.enabled=true in the fork JVM arguments to measure FrameworkJson with Blackbird.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=FrameworkJsonBenchmark
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameworkJsonBenchmark {
+    private static final String[] PAGE_FILES = {"pages/AgodaHomePage.json", "pages/AgodaSearchResultsPage.json"};
+    private static final String DATA_FILE = "testdata/agoda_search_data.json";
+    private static final String CASE_JSON = "{\"place\":\"Da Nang\",\"checkInDate\":\"2024-03-01\",\"checkOutDate\":\"2024-03-04\","
+            + "\"travellerType\":\"Family Travelers\",\"rooms\":2,\"adults\":4,\"children\":0,\"expectedResultsMinimum\":5,"
+            + "\"maxPriceFilter\":200,\"minRating\":7.0,\"searchTimeout\":30}";
+
+    private byte[] caseBytes;
+    private ObjectReader legacyReader;
+
+    @Setup
+    public void setup() {
+        // Logging and configuration are up before any file loads in a real run
+        LoggerFactory.getLogger(FrameworkJsonBenchmark.class);
+        ConfigManager.getBrowser();
+        caseBytes = CASE_JSON.getBytes();
+        legacyReader = new ObjectMapper().readerFor(SearchTestData.class);
+    }
+
+    private static InputStream open(String resource) {
+        return FrameworkJsonBenchmark.class.getClassLoader().getResourceAsStream(resource);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public void coldLegacyMapperPerLoader(Blackhole blackhole) throws IOException {
+        // JsonLocatorHelper, TestDataResolver and TestDataProvider each had their own mapper
+        ObjectMapper locatorMapper = new ObjectMapper();
+        for (String page : PAGE_FILES) {
+            blackhole.consume(locatorMapper.readTree(open(page)));
+        }
+        Map<?, ?> data = new ObjectMapper().readValue(open(DATA_FILE), Map.class);
+        ObjectMapper providerMapper = new ObjectMapper();
+        for (Object testCase : data.values()) {
+            blackhole.consume(providerMapper.readValue(providerMapper.writeValueAsString(testCase), SearchTestData.class));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public void coldFrameworkJson(Blackhole blackhole) throws IOException {
+        for (String page : PAGE_FILES) {
+            blackhole.consume(FrameworkJson.readTree(page, open(page)));
+        }
+        Map<?, ?> data = FrameworkJson.read(DATA_FILE, open(DATA_FILE), Map.class);
+        for (Object testCase : data.values()) {
+            blackhole.consume(FrameworkJson.convert(testCase, SearchTestData.class));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public SearchTestData bindDefaultMapper() throws IOException {
+        return legacyReader.readValue(new ByteArrayInputStream(caseBytes));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public SearchTestData bindFrameworkJson() throws IOException {
+        return FrameworkJson.reader(SearchTestData.class).readValue(new ByteArrayInputStream(caseBytes));
+    }
+}
@@ -0,0 +1,75 @@
+package com.myorg.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.json.JsonBundle;
+import com.myorg.automation.models.PageDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonBundleBenchmark - First load of all page and test data files in a fresh JVM, raw JSON vs the build-time bundle
+ *
+ * One shot per fork, the way every forked test JVM starts, with json.bundle.enabled=true in the
+ * forks (the raw variant does not consult the bundle). Both variants bind the pages to
+ * PageDefinition and read the data files as trees. Add "-prof gc" when running
+ * org.openjdk.jmh.Main directly to see allocation per load.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JsonBundleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = "-Djson.bundle.enabled=true")
+public class JsonBundleBenchmark {
+    private static final String[] PAGE_FILES = {"pages/AgodaHomePage.json", "pages/AgodaSearchResultsPage.json",
+            "pages/FrameworkTestPage.json"};
+    private static final String WARMUP_PAGE = "{\"pageName\": \"Warmup\", \"elements\": [{\"name\": \"a\", \"locator\": \"css=#a\"}]}";
+    private static final String[] DATA_FILES = {"testdata/agoda_search_data.json", "testdata/common_test_data.json"};
+
+    @Setup
+    public void setup() throws IOException {
+        // Logging, configuration and the page deserializer are up in both variants, so only file loading is measured
+        LoggerFactory.getLogger(JsonBundleBenchmark.class);
+        ConfigManager.getBrowser();
+        FrameworkJson.mapper().treeToValue(FrameworkJson.mapper().readTree(WARMUP_PAGE), PageDefinition.class);
+    }
+
+    @Benchmark
+    public void coldRawJson(Blackhole blackhole) throws IOException {
+        ClassLoader loader = JsonBundleBenchmark.class.getClassLoader();
+        for (String page : PAGE_FILES) {
+            blackhole.consume(FrameworkJson.read(page, loader.getResourceAsStream(page), PageDefinition.class));
+        }
+        for (String data : DATA_FILES) {
+            blackhole.consume(FrameworkJson.readTree(data, loader.getResourceAsStream(data)));
+        }
+    }
+
+    @Benchmark
+    public void coldBundle(Blackhole blackhole) throws IOException {
+        for (String page : PAGE_FILES) {
+            JsonNode node = JsonBundle.get(page);
+            blackhole.consume(FrameworkJson.mapper().treeToValue(node, PageDefinition.class));
+        }
+        for (String data : DATA_FILES) {
+            blackhole.consume(JsonBundle.get(data));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.myorg.benchmarks;
+
+import com.myorg.automation.core.locator.LocatorOptimizer;
+import com.myorg.automation.core.locator.Locators;
+import com.myorg.automation.core.locator.OptimizedLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocatorFindBenchmark - findElement latency of page JSON XPath locators as written and after
+ * LocatorOptimizer, in headless Chrome on a local fixture page (fixtures/locator-fixture.html,
+ * about 6000 elements). Needs Chrome; Selenium Manager provides the driver.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=LocatorFindBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorFindBenchmark {
+    private static final String FIXTURE = "/fixtures/locator-fixture.html";
+
+    @Param({
+            "xpath=//button[@data-selenium='searchButton']",
+            "xpath=//div[@data-selenium='occupancyAdults']//button[@data-selenium='plus']",
+            "xpath=//span[@data-selenium='results-count']",
+            "xpath=//*[@id='textInput']",
+    })
+    private String locator;
+
+    private WebDriver driver;
+    private By original;
+    private By optimized;
+
+    @Setup(Level.Trial)
+    public void setup() throws URISyntaxException {
+        OptimizedLocator optimization = LocatorOptimizer.optimize(locator, true);
+        if (!optimization.isRewritten()) {
+            throw new IllegalStateException("Benchmark locator is not rewritten: " + optimization);
+        }
+        original = Locators.toBy(optimization.getOriginalLocator());
+        optimized = Locators.toBy(optimization.getLocator());
+
+        driver = new ChromeDriver(new ChromeOptions().addArguments("--headless=new"));
+        driver.get(Paths.get(getClass().getResource(FIXTURE).toURI()).toUri().toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    @Benchmark
+    public WebElement original() {
+        return driver.findElement(original);
+    }
+
+    @Benchmark
+    public WebElement optimized() {
+        return driver.findElement(optimized);
+    }
+}
@@ -0,0 +1,75 @@
+package com.myorg.benchmarks;
+
+import com.myorg.automation.core.locator.LocatorTemplate;
+import com.myorg.automation.core.locator.Locators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocatorTemplateBenchmark - Compares building a dynamic element's By through a compiled
+ * LocatorTemplate against the former String.format + prefix parsing on every call.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=LocatorTemplateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorTemplateBenchmark {
+
+    private static final String FORMAT_LOCATOR = "xpath=//div[@data-selenium='hotel-item']//a[normalize-space()='%s']";
+
+    private LocatorTemplate template;
+    private String[] parameters;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        template = LocatorTemplate.compile(FORMAT_LOCATOR);
+
+        // Typical table-page working set: a few dozen distinct row values
+        parameters = new String[32];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = "Hotel " + i;
+        }
+    }
+
+    private String nextParameter() {
+        cursor = (cursor + 1) & (parameters.length - 1);
+        return parameters[cursor];
+    }
+
+    @Benchmark
+    public By stringFormat() {
+        // Former DynamicLink/DynamicButton/DynamicLabel path: format, then parse the prefix
+        String dynamicLocator = String.format(FORMAT_LOCATOR, nextParameter());
+        if (dynamicLocator.startsWith("xpath=")) {
+            return Locators.toBy("xpath", dynamicLocator.substring(6));
+        }
+        return Locators.toBy("css", dynamicLocator);
+    }
+
+    @Benchmark
+    public By compiledTemplate() {
+        return template.toBy(nextParameter());
+    }
+
+    @Benchmark
+    public By compiledTemplateRenderOnly() {
+        // Cache bypassed, as on the first use of each parameter
+        return Locators.toBy(template.getLocatorType(), template.render(nextParameter()));
+    }
+}
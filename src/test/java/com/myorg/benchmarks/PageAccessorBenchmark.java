@@ -0,0 +1,59 @@
+package com.myorg.benchmarks;
+
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.elements.Button;
+import com.myorg.automation.core.elements.Textbox;
+import com.myorg.automation.pages.generated.AgodaHomePageElements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageAccessorBenchmark - Compares element access by name through DynamicPage.el with the
+ * generated typed accessors, both with the element already created.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PageAccessorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageAccessorBenchmark {
+    private DynamicPage page;
+    private AgodaHomePageElements elements;
+
+    @Setup
+    public void setup() {
+        page = PageObjectFactory.loadPage(AgodaHomePageElements.JSON_PATH);
+        elements = new AgodaHomePageElements(page);
+        page.textbox("searchBox");
+        page.button("searchButton");
+        elements.searchBox();
+        elements.searchButton();
+    }
+
+    @Benchmark
+    public void dynamicPageEl(Blackhole blackhole) {
+        blackhole.consume(page.el("searchBox", Textbox.class));
+        blackhole.consume(page.el("searchButton", Button.class));
+    }
+
+    @Benchmark
+    public void generatedAccessor(Blackhole blackhole) {
+        blackhole.consume(elements.searchBox());
+        blackhole.consume(elements.searchButton());
+    }
+}
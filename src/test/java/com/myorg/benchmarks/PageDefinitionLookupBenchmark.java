@@ -0,0 +1,76 @@
+package com.myorg.benchmarks;
+
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageDefinitionLookupBenchmark - Compares element lookup by name through the
+ * PageDefinition name index against the former linear stream scan.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PageDefinitionLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageDefinitionLookupBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int elementCount;
+
+    private PageDefinition pageDefinition;
+    private List<ElementDefinition> elements;
+    private String[] lookupNames;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        elements = new ArrayList<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            elements.add(new ElementDefinition("element" + i, "xpath=//div[@data-index='" + i + "']", "Button"));
+        }
+        pageDefinition = new PageDefinition("BenchmarkPage", "https://example.com", elements);
+
+        // Spread lookups across the whole page so the scan cost is not biased to the head of the list
+        lookupNames = new String[64];
+        for (int i = 0; i < lookupNames.length; i++) {
+            lookupNames[i] = "element" + ((i * 7919) % elementCount);
+        }
+    }
+
+    private String nextName() {
+        cursor = (cursor + 1) & (lookupNames.length - 1);
+        return lookupNames[cursor];
+    }
+
+    @Benchmark
+    public ElementDefinition indexedLookup() {
+        return pageDefinition.findElement(nextName());
+    }
+
+    @Benchmark
+    public ElementDefinition linearScan() {
+        String elementName = nextName();
+        return elements.stream()
+                .filter(element -> elementName.equals(element.getName()))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,126 @@
+package com.myorg.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.locator.LocatorRegistry;
+import com.myorg.automation.models.PageDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * PageRepositoryBenchmark - Loading the Agoda pages the former way, parsed once per page stack
+ * (JsonNode for BasePage, PageDefinition for DynamicPage), against the single PageRepository parse
+ *
+ * Both variants compile the locators. At the end of the run the retained heap of one loaded
+ * copy of both pages is printed for each variant, measured over many copies held at once.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PageRepositoryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageRepositoryBenchmark {
+    private static final String[] PAGE_FILES = {"pages/AgodaHomePage.json", "pages/AgodaSearchResultsPage.json"};
+    private static final int RETAINED_COPIES = 500;
+
+    private byte[][] pageBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        ConfigManager.getBrowser();
+        pageBytes = new byte[PAGE_FILES.length][];
+        for (int i = 0; i < PAGE_FILES.length; i++) {
+            try (InputStream inputStream = PageRepositoryBenchmark.class.getClassLoader().getResourceAsStream(PAGE_FILES[i])) {
+                pageBytes[i] = inputStream.readAllBytes();
+            }
+        }
+    }
+
+    @Benchmark
+    public Object twoStacks() throws IOException {
+        List<Object> loaded = new ArrayList<>();
+        for (int i = 0; i < PAGE_FILES.length; i++) {
+            JsonNode tree = FrameworkJson.mapper().readTree(pageBytes[i]);
+            PageDefinition definition = FrameworkJson.reader(PageDefinition.class).readValue(pageBytes[i]);
+            loaded.add(tree);
+            loaded.add(definition);
+            // The former compiled locators were built from the tree; compiling the definition costs about the same
+            loaded.add(LocatorRegistry.compile(PAGE_FILES[i], definition));
+        }
+        return loaded;
+    }
+
+    @Benchmark
+    public Object pageRepository() throws IOException {
+        List<Object> loaded = new ArrayList<>();
+        for (int i = 0; i < PAGE_FILES.length; i++) {
+            PageDefinition definition = FrameworkJson.reader(PageDefinition.class).readValue(pageBytes[i]);
+            loaded.add(LocatorRegistry.compile(PAGE_FILES[i], definition));
+        }
+        return loaded;
+    }
+
+    @TearDown
+    public void reportRetainedHeap() {
+        System.out.printf("%nRetained heap per load of both pages: two stacks %d bytes, page repository %d bytes%n",
+                retainedBytes(this::loadTwoStacks), retainedBytes(this::loadPageRepository));
+    }
+
+    private Object loadTwoStacks() {
+        try {
+            return twoStacks();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object loadPageRepository() {
+        try {
+            return pageRepository();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long retainedBytes(Supplier<Object> loader) {
+        long before = usedHeapAfterGc();
+        List<Object> copies = new ArrayList<>(RETAINED_COPIES);
+        for (int i = 0; i < RETAINED_COPIES; i++) {
+            copies.add(loader.get());
+        }
+        long after = usedHeapAfterGc();
+        if (copies.size() != RETAINED_COPIES) {
+            throw new IllegalStateException("Copies were not retained");
+        }
+        return (after - before) / RETAINED_COPIES;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,60 @@
+package com.myorg.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myorg.automation.models.SearchTestData;
+import com.myorg.automation.utils.TestDataBinder;
+import com.myorg.automation.utils.TestDataResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataBindingBenchmark - Binds one search test case to SearchTestData the former way
+ * (cached map written to a JSON string and parsed again) and through TestDataBinder.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TestDataBindingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class TestDataBindingBenchmark {
+    private static final String FILE = "testdata/agoda_search_data.json";
+    private static final String TEST_CASE = "tc01_da_nang_search";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Benchmark
+    public SearchTestData legacyStringRoundTrip() throws Exception {
+        Map<String, Object> testCaseData = TestDataResolver.getTestCaseData("/" + FILE, TEST_CASE);
+        String jsonString = objectMapper.writeValueAsString(testCaseData);
+        return objectMapper.readValue(jsonString, SearchTestData.class);
+    }
+
+    @Benchmark
+    public SearchTestData binder() {
+        return TestDataBinder.bind(FILE, TEST_CASE, SearchTestData.class);
+    }
+
+    @Benchmark
+    public String[] legacyCaseNames() throws Exception {
+        return objectMapper.readTree(getClass().getClassLoader().getResourceAsStream(FILE))
+                .properties().stream().map(Map.Entry::getKey).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Object binderCaseNames() {
+        return TestDataBinder.getTestCaseNames(FILE);
+    }
+}
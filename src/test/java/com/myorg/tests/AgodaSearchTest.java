@@ -3,6 +3,7 @@ package com.myorg.tests;
 import com.myorg.automation.pages.agoda.AgodaHomePage;
 import com.myorg.automation.pages.agoda.AgodaSearchResultsPage;
 import com.myorg.automation.enums.SortType;
+import com.myorg.automation.models.HotelCard;
 import com.myorg.automation.models.SearchTestData;
 import com.myorg.automation.utils.TestDataProvider;
 import io.qameta.allure.*;
@@ -152,15 +153,9 @@ public class AgodaSearchTest extends BaseTest {
         Assert.assertTrue(hotelsVerified, 
                 "First " + expectedHotelCount + " hotels should be displayed with valid information");
         
-        // Log details using dynamic methods
-        for (int i = 1; i <= expectedHotelCount; i++) {
-            try {
-                String hotelName = searchResults.getHotelNameDynamic(i);
-                String hotelPrice = searchResults.getHotelPriceDynamic(i);
-                logger.info("Hotel {}: {} - Price: {}", i, hotelName, hotelPrice);
-            } catch (Exception e) {
-                logger.warn("Could not get details for hotel {}: {}", i, e.getMessage());
-            }
+        // Log details read in a single batch
+        for (HotelCard hotel : searchResults.getHotelCards(expectedHotelCount)) {
+            logger.info("Hotel {}: {} - Price: {}", hotel.getIndex(), hotel.getName(), hotel.getPrice());
         }
         
         logger.info("First {} hotels verified successfully", expectedHotelCount);
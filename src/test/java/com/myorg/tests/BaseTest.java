@@ -3,17 +3,37 @@ package com.myorg.tests;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.Selenide;
 import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.PagePreloader;
+import com.myorg.automation.core.ResourceWatcher;
+import com.myorg.automation.core.driver.BrowserSessionPool;
+import com.myorg.automation.core.driver.DriverRegistry;
+import com.myorg.automation.core.driver.NavigationTracker;
+import com.myorg.automation.core.elements.ElementHandle;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.json.JsonBundle;
+import com.myorg.automation.core.retry.RetryMetrics;
+import com.myorg.automation.core.wait.WaitEngine;
+import com.myorg.automation.utils.TestDataBinder;
 import com.myorg.automation.utils.TestDataResolver;
 import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.config.FrameworkConfig;
 import com.myorg.automation.constants.FrameworkConstants;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static com.codeborne.selenide.Selenide.closeWebDriver;
 
 /**
@@ -22,6 +42,32 @@ import static com.codeborne.selenide.Selenide.closeWebDriver;
 public abstract class BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
 
+    /**
+     * Overrides from this class's TestNG parameters, applied to each test method through a
+     * {@link ConfigScope} so parallel classes can run different browsers side by side
+     */
+    private final Map<String, String> sessionOverrides = new HashMap<>();
+    private final ThreadLocal<ConfigScope> methodScope = new ThreadLocal<>();
+
+    /**
+     * Parse all page JSON and check its locators once, before any browser starts; a broken
+     * locator fails the suite here
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void preloadPages() {
+        if (ConfigManager.isPagePreloadEnabled()) {
+            PagePreloader.preloadAll();
+        }
+    }
+
+    /**
+     * Watch page and test data JSON for edits when hot.reload.enabled is set (local development)
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void startHotReload() {
+        ResourceWatcher.startIfEnabled();
+    }
+
     @BeforeClass(alwaysRun = true)
     @Parameters({"browser", "headless", "timeout", "baseUrl"})
     @Step("Setup test environment")
@@ -31,47 +77,99 @@ public abstract class BaseTest {
                                    @Optional String baseUrl) {
         logger.info("Setting up test environment");
         
-        // Use ConfigManager with parameter overrides
-        String finalBrowser = browser != null ? browser : ConfigManager.getBrowser();
-        boolean finalHeadless = headless != null ? Boolean.parseBoolean(headless) : ConfigManager.isHeadless();
-        long finalTimeout = timeout != null ? Long.parseLong(timeout) : ConfigManager.getBrowserTimeout();
-        String finalBaseUrl = baseUrl != null ? baseUrl : ConfigManager.getBaseUrl();
+        // Parameter overrides stay with this class instead of going into System properties
+        putIfSet("browser", browser);
+        putIfSet("headless", headless);
+        putIfSet("browser.timeout", timeout);
+        putIfSet(FrameworkConstants.BASE_URL_PROPERTY, baseUrl);
         
-        logger.info("Browser: {}, Headless: {}, Timeout: {}, Base URL: {}", 
-            finalBrowser, finalHeadless, finalTimeout, finalBaseUrl);
-
-        // Configure Selenide using ConfigManager
-        Configuration.browser = finalBrowser;
-        Configuration.headless = finalHeadless;
-        Configuration.browserSize = ConfigManager.getBrowserSize();
-        Configuration.timeout = finalTimeout;
-        Configuration.pageLoadTimeout = ConfigManager.getPageLoadTimeout();
-        Configuration.screenshots = ConfigManager.shouldTakeScreenshots();
-        Configuration.savePageSource = ConfigManager.shouldSavePageSource();
-        Configuration.reportsFolder = ConfigManager.getReportsFolder();
+        // Cached element handles are dropped on navigation of the browsers Selenide creates
+        NavigationTracker.install();
         
-        // Additional Selenide configurations from ConfigManager
-        Configuration.fastSetValue = ConfigManager.shouldUseFastSetValue();
-        Configuration.clickViaJs = ConfigManager.shouldClickViaJS();
+        // Suite-wide Selenide settings come from the global configuration
+        FrameworkConfig global = ConfigManager.globalConfig();
+        applySelenideDefaults(global);
+        Configuration.screenshots = global.shouldTakeScreenshots();
+        Configuration.savePageSource = global.shouldSavePageSource();
+        Configuration.reportsFolder = global.getReportsFolder();
+        Configuration.fastSetValue = global.shouldUseFastSetValue();
+        Configuration.clickViaJs = global.shouldClickViaJS();
         
-        // Store base URL for tests
-        System.setProperty(FrameworkConstants.BASE_URL_PROPERTY, finalBaseUrl);
+        try (ConfigScope ignored = ConfigScope.open(sessionOverrides)) {
+            FrameworkConfig config = ConfigManager.config();
+            logger.info("Browser: {}, Headless: {}, Timeout: {}, Base URL: {}",
+                config.getBrowser(), config.isHeadless(), config.getBrowserTimeout().toMillis(), config.getBaseUrl());
+            
+            if (ConfigManager.isBrowserPoolEnabled()) {
+                // Pooled sessions are launched with this class's settings; launch them up front
+                // so the first tests do not pay for it
+                if (ConfigManager.shouldWarmUpBrowserPool()) {
+                    BrowserSessionPool.getInstance().warmUp();
+                }
+            } else {
+                // Selenide launches its own browser from the static Configuration
+                applySelenideDefaults(config);
+            }
+        }
         
         logger.info("Test environment setup completed successfully with ConfigManager");
     }
 
+    private void putIfSet(String key, String value) {
+        if (value != null) {
+            sessionOverrides.put(key, value);
+        }
+    }
+
+    private static void applySelenideDefaults(FrameworkConfig config) {
+        Configuration.browser = config.getBrowser();
+        Configuration.headless = config.isHeadless();
+        Configuration.browserSize = config.getBrowserSize();
+        Configuration.timeout = config.getBrowserTimeout().toMillis();
+        Configuration.pageLoadTimeout = config.getPageLoadTimeout().toMillis();
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void leaseBrowserSession() {
+        methodScope.set(ConfigScope.open(sessionOverrides));
+        if (ConfigManager.isBrowserPoolEnabled()) {
+            BrowserSessionPool.getInstance().bindToCurrentThread();
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseBrowserSession() {
+        try {
+            if (ConfigManager.isBrowserPoolEnabled()) {
+                BrowserSessionPool.getInstance().releaseCurrentThread();
+            } else {
+                // Runs on the test's worker thread, so it sees the browser Selenide opened there
+                DriverRegistry.trackCurrentThread(getClass().getName());
+            }
+        } finally {
+            ConfigScope scope = methodScope.get();
+            if (scope != null) {
+                methodScope.remove();
+                scope.close();
+            }
+        }
+    }
+
     @AfterClass(alwaysRun = true)
     @Step("Cleanup test environment")
     public void cleanupTestEnvironment() {
         logger.info("Cleaning up test environment");
         
         try {
-            // Close browser
+            // Close browser (a pooled session is returned to the pool instead)
             closeWebDriver();
+            // Close the browsers this class left on other worker threads
+            DriverRegistry.closeOwnedBy(getClass().getName());
             
             // Clear framework caches
             PageObjectFactory.clearCache();
             TestDataResolver.clearCache();
+            TestDataBinder.clearCache();
             
             logger.info("Test environment cleanup completed successfully");
         } catch (Exception e) {
@@ -79,11 +177,34 @@ public abstract class BaseTest {
         }
     }
 
+    @AfterSuite(alwaysRun = true)
+    public void reportWaitAndRetryMetrics() {
+        logger.info(WaitEngine.getTimeSavedReport());
+        logger.info(RetryMetrics.getReport());
+        logger.info(FrameworkJson.getReport());
+        logger.info(JsonBundle.getReport());
+        logger.info(ElementHandle.getReport());
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void stopHotReload() {
+        ResourceWatcher.stopIfRunning();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownBrowsers() {
+        if (ConfigManager.isBrowserPoolEnabled()) {
+            BrowserSessionPool.getInstance().shutdown();
+        }
+        DriverRegistry.closeAll();
+        logger.info(DriverRegistry.getReport());
+    }
+
     /**
-     * Gets the base URL from system properties
+     * Gets the base URL of the current test's configuration
      */
     protected String getBaseUrl() {
-        return System.getProperty("base.url", "https://www.agoda.com");
+        return ConfigManager.getBaseUrl();
     }
 
     /**
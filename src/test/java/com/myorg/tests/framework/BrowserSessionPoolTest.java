@@ -0,0 +1,156 @@
+package com.myorg.tests.framework;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.core.driver.BrowserSessionPool;
+import com.myorg.automation.core.driver.BrowserSessionPool.PooledSession;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Browser reuse through BrowserSessionPool, with fake drivers counting launches
+ */
+public class BrowserSessionPoolTest {
+    private static final int THREADS = 3;
+    private static final int CLASSES = 4;
+    private static final int TESTS_PER_CLASS = 5;
+
+    @Test(groups = {"unit"})
+    public void pooledLeasingLaunchesFewerBrowsersThanPerClassRestarts() throws Exception {
+        AtomicInteger launches = new AtomicInteger();
+        BrowserSessionPool pool = new BrowserSessionPool(THREADS, 100, () -> {
+            launches.incrementAndGet();
+            return new FakeWebDriver();
+        });
+        pool.warmUp();
+        Assert.assertEquals(launches.get(), THREADS, "Warm-up should pre-launch one session per thread");
+
+        // Every test method leases and returns a session, as BaseTest does
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CLASSES * TESTS_PER_CLASS; i++) {
+                futures.add(executor.submit(() -> {
+                    PooledSession session = pool.lease();
+                    session.getDriver().get("https://example.com");
+                    pool.release(session);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Restarting per class would have launched CLASSES browsers per thread
+        Assert.assertTrue(launches.get() <= THREADS, "Pool launched " + launches.get() + " browsers");
+        Assert.assertTrue(launches.get() < CLASSES, "Pool did not beat one launch per class");
+        Assert.assertEquals(pool.getLeaseCount(), CLASSES * TESTS_PER_CLASS);
+        Assert.assertEquals(pool.getLeasedCount(), 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void resetsSessionBetweenLeases() {
+        BrowserSessionPool pool = new BrowserSessionPool(1, 100, FakeWebDriver::new);
+
+        PooledSession first = pool.lease();
+        pool.release(first);
+        PooledSession second = pool.lease();
+
+        Assert.assertSame(second, first, "Healthy session should be reused");
+        Assert.assertEquals(((FakeWebDriver) first.getDriver()).getCookieClears(), 1, "Cookies not cleared on release");
+        Assert.assertEquals(pool.getLaunchCount(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void recyclesSessionAfterMaxUses() {
+        List<FakeWebDriver> drivers = new ArrayList<>();
+        BrowserSessionPool pool = new BrowserSessionPool(1, 3, () -> {
+            FakeWebDriver driver = new FakeWebDriver();
+            drivers.add(driver);
+            return driver;
+        });
+
+        for (int i = 0; i < 7; i++) {
+            pool.release(pool.lease());
+        }
+
+        Assert.assertEquals(pool.getLaunchCount(), 3, "Expected a new browser every 3 uses");
+        Assert.assertTrue(drivers.get(0).isQuit());
+        Assert.assertTrue(drivers.get(1).isQuit());
+        Assert.assertFalse(drivers.get(2).isQuit());
+    }
+
+    @Test(groups = {"unit"})
+    public void replacesSessionThatFailsHealthCheck() {
+        BrowserSessionPool pool = new BrowserSessionPool(1, 100, FakeWebDriver::new);
+        PooledSession crashed = pool.lease();
+        pool.release(crashed);
+
+        // Browser dies while idle
+        crashed.getDriver().quit();
+
+        PooledSession replacement = pool.lease();
+        Assert.assertNotSame(replacement, crashed);
+        Assert.assertEquals(pool.getLaunchCount(), 2);
+        Assert.assertEquals(pool.getRecycleCount(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void selenideCloseReturnsBoundSessionToPool() {
+        BrowserSessionPool pool = new BrowserSessionPool(1, 100, FakeWebDriver::new);
+
+        pool.bindToCurrentThread();
+        Assert.assertTrue(WebDriverRunner.hasWebDriverStarted());
+        WebDriverRunner.closeWebDriver();
+
+        Assert.assertFalse(WebDriverRunner.hasWebDriverStarted());
+        Assert.assertEquals(pool.getIdleCount(), 1, "Session was not returned to the pool");
+        pool.bindToCurrentThread();
+        pool.releaseCurrentThread();
+        Assert.assertEquals(pool.getLaunchCount(), 1);
+        Assert.assertEquals(pool.getReuseCount(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void sessionsAreLaunchedAndReusedPerScopedBrowserProfile() {
+        List<String> launchedBrowsers = new ArrayList<>();
+        BrowserSessionPool pool = new BrowserSessionPool(1, 100, config -> {
+            launchedBrowsers.add(config.browser());
+            return new FakeWebDriver();
+        });
+
+        PooledSession firefox;
+        try (ConfigScope ignored = ConfigScope.open(Map.of("browser", "firefox", "browser.size", "1280x720"))) {
+            firefox = pool.lease();
+            Assert.assertEquals(firefox.getConfig().browserSize(), "1280x720");
+            pool.release(firefox);
+        }
+        PooledSession edge;
+        try (ConfigScope ignored = ConfigScope.open(Map.of("browser", "edge"))) {
+            edge = pool.lease();
+            pool.release(edge);
+        }
+        try (ConfigScope ignored = ConfigScope.open(Map.of("browser", "firefox", "browser.size", "1280x720",
+                "browser.timeout", "2000"))) {
+            PooledSession again = pool.lease();
+            Assert.assertSame(again, firefox, "Idle session of the same profile should be reused");
+            Assert.assertEquals(again.getConfig().timeout(), 2000L, "Lease should carry the scoped timeout");
+            pool.release(again);
+        }
+
+        Assert.assertNotSame(edge, firefox);
+        Assert.assertEquals(launchedBrowsers, List.of("firefox", "edge"));
+        Assert.assertEquals(pool.getIdleCount(), 2, "Each profile keeps its own idle session");
+    }
+}
@@ -0,0 +1,229 @@
+package com.myorg.tests.framework;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.core.elements.Collection;
+import com.myorg.automation.core.elements.CollectionSnapshot;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import org.openqa.selenium.Rectangle;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-round-trip collection snapshots: member mapping and staleness against a scripted fake DOM
+ */
+public class CollectionSnapshotTest {
+    private boolean originalScreenshots;
+    private boolean originalSavePageSource;
+    private FakeWebDriver driver;
+    private FakeDom dom;
+
+    @BeforeClass(alwaysRun = true)
+    public void configureSelenide() {
+        originalScreenshots = Configuration.screenshots;
+        originalSavePageSource = Configuration.savePageSource;
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreSelenide() {
+        Configuration.screenshots = originalScreenshots;
+        Configuration.savePageSource = originalSavePageSource;
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void attachFakeDriver() {
+        driver = new FakeWebDriver();
+        dom = new FakeDom();
+        driver.onScript(dom::answer);
+        WebDriverRunner.setWebDriver(driver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachFakeDriver() {
+        WebDriverRunner.closeWebDriver();
+    }
+
+    @Test(groups = {"unit"})
+    public void mapsTextsAttributesVisibilityAndBounds() {
+        dom.add(".card", new FakeNode("Hotel A", true, 10, 20, 300, 120).attr("data-id", "a").attr("data-price", "120"));
+        dom.add(".card", new FakeNode("Hotel B", false, 10, 150, 0, 0).attr("data-id", "b"));
+
+        CollectionSnapshot snapshot = new Collection("css=.card", "cards").snapshot("data-id", "data-price");
+
+        Assert.assertEquals(dom.lastLocator, "css .card");
+        Assert.assertEquals(snapshot.size(), 2);
+        Assert.assertEquals(snapshot.texts(), List.of("Hotel A", "Hotel B"));
+        Assert.assertEquals(snapshot.attributes("data-id"), List.of("a", "b"));
+        Assert.assertEquals(snapshot.attributes("data-price"), Arrays.asList("120", null));
+        Assert.assertEquals(snapshot.getAttributeNames(), List.of("data-id", "data-price"));
+
+        CollectionSnapshot.Member first = snapshot.get(0);
+        Assert.assertEquals(first.getIndex(), 0);
+        Assert.assertTrue(first.isVisible());
+        Assert.assertEquals(first.getBounds(), new Rectangle(10, 20, 120, 300));
+        Assert.assertEquals(first.getBounds().getWidth(), 300);
+        Assert.assertEquals(first.getBounds().getHeight(), 120);
+        Assert.assertFalse(snapshot.get(1).isVisible());
+
+        Assert.assertEquals(snapshot.visibleMembers().size(), 1);
+        Assert.assertEquals(snapshot.indexOfText("Hotel B"), 1);
+        Assert.assertEquals(snapshot.indexOfText("Hotel C"), -1);
+        Assert.expectThrows(IndexOutOfBoundsException.class, () -> snapshot.get(2));
+    }
+
+    @Test(groups = {"unit"})
+    public void passesXPathAndConvertedLocatorsToTheScript() {
+        dom.add("//li[@role='option']", new FakeNode("Bangkok", true, 0, 0, 100, 20));
+
+        Assert.assertEquals(new Collection("xpath=//li[@role='option']", "options").snapshot().texts(), List.of("Bangkok"));
+        Assert.assertEquals(dom.lastLocator, "xpath //li[@role='option']");
+
+        new Collection("class=card", "cards").snapshot();
+        Assert.assertEquals(dom.lastLocator, "css .card");
+    }
+
+    @Test(groups = {"unit"})
+    public void emptyCollectionGivesAnEmptySnapshot() {
+        CollectionSnapshot snapshot = new Collection("css=.card", "cards").snapshot();
+
+        Assert.assertTrue(snapshot.isEmpty());
+        Assert.assertFalse(snapshot.first().isPresent());
+        Assert.assertFalse(snapshot.isStale());
+    }
+
+    @Test(groups = {"unit"})
+    public void becomesStaleWhenTheDomChangesAndRefreshCatchesUp() {
+        FakeNode a = new FakeNode("Hotel A", true, 0, 0, 100, 20);
+        dom.add(".card", a);
+        dom.add(".card", new FakeNode("Hotel B", true, 0, 30, 100, 20));
+
+        CollectionSnapshot snapshot = new Collection("css=.card", "cards").snapshot();
+        Assert.assertFalse(snapshot.isStale());
+        Assert.assertSame(snapshot.refreshIfStale(), snapshot);
+
+        // Re-texted member
+        a.text = "Hotel A (sold out)";
+        Assert.assertTrue(snapshot.isStale());
+        snapshot.refresh();
+        Assert.assertFalse(snapshot.isStale());
+        Assert.assertEquals(snapshot.texts(), List.of("Hotel A (sold out)", "Hotel B"));
+
+        // Added member
+        dom.add(".card", new FakeNode("Hotel C", true, 0, 60, 100, 20));
+        Assert.assertTrue(snapshot.isStale());
+        Assert.assertEquals(snapshot.refreshIfStale().size(), 3);
+
+        // Re-rendered member: same text, new DOM node
+        dom.nodes(".card").set(1, new FakeNode("Hotel B", true, 0, 30, 100, 20));
+        Assert.assertTrue(snapshot.isStale());
+        snapshot.refresh();
+        Assert.assertFalse(snapshot.isStale());
+
+        // Removed member
+        dom.nodes(".card").remove(2);
+        Assert.assertTrue(snapshot.isStale());
+        Assert.assertEquals(snapshot.refresh().texts(), List.of("Hotel A (sold out)", "Hotel B"));
+    }
+
+    @Test(groups = {"unit"})
+    public void rejectsLocatorsThatAreNeitherXPathNorCss() {
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                () -> new Collection("text=Sign in", "signInLinks"));
+        Assert.assertTrue(e.getMessage().contains("Collection 'signInLinks' needs an XPath or CSS locator: text=Sign in"),
+                e.getMessage());
+    }
+
+    /**
+     * Collection members keyed by locator value; answers the capture and stale scripts like the browser would
+     */
+    private static class FakeDom {
+        private final Map<String, List<FakeNode>> byLocator = new HashMap<>();
+        private String lastLocator;
+
+        void add(String locatorValue, FakeNode node) {
+            nodes(locatorValue).add(node);
+        }
+
+        List<FakeNode> nodes(String locatorValue) {
+            return byLocator.computeIfAbsent(locatorValue, key -> new ArrayList<>());
+        }
+
+        Object answer(String script, Object[] args) {
+            lastLocator = args[0] + " " + args[1];
+            List<FakeNode> nodes = nodes((String) args[1]);
+            // Capture: (type, value, attribute names, token); stale check: (type, value, token, size)
+            if (args[2] instanceof List) {
+                return capture(nodes, (List<?>) args[2], (String) args[3]);
+            }
+            if (nodes.size() != ((Number) args[3]).intValue()) {
+                return true;
+            }
+            return nodes.stream().anyMatch(node -> !args[2].equals(node.token) || !node.text.equals(node.capturedText));
+        }
+
+        private static List<Map<String, Object>> capture(List<FakeNode> nodes, List<?> attributeNames, String token) {
+            List<Map<String, Object>> members = new ArrayList<>();
+            for (FakeNode node : nodes) {
+                node.token = token;
+                node.capturedText = node.text;
+                Map<String, Object> attributes = new HashMap<>();
+                for (Object name : attributeNames) {
+                    attributes.put((String) name, node.attributes.get(name));
+                }
+                Map<String, Object> member = new LinkedHashMap<>();
+                member.put("text", node.text);
+                member.put("attributes", attributes);
+                member.put("visible", node.visible);
+                // Numbers come back from the driver as Long
+                member.put("x", (long) node.x);
+                member.put("y", (long) node.y);
+                member.put("width", (long) node.width);
+                member.put("height", (long) node.height);
+                members.add(member);
+            }
+            return members;
+        }
+    }
+
+    /**
+     * One DOM node with the expando properties the snapshot scripts set on it
+     */
+    private static class FakeNode {
+        private final Map<String, String> attributes = new HashMap<>();
+        private final boolean visible;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private String text;
+        private String token;
+        private String capturedText;
+
+        FakeNode(String text, boolean visible, int x, int y, int width, int height) {
+            this.text = text;
+            this.visible = visible;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        FakeNode attr(String name, String value) {
+            attributes.put(name, value);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.cache.ConcurrentCache;
+import com.myorg.automation.core.elements.Button;
+import com.myorg.automation.enums.EvictionPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress tests for the framework caches under 64 concurrent threads.
+ * No browser is needed: elements are only constructed, never resolved.
+ */
+public class ConcurrentCacheTest {
+    private static final int THREADS = 64;
+    private static final int OPS_PER_THREAD = 2_000;
+
+    @Test(groups = {"unit"})
+    public void loaderRunsOncePerKeyUnderContention() throws Exception {
+        ConcurrentCache<String, String> cache = new ConcurrentCache<>("stress-once", 1_000, EvictionPolicy.LRU);
+        Map<String, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                String key = "key-" + (i % 50);
+                String value = cache.get(key, k -> {
+                    loadCounts.computeIfAbsent(k, x -> new AtomicInteger()).incrementAndGet();
+                    return k.toUpperCase();
+                });
+                Assert.assertEquals(value, key.toUpperCase());
+            }
+            return null;
+        });
+
+        Assert.assertEquals(loadCounts.size(), 50);
+        loadCounts.forEach((key, count) -> Assert.assertEquals(count.get(), 1, "Loader ran more than once for " + key));
+
+        ConcurrentCache.Stats stats = cache.stats();
+        Assert.assertEquals(stats.getMissCount(), 50);
+        Assert.assertEquals(stats.getHitCount() + stats.getMissCount(), (long) THREADS * OPS_PER_THREAD);
+        Assert.assertEquals(stats.getEvictionCount(), 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void sizeStaysBoundedWithRandomKeys() throws Exception {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            int maxSize = 32;
+            ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>("stress-bounded-" + policy, maxSize, policy);
+
+            runConcurrently(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    int key = random.nextInt(500);
+                    Assert.assertEquals(cache.get(key, k -> k * 2), Integer.valueOf(key * 2));
+                }
+                return null;
+            });
+
+            ConcurrentCache.Stats stats = cache.stats();
+            Assert.assertTrue(cache.size() <= maxSize, policy + " cache exceeded its bound: " + cache.size());
+            Assert.assertEquals(stats.getHitCount() + stats.getMissCount(), (long) THREADS * OPS_PER_THREAD);
+            Assert.assertEquals(stats.getMissCount() - stats.getEvictionCount(), cache.size(),
+                    "Every load must either remain cached or be counted as evicted");
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void lruEvictsLeastRecentlyUsedEntry() {
+        ConcurrentCache<String, String> cache = new ConcurrentCache<>("lru", 2, EvictionPolicy.LRU);
+        cache.get("a", k -> "A");
+        cache.get("b", k -> "B");
+        cache.get("a", k -> "A");
+        cache.get("c", k -> "C");
+
+        Assert.assertTrue(cache.containsKey("a"));
+        Assert.assertFalse(cache.containsKey("b"));
+        Assert.assertTrue(cache.containsKey("c"));
+    }
+
+    @Test(groups = {"unit"})
+    public void lfuEvictsLeastFrequentlyUsedEntry() {
+        ConcurrentCache<String, String> cache = new ConcurrentCache<>("lfu", 2, EvictionPolicy.LFU);
+        cache.get("a", k -> "A");
+        cache.get("a", k -> "A");
+        cache.get("b", k -> "B");
+        cache.get("b", k -> "B");
+        cache.get("b", k -> "B");
+        cache.get("a", k -> "A");
+        cache.get("a", k -> "A");
+        cache.get("c", k -> "C");
+
+        Assert.assertTrue(cache.containsKey("a"));
+        Assert.assertFalse(cache.containsKey("b"));
+        Assert.assertTrue(cache.containsKey("c"));
+    }
+
+    @Test(groups = {"unit"})
+    public void pageObjectFactoryReturnsSingleInstanceAcrossThreads() throws Exception {
+        String path = "/pages/AgodaHomePage.json";
+        PageObjectFactory.removeFromCache(path);
+        Set<DynamicPage> pages = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < 50; i++) {
+                pages.add(PageObjectFactory.loadPage(path));
+            }
+            return null;
+        });
+
+        Assert.assertEquals(pages.size(), 1, "Concurrent loads produced more than one DynamicPage");
+        Assert.assertTrue(PageObjectFactory.isCached(path));
+    }
+
+    @Test(groups = {"unit"})
+    public void dynamicPageReturnsSingleElementAcrossThreads() throws Exception {
+        DynamicPage page = PageObjectFactory.loadPage("/pages/AgodaHomePage.json");
+        page.clearElementCache();
+        Set<Button> buttons = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < 50; i++) {
+                buttons.add(page.el("searchButton", Button.class));
+            }
+            return null;
+        });
+
+        Assert.assertEquals(buttons.size(), 1, "Concurrent lookups produced more than one element instance");
+        Assert.assertEquals(page.getCacheStats().getMissCount(), 1);
+    }
+
+    /**
+     * Runs the task on THREADS threads released at the same instant, rethrowing the first failure
+     */
+    private static void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
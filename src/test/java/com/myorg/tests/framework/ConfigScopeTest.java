@@ -0,0 +1,105 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.config.ConfigScope;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Thread-bound configuration overrides through ConfigScope
+ */
+public class ConfigScopeTest {
+
+    @Test(groups = {"unit"})
+    public void concurrentScopesSeeOnlyTheirOwnOverrides() throws Exception {
+        String globalBrowser = ConfigManager.getBrowser();
+        String[] browsers = {"firefox", "edge", "safari"};
+        CountDownLatch allOpen = new CountDownLatch(browsers.length);
+
+        ExecutorService executor = Executors.newFixedThreadPool(browsers.length);
+        try {
+            List<Future<String>> seen = new ArrayList<>();
+            for (String browser : browsers) {
+                seen.add(executor.submit(() -> {
+                    try (ConfigScope ignored = ConfigScope.open(Map.of("browser", browser, "browser.timeout", "2500"))) {
+                        // Hold every scope open at once so they really overlap
+                        allOpen.countDown();
+                        allOpen.await();
+                        return ConfigManager.getBrowser() + "/" + ConfigManager.getBrowserTimeout();
+                    }
+                }));
+            }
+            for (int i = 0; i < browsers.length; i++) {
+                Assert.assertEquals(seen.get(i).get(), browsers[i] + "/2500");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(ConfigManager.getBrowser(), globalBrowser, "Global config was changed by a scope");
+        Assert.assertNull(System.getProperty("browser"), "Scope leaked into System properties");
+    }
+
+    @Test(groups = {"unit"})
+    public void setPropertyInScopeStaysInScopeAndNestedScopesRestore() {
+        String globalBaseUrl = ConfigManager.getBaseUrl();
+
+        try (ConfigScope outer = ConfigScope.open(Map.of("headless", "true"))) {
+            ConfigManager.setProperty("base.url", "https://scoped.example.com");
+            Assert.assertEquals(outer.get("base.url"), "https://scoped.example.com");
+            Assert.assertNull(System.getProperty("base.url"));
+
+            try (ConfigScope ignored = ConfigScope.open(Map.of("browser", "firefox"))) {
+                Assert.assertEquals(ConfigManager.getBrowser(), "firefox");
+                Assert.assertTrue(ConfigManager.isHeadless(), "Inner scope should inherit outer overrides");
+                Assert.assertEquals(ConfigManager.getProperty("base.url"), "https://scoped.example.com");
+            }
+            Assert.assertSame(ConfigScope.current(), outer);
+            Assert.assertNotEquals(ConfigManager.getBrowser(), "firefox");
+        }
+
+        Assert.assertNull(ConfigScope.current());
+        Assert.assertEquals(ConfigManager.getBaseUrl(), globalBaseUrl);
+    }
+
+    @Test(groups = {"unit"})
+    public void invalidOverrideIsRejectedAndScopeKept() {
+        try (ConfigScope scope = ConfigScope.open(Map.of("browser.timeout", "3000"))) {
+            Assert.assertThrows(IllegalStateException.class, () -> scope.set("browser.timeout", "soon"));
+            Assert.assertEquals(ConfigManager.getBrowserTimeout(), 3000L);
+        }
+        Assert.assertThrows(IllegalStateException.class, () -> ConfigScope.open(Map.of("headless", "maybe")));
+        Assert.assertNull(ConfigScope.current());
+    }
+
+    @Test(groups = {"unit"})
+    public void invalidGlobalSetPropertyIsRolledBack() {
+        long globalTimeout = ConfigManager.getBrowserTimeout();
+        Assert.assertNull(System.getProperty("browser.timeout"));
+
+        Assert.assertThrows(IllegalStateException.class, () -> ConfigManager.setProperty("browser.timeout", "soon"));
+        Assert.assertNull(System.getProperty("browser.timeout"), "Invalid value left in System properties");
+        Assert.assertEquals(ConfigManager.getBrowserTimeout(), globalTimeout);
+
+        try {
+            ConfigManager.setProperty("browser.timeout", "4500");
+            Assert.assertThrows(IllegalStateException.class, () -> ConfigManager.setProperty("browser.timeout", "later"));
+            Assert.assertEquals(System.getProperty("browser.timeout"), "4500");
+            Assert.assertEquals(ConfigManager.getBrowserTimeout(), 4500L);
+            // Later reloads are not poisoned by the rejected value
+            ConfigManager.reload();
+        } finally {
+            System.clearProperty("browser.timeout");
+            ConfigManager.reload();
+        }
+        Assert.assertEquals(ConfigManager.getBrowserTimeout(), globalTimeout);
+    }
+}
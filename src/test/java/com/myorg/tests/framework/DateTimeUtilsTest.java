@@ -0,0 +1,85 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.utils.DateTimeUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Date token resolution in DateTimeUtils against a fixed clock
+ */
+public class DateTimeUtilsTest {
+    // Wednesday
+    private static final Clock FIXED = Clock.fixed(Instant.parse("2024-02-28T10:15:30Z"), ZoneOffset.UTC);
+    private static final String DAY_OF_YEAR = "DAY_OF_YEAR_";
+    private static final DateTimeUtils.DateTokenHandler DAY_OF_YEAR_HANDLER = (name, context) ->
+            name.startsWith(DAY_OF_YEAR) && name.length() > DAY_OF_YEAR.length()
+                    && name.substring(DAY_OF_YEAR.length()).chars().allMatch(Character::isDigit)
+                    ? context.format(context.getToday().withDayOfYear(Integer.parseInt(name.substring(DAY_OF_YEAR.length()))))
+                    : null;
+
+    @BeforeClass(alwaysRun = true)
+    public void fixClock() {
+        DateTimeUtils.setClock(FIXED);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreClock() {
+        DateTimeUtils.resetClock();
+        DateTimeUtils.unregisterToken("END_OF_MONTH");
+        DateTimeUtils.unregisterToken(DAY_OF_YEAR_HANDLER);
+    }
+
+    @Test(groups = {"unit"})
+    public void resolvesBuiltInTokensInOnePass() {
+        Assert.assertEquals(DateTimeUtils.resolve("<YESTERDAY>|<TODAY>|<TOMORROW>"), "2024-02-27|2024-02-28|2024-02-29");
+        Assert.assertEquals(DateTimeUtils.resolve("at <NOW>"), "at 2024-02-28 10:15:30");
+        Assert.assertEquals(DateTimeUtils.resolve("<NEXT_WEDNESDAY> <NEXT_FRIDAY>"), "2024-03-06 2024-03-01");
+        Assert.assertEquals(DateTimeUtils.resolve("<PLUS_1_DAY>,<PLUS_2_WEEKS>,<PLUS_1_MONTH>,<PLUS_1_YEARS>"),
+                "2024-02-29,2024-03-13,2024-03-28,2025-02-28");
+        Assert.assertEquals(DateTimeUtils.resolve("<MINUS_3_DAYS>,<MINUS_1_WEEK>,<MINUS_2_MONTHS>"),
+                "2024-02-25,2024-02-21,2023-12-28");
+        Assert.assertEquals(DateTimeUtils.resolve("Check-in <TODAY>", DateTimeUtils.EU_DATE_FORMAT), "Check-in 28/02/2024");
+    }
+
+    @Test(groups = {"unit"})
+    public void leavesPlainTextAndUnknownTokensUntouched() {
+        String plain = "Bangkok, 2 adults";
+        Assert.assertSame(DateTimeUtils.resolve(plain), plain, "Text without '<' should not be copied");
+        String unknown = "<b>bold</b> <PLUS_X_DAYS> <PLUS_1_DECADES>";
+        Assert.assertSame(DateTimeUtils.resolve(unknown), unknown);
+        Assert.assertEquals(DateTimeUtils.resolve("1 < 2 <TODAY> >"), "1 < 2 2024-02-28 >");
+        Assert.assertEquals(DateTimeUtils.resolve("<<TODAY>>"), "<2024-02-28>");
+        Assert.assertNull(DateTimeUtils.resolve(null));
+    }
+
+    @Test(groups = {"unit"})
+    public void resolvesRegisteredTokens() {
+        DateTimeUtils.registerToken("END_OF_MONTH",
+                context -> context.format(context.getToday().with(TemporalAdjusters.lastDayOfMonth())));
+        DateTimeUtils.registerToken(DAY_OF_YEAR_HANDLER);
+
+        Assert.assertEquals(DateTimeUtils.resolve("<END_OF_MONTH> <DAY_OF_YEAR_1> <TODAY>"), "2024-02-29 2024-01-01 2024-02-28");
+        // The handler declines names it does not recognise instead of throwing
+        Assert.assertEquals(DateTimeUtils.resolve("<DAY_OF_YEAR_X> <DAY_OF_YEAR_>"), "<DAY_OF_YEAR_X> <DAY_OF_YEAR_>");
+    }
+
+    @Test(groups = {"unit"})
+    public void unregisteredTokensAreLeftUntouched() {
+        DateTimeUtils.DateTokenHandler handler = (name, context) -> "LAST_LEAP_DAY".equals(name) ? "2024-02-29" : null;
+        DateTimeUtils.registerToken("FIRST_OF_MONTH", context -> context.format(context.getToday().withDayOfMonth(1)));
+        DateTimeUtils.registerToken(handler);
+        Assert.assertEquals(DateTimeUtils.resolve("<FIRST_OF_MONTH> <LAST_LEAP_DAY>"), "2024-02-01 2024-02-29");
+
+        Assert.assertTrue(DateTimeUtils.unregisterToken("FIRST_OF_MONTH"));
+        Assert.assertTrue(DateTimeUtils.unregisterToken(handler));
+        Assert.assertFalse(DateTimeUtils.unregisterToken(handler));
+        Assert.assertEquals(DateTimeUtils.resolve("<FIRST_OF_MONTH> <LAST_LEAP_DAY>"), "<FIRST_OF_MONTH> <LAST_LEAP_DAY>");
+    }
+}
@@ -0,0 +1,67 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.driver.DriverRegistry;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ownership and close-out of drivers recorded by DriverRegistry
+ */
+public class DriverRegistryTest {
+    private static final int THREADS = 3;
+
+    @Test(groups = {"unit"})
+    public void closesDriversOpenedOnEveryWorkerThread() throws Exception {
+        String owner = "WorkerThreadsClass";
+        List<FakeWebDriver> drivers = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            FakeWebDriver driver = new FakeWebDriver();
+            drivers.add(driver);
+            workers.add(new Thread(() -> DriverRegistry.register(driver, owner), "worker-" + i));
+        }
+        int activeBefore = DriverRegistry.getActiveCount();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Assert.assertTrue(DriverRegistry.getPeakCount() >= activeBefore + THREADS);
+        Assert.assertEquals(DriverRegistry.closeOwnedBy(owner), THREADS);
+        for (FakeWebDriver driver : drivers) {
+            Assert.assertTrue(driver.isQuit(), "Driver registered on a worker thread leaked");
+        }
+        Assert.assertEquals(DriverRegistry.getActiveCount(), activeBefore);
+    }
+
+    @Test(groups = {"unit"})
+    public void sharedDriverStaysOpenUntilLastOwnerCloses() {
+        FakeWebDriver shared = new FakeWebDriver();
+        DriverRegistry.register(shared, "FirstClass");
+        DriverRegistry.register(shared, "SecondClass");
+
+        Assert.assertEquals(DriverRegistry.closeOwnedBy("FirstClass"), 0);
+        Assert.assertFalse(shared.isQuit(), "Driver still used by another class was closed");
+
+        Assert.assertEquals(DriverRegistry.closeOwnedBy("SecondClass"), 1);
+        Assert.assertTrue(shared.isQuit());
+    }
+
+    @Test(groups = {"unit"})
+    public void closeToleratesDriversAlreadyQuit() {
+        FakeWebDriver driver = new FakeWebDriver();
+        DriverRegistry.register(driver, "AlreadyQuitClass");
+        driver.quit();
+
+        long closedBefore = DriverRegistry.getClosedCount();
+        Assert.assertEquals(DriverRegistry.closeOwnedBy("AlreadyQuitClass"), 1);
+        Assert.assertEquals(DriverRegistry.getClosedCount(), closedBefore + 1);
+        Assert.assertTrue(DriverRegistry.getReport().startsWith("Driver registry:"));
+    }
+}
@@ -0,0 +1,298 @@
+package com.myorg.tests.framework;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.models.HotelCard;
+import com.myorg.automation.pages.BasePage;
+import com.myorg.automation.pages.agoda.AgodaSearchResultsPage;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import com.myorg.tests.framework.support.FakeWebElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batched extraction of {index}-based dynamic rows and the hotel card reader built on it
+ */
+public class DynamicRowsTest {
+    private static final String CARD = "//div[@data-selenium='hotel-item'][%d]";
+    private static final String NAME = CARD + "//h3[@class='hotel-name']";
+    private static final String PRICE = CARD + "//span[@class='hotel-price']";
+    private static final String RATING = CARD + "//span[@class='hotel-rating']";
+    private static final String LINK = CARD + "//a[@href]";
+    private static final String HOTEL_A_URL = "https://www.agoda.com/hotel/a";
+
+    private long originalTimeout;
+    private boolean originalScreenshots;
+    private boolean originalSavePageSource;
+    private FakeWebDriver driver;
+    private FakeXPathDom dom;
+    private ConfigScope scope;
+
+    @BeforeClass(alwaysRun = true)
+    public void configureSelenide() {
+        originalTimeout = Configuration.timeout;
+        originalScreenshots = Configuration.screenshots;
+        originalSavePageSource = Configuration.savePageSource;
+        Configuration.timeout = 300;
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreSelenide() {
+        Configuration.timeout = originalTimeout;
+        Configuration.screenshots = originalScreenshots;
+        Configuration.savePageSource = originalSavePageSource;
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void attachFakeDriver() {
+        scope = ConfigScope.open(Map.of("browser.batch.extraction", "true"));
+        driver = new FakeWebDriver();
+        dom = new FakeXPathDom();
+        driver.onScript(dom::answer);
+        WebDriverRunner.setWebDriver(driver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachFakeDriver() {
+        WebDriverRunner.closeWebDriver();
+        scope.close();
+    }
+
+    private void addCard(int index, String name, String price, String rating, String link) {
+        dom.put(String.format(CARD, index), new FakeWebElement(""));
+        if (name != null) {
+            dom.put(String.format(NAME, index), new FakeWebElement(name));
+        }
+        if (price != null) {
+            dom.put(String.format(PRICE, index), new FakeWebElement(price));
+        }
+        if (rating != null) {
+            dom.put(String.format(RATING, index), new FakeWebElement(rating));
+        }
+        if (link != null) {
+            dom.putLink(String.format(LINK, index), "Details", link);
+        }
+    }
+
+    private static Map<String, String> fields(String... nameAndAttribute) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < nameAndAttribute.length; i += 2) {
+            fields.put(nameAndAttribute[i], nameAndAttribute[i + 1]);
+        }
+        return fields;
+    }
+
+    @Test(groups = {"unit"})
+    public void convertsEachRowToAMapInFieldOrder() {
+        addCard(1, "Hotel A", "THB 1,200", "8.5", "/hotel/a");
+        addCard(2, "Hotel B", "THB 900", "7.9", "/hotel/b");
+
+        List<Map<String, String>> rows = new ResultsPage().rows("hotelItem",
+                fields("hotelLink", "href", "hotelName", null, "hotelPrice", null), 10);
+
+        Assert.assertEquals(dom.scriptCalls.get(), 1, "Rows should be read in one script call");
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(List.copyOf(rows.get(0).keySet()), List.of("hotelLink", "hotelName", "hotelPrice"));
+        // Relative hrefs come back resolved, as WebElement.getAttribute returns them
+        Assert.assertEquals(rows.get(0), Map.of("hotelLink", HOTEL_A_URL, "hotelName", "Hotel A", "hotelPrice", "THB 1,200"));
+        Assert.assertEquals(rows.get(1), Map.of("hotelLink", "https://www.agoda.com/hotel/b", "hotelName", "Hotel B",
+                "hotelPrice", "THB 900"));
+        // The script gets the templates as written in JSON, not a resolved or rewritten locator
+        Assert.assertEquals(dom.lastRowTemplate, "//div[@data-selenium='hotel-item'][{index}]");
+    }
+
+    @Test(groups = {"unit"})
+    public void missingFieldsMapToNull() {
+        addCard(1, "Hotel A", null, null, null);
+
+        List<Map<String, String>> rows = new ResultsPage().rows("hotelItem",
+                fields("hotelName", null, "hotelRating", null, "hotelLink", "href"), 5);
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("hotelName", "Hotel A");
+        expected.put("hotelRating", null);
+        expected.put("hotelLink", null);
+        Assert.assertEquals(rows, List.of(expected));
+    }
+
+    @Test(groups = {"unit"})
+    public void stopsAtTheFirstMissingRowAndAtMaxRows() {
+        addCard(1, "Hotel A", "1", null, null);
+        addCard(2, "Hotel B", "2", null, null);
+        // Row 3 is missing, so row 4 is never read
+        addCard(4, "Hotel D", "4", null, null);
+        ResultsPage page = new ResultsPage();
+
+        List<Map<String, String>> rows = page.rows("hotelItem", fields("hotelName", null), 10);
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(1).get("hotelName"), "Hotel B");
+
+        Assert.assertEquals(page.rows("hotelItem", fields("hotelName", null), 1).size(), 1);
+        Assert.assertTrue(page.rows("hotelItem", fields("hotelName", null), 0).isEmpty());
+    }
+
+    @Test(groups = {"unit"})
+    public void rejectsNonXPathLocators() {
+        TestPage page = new TestPage();
+
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class,
+                () -> page.rows("missingText", fields("missingButton", null), 5));
+        Assert.assertEquals(e.getMessage(), "Element 'missingText' must use an XPath locator for batched extraction");
+        Assert.expectThrows(IllegalStateException.class, () -> page.rows("missingButton", fields("missingText", null), 5));
+        Assert.assertEquals(dom.scriptCalls.get(), 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void readsHotelCardsInOneScriptCall() {
+        addCard(1, "Hotel A", "THB 1,200", "8.5", "/hotel/a");
+        addCard(2, "Hotel B", "THB 900", null, null);
+
+        List<HotelCard> cards = new AgodaSearchResultsPage().getHotelCards(5);
+
+        Assert.assertEquals(cards, List.of(
+                new HotelCard(1, "Hotel A", "THB 1,200", "8.5", HOTEL_A_URL),
+                new HotelCard(2, "Hotel B", "THB 900", null, null)));
+        Assert.assertEquals(dom.scriptCalls.get(), 1);
+        Assert.assertEquals(driver.getFindCalls(), 0, "Batched path should not look up elements one by one");
+    }
+
+    @Test(groups = {"unit"})
+    public void fallsBackToPerElementReadsWhenTheScriptThrows() {
+        addCard(1, "Hotel A", "THB 1,200", "8.5", "/hotel/a");
+        addCard(2, "Hotel B", "THB 900", null, null);
+        List<HotelCard> batched = new AgodaSearchResultsPage().getHotelCards(5);
+
+        AtomicInteger scriptCalls = new AtomicInteger();
+        driver.onScript((script, args) -> {
+            scriptCalls.incrementAndGet();
+            throw new JavascriptException("javascript error: XPathResult is not defined");
+        });
+        dom.exposeTo(driver);
+
+        List<HotelCard> cards = new AgodaSearchResultsPage().getHotelCards(5);
+
+        Assert.assertEquals(scriptCalls.get(), 1);
+        Assert.assertEquals(cards, List.of(
+                new HotelCard(1, "Hotel A", "THB 1,200", "8.5", HOTEL_A_URL),
+                new HotelCard(2, "Hotel B", "THB 900", null, null)));
+        // Both paths must read the same cards, links included
+        Assert.assertEquals(cards, batched);
+    }
+
+    @Test(groups = {"unit"})
+    public void readsPerElementWhenBatchExtractionIsDisabled() {
+        addCard(1, "Hotel A", "THB 1,200", "8.5", "/hotel/a");
+        dom.exposeTo(driver);
+
+        try (ConfigScope ignored = ConfigScope.open(Map.of("browser.batch.extraction", "false"))) {
+            Assert.assertEquals(new AgodaSearchResultsPage().getHotelCards(1),
+                    List.of(new HotelCard(1, "Hotel A", "THB 1,200", "8.5", HOTEL_A_URL)));
+        }
+        Assert.assertEquals(dom.scriptCalls.get(), 0);
+    }
+
+    /**
+     * Results page exposing the protected batch reader
+     */
+    private static class ResultsPage extends BasePage {
+        ResultsPage() {
+            super("AgodaSearchResultsPage");
+        }
+
+        List<Map<String, String>> rows(String rowElementName, Map<String, String> fields, int maxRows) {
+            return getDynamicRows(rowElementName, fields, maxRows);
+        }
+    }
+
+    /**
+     * Minimal page over the test-only FrameworkTestPage.json, which mixes XPath and CSS locators
+     */
+    private static class TestPage extends BasePage {
+        TestPage() {
+            super("FrameworkTestPage");
+        }
+
+        List<Map<String, String>> rows(String rowElementName, Map<String, String> fields, int maxRows) {
+            return getDynamicRows(rowElementName, fields, maxRows);
+        }
+    }
+
+    /**
+     * Elements keyed by resolved XPath; answers the dynamic rows script the way the browser evaluates it:
+     * rows 1..maxRows while the row template resolves, each field read as text or as the named attribute.
+     * Links hold the href as written in the page; the browser resolves it against the page URL only where
+     * the script reads the href property, and Selenium's getAttribute always does
+     */
+    private static class FakeXPathDom {
+        private static final URI BASE_URI = URI.create("https://www.agoda.com/search");
+
+        private final Map<String, FakeWebElement> byXPath = new HashMap<>();
+        private final Map<String, FakeWebElement> resolvedLinks = new HashMap<>();
+        private final AtomicInteger scriptCalls = new AtomicInteger();
+        private String lastRowTemplate;
+
+        void put(String xpath, FakeWebElement element) {
+            byXPath.put(xpath, element);
+        }
+
+        void putLink(String xpath, String text, String href) {
+            byXPath.put(xpath, new FakeWebElement(text).withAttribute("href", href));
+            resolvedLinks.put(xpath, new FakeWebElement(text).withAttribute("href", BASE_URI.resolve(href).toString()));
+        }
+
+        /**
+         * Make the same elements findable one at a time, for the per-element path
+         */
+        void exposeTo(FakeWebDriver driver) {
+            byXPath.forEach((xpath, element) ->
+                    driver.addElement(By.xpath(xpath), resolvedLinks.getOrDefault(xpath, element)));
+        }
+
+        Object answer(String script, Object[] args) {
+            scriptCalls.incrementAndGet();
+            lastRowTemplate = (String) args[0];
+            List<?> fieldSpecs = (List<?>) args[1];
+            int maxRows = ((Number) args[2]).intValue();
+            boolean readsUrlProperties = script.contains("node[attribute]");
+
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 1; i <= maxRows && find(lastRowTemplate, i) != null; i++) {
+                Map<String, Object> row = new HashMap<>();
+                for (Object spec : fieldSpecs) {
+                    List<?> field = (List<?>) spec;
+                    FakeWebElement node = find((String) field.get(1), i);
+                    String attribute = (String) field.get(2);
+                    String value = node == null ? null
+                            : attribute != null ? node.getAttribute(attribute) : node.getText();
+                    if (value != null && readsUrlProperties && ("href".equals(attribute) || "src".equals(attribute))) {
+                        value = BASE_URI.resolve(value).toString();
+                    }
+                    row.put((String) field.get(0), value);
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        private FakeWebElement find(String template, int index) {
+            return byXPath.get(template.replace("{index}", String.valueOf(index)));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.myorg.tests.framework;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.driver.NavigationTracker;
+import com.myorg.automation.core.elements.BaseElement;
+import com.myorg.automation.core.elements.Label;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import com.myorg.tests.framework.support.FakeWebElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Opt-in WebElement handle cache: fewer driver lookups, transparent re-find after stale handles and navigation
+ */
+public class ElementHandleTest {
+    private static final By TITLE = By.cssSelector("#title");
+
+    private long originalTimeout;
+    private boolean originalScreenshots;
+    private boolean originalSavePageSource;
+    private FakeWebDriver driver;
+    private WebDriver trackedDriver;
+
+    @BeforeClass(alwaysRun = true)
+    public void configureSelenide() {
+        originalTimeout = Configuration.timeout;
+        originalScreenshots = Configuration.screenshots;
+        originalSavePageSource = Configuration.savePageSource;
+        Configuration.timeout = 500;
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreSelenide() {
+        Configuration.timeout = originalTimeout;
+        Configuration.screenshots = originalScreenshots;
+        Configuration.savePageSource = originalSavePageSource;
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void attachFakeDriver() {
+        driver = new FakeWebDriver();
+        driver.addElement(TITLE, new FakeWebElement("Hotels in Bangkok").withAttribute("data-id", "42"));
+        trackedDriver = NavigationTracker.decorate(driver);
+        WebDriverRunner.setWebDriver(trackedDriver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachFakeDriver() {
+        WebDriverRunner.closeWebDriver();
+    }
+
+    @Test(groups = {"unit"})
+    public void cachedHandleFindsTheElementOnce() {
+        Label uncached = new Label("css=#title", "title");
+        int before = driver.getFindCalls();
+        readFiveTimes(uncached);
+        int uncachedFinds = driver.getFindCalls() - before;
+
+        Label cached = new Label("css=#title", "title");
+        cached.enableHandleCache();
+        before = driver.getFindCalls();
+        readFiveTimes(cached);
+        int cachedFinds = driver.getFindCalls() - before;
+
+        Assert.assertTrue(uncachedFinds >= 5, "Uncached reads found the element " + uncachedFinds + " time(s)");
+        Assert.assertEquals(cachedFinds, 1);
+        Assert.assertEquals(cached.getHandle().getMissCount(), 1);
+        Assert.assertEquals(cached.getHandle().getHitCount(), 4);
+    }
+
+    @Test(groups = {"unit"})
+    public void staleHandleIsFoundAgain() {
+        FakeWebElement first = new FakeWebElement("Before");
+        driver.addElement(TITLE, first);
+        Label label = new Label("css=#title", "title");
+        label.enableHandleCache();
+        Assert.assertEquals(label.getText(), "Before");
+
+        first.makeStale();
+        driver.addElement(TITLE, new FakeWebElement("After"));
+        int before = driver.getFindCalls();
+
+        Assert.assertEquals(label.getText(), "After");
+        Assert.assertEquals(label.getText(), "After");
+        Assert.assertEquals(driver.getFindCalls() - before, 1);
+        Assert.assertEquals(label.getHandle().getStaleCount(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void navigationDropsTheHandle() {
+        Label label = new Label("css=#title", "title");
+        label.enableHandleCache();
+        label.getText();
+        label.getText();
+        int before = driver.getFindCalls();
+
+        trackedDriver.get("about:blank");
+        label.getText();
+
+        Assert.assertEquals(driver.getFindCalls() - before, 1);
+        Assert.assertEquals(label.getHandle().getStaleCount(), 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void handleCacheIsEnabledByTheJsonFlag() throws Exception {
+        ElementDefinition cachedTitle = FrameworkJson.mapper().readValue(
+                "{\"name\": \"title\", \"locator\": \"css=#title\", \"type\": \"Label\", \"cacheHandle\": true}",
+                ElementDefinition.class);
+        DynamicPage page = PageObjectFactory.loadPage(new PageDefinition("HandlePage", "about:blank", List.of(
+                cachedTitle, new ElementDefinition("subtitle", "css=#subtitle", "Label"))));
+
+        Assert.assertNotNull(page.label("title").getHandle());
+        Assert.assertNull(page.label("subtitle").getHandle());
+    }
+
+    private static void readFiveTimes(BaseElement element) {
+        Assert.assertTrue(element.isDisplayed());
+        Assert.assertTrue(element.exists());
+        Assert.assertEquals(element.getText(), "Hotels in Bangkok");
+        Assert.assertEquals(element.getAttribute("data-id"), "42");
+        element.scrollTo();
+    }
+}
@@ -0,0 +1,93 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.codegen.PageAccessorProcessor;
+import com.myorg.automation.core.elements.BaseElement;
+import com.myorg.automation.core.elements.Button;
+import com.myorg.automation.core.elements.Combobox;
+import com.myorg.automation.core.elements.ElementFactory;
+import com.myorg.automation.core.elements.ElementTypeRegistry;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Element classes by JSON type and their constructor factories
+ */
+public class ElementTypeRegistryTest {
+
+    /**
+     * Custom element type as a third-party library would define it
+     */
+    public static class DatePicker extends BaseElement {
+        public DatePicker(String locator, String elementName) {
+            super(locator, elementName);
+        }
+    }
+
+    /**
+     * Element type without the (String, String) constructor
+     */
+    public static class NoLocatorConstructor extends BaseElement {
+        public NoLocatorConstructor(String locator) {
+            super(locator, "unnamed");
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void builtInTypesComeFromTheAccessorTable() {
+        PageAccessorProcessor.ELEMENT_TYPES.forEach((typeName, className) -> {
+            Class<? extends BaseElement> type = ElementTypeRegistry.typeOf(typeName);
+            Assert.assertEquals(type.getName(), PageAccessorProcessor.ELEMENTS_PACKAGE + "." + className, typeName);
+            Assert.assertNotNull(ElementTypeRegistry.factoryFor(type), typeName);
+        });
+        Assert.assertEquals(ElementTypeRegistry.create("Dropdown", "css=select", "sort").getClass(), Combobox.class);
+    }
+
+    @Test(groups = {"unit"})
+    public void elInfersRegisteredTypesFromJson() {
+        ElementTypeRegistry.register("DatePicker", DatePicker.class);
+        DynamicPage page = PageObjectFactory.loadPage(new PageDefinition("RegistryPage", "about:blank", List.of(
+                new ElementDefinition("go", "css=#go", "Button"),
+                new ElementDefinition("sort", "css=select", "Dropdown"),
+                new ElementDefinition("checkIn", "css=.date", "DatePicker"))));
+
+        Button go = page.el("go");
+        Combobox sort = page.el("sort");
+        DatePicker checkIn = page.el("checkIn");
+
+        Assert.assertEquals(go.getLocator(), "css=#go");
+        Assert.assertEquals(sort.getElementName(), "sort");
+        Assert.assertEquals(checkIn.getLocator(), "css=.date");
+        Assert.assertSame(page.el("checkIn"), checkIn);
+        Assert.assertSame(page.el("checkIn", DatePicker.class), checkIn);
+    }
+
+    @Test(groups = {"unit"})
+    public void factoriesAreResolvedOnce() {
+        ElementFactory<DatePicker> factory = ElementTypeRegistry.factoryFor(DatePicker.class);
+
+        Assert.assertSame(ElementTypeRegistry.factoryFor(DatePicker.class), factory);
+        Assert.assertEquals(factory.create("xpath=//input", "picker").getElementName(), "picker");
+    }
+
+    @Test(groups = {"unit"})
+    public void unknownTypesAndConstructorsAreReported() {
+        try {
+            ElementTypeRegistry.typeOf("Widget");
+            Assert.fail("Unknown type must be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("element.type.Widget"), e.getMessage());
+        }
+        try {
+            ElementTypeRegistry.factoryFor(NoLocatorConstructor.class);
+            Assert.fail("A class without the (String, String) constructor must be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("NoLocatorConstructor"), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.config.FrameworkConfig;
+import com.myorg.automation.enums.EvictionPolicy;
+import com.myorg.automation.enums.RetryPolicyType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolution and validation of FrameworkConfig snapshots
+ */
+public class FrameworkConfigTest {
+
+    @Test(groups = {"unit"})
+    public void usesDefaultsWhenNothingIsSet() {
+        FrameworkConfig config = FrameworkConfig.load(key -> null);
+
+        Assert.assertEquals(config.getBrowser(), "chrome");
+        Assert.assertEquals(config.getBrowserTimeout(), Duration.ofSeconds(10));
+        Assert.assertEquals(config.getHealeniumRecoveryTimeout(), Duration.ofSeconds(10));
+        Assert.assertEquals(config.getRetryPolicy(), RetryPolicyType.EXPONENTIAL);
+        Assert.assertEquals(config.getRetryDelay(), Duration.ofMillis(500));
+        Assert.assertEquals(config.getCacheEvictionPolicy(), EvictionPolicy.LRU);
+        Assert.assertFalse(config.isLocatorOptimizationEnabled());
+    }
+
+    @Test(groups = {"unit"})
+    public void checksRetryMaxDelayAgainstTheShippedDelayDefault() {
+        // Same outcome whether test.retry.delay comes from framework.properties or the code default
+        FrameworkConfig config = FrameworkConfig.load(Map.of("test.retry.max.delay", "1000")::get);
+        Assert.assertEquals(config.getRetryMaxDelay(), Duration.ofMillis(1000));
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> FrameworkConfig.load(Map.of("test.retry.max.delay", "400")::get));
+        Assert.assertTrue(error.getMessage().contains("must not be below test.retry.delay (500)"), error.getMessage());
+    }
+
+    @Test(groups = {"unit"})
+    public void parsesTypedValuesAndEnvironmentSpecificUrls() {
+        Map<String, String> values = new HashMap<>();
+        values.put("browser.timeout", "4000");
+        values.put("headless", "TRUE");
+        values.put("test.retry.policy", "deadline");
+        values.put("application.environment", "staging");
+        values.put("base.url", "https://www.agoda.com");
+        values.put("staging.base.url", "https://staging.agoda.com");
+
+        FrameworkConfig config = FrameworkConfig.load(values::get);
+
+        Assert.assertEquals(config.getBrowserTimeout(), Duration.ofMillis(4000));
+        Assert.assertTrue(config.isHeadless());
+        Assert.assertEquals(config.getRetryPolicy(), RetryPolicyType.DEADLINE);
+        Assert.assertEquals(config.getBaseUrl(), "https://staging.agoda.com");
+    }
+
+    @Test(groups = {"unit"})
+    public void reportsEveryInvalidValueAtOnce() {
+        Map<String, String> values = new HashMap<>();
+        values.put("browser.timeout", "ten seconds");
+        values.put("test.parallel.threads", "0");
+        values.put("test.retry.jitter", "1.5");
+        values.put("browser.size", "large");
+        values.put("cache.eviction.policy", "FIFO");
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> FrameworkConfig.load(values::get));
+
+        for (String key : values.keySet()) {
+            Assert.assertTrue(error.getMessage().contains(key), "Missing problem for " + key + ": " + error.getMessage());
+        }
+    }
+}
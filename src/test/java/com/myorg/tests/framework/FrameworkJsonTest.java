@@ -0,0 +1,52 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.core.PageRepository;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.json.FrameworkJson.ParseStats;
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.automation.models.SearchTestData;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shared JSON service: reader reuse, read features and parse metrics
+ */
+public class FrameworkJsonTest {
+
+    @Test(groups = {"unit"})
+    public void sharesReadersAndRegistersBlackbirdWhenEnabled() {
+        Assert.assertSame(FrameworkJson.reader(SearchTestData.class), FrameworkJson.reader(SearchTestData.class));
+        boolean blackbird = FrameworkJson.mapper().getRegisteredModuleIds().stream()
+                .anyMatch(id -> id.toString().contains("Blackbird"));
+        Assert.assertEquals(blackbird, ConfigManager.isJsonBlackbirdEnabled());
+    }
+
+    @Test(groups = {"unit"})
+    public void acceptsCommentsAndTrailingCommasAndRecordsStats() throws Exception {
+        String json = "{\n  // hand-edited\n  \"place\": \"Hue\",\n  \"rooms\": 1,\n}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        SearchTestData data = FrameworkJson.read("inline-test.json", new ByteArrayInputStream(bytes), SearchTestData.class);
+        FrameworkJson.read("inline-test.json", new ByteArrayInputStream(bytes), SearchTestData.class);
+
+        Assert.assertEquals(data.getPlace(), "Hue");
+        ParseStats stats = FrameworkJson.getParseStats().get("inline-test.json");
+        Assert.assertEquals(stats.getParseCount(), 2);
+        Assert.assertEquals(stats.getBytes(), 2L * bytes.length);
+        Assert.assertTrue(stats.getTotalNanos() > 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void pageFilesAreParsedThroughTheService() {
+        PageRepository.invalidate("FrameworkTestPage");
+        PageDefinition page = PageRepository.getDefinition("FrameworkTestPage");
+
+        Assert.assertNotNull(page);
+        Assert.assertTrue(FrameworkJson.getParseStats().containsKey("pages/FrameworkTestPage.json"));
+        Assert.assertTrue(FrameworkJson.getReport().contains("pages/FrameworkTestPage.json"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.myorg.tests.framework;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.core.PageRepository;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.json.JsonBundle;
+import com.myorg.automation.core.json.JsonBundleBuilder;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Build-time JSON bundle: validation by the builder and lookups at runtime
+ */
+public class JsonBundleTest {
+
+    private static final String VALID_PAGE = "{\"pageName\": \"Tmp\", \"elements\": ["
+            + "{\"name\": \"a\", \"locator\": \"css=#a\"}, {\"name\": \"b\", \"locator\": \"xpath=//b\"}]}";
+    private static final String INVALID_PAGE = "{\"pageName\": \"Bad\", \"elements\": ["
+            + "{\"name\": \"a\", \"locator\": \"css=#a\"}, {\"name\": \"a\", \"locator\": \"css=#b\"}, {\"name\": \"c\"}]}";
+
+    @Test(groups = {"unit"})
+    public void builderBundlesValidFilesAndReportsEveryInvalidOne() throws Exception {
+        Path root = Files.createTempDirectory("json-bundle");
+        Files.createDirectories(root.resolve("pages"));
+        Files.createDirectories(root.resolve("testdata"));
+        Files.write(root.resolve("pages/Tmp.json"), VALID_PAGE.getBytes(StandardCharsets.UTF_8));
+        Files.write(root.resolve("testdata/cases.json"), "{\"tc01\": {\"place\": \"Hue\"}}".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(JsonBundleBuilder.build(root), 2);
+        Assert.assertTrue(Files.size(root.resolve(JsonBundle.RESOURCE)) > 0);
+
+        Files.write(root.resolve("pages/Bad.json"), INVALID_PAGE.getBytes(StandardCharsets.UTF_8));
+        Files.write(root.resolve("testdata/list.json"), "[1, 2]".getBytes(StandardCharsets.UTF_8));
+        try {
+            JsonBundleBuilder.build(root);
+            Assert.fail("Invalid files must fail the build");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("pages/Bad.json: duplicate element name 'a'"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("pages/Bad.json: element 'c' has no locator"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("testdata/list.json: must be an object of test cases"), e.getMessage());
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void pagesAreServedFromTheBundleWithoutParsing() {
+        Assert.assertNull(JsonBundle.get("pages/FrameworkTestPage.json"), "Reading the bundle is opt-in");
+
+        try (ConfigScope ignored = ConfigScope.open(Map.of("json.bundle.enabled", "true"))) {
+            if (JsonBundle.getFileCount() == 0) {
+                throw new SkipException("No " + JsonBundle.RESOURCE + " on the classpath; run through Maven");
+            }
+            JsonNode bundled = JsonBundle.get("/pages/FrameworkTestPage.json");
+            Assert.assertNotNull(bundled);
+            Assert.assertEquals(bundled.path("elements").size(), 2);
+
+            PageRepository.invalidate("FrameworkTestPage");
+            FrameworkJson.resetStats();
+            Assert.assertEquals(PageRepository.getDefinition("FrameworkTestPage").getElementNames(), List.of("missingButton", "missingText"));
+            Assert.assertFalse(FrameworkJson.getParseStats().containsKey("pages/FrameworkTestPage.json"));
+        } finally {
+            PageRepository.invalidate("FrameworkTestPage");
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.config.ConfigManager;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.core.locator.CompiledLocator;
+import com.myorg.automation.core.locator.LocatorOptimizer;
+import com.myorg.automation.core.locator.LocatorRegistry;
+import com.myorg.automation.core.locator.LocatorValidator;
+import com.myorg.automation.core.locator.Locators;
+import com.myorg.automation.core.locator.OptimizedLocator;
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.automation.utils.JsonLocatorHelper;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * XPath to CSS rewriting and the locator cost model
+ */
+public class LocatorOptimizerTest {
+
+    @DataProvider
+    public Object[][] rewritable() {
+        return new Object[][] {
+                {"xpath=//button[@data-selenium='searchButton']", "css=button[data-selenium='searchButton']"},
+                {"xpath=//div[@data-selenium='occupancyAdults']//button[@data-selenium='plus']",
+                        "css=div[data-selenium='occupancyAdults'] button[data-selenium='plus']"},
+                {"xpath=//ul[@role='listbox']/li[@role='option']", "css=ul[role='listbox'] > li[role='option']"},
+                {"xpath=//a[@href]", "css=a[href]"},
+                {"xpath=//button[contains(@class,'search')]", "css=button[class*='search']"},
+                {"xpath=//a[starts-with(@href,'https://')]", "css=a[href^='https://']"},
+                {"xpath=//input[@type='checkbox' and @name='pool']", "css=input[type='checkbox'][name='pool']"},
+                {"xpath=//input[@type='checkbox'][@name='pool']", "css=input[type='checkbox'][name='pool']"},
+                {"xpath=//span[@title=\"it's\"]", "css=span[title=\"it's\"]"},
+                {"xpath=//*[@data-x='1']//p", "css=[data-x='1'] p"},
+                {"xpath=//a | //button[@type='submit']", "css=a, button[type='submit']"},
+                {"//div[@id='DatePicker']", "css=div[id='DatePicker']"},
+                {"xpath=//*[@id='search']", "id=search"},
+                {"xpath=//*[@name='q']", "name=q"},
+        };
+    }
+
+    @DataProvider
+    public Object[][] notRewritable() {
+        return new Object[][] {
+                {"xpath=//div[@data-selenium='hotel-item'][1]", "positional predicate"},
+                {"xpath=(//li[@role='option'])[1]", "positional group"},
+                {"xpath=//button[contains(text(),'Search')]", "text() match"},
+                {"xpath=//a | //button[text()='Go']", "text() match"},
+                {"xpath=//div/following-sibling::p", "axis"},
+                {"xpath=//div/..", "unsupported"},
+                {"xpath=//div[@a='x' or @b='y']", "predicate"},
+                {"xpath=//div[contains(@class,'')]", "empty contains() argument"},
+                {"xpath=//div[@data-selenium='hotel-item'][{index}]", "dynamic locator"},
+                {"xpath=//span[@data-selenium-date='{{DATE}}']", "dynamic locator"},
+                {"xpath=/html/body", "does not start with //"},
+        };
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "rewritable")
+    public void rewritesXPathWithACssEquivalent(String raw, String expected) {
+        OptimizedLocator optimized = LocatorOptimizer.optimize(raw, true);
+
+        Assert.assertTrue(optimized.isRewritten(), raw);
+        Assert.assertEquals(optimized.getLocator(), expected);
+        Assert.assertEquals(optimized.getOriginalLocator(), raw);
+        Assert.assertNull(LocatorValidator.validate(optimized.getLocator()), expected);
+        Assert.assertTrue(optimized.getCost() < optimized.getOriginalCost(), optimized.toString());
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "notRewritable")
+    public void keepsXPathWithoutACssEquivalent(String raw, String reason) {
+        OptimizedLocator optimized = LocatorOptimizer.optimize(raw, true);
+
+        Assert.assertFalse(optimized.isRewritten(), raw);
+        Assert.assertEquals(optimized.getLocator(), raw);
+        Assert.assertEquals(optimized.getCost(), optimized.getOriginalCost());
+        Assert.assertTrue(optimized.getNote().contains(reason), optimized.getNote());
+    }
+
+    @Test(groups = {"unit"})
+    public void leavesOtherLocatorTypesAlone() {
+        for (String raw : List.of("css=#search > li", "id=q", "name=q", "class=btn", "tag=input", "text=Sign in")) {
+            OptimizedLocator optimized = LocatorOptimizer.optimize(raw, true);
+            Assert.assertEquals(optimized.getLocator(), raw);
+            Assert.assertNull(optimized.getNote(), raw);
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void disabledOptimizationOnlyAssesses() {
+        OptimizedLocator optimized = LocatorOptimizer.optimize("xpath=//button[@id='go']", false);
+
+        Assert.assertFalse(optimized.isRewritten());
+        Assert.assertEquals(optimized.getCost(), LocatorOptimizer.estimateCost("xpath=//button[@id='go']"));
+    }
+
+    @Test(groups = {"unit"})
+    public void costModelRanksStrategies() {
+        int id = LocatorOptimizer.estimateCost("id=q");
+        int css = LocatorOptimizer.estimateCost("css=button[data-x='go']");
+        int nestedCss = LocatorOptimizer.estimateCost("css=div[data-x='a'] button");
+        int xpath = LocatorOptimizer.estimateCost("xpath=//button[@data-x='go']");
+        int wildcard = LocatorOptimizer.estimateCost("xpath=//*[@data-x='go']");
+        int text = LocatorOptimizer.estimateCost("xpath=//button[contains(text(),'Go')]");
+
+        Assert.assertTrue(id < css && css < nestedCss && nestedCss < xpath, id + " " + css + " " + nestedCss + " " + xpath);
+        Assert.assertTrue(xpath < wildcard && xpath < text, xpath + " " + wildcard + " " + text);
+        // Quoted text is not XPath syntax
+        Assert.assertEquals(LocatorOptimizer.estimateCost("xpath=//button[@title='//* text()']"), xpath);
+    }
+
+    @Test(groups = {"unit"})
+    public void flagsWildcardAndTextMatches() {
+        OptimizedLocator optimized = LocatorOptimizer.optimize("xpath=//*[contains(text(),'Search')]", true);
+
+        Assert.assertFalse(optimized.isRewritten());
+        Assert.assertEquals(optimized.getWarnings(),
+                List.of(LocatorOptimizer.WARNING_DESCENDANT_WILDCARD, LocatorOptimizer.WARNING_CONTAINS_TEXT));
+        Assert.assertEquals(LocatorOptimizer.optimize("xpath=//a[text()='Go']", true).getWarnings(),
+                List.of(LocatorOptimizer.WARNING_TEXT));
+        // A rewritten wildcard is no longer expensive
+        Assert.assertFalse(LocatorOptimizer.optimize("xpath=//*[@id='go']", true).isFlagged());
+        Assert.assertTrue(LocatorOptimizer.optimize("xpath=//*[@id='go']", false).isFlagged());
+    }
+
+    @DataProvider
+    public Object[][] cssEscapes() {
+        return new Object[][] {
+                {"xpath=//*[@id='search']", "#search"},
+                {"xpath=//*[@id='a.b']", "#a\\.b"},
+                {"xpath=//*[@id='1x']", "#\\31 x"},
+                {"xpath=//*[@id='-2']", "#-\\32 "},
+                {"xpath=//*[@id='a:b[0]']", "#a\\:b\\[0\\]"},
+                {"xpath=//*[@name=\"it's\"]", "[name='it\\'s']"},
+                {"class=btn.primary", ".btn\\.primary"},
+        };
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "cssEscapes")
+    public void nativeLocatorsAreEscapedWhenUsedAsCss(String raw, String css) {
+        String locator = LocatorOptimizer.optimize(raw, true).getLocator();
+
+        // Collection and snapshots query these through CSS
+        Assert.assertEquals(Locators.toCssSelector(Locators.typeOf(locator), Locators.valueOf(locator)), css);
+    }
+
+    @Test(groups = {"unit"})
+    public void compiledPagesUseTheRewriteAndKeepTheOriginal() {
+        PageDefinition definition = JsonLocatorHelper.getCompiledPage("AgodaHomePage").getDefinition();
+
+        CompiledLocator applyButton;
+        try (ConfigScope ignored = ConfigScope.open(Map.of("locators.optimize.enabled", "true"))) {
+            applyButton = LocatorRegistry.compile("AgodaHomePage", definition).find("applyButton");
+        }
+
+        Assert.assertEquals(applyButton.getRawLocator(), "xpath=//button[@data-selenium='occupancyApplyBtn']");
+        Assert.assertEquals(applyButton.getLocatorType(), "css");
+        Assert.assertEquals(applyButton.getBy(), By.cssSelector("button[data-selenium='occupancyApplyBtn']"));
+        Assert.assertEquals(applyButton.getOptimization().getOriginalLocator(), applyButton.getRawLocator());
+    }
+
+    @Test(groups = {"unit"})
+    public void compiledPagesKeepTheJsonLocatorByDefault() {
+        PageDefinition definition = JsonLocatorHelper.getCompiledPage("AgodaHomePage").getDefinition();
+
+        CompiledLocator applyButton = LocatorRegistry.compile("AgodaHomePage", definition).find("applyButton");
+
+        Assert.assertFalse(ConfigManager.isLocatorOptimizationEnabled());
+        Assert.assertEquals(applyButton.getLocatorType(), "xpath");
+        Assert.assertEquals(applyButton.getBy(), By.xpath("//button[@data-selenium='occupancyApplyBtn']"));
+        Assert.assertFalse(applyButton.getOptimization().isRewritten());
+        // Still assessed, so expensive locators are reported
+        Assert.assertTrue(applyButton.getOptimization().getCost() > 0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.constants.FrameworkConstants;
+import com.myorg.automation.core.locator.CompiledLocator;
+import com.myorg.automation.core.locator.CompiledPage;
+import com.myorg.automation.core.locator.LocatorRegistry;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import com.myorg.automation.models.RetrySettings;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Compilation of page definitions into CompiledPage and CompiledLocator records
+ */
+public class LocatorRegistryTest {
+
+    private static RetrySettings retry(Integer maxAttempts, Long delay, String policy) {
+        RetrySettings settings = new RetrySettings();
+        settings.setMaxAttempts(maxAttempts);
+        settings.setDelay(delay);
+        settings.setPolicy(policy);
+        return settings;
+    }
+
+    private static CompiledLocator compileOne(ElementDefinition element, RetrySettings pageRetry) {
+        PageDefinition definition = new PageDefinition("RegistryPage", "https://example.test", List.of(element));
+        definition.setRetry(pageRetry);
+        return LocatorRegistry.compile("RegistryPage", definition).find(element.getName());
+    }
+
+    @DataProvider
+    public Object[][] locators() {
+        return new Object[][] {
+                {"css=#go", "css", "#go", By.cssSelector("#go")},
+                {"id=q", "id", "q", By.id("q")},
+                {"name=q", "name", "q", By.name("q")},
+                {"class=btn", "class", "btn", By.className("btn")},
+                {"tag=input", "tag", "input", By.tagName("input")},
+                {"text=Sign in", "text", "Sign in", By.linkText("Sign in")},
+                // XPath CSS cannot express, so it is compiled as written
+                {"xpath=//a[text()='Go']", "xpath", "//a[text()='Go']", By.xpath("//a[text()='Go']")},
+                {"(//li)[1]", "xpath", "(//li)[1]", By.xpath("(//li)[1]")},
+                {"div.result > a", "css", "div.result > a", By.cssSelector("div.result > a")},
+        };
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "locators")
+    public void parsesThePrefixAndPrebuildsTheBy(String raw, String type, String value, By by) {
+        CompiledLocator locator = compileOne(new ElementDefinition("element", raw, "label"), null);
+
+        Assert.assertEquals(locator.getRawLocator(), raw);
+        Assert.assertEquals(locator.getLocatorType(), type);
+        Assert.assertEquals(locator.getLocatorValue(), value);
+        Assert.assertEquals(locator.getBy(), by);
+        Assert.assertTrue(locator.hasLocator());
+    }
+
+    @Test(groups = {"unit"})
+    public void elementWithoutLocatorHasNoBy() {
+        CompiledLocator locator = compileOne(new ElementDefinition("element", null, "label"), null);
+
+        Assert.assertFalse(locator.hasLocator());
+        Assert.assertNull(locator.getBy());
+        Assert.assertEquals(locator.getDescription(), "No description available");
+    }
+
+    @DataProvider
+    public Object[][] waitTypes() {
+        return new Object[][] {
+                {"button", FrameworkConstants.WAIT_TYPE_CLICKABLE},
+                {"Dropdown", FrameworkConstants.WAIT_TYPE_CLICKABLE},
+                {"option", FrameworkConstants.WAIT_TYPE_CLICKABLE},
+                {"textbox", FrameworkConstants.WAIT_TYPE_VISIBLE},
+                {"label", FrameworkConstants.WAIT_TYPE_VISIBLE},
+                {null, FrameworkConstants.WAIT_TYPE_VISIBLE},
+        };
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "waitTypes")
+    public void mapsElementTypeToWaitType(String elementType, String waitType) {
+        Assert.assertEquals(compileOne(new ElementDefinition("element", "css=#e", elementType), null).getWaitType(), waitType);
+    }
+
+    @Test(groups = {"unit"})
+    public void mergesElementRetryOverPageRetry() {
+        ElementDefinition element = new ElementDefinition("element", "css=#e", "button");
+        element.setRetry(retry(5, null, null));
+        element.setTimeout(1500);
+
+        CompiledLocator locator = compileOne(element, retry(2, 250L, "exponential"));
+
+        Assert.assertEquals(locator.getRetrySettings().getMaxAttempts(), Integer.valueOf(5));
+        Assert.assertEquals(locator.getRetrySettings().getDelay(), Long.valueOf(250));
+        Assert.assertEquals(locator.getRetrySettings().getPolicy(), "exponential");
+        Assert.assertEquals(locator.getTimeout(), Integer.valueOf(1500));
+    }
+
+    @Test(groups = {"unit"})
+    public void pageRetryAppliesToElementsWithoutTheirOwn() {
+        RetrySettings pageRetry = retry(3, 100L, "fixed");
+
+        Assert.assertSame(compileOne(new ElementDefinition("element", "css=#e", "button"), pageRetry).getRetrySettings(), pageRetry);
+        Assert.assertNull(compileOne(new ElementDefinition("element", "css=#e", "button"), null).getRetrySettings());
+    }
+
+    @Test(groups = {"unit"})
+    public void compiledPageIndexesLocatorsByNameInFileOrder() {
+        PageDefinition definition = new PageDefinition("RegistryPage", "https://example.test", List.of(
+                new ElementDefinition("search", "css=#q", "textbox"),
+                new ElementDefinition("go", "id=go", "button")));
+
+        CompiledPage page = LocatorRegistry.compile("RegistryPage", definition);
+
+        Assert.assertEquals(page.getPageName(), "RegistryPage");
+        Assert.assertEquals(page.getUrl(), "https://example.test");
+        Assert.assertSame(page.getDefinition(), definition);
+        Assert.assertEquals(List.copyOf(page.getLocators().keySet()), List.of("search", "go"));
+        Assert.assertEquals(page.find("go").getBy(), By.id("go"));
+        Assert.assertNull(page.find("missing"));
+        Assert.expectThrows(UnsupportedOperationException.class, () -> page.getLocators().clear());
+    }
+}
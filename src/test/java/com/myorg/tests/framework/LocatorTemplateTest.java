@@ -0,0 +1,74 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.locator.LocatorTemplate;
+import com.myorg.automation.core.locator.Locators;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rendering and escaping of compiled dynamic-locator templates
+ */
+public class LocatorTemplateTest {
+
+    @Test(groups = {"unit"})
+    public void rendersIndexPlaceholderAsIs() {
+        LocatorTemplate template = LocatorTemplate.compile("xpath=//div[@data-selenium='hotel-item'][{index}]//h3");
+
+        Assert.assertEquals(template.render("3"), "//div[@data-selenium='hotel-item'][3]//h3");
+        Assert.assertEquals(template.getPlaceholderNames(), List.of("index"));
+    }
+
+    @Test(groups = {"unit"})
+    public void escapesQuotedXPathValues() {
+        LocatorTemplate template = LocatorTemplate.compile("xpath=//a[text()='%s']");
+
+        Assert.assertEquals(template.render("Paris"), "//a[text()='Paris']");
+        Assert.assertEquals(template.render("O'Hare"), "//a[text()=\"O'Hare\"]");
+        Assert.assertEquals(template.render("It's \"new\""), "//a[text()=concat('It',\"'\",'s \"new\"')]");
+        Assert.assertEquals(template.render("'\"'"), "//a[text()=concat(\"'\",'\"',\"'\")]");
+    }
+
+    @Test(groups = {"unit"})
+    public void escapesCssStringsAndIdentifiers() {
+        Assert.assertEquals(LocatorTemplate.compile("css=[name='{name}']").render("a'b\\c"), "[name='a\\'b\\\\c']");
+        Assert.assertEquals(LocatorTemplate.compile("css=#{id} > li").render("main.menu"), "#main\\.menu > li");
+        Assert.assertEquals(LocatorTemplate.compile("%s").render("x:1"), "x\\:1");
+        // A leading digit cannot start an identifier and is escaped as a code point
+        Assert.assertEquals(LocatorTemplate.compile("css=#{id}").render("1abc"), "#\\31 abc");
+        Assert.assertEquals(LocatorTemplate.compile("css=.{cls}").render("-2col"), ".-\\32 col");
+        Assert.assertEquals(LocatorTemplate.compile("css=#{id}").render("1abc"), Locators.toCssSelector("id", "1abc"));
+    }
+
+    @Test(groups = {"unit"})
+    public void fillsNamedPlaceholdersOncePerName() {
+        LocatorTemplate template = LocatorTemplate.compile("xpath=//tr[{index}]/td[@id='{id}' or @name='{id}']");
+
+        Assert.assertEquals(template.getParameterCount(), 2);
+        Assert.assertEquals(template.render("2", "total"), "//tr[2]/td[@id='total' or @name='total']");
+
+        Map<String, String> values = new HashMap<>();
+        values.put("index", "2");
+        values.put("id", "total");
+        Assert.assertEquals(template.render(values), template.render("2", "total"));
+    }
+
+    @Test(groups = {"unit"})
+    public void reusesRenderedByForRepeatedValues() {
+        LocatorTemplate template = LocatorTemplate.compile("xpath=//li[{index}]");
+
+        By first = template.toBy("1");
+        Assert.assertSame(template.toBy("1"), first);
+        Assert.assertEquals(first, By.xpath("//li[1]"));
+        Assert.assertEquals(template.getCacheStats().getHitCount(), 1);
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = IllegalArgumentException.class)
+    public void rejectsMissingParameters() {
+        LocatorTemplate.compile("xpath=//tr[{index}]/td[{column}]").render("1");
+    }
+}
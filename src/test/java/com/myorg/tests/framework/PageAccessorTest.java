@@ -0,0 +1,114 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.codegen.PageAccessorProcessor;
+import com.myorg.automation.core.elements.DynamicButton;
+import com.myorg.automation.core.elements.ListElement;
+import com.myorg.automation.core.elements.Textbox;
+import com.myorg.automation.pages.generated.AgodaHomePageElements;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generated typed page accessors and the processor that writes them
+ */
+public class PageAccessorTest {
+
+    @Test(groups = {"unit"})
+    public void generatedAccessorsBuildEachElementOnceFromThePageDefinition() {
+        AgodaHomePageElements home = AgodaHomePageElements.load();
+        DynamicPage page = home.dynamicPage();
+
+        Textbox searchBox = home.searchBox();
+        Assert.assertSame(home.searchBox(), searchBox);
+        Assert.assertEquals(searchBox.getElementName(), "searchBox");
+        Assert.assertEquals(searchBox.getLocator(), page.locatorOf("searchBox"));
+        Assert.assertEquals(home.destinationSuggestions().getClass(), ListElement.class);
+    }
+
+    /**
+     * Run the processor alone over one page file; generated sources go to the output directory
+     */
+    private static DiagnosticCollector<JavaFileObject> process(Path pages, Path output, String... extraOptions) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject trigger = new SimpleJavaFileObject(URI.create("string:///Trigger.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "class Trigger {}";
+            }
+        };
+        List<String> options = new ArrayList<>(List.of("-proc:only", "-processor", PageAccessorProcessor.class.getName(),
+                "-ApageAccessors.pagesDir=" + pages, "-s", output.toString(),
+                "-classpath", System.getProperty("java.class.path")));
+        options.addAll(List.of(extraOptions));
+        compiler.getTask(null, null, diagnostics, options, null, List.of(trigger)).call();
+        return diagnostics;
+    }
+
+    private static String messages(DiagnosticCollector<JavaFileObject> diagnostics, Diagnostic.Kind kind) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == kind)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Test(groups = {"unit"})
+    public void processorRejectsDuplicateNames() throws Exception {
+        Path pages = Files.createTempDirectory("page-accessors");
+        Path output = Files.createTempDirectory("page-accessors-out");
+        Files.write(pages.resolve("BadPage.json"), ("{\"pageName\": \"BadPage\", \"elements\": ["
+                + "{\"name\": \"go\", \"locator\": \"css=#go\", \"type\": \"Button\"},"
+                + "{\"name\": \"go\", \"locator\": \"css=#go2\", \"type\": \"Button\"},"
+                + "{\"name\": \"load\", \"locator\": \"css=#load\", \"type\": \"Button\"}]}").getBytes(StandardCharsets.UTF_8));
+
+        String errors = messages(process(pages, output), Diagnostic.Kind.ERROR);
+
+        Assert.assertTrue(errors.contains("BadPage.json: duplicate element name 'go'"), errors);
+        Assert.assertTrue(errors.contains("BadPage.json: element name 'load' cannot be used as an accessor name"), errors);
+    }
+
+    @Test(groups = {"unit"})
+    public void processorUsesConfiguredTypesAndFallsBackToLabel() throws Exception {
+        Path pages = Files.createTempDirectory("page-accessors");
+        Path output = Files.createTempDirectory("page-accessors-out");
+        Path properties = pages.resolve("framework.properties");
+        Files.write(properties, ("element.type.DatePicker=" + ElementTypeRegistryTest.DatePicker.class.getName() + "\n"
+                + "element.type.Button=" + DynamicButton.class.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(pages.resolve("CustomPage.json"), ("{\"pageName\": \"CustomPage\", \"elements\": ["
+                + "{\"name\": \"checkIn\", \"locator\": \"css=.date\", \"type\": \"DatePicker\"},"
+                + "{\"name\": \"go\", \"locator\": \"css=#go\", \"type\": \"Button\"},"
+                + "{\"name\": \"search\", \"locator\": \"css=#q\", \"type\": \"Textbox\"},"
+                + "{\"name\": \"widget\", \"locator\": \"css=#w\", \"type\": \"Widget\"}]}").getBytes(StandardCharsets.UTF_8));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = process(pages, output, "-ApageAccessors.properties=" + properties);
+
+        Assert.assertEquals(messages(diagnostics, Diagnostic.Kind.ERROR), "");
+        String warnings = messages(diagnostics, Diagnostic.Kind.WARNING);
+        Assert.assertTrue(warnings.contains("CustomPage.json: element 'widget' has type 'Widget', which is not built in "
+                + "or configured as element.type.Widget; its accessor returns a Label"), warnings);
+        String source = new String(Files.readAllBytes(output.resolve("com/myorg/automation/pages/generated/CustomPageElements.java")),
+                StandardCharsets.UTF_8);
+        // Configured types win over built-in ones of the same name, as in ElementTypeRegistry; the
+        // generated source compiles against them, so no errors means the class names resolved
+        Assert.assertTrue(source.contains("public com.myorg.tests.framework.ElementTypeRegistryTest.DatePicker checkIn()"), source);
+        Assert.assertTrue(source.contains("public com.myorg.automation.core.elements.DynamicButton go()"), source);
+        Assert.assertTrue(source.contains("public Textbox search()"), source);
+        Assert.assertTrue(source.contains("public Label widget()"), source);
+        Assert.assertFalse(source.contains("import com.myorg.automation.core.elements.Button;"), source);
+    }
+}
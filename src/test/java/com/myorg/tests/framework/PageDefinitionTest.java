@@ -0,0 +1,69 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Element name validation and the name, tag and type indexes of a page definition
+ */
+public class PageDefinitionTest {
+
+    private static PageDefinition read(String json) throws IOException {
+        return FrameworkJson.read("inline-page.json",
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), PageDefinition.class);
+    }
+
+    private static List<String> names(List<ElementDefinition> elements) {
+        return elements.stream().map(ElementDefinition::getName).collect(Collectors.toList());
+    }
+
+    @Test(groups = {"unit"})
+    public void rejectsDuplicateElementNames() {
+        String json = "{\"pageName\": \"DuplicatePage\", \"elements\": ["
+                + "{\"name\": \"go\", \"locator\": \"css=#go\"},"
+                + "{\"name\": \"go\", \"locator\": \"css=#go2\"}]}";
+
+        IOException e = Assert.expectThrows(IOException.class, () -> read(json));
+        Assert.assertTrue(e.getMessage().contains("Duplicate element name 'go' in page definition: DuplicatePage"), e.getMessage());
+    }
+
+    @Test(groups = {"unit"})
+    public void rejectsElementsWithoutAName() {
+        String json = "{\"pageName\": \"UnnamedPage\", \"elements\": ["
+                + "{\"name\": \"go\", \"locator\": \"css=#go\"},"
+                + "{\"name\": \" \", \"locator\": \"css=#blank\"}]}";
+
+        IOException e = Assert.expectThrows(IOException.class, () -> read(json));
+        Assert.assertTrue(e.getMessage().contains("Element without a name in page definition: UnnamedPage"), e.getMessage());
+        Assert.expectThrows(IllegalArgumentException.class, () -> new PageDefinition("UnnamedPage", null,
+                List.of(new ElementDefinition(null, "css=#go", "button"))));
+    }
+
+    @Test(groups = {"unit"})
+    public void indexesKeepFileOrder() throws IOException {
+        PageDefinition page = read("{\"pageName\": \"IndexedPage\", \"elements\": ["
+                + "{\"name\": \"search\", \"locator\": \"css=#q\", \"type\": \"textbox\", \"tags\": [\"form\"]},"
+                + "{\"name\": \"go\", \"locator\": \"css=#go\", \"type\": \"button\", \"tags\": [\"form\", \"primary\"]},"
+                + "{\"name\": \"title\", \"locator\": \"css=h1\", \"type\": \"label\"},"
+                + "{\"name\": \"reset\", \"locator\": \"css=#reset\", \"type\": \"button\", \"tags\": [\"form\"]}]}");
+
+        Assert.assertEquals(page.getElementNames(), List.of("search", "go", "title", "reset"));
+        Assert.assertEquals(List.copyOf(page.getElementIndex().keySet()), List.of("search", "go", "title", "reset"));
+        Assert.assertEquals(names(page.getElementsByType("button")), List.of("go", "reset"));
+        Assert.assertEquals(names(page.getElementsByTag("form")), List.of("search", "go", "reset"));
+        Assert.assertEquals(names(page.getElementsByTag("primary")), List.of("go"));
+        Assert.assertTrue(page.getElementsByType("checkbox").isEmpty());
+        Assert.assertSame(page.findElement("title"), page.getElements().get(2));
+        Assert.assertNull(page.findElement("missing"));
+        Assert.expectThrows(UnsupportedOperationException.class, () -> page.getElementsByType("button").add(null));
+    }
+}
@@ -0,0 +1,135 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.PagePreloader;
+import com.myorg.automation.core.PageRepository;
+import com.myorg.automation.core.locator.LocatorValidator;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.models.PageDefinition;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Suite-start page preloading and locator syntax checks
+ */
+public class PagePreloaderTest {
+
+    @DataProvider
+    public Object[][] validLocators() {
+        return new Object[][] {
+                {"xpath=(//div[@id='list']//li[@role='option'])[1]"},
+                {"xpath=//a | //button[contains(text(),'Search')]"},
+                {"xpath=//div[@data-selenium='hotel-item'][{index}]"},
+                {"xpath=//span[@data-selenium-date='{{DATE}}']"},
+                {"//input[@id='q']"},
+                {"css=#search > ul.results li:nth-child(2n+1)"},
+                {"css=a[href^='https://'], button:not(.disabled)"},
+                {"css=input[name=\"{name}\"]"},
+                {"div[data-x='a=b'] ~ span + p"},
+                {"id=q"},
+                {"class=btn"},
+                {"text=Sign in"},
+        };
+    }
+
+    @DataProvider
+    public Object[][] invalidLocators() {
+        return new Object[][] {
+                {"xpath=//div[@id='a'", "invalid XPath"},
+                {"xpath=//div[matches(@id,'a')]", "matches"},
+                {"css=div[data-x='a'", "unclosed '['"},
+                {"css=div)", "unmatched ')'"},
+                {"css=> li", "no selector before it"},
+                {"css=ul >", "ends without a selector"},
+                {"css=a,,b", "no selector before it"},
+                {"css=div[]", "empty attribute selector"},
+                {"css=div# span", "not followed by a name"},
+                {"class=btn primary", "single name"},
+                {"xpath=", "empty"},
+        };
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "validLocators")
+    public void validLocatorsPass(String locator) {
+        Assert.assertNull(LocatorValidator.validate(locator), locator);
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "invalidLocators")
+    public void invalidLocatorsAreReported(String locator, String expectedProblem) {
+        String problem = LocatorValidator.validate(locator);
+        Assert.assertNotNull(problem, locator);
+        Assert.assertTrue(problem.contains(expectedProblem), problem);
+    }
+
+    @Test(groups = {"unit"})
+    public void preloadAllParsesEveryClasspathPageIntoTheRepository() {
+        List<String> pages = PagePreloader.discoverPages(getClass().getClassLoader());
+        Assert.assertTrue(pages.containsAll(List.of(
+                "pages/AgodaHomePage.json", "pages/AgodaSearchResultsPage.json", "pages/FrameworkTestPage.json")), pages.toString());
+
+        PageRepository.clear();
+        PagePreloader.Report report = PagePreloader.preloadAll();
+
+        Assert.assertEquals(report.getPages(), pages.size());
+        Assert.assertTrue(report.getElements() > 0);
+        pages.forEach(page -> Assert.assertTrue(PageRepository.isCached(page), page));
+    }
+
+    @Test(groups = {"unit"})
+    public void preloadReportsAllProblemsAtOnce() {
+        try {
+            PagePreloader.preload(List.of("pages/AgodaHomePage.json", "pages/NoSuchPage.json", "pages/AlsoMissing.json"));
+            Assert.fail("Missing pages must fail the preload");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("pages/NoSuchPage.json"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("pages/AlsoMissing.json"), e.getMessage());
+        }
+        Assert.assertTrue(PageRepository.isCached("pages/AgodaHomePage.json"));
+    }
+
+    @Test(groups = {"unit"})
+    public void validateNamesEveryBrokenElement() {
+        PageDefinition page = new PageDefinition("BrokenPage", "about:blank", List.of(
+                new ElementDefinition("ok", "css=#ok", "Button"),
+                new ElementDefinition("badXpath", "xpath=//div[", "Label"),
+                new ElementDefinition("badCss", "css=ul >", "Label")));
+
+        List<String> problems = PagePreloader.validate("BrokenPage.json", page);
+
+        Assert.assertEquals(problems.size(), 2, problems.toString());
+        Assert.assertTrue(problems.get(0).startsWith("BrokenPage.json: element 'badXpath'"), problems.get(0));
+        Assert.assertTrue(problems.get(1).startsWith("BrokenPage.json: element 'badCss'"), problems.get(1));
+    }
+
+    @Test(groups = {"unit"})
+    public void discoversPagesInJars() throws IOException {
+        Path jar = Files.createTempFile("pages", ".jar");
+        try {
+            try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+                for (String name : List.of("pages/", "pages/JarPage.json", "pages/nested/Deep.json", "pages/notes.txt", "testdata/x.json")) {
+                    jarOut.putNextEntry(new JarEntry(name));
+                    if (!name.endsWith("/")) {
+                        jarOut.write("{}".getBytes(StandardCharsets.UTF_8));
+                    }
+                    jarOut.closeEntry();
+                }
+            }
+            try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+                Assert.assertEquals(PagePreloader.discoverPages(loader), List.of("pages/JarPage.json"));
+            }
+        } finally {
+            Files.deleteIfExists(jar);
+        }
+    }
+}
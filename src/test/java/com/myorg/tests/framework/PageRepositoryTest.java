@@ -0,0 +1,96 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.PageRepository;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.core.locator.CompiledLocator;
+import com.myorg.automation.core.locator.CompiledPage;
+import com.myorg.automation.core.locator.LocatorTemplate;
+import com.myorg.automation.core.locator.Locators;
+import com.myorg.automation.models.ElementDefinition;
+import com.myorg.automation.utils.JsonLocatorHelper;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+
+/**
+ * One parsed page model and one locator grammar for both page stacks
+ */
+public class PageRepositoryTest {
+
+    @DataProvider
+    public Object[][] pages() {
+        return new Object[][] {{"AgodaHomePage"}, {"AgodaSearchResultsPage"}, {"FrameworkTestPage"}};
+    }
+
+    @DataProvider
+    public Object[][] locators() {
+        return new Object[][] {
+                {"xpath=//a[@href='x=y']", "xpath", "//a[@href='x=y']", By.xpath("//a[@href='x=y']")},
+                {"//input[@id='q']", "xpath", "//input[@id='q']", By.xpath("//input[@id='q']")},
+                {"(//li)[2]", "xpath", "(//li)[2]", By.xpath("(//li)[2]")},
+                {"css=#search", "css", "#search", By.cssSelector("#search")},
+                {"div[data-x='a=b']", "css", "div[data-x='a=b']", By.cssSelector("div[data-x='a=b']")},
+                {"id=q", "id", "q", By.id("q")},
+                {"class=btn", "class", "btn", By.className("btn")},
+                {"name=q", "name", "q", By.name("q")},
+                {"tag=h1", "tag", "h1", By.tagName("h1")},
+                {"text=Sign in", "text", "Sign in", By.linkText("Sign in")},
+        };
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "pages")
+    public void bothStacksShareOneParsedPage(String pageName) {
+        PageObjectFactory.removeFromCache("/pages/" + pageName + ".json");
+        FrameworkJson.resetStats();
+
+        CompiledPage compiled = JsonLocatorHelper.getCompiledPage(pageName);
+        DynamicPage dynamicPage = PageObjectFactory.loadPage("/pages/" + pageName + ".json");
+
+        Assert.assertSame(dynamicPage.getPageDefinition(), compiled.getDefinition());
+        Assert.assertSame(PageRepository.get("pages/" + pageName + ".json"), compiled);
+        Assert.assertEquals(FrameworkJson.getParseStats().get("pages/" + pageName + ".json").getParseCount(), 1L);
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "pages")
+    public void bothStacksResolveEveryElementToTheSameLocator(String pageName) {
+        CompiledPage compiled = JsonLocatorHelper.getCompiledPage(pageName);
+        DynamicPage dynamicPage = PageObjectFactory.loadPage("/pages/" + pageName + ".json");
+
+        Assert.assertEquals(compiled.getLocators().keySet(), new HashSet<>(dynamicPage.getElementNames()));
+        for (ElementDefinition element : dynamicPage.getPageDefinition().getElements()) {
+            CompiledLocator locator = compiled.find(element.getName());
+            String used = dynamicPage.locatorOf(element.getName());
+            Assert.assertEquals(locator.getRawLocator(), element.getLocator(), element.getName());
+            Assert.assertEquals(locator.getOptimization().getLocator(), used, element.getName());
+            Assert.assertEquals(locator.getBy(), Locators.toBy(used), element.getName());
+            Assert.assertEquals(locator.getLocatorType(), Locators.typeOf(used), element.getName());
+        }
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "locators")
+    public void locatorGrammar(String raw, String type, String value, By by) {
+        Assert.assertEquals(Locators.typeOf(raw), type);
+        Assert.assertEquals(Locators.valueOf(raw), value);
+        Assert.assertEquals(Locators.toBy(raw), by);
+        Assert.assertEquals(LocatorTemplate.compile(raw).getLocatorType(), type);
+    }
+
+    @Test(groups = {"unit"})
+    public void reloadedPageReachesBothStacks() {
+        String path = "/pages/FrameworkTestPage.json";
+        DynamicPage before = PageObjectFactory.loadPage(path);
+
+        PageRepository.invalidate("FrameworkTestPage");
+        DynamicPage after = PageObjectFactory.loadPage(path);
+
+        // Updated in place, so page objects already handed out see the re-read definition
+        Assert.assertSame(after, before);
+        Assert.assertSame(after.getPageDefinition(), JsonLocatorHelper.getCompiledPage("FrameworkTestPage").getDefinition());
+        Assert.assertSame(PageObjectFactory.loadPage(path), after);
+    }
+}
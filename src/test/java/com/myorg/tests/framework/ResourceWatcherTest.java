@@ -0,0 +1,114 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.DynamicPage;
+import com.myorg.automation.core.PageObjectFactory;
+import com.myorg.automation.core.PageRepository;
+import com.myorg.automation.core.ResourceWatcher;
+import com.myorg.automation.core.elements.Button;
+import com.myorg.automation.core.elements.Label;
+import com.myorg.automation.utils.TestDataBinder;
+import com.myorg.automation.utils.TestDataResolver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Hot reload of edited page and test data JSON into the running caches
+ */
+public class ResourceWatcherTest {
+    private static final String PAGE = "pages/HotReloadPage.json";
+    private static final String DATA = "testdata/hot_reload_data.json";
+
+    private Path root;
+    private ResourceWatcher watcher;
+
+    @BeforeClass(alwaysRun = true)
+    public void startWatcher() throws IOException {
+        root = Files.createTempDirectory("hot-reload");
+        Files.createDirectories(root.resolve("pages"));
+        Files.createDirectories(root.resolve("testdata"));
+        watcher = ResourceWatcher.start(List.of(root));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopWatcher() throws IOException {
+        watcher.close();
+        PageObjectFactory.removeFromCache(PAGE);
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void editedPageIsSwappedIntoTheRunningPageObject() throws Exception {
+        writePage("css=#go", "css=#title");
+        awaitTrue(() -> PageRepository.isCached(PAGE));
+        DynamicPage page = PageObjectFactory.loadPage("/" + PAGE);
+        Button go = page.button("go");
+        Label title = page.label("title");
+
+        long reloads = watcher.getReloadCount();
+        writePage("css=#go-v2", "css=#title");
+        awaitTrue(() -> watcher.getReloadCount() > reloads);
+
+        Assert.assertSame(PageObjectFactory.loadPage("/" + PAGE), page);
+        Assert.assertEquals(PageRepository.get(PAGE).getLocators().get("go").getRawLocator(), "css=#go-v2");
+        Assert.assertEquals(page.locatorOf("go"), "css=#go-v2");
+        Assert.assertNotSame(page.button("go"), go);
+        Assert.assertEquals(page.button("go").getLocator(), "css=#go-v2");
+        Assert.assertSame(page.label("title"), title);
+    }
+
+    @Test(groups = {"unit"}, dependsOnMethods = "editedPageIsSwappedIntoTheRunningPageObject")
+    public void brokenEditKeepsThePreviousPage() throws Exception {
+        long failures = watcher.getFailureCount();
+        writePage("xpath=//div[", "css=#title");
+        awaitTrue(() -> watcher.getFailureCount() > failures);
+
+        Assert.assertEquals(PageObjectFactory.loadPage("/" + PAGE).locatorOf("go"), "css=#go-v2");
+
+        Files.write(root.resolve(PAGE), "{\"pageName\": ".getBytes(StandardCharsets.UTF_8));
+        awaitTrue(() -> watcher.getFailureCount() > failures + 1);
+        Assert.assertEquals(PageObjectFactory.loadPage("/" + PAGE).locatorOf("go"), "css=#go-v2");
+    }
+
+    @Test(groups = {"unit"})
+    public void editedTestDataReachesBothLoaders() throws Exception {
+        long reloads = watcher.getReloadCount();
+        Files.write(root.resolve(DATA), "{\"case1\": {\"city\": \"Bangkok\"}, \"case2\": {\"city\": \"Osaka\"}}"
+                .getBytes(StandardCharsets.UTF_8));
+        awaitTrue(() -> watcher.getReloadCount() > reloads);
+
+        Assert.assertEquals(TestDataBinder.getTestCaseNames(DATA), List.of("case1", "case2"));
+        Assert.assertEquals(TestDataResolver.getValue("/" + DATA, "case2", "city"), "Osaka");
+    }
+
+    private void writePage(String goLocator, String titleLocator) throws IOException {
+        String json = String.format("{\"pageName\": \"HotReloadPage\", \"url\": \"about:blank\", \"elements\": ["
+                + "{\"name\": \"go\", \"locator\": \"%s\", \"type\": \"Button\"},"
+                + "{\"name\": \"title\", \"locator\": \"%s\", \"type\": \"Label\"}]}", goLocator, titleLocator);
+        Files.write(root.resolve(PAGE), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Hot reload did not happen within 15 s");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
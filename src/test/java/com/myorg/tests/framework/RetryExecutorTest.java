@@ -0,0 +1,216 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.core.retry.DeadlineRetryPolicy;
+import com.myorg.automation.core.retry.ExponentialBackoffRetryPolicy;
+import com.myorg.automation.core.retry.FixedDelayRetryPolicy;
+import com.myorg.automation.core.retry.RetryClassifier;
+import com.myorg.automation.core.retry.RetryExecutor;
+import com.myorg.automation.core.retry.RetryMetrics;
+import com.myorg.automation.core.retry.RetryPolicy;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retry policies, failure classification, the retry executor and retry metrics
+ */
+public class RetryExecutorTest {
+    // Allowance for sleep overshoot and scheduling on a busy machine
+    private static final long SLACK_MILLIS = 150;
+
+    @BeforeMethod(alwaysRun = true)
+    @AfterMethod(alwaysRun = true)
+    public void resetMetrics() {
+        RetryMetrics.reset();
+    }
+
+    @Test(groups = {"unit"})
+    public void classifiesSeleniumFailures() {
+        Assert.assertEquals(RetryClassifier.classify(new StaleElementReferenceException("stale")),
+                RetryClassifier.Decision.RETRY_IMMEDIATELY);
+        Assert.assertEquals(RetryClassifier.classify(new NoSuchElementException("missing")),
+                RetryClassifier.Decision.BACKOFF);
+        // InvalidSelectorException extends NoSuchElementException but must never be retried
+        Assert.assertEquals(RetryClassifier.classify(new InvalidSelectorException("bad selector")),
+                RetryClassifier.Decision.FAIL);
+        Assert.assertEquals(RetryClassifier.classify(new IllegalStateException("bug")),
+                RetryClassifier.Decision.FAIL);
+        Assert.assertEquals(RetryClassifier.classify(new RuntimeException("wrapped", new StaleElementReferenceException("stale"))),
+                RetryClassifier.Decision.RETRY_IMMEDIATELY);
+    }
+
+    @Test(groups = {"unit"})
+    public void staleElementRetriesWithoutDelay() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.currentTimeMillis();
+        String result = RetryExecutor.execute("stale", new FixedDelayRetryPolicy(3, 1000), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return "done";
+        });
+        long elapsed = System.currentTimeMillis() - start;
+
+        Assert.assertEquals(result, "done");
+        Assert.assertEquals(attempts.get(), 3);
+        Assert.assertTrue(elapsed < SLACK_MILLIS, "Stale retries took " + elapsed + "ms");
+        Assert.assertTrue(RetryMetrics.getReport().contains("retries=2 immediate=2 backoff=0ms"), RetryMetrics.getReport());
+    }
+
+    @Test(groups = {"unit"})
+    public void missingElementBacksOff() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.currentTimeMillis();
+        RetryExecutor.execute("missing", new FixedDelayRetryPolicy(3, 100), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new NoSuchElementException("missing");
+            }
+        });
+        long elapsed = System.currentTimeMillis() - start;
+
+        Assert.assertEquals(attempts.get(), 3);
+        Assert.assertTrue(elapsed >= 200 && elapsed < 200 + SLACK_MILLIS, "Backed off for " + elapsed + "ms");
+        Assert.assertTrue(RetryMetrics.getReport().contains("retries=2 immediate=0 backoff=200ms"), RetryMetrics.getReport());
+    }
+
+    @Test(groups = {"unit"})
+    public void invalidSelectorFailsOnTheFirstAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+        InvalidSelectorException failure = new InvalidSelectorException("bad selector");
+
+        InvalidSelectorException e = Assert.expectThrows(InvalidSelectorException.class,
+                () -> RetryExecutor.execute("invalid", new FixedDelayRetryPolicy(5, 1000), () -> {
+                    attempts.incrementAndGet();
+                    throw failure;
+                }));
+
+        Assert.assertSame(e, failure);
+        Assert.assertEquals(attempts.get(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void exhaustedPolicyWrapsTheLastFailure() {
+        NoSuchElementException failure = new NoSuchElementException("missing");
+
+        RuntimeException e = Assert.expectThrows(RuntimeException.class,
+                () -> RetryExecutor.execute("exhausted", new FixedDelayRetryPolicy(2, 10), () -> {
+                    throw failure;
+                }));
+
+        Assert.assertTrue(e.getMessage().startsWith("Operation 'exhausted' failed after 2 attempt(s) with fixed(attempts=2, delay=10ms)"),
+                e.getMessage());
+        Assert.assertSame(e.getCause(), failure);
+    }
+
+    @Test(groups = {"unit"})
+    public void exponentialBackoffDoublesUpToMax() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(10, 100, 1000, 0);
+
+        Assert.assertEquals(policy.nextDelayMillis(1, 0), 100);
+        Assert.assertEquals(policy.nextDelayMillis(2, 0), 200);
+        Assert.assertEquals(policy.nextDelayMillis(3, 0), 400);
+        Assert.assertEquals(policy.nextDelayMillis(4, 0), 800);
+        Assert.assertEquals(policy.nextDelayMillis(5, 0), 1000);
+        Assert.assertEquals(policy.nextDelayMillis(9, 0), 1000);
+        Assert.assertEquals(policy.nextDelayMillis(10, 0), RetryPolicy.STOP);
+    }
+
+    @Test(groups = {"unit"})
+    public void jitteredBackoffStaysWithinBaseAndMax() {
+        for (double jitter : new double[] {0.2, 0.5, 1.0, 5.0}) {
+            RetryPolicy policy = new ExponentialBackoffRetryPolicy(40, 100, 1000, jitter);
+            for (int failedAttempts = 1; failedAttempts < 40; failedAttempts++) {
+                for (int sample = 0; sample < 50; sample++) {
+                    long delay = policy.nextDelayMillis(failedAttempts, 0);
+                    Assert.assertTrue(delay >= 100 && delay <= 1000,
+                            "jitter=" + jitter + " attempt=" + failedAttempts + " delay=" + delay);
+                }
+            }
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void deadlineStopsOnceTheBudgetIsSpent() {
+        RetryPolicy policy = new DeadlineRetryPolicy(new FixedDelayRetryPolicy(100, 300), 1000);
+
+        Assert.assertEquals(policy.nextDelayMillis(1, 0), 300);
+        // Never sleeps past the deadline
+        Assert.assertEquals(policy.nextDelayMillis(2, 900), 100);
+        Assert.assertEquals(policy.nextDelayMillis(3, 1000), RetryPolicy.STOP);
+        Assert.assertEquals(policy.nextDelayMillis(4, 1500), RetryPolicy.STOP);
+        // The delegate still limits the attempts
+        Assert.assertEquals(new DeadlineRetryPolicy(new FixedDelayRetryPolicy(2, 10), 1000).nextDelayMillis(2, 0),
+                RetryPolicy.STOP);
+    }
+
+    @Test(groups = {"unit"})
+    public void deadlineBoundsTheWholeOperation() {
+        long start = System.currentTimeMillis();
+        Assert.expectThrows(RuntimeException.class, () -> RetryExecutor.execute("deadline",
+                new DeadlineRetryPolicy(new FixedDelayRetryPolicy(100, 50), 300), () -> {
+                    throw new NoSuchElementException("missing");
+                }));
+        long elapsed = System.currentTimeMillis() - start;
+
+        Assert.assertTrue(elapsed >= 300 && elapsed < 300 + SLACK_MILLIS, "Gave up after " + elapsed + "ms");
+    }
+
+    @Test(groups = {"unit"})
+    public void executeUntilTrueNeverThrows() {
+        RetryPolicy policy = new FixedDelayRetryPolicy(3, 10);
+        AtomicInteger checks = new AtomicInteger();
+
+        Assert.assertFalse(RetryExecutor.executeUntilTrue("never", policy, () -> false));
+        Assert.assertFalse(RetryExecutor.executeUntilTrue("null", policy, () -> null));
+        Assert.assertFalse(RetryExecutor.executeUntilTrue("missing", policy, () -> {
+            throw new NoSuchElementException("missing");
+        }));
+        Assert.assertFalse(RetryExecutor.executeUntilTrue("invalid", policy, () -> {
+            throw new InvalidSelectorException("bad selector");
+        }));
+        Assert.assertFalse(RetryExecutor.executeUntilTrue("bug", policy, () -> {
+            throw new IllegalStateException("bug");
+        }));
+        Assert.assertTrue(RetryExecutor.executeUntilTrue("eventually", policy, () -> checks.incrementAndGet() == 2));
+        Assert.assertEquals(checks.get(), 2);
+    }
+
+    @Test(groups = {"unit"})
+    public void metricsCountAttemptsAndWastedTime() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryExecutor.execute("flaky", new FixedDelayRetryPolicy(3, 50), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new NoSuchElementException("missing");
+            }
+        });
+        RetryExecutor.execute("flaky", new FixedDelayRetryPolicy(3, 50), () -> { });
+        Assert.expectThrows(RuntimeException.class, () -> RetryExecutor.execute("broken", new FixedDelayRetryPolicy(2, 20),
+                () -> {
+                    throw new NoSuchElementException("missing");
+                }));
+        RetryExecutor.execute("clean", new FixedDelayRetryPolicy(3, 50), () -> { });
+
+        Assert.assertEquals(RetryMetrics.getTotalRetries(), 3);
+        long wasted = RetryMetrics.getTotalWastedMillis();
+        Assert.assertTrue(wasted >= 100 + 20 && wasted < 120 + SLACK_MILLIS, "Wasted " + wasted + "ms");
+
+        String report = RetryMetrics.getReport();
+        Assert.assertTrue(report.matches("(?s).*flaky\\s+executions=2 failures=0 retries=2 immediate=0 backoff=100ms.*"), report);
+        Assert.assertTrue(report.matches("(?s).*broken\\s+executions=1 failures=1 retries=1 immediate=0 backoff=20ms.*"), report);
+        // Operations that never retried are left out
+        Assert.assertFalse(report.contains("clean"), report);
+        Assert.assertTrue(report.contains("TOTAL retries=3 wasted=" + wasted + "ms"), report);
+
+        RetryMetrics.reset();
+        Assert.assertEquals(RetryMetrics.getTotalRetries(), 0);
+        Assert.assertEquals(RetryMetrics.getTotalWastedMillis(), 0);
+    }
+}
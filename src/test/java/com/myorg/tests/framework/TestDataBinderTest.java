@@ -0,0 +1,70 @@
+package com.myorg.tests.framework;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myorg.automation.core.json.FrameworkJson;
+import com.myorg.automation.models.SearchTestData;
+import com.myorg.automation.utils.TestDataBinder;
+import com.myorg.automation.utils.TestDataProvider;
+import com.myorg.automation.utils.TestDataResolver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed binding of test cases through TestDataBinder
+ */
+public class TestDataBinderTest {
+    private static final String FILE = "testdata/agoda_search_data.json";
+
+    @Test(groups = {"unit"})
+    public void bindsLikeTheStringRoundTripDid() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (String name : TestDataBinder.getTestCaseNames(FILE)) {
+            Map<String, Object> resolved = TestDataResolver.getTestCaseData("/" + FILE, name);
+            SearchTestData expected = objectMapper.readValue(objectMapper.writeValueAsString(resolved), SearchTestData.class);
+
+            SearchTestData bound = TestDataProvider.loadSearchTestData(name);
+
+            Assert.assertEquals(objectMapper.writeValueAsString(bound), objectMapper.writeValueAsString(expected), name);
+            Assert.assertFalse(bound.getCheckOutDate().contains("<"));
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void reusesIndexAndReaders() {
+        List<String> names = TestDataBinder.getTestCaseNames(FILE);
+        Assert.assertSame(TestDataBinder.getTestCaseNames("/" + FILE), names, "File should be indexed once");
+        Assert.assertSame(FrameworkJson.reader(SearchTestData.class), FrameworkJson.reader(SearchTestData.class));
+        Assert.assertEquals(TestDataProvider.getAvailableTestCases(), names.toArray(new String[0]));
+        Assert.assertTrue(TestDataBinder.hasTestCase(FILE, "tc01_da_nang_search"));
+    }
+
+    @Test(groups = {"unit"})
+    public void resolverReadsTheBinderIndex() {
+        TestDataBinder.clearCache();
+        List<String> names = TestDataBinder.getTestCaseNames(FILE);
+
+        // One cached parse per file, whichever API loaded it
+        Assert.assertTrue(TestDataResolver.isCached("/" + FILE));
+        Map<String, Object> all = TestDataResolver.loadTestData("/" + FILE);
+        Assert.assertEquals(List.copyOf(all.keySet()), names);
+        Assert.assertSame(TestDataBinder.getTestCaseNames(FILE), names, "Resolver should not re-read the file");
+
+        // Handed-out maps are copies, so changing one leaves the cached case alone
+        String name = names.get(0);
+        TestDataResolver.getTestCaseData("/" + FILE, name).put("place", "changed");
+        Assert.assertEquals(TestDataResolver.getValue("/" + FILE, name, "place"), "Da Nang");
+
+        TestDataResolver.removeFromCache("/" + FILE);
+        Assert.assertNotSame(TestDataBinder.getTestCaseNames(FILE), names);
+    }
+
+    @Test(groups = {"unit"})
+    public void reportsUnknownTestCase() {
+        RuntimeException error = Assert.expectThrows(RuntimeException.class,
+                () -> TestDataBinder.bind(FILE, "tc99_missing", SearchTestData.class));
+        Assert.assertTrue(error.getMessage().contains("tc99_missing"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.myorg.tests.framework;
+
+import com.myorg.automation.models.SearchTestData;
+import com.myorg.automation.utils.DateTimeUtils;
+import com.myorg.automation.utils.TestDataProvider;
+import com.myorg.automation.utils.TestDataStream;
+import com.myorg.automation.utils.TestDataStream.TestCase;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Case-by-case test data reading with TestDataStream
+ */
+public class TestDataStreamTest {
+
+    @Test(groups = {"unit"})
+    public void streamsObjectOfCasesFromClasspath() {
+        List<String> names = new ArrayList<>();
+        try (TestDataStream stream = TestDataStream.open("testdata/agoda_search_data.json")) {
+            while (stream.hasNext()) {
+                TestCase testCase = stream.next();
+                names.add(testCase.getName());
+                Assert.assertFalse(testCase.getData().get("checkInDate").toString().contains("<"),
+                        "Date token not resolved in " + testCase.getName());
+            }
+        }
+        Assert.assertEquals(names, List.of(TestDataProvider.getAvailableTestCases()));
+    }
+
+    @Test(groups = {"unit"})
+    public void dataProviderHandsOutBoundCases() {
+        Iterator<Object[]> rows = TestDataProvider.provideAllSearchTestData();
+        Assert.assertTrue(rows.hasNext());
+        SearchTestData first = (SearchTestData) rows.next()[0];
+        Assert.assertEquals(first.getPlace(), "Da Nang");
+        Assert.assertFalse(first.getCheckInDate().contains("<"));
+    }
+
+    @Test(groups = {"unit"})
+    public void readsJsonLinesAndResolvesTokensOnlyForCasesHandedOut() throws Exception {
+        AtomicInteger resolutions = new AtomicInteger();
+        DateTimeUtils.registerToken("COUNTED_TODAY", context -> {
+            resolutions.incrementAndGet();
+            return context.format(context.getToday());
+        });
+        Path file = Files.createTempFile("cases", ".jsonl");
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (int i = 1; i <= 1000; i++) {
+                lines.append("{\"id\":\"case").append(i).append("\",\"date\":\"<COUNTED_TODAY>\",\"tags\":[\"<COUNTED_TODAY>\"]}\n");
+            }
+            Files.write(file, lines.toString().getBytes(StandardCharsets.UTF_8));
+
+            try (TestDataStream stream = TestDataStream.open(file.toString())) {
+                TestCase first = stream.next();
+                TestCase second = stream.next();
+
+                Assert.assertEquals(first.getName(), "case1");
+                Assert.assertEquals(second.getName(), "case2");
+                Assert.assertEquals(((List<?>) second.getData().get("tags")).get(0), second.getData().get("date"));
+                Assert.assertEquals(stream.getReadCount(), 2, "Stream read ahead of the cases handed out");
+                Assert.assertEquals(resolutions.get(), 4, "Tokens resolved for cases not handed out");
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void readsArrayOfCasesNamedByPosition() throws Exception {
+        Path file = Files.createTempFile("cases", ".json");
+        try {
+            Files.write(file, "[{\"place\":\"Hue\"}, {\"place\":\"Hanoi\"}]".getBytes(StandardCharsets.UTF_8));
+            List<Map<String, Object>> cases = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            TestDataStream stream = TestDataStream.open(file.toString());
+            stream.forEachRemaining(testCase -> {
+                names.add(testCase.getName());
+                cases.add(testCase.getData());
+            });
+            Assert.assertEquals(names, List.of("1", "2"));
+            Assert.assertEquals(cases.get(1).get("place"), "Hanoi");
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
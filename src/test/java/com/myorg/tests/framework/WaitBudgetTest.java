@@ -0,0 +1,108 @@
+package com.myorg.tests.framework;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.pages.BasePage;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Verifies that page actions on a missing element wait one budget, not one per layer
+ * (smart wait, Selenide command, retries).
+ */
+public class WaitBudgetTest {
+    private static final long TIMEOUT_MILLIS = 1000;
+    // Allowance for polling granularity and scheduling, well below a second timeout
+    private static final long SLACK_MILLIS = 400;
+
+    private long originalTimeout;
+    private boolean originalScreenshots;
+    private boolean originalSavePageSource;
+    private FakeWebDriver driver;
+    private ConfigScope scope;
+
+    @BeforeClass(alwaysRun = true)
+    public void configureSelenide() {
+        originalTimeout = Configuration.timeout;
+        originalScreenshots = Configuration.screenshots;
+        originalSavePageSource = Configuration.savePageSource;
+        Configuration.timeout = TIMEOUT_MILLIS;
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreSelenide() {
+        Configuration.timeout = originalTimeout;
+        Configuration.screenshots = originalScreenshots;
+        Configuration.savePageSource = originalSavePageSource;
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void attachFakeDriver() {
+        // Framework waits read the scoped timeout, Selenide's own the static Configuration
+        scope = ConfigScope.open(Map.of("browser.timeout", String.valueOf(TIMEOUT_MILLIS)));
+        driver = new FakeWebDriver();
+        WebDriverRunner.setWebDriver(driver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachFakeDriver() {
+        WebDriverRunner.closeWebDriver();
+        scope.close();
+    }
+
+    @Test(groups = {"unit"})
+    public void clickOnMissingElementIsBoundedByOneTimeout() {
+        TestPage page = new TestPage();
+        // Warm-up so that one-off class loading and JSON parsing are not timed
+        page.isElementVisible("missingText");
+
+        long start = System.currentTimeMillis();
+        Assert.expectThrows(Throwable.class, () -> page.click("missingButton"));
+        long elapsed = System.currentTimeMillis() - start;
+
+        Assert.assertTrue(elapsed >= TIMEOUT_MILLIS - 50, "Click gave up before the timeout: " + elapsed + "ms");
+        Assert.assertTrue(elapsed <= TIMEOUT_MILLIS + SLACK_MILLIS,
+                "Click on a missing element took " + elapsed + "ms, more than one " + TIMEOUT_MILLIS + "ms timeout");
+        Assert.assertTrue(driver.getFindCalls() > 0, "Fake driver was never queried");
+    }
+
+    @Test(groups = {"unit"})
+    public void textAndVisibilityChecksUseElementTimeoutOnce() {
+        TestPage page = new TestPage();
+        long elementTimeout = 600;
+
+        long start = System.currentTimeMillis();
+        Assert.assertEquals(page.getElementText("missingText"), "");
+        long textElapsed = System.currentTimeMillis() - start;
+
+        start = System.currentTimeMillis();
+        Assert.assertFalse(page.isElementVisible("missingText"));
+        long visibleElapsed = System.currentTimeMillis() - start;
+
+        Assert.assertTrue(textElapsed <= elementTimeout + SLACK_MILLIS, "getElementText took " + textElapsed + "ms");
+        Assert.assertTrue(visibleElapsed <= elementTimeout + SLACK_MILLIS, "isElementVisible took " + visibleElapsed + "ms");
+    }
+
+    /**
+     * Minimal page over the test-only FrameworkTestPage.json
+     */
+    private static class TestPage extends BasePage {
+        TestPage() {
+            super("FrameworkTestPage");
+        }
+
+        void click(String elementName) {
+            clickElement(elementName);
+        }
+    }
+}
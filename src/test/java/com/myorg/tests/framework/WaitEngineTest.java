@@ -0,0 +1,252 @@
+package com.myorg.tests.framework;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.WebDriverRunner;
+import com.myorg.automation.config.ConfigScope;
+import com.myorg.automation.core.wait.WaitCondition;
+import com.myorg.automation.core.wait.WaitConditions;
+import com.myorg.automation.core.wait.WaitEngine;
+import com.myorg.automation.pages.BasePage;
+import com.myorg.tests.framework.support.FakeWebDriver;
+import com.myorg.tests.framework.support.FakeWebElement;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.$$;
+
+/**
+ * Condition polling: adaptive intervals, timeouts, element timeouts and the time-saved report
+ */
+public class WaitEngineTest {
+    private static final long POLL_INITIAL = 20;
+    private static final long POLL_MAX = 80;
+    private static final long BROWSER_TIMEOUT = 700;
+    // Allowance for sleep overshoot and scheduling on a busy machine
+    private static final long SLACK_MILLIS = 150;
+    // The engine measures whole milliseconds, so a wait may end up to this much early
+    private static final long ROUNDING_MILLIS = 5;
+
+    private boolean originalScreenshots;
+    private boolean originalSavePageSource;
+    private FakeWebDriver driver;
+    private ConfigScope scope;
+
+    @BeforeClass(alwaysRun = true)
+    public void configureSelenide() {
+        originalScreenshots = Configuration.screenshots;
+        originalSavePageSource = Configuration.savePageSource;
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreSelenide() {
+        Configuration.screenshots = originalScreenshots;
+        Configuration.savePageSource = originalSavePageSource;
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void attachFakeDriver() {
+        scope = ConfigScope.open(Map.of(
+                "wait.poll.initial", String.valueOf(POLL_INITIAL),
+                "wait.poll.max", String.valueOf(POLL_MAX),
+                "browser.timeout", String.valueOf(BROWSER_TIMEOUT)));
+        driver = new FakeWebDriver();
+        WebDriverRunner.setWebDriver(driver);
+        WaitEngine.resetStats();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachFakeDriver() {
+        WebDriverRunner.closeWebDriver();
+        scope.close();
+        WaitEngine.resetStats();
+    }
+
+    @Test(groups = {"unit"})
+    public void pollIntervalDoublesFromInitialUpToMax() {
+        List<Long> checks = new ArrayList<>();
+        WaitCondition never = WaitCondition.of("never", () -> {
+            checks.add(System.nanoTime());
+            return false;
+        });
+
+        Assert.assertFalse(WaitEngine.until(never, 600));
+
+        List<Long> gaps = new ArrayList<>();
+        for (int i = 1; i < checks.size(); i++) {
+            gaps.add((checks.get(i) - checks.get(i - 1)) / 1_000_000L);
+        }
+        // 20, 40, 80, 80, ... ms; the last gap is cut short by the timeout
+        Assert.assertTrue(gaps.size() >= 5, "Polled only at " + gaps);
+        Assert.assertTrue(gaps.get(0) >= POLL_INITIAL && gaps.get(0) < POLL_INITIAL * 2 + SLACK_MILLIS / 3, gaps.toString());
+        Assert.assertTrue(gaps.get(1) >= POLL_INITIAL * 2, gaps.toString());
+        for (long gap : gaps.subList(2, gaps.size() - 1)) {
+            Assert.assertTrue(gap >= POLL_MAX && gap < POLL_MAX + SLACK_MILLIS, "Gap outside [max, max + slack]: " + gaps);
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void timeoutReturnsFalseAndRequireThrows() {
+        WaitCondition never = WaitCondition.of("never met", () -> false);
+
+        long start = System.currentTimeMillis();
+        Assert.assertFalse(WaitEngine.until(never, 200));
+        long elapsed = System.currentTimeMillis() - start;
+        Assert.assertTrue(elapsed >= 200 - ROUNDING_MILLIS && elapsed < 200 + SLACK_MILLIS, "Timed out after " + elapsed + "ms");
+
+        RuntimeException e = Assert.expectThrows(RuntimeException.class, () -> WaitEngine.require(never, 100, 0));
+        Assert.assertEquals(e.getMessage(), "Condition 'never met' not met within 100ms");
+        WaitEngine.require(WaitCondition.of("met", () -> true), 100, 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void exceptionsCountAsNotMetYet() {
+        AtomicInteger checks = new AtomicInteger();
+        WaitCondition flaky = WaitCondition.of("flaky", () -> {
+            if (checks.incrementAndGet() < 3) {
+                throw new IllegalStateException("element is being re-rendered");
+            }
+            return true;
+        });
+
+        Assert.assertTrue(WaitEngine.until(flaky, 1000));
+        Assert.assertEquals(checks.get(), 3);
+    }
+
+    @Test(groups = {"unit"})
+    public void pageWaitsUseTheElementTimeout() {
+        TestPage page = new TestPage();
+        WaitCondition never = WaitCondition.of("never", () -> false);
+
+        // missingText sets "timeout": 600 in JSON, missingButton falls back to browser.timeout
+        Assert.assertEquals(page.timeoutOf("missingText"), 600);
+        Assert.assertEquals(page.timeoutOf("missingButton"), BROWSER_TIMEOUT);
+
+        long start = System.currentTimeMillis();
+        Assert.assertFalse(page.waitFor("missingText", never));
+        long elapsed = System.currentTimeMillis() - start;
+        Assert.assertTrue(elapsed >= 600 - ROUNDING_MILLIS && elapsed < 600 + SLACK_MILLIS, "Waited " + elapsed + "ms");
+
+        RuntimeException e = Assert.expectThrows(RuntimeException.class, () -> page.require("missingText", never));
+        Assert.assertTrue(e.getMessage().contains("600ms"), e.getMessage());
+    }
+
+    @Test(groups = {"unit"})
+    public void recordsTimeSavedAgainstTheReplacedSleep() {
+        Assert.assertTrue(WaitEngine.until(WaitCondition.of("ready", () -> true), 1000, 500));
+        Assert.assertTrue(WaitEngine.until(WaitCondition.of("ready", () -> true), 1000, 500));
+        Assert.assertFalse(WaitEngine.until(WaitCondition.of("late", () -> false), 100, 50));
+        // Not recorded without a replaced sleep
+        WaitEngine.until(WaitCondition.of("unreported", () -> true), 100);
+
+        long saved = WaitEngine.getTotalTimeSavedMillis();
+        // 2 x 500ms saved, about 50ms lost on the timeout
+        Assert.assertTrue(saved > 1000 - 50 - SLACK_MILLIS && saved <= 950 + ROUNDING_MILLIS, "Saved " + saved + "ms");
+
+        String report = WaitEngine.getTimeSavedReport();
+        Assert.assertTrue(report.matches("(?s).*ready\\s+waits=2 timeouts=0 fixed=1000ms.*"), report);
+        Assert.assertTrue(report.matches("(?s).*late\\s+waits=1 timeouts=1 fixed=50ms actual=\\d+ms.*"), report);
+        Assert.assertFalse(report.contains("unreported"), report);
+        Assert.assertTrue(report.contains("TOTAL fixed=1050ms"), report);
+    }
+
+    @Test(groups = {"unit"})
+    public void elementCountChangedWaitsForNewMembers() {
+        By cards = By.cssSelector(".card");
+        ElementsCollection collection = $$(cards);
+        WaitCondition changed = WaitConditions.elementCountChanged(collection, "cards", collection.size());
+
+        Assert.assertFalse(changed.isMet());
+        driver.addElements(cards, List.of(new FakeWebElement("Hotel 1"), new FakeWebElement("Hotel 2")));
+        Assert.assertTrue(changed.isMet());
+    }
+
+    @Test(groups = {"unit"})
+    public void missingElementIsNotMetYetAndDoesNotWaitOutTheSelenideTimeout() {
+        long originalTimeout = Configuration.timeout;
+        try {
+            // Selenide's ElementNotFound is an AssertionError; it must not escape the wait
+            Configuration.timeout = 100;
+            Assert.assertFalse(WaitEngine.until(WaitCondition.of("selenide read", () -> $("#counter").getText().isEmpty()), 0));
+
+            Configuration.timeout = 4000;
+            WaitCondition text = WaitConditions.textEquals($("#counter"), "counter", "2");
+            WaitCondition value = WaitConditions.valueEquals($("#city"), "city", "Bangkok");
+
+            Assert.assertFalse(text.isMet());
+            long start = System.currentTimeMillis();
+            Assert.assertFalse(WaitEngine.until(text, 200));
+            Assert.assertFalse(WaitEngine.until(value, 200));
+            long elapsed = System.currentTimeMillis() - start;
+            Assert.assertTrue(elapsed < 400 + SLACK_MILLIS, "Missing elements took " + elapsed + "ms");
+
+            driver.addElement(By.cssSelector("#counter"), new FakeWebElement(" 2 "));
+            driver.addElement(By.cssSelector("#city"), new FakeWebElement("").withAttribute("value", "Bangkok"));
+            Assert.assertTrue(WaitEngine.until(text, 200));
+            Assert.assertTrue(WaitEngine.until(value, 200));
+        } finally {
+            Configuration.timeout = originalTimeout;
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void domQuiescentReadsTimeSinceTheLastMutation() {
+        long[] sinceLastMutation = {10};
+        driver.onScript((script, args) -> sinceLastMutation[0]);
+        WaitCondition quiet = WaitConditions.domQuiescent(250);
+
+        Assert.assertFalse(quiet.isMet());
+        sinceLastMutation[0] = 300;
+        Assert.assertTrue(quiet.isMet());
+    }
+
+    @Test(groups = {"unit"})
+    public void networkIdleNeedsAStableResourceCount() {
+        AtomicInteger resources = new AtomicInteger(-1);
+        driver.onScript((script, args) -> (long) resources.get());
+
+        // Still loading, then growing on every poll: never idle
+        Assert.assertFalse(WaitEngine.until(WaitConditions.networkIdle(50), 300));
+        driver.onScript((script, args) -> (long) resources.incrementAndGet());
+        Assert.assertFalse(WaitEngine.until(WaitConditions.networkIdle(50), 300));
+
+        driver.onScript((script, args) -> 12L);
+        long start = System.currentTimeMillis();
+        Assert.assertTrue(WaitEngine.until(WaitConditions.networkIdle(50), 1000));
+        Assert.assertTrue(System.currentTimeMillis() - start >= 50);
+    }
+
+    /**
+     * Minimal page over the test-only FrameworkTestPage.json
+     */
+    private static class TestPage extends BasePage {
+        TestPage() {
+            super("FrameworkTestPage");
+        }
+
+        long timeoutOf(String elementName) {
+            return getElementTimeout(elementName);
+        }
+
+        boolean waitFor(String elementName, WaitCondition condition) {
+            return waitForCondition(elementName, condition, 0);
+        }
+
+        void require(String elementName, WaitCondition condition) {
+            requireCondition(elementName, condition, 0);
+        }
+    }
+}
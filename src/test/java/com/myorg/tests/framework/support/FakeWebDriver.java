@@ -0,0 +1,214 @@
+package com.myorg.tests.framework.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.Logs;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Browserless WebDriver for framework unit tests.
+ * Lookups find only the elements added with {@link #addElement}; scripts are answered by the handler set
+ * with {@link #onScript}. Find calls and cookie clears are counted so tests can assert on driver traffic.
+ * Like a real driver, it reports a missing session once quit.
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor {
+    private final AtomicInteger findCalls = new AtomicInteger();
+    private final AtomicInteger cookieClears = new AtomicInteger();
+    private final AtomicBoolean quit = new AtomicBoolean();
+    private final Map<By, List<WebElement>> elements = new ConcurrentHashMap<>();
+    private volatile BiFunction<String, Object[], Object> scriptHandler = (script, args) -> null;
+
+    @Override
+    public void get(String url) {
+        // Navigation is a no-op
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    /**
+     * Make lookups by a locator find an element, replacing any element added before
+     */
+    public void addElement(By by, WebElement element) {
+        elements.put(by, Collections.singletonList(element));
+    }
+
+    /**
+     * Make lookups by a locator find several elements, replacing any added before
+     */
+    public void addElements(By by, List<WebElement> found) {
+        elements.put(by, List.copyOf(found));
+    }
+
+    /**
+     * Make lookups by a locator find nothing again
+     */
+    public void removeElements(By by) {
+        elements.remove(by);
+    }
+
+    /**
+     * Answer executeScript calls; the handler gets the script source and its arguments
+     */
+    public void onScript(BiFunction<String, Object[], Object> handler) {
+        scriptHandler = handler;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        findCalls.incrementAndGet();
+        return elements.getOrDefault(by, Collections.emptyList());
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        findCalls.incrementAndGet();
+        List<WebElement> found = elements.get(by);
+        if (found == null || found.isEmpty()) {
+            throw new NoSuchElementException("Fake driver has no element for " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        quit.set(true);
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        checkSession();
+        return Collections.singleton("fake-window");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        checkSession();
+        return "fake-window";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not supported by FakeWebDriver");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not supported by FakeWebDriver");
+    }
+
+    @Override
+    public Options manage() {
+        checkSession();
+        return new FakeOptions();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        checkSession();
+        return scriptHandler.apply(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    private void checkSession() {
+        if (quit.get()) {
+            throw new NoSuchSessionException("Fake driver session was quit");
+        }
+    }
+
+    public int getFindCalls() {
+        return findCalls.get();
+    }
+
+    public boolean isQuit() {
+        return quit.get();
+    }
+
+    public int getCookieClears() {
+        return cookieClears.get();
+    }
+
+    /**
+     * Cookie jar that is always empty; only clearing is counted
+     */
+    private class FakeOptions implements Options {
+        @Override
+        public void addCookie(Cookie cookie) {
+            // Cookies are not stored
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            // Nothing to delete
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            // Nothing to delete
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            cookieClears.incrementAndGet();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return null;
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            throw new UnsupportedOperationException("timeouts are not supported by FakeWebDriver");
+        }
+
+        @Override
+        public Window window() {
+            throw new UnsupportedOperationException("window is not supported by FakeWebDriver");
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedOperationException("logs are not supported by FakeWebDriver");
+        }
+    }
+}
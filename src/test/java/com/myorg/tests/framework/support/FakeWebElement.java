@@ -0,0 +1,141 @@
+package com.myorg.tests.framework.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Element returned by {@link FakeWebDriver}: a visible element with fixed text and attributes.
+ * Once made stale it fails every call like a real element removed from the DOM.
+ */
+public class FakeWebElement implements WebElement {
+    private final String text;
+    private final Map<String, String> attributes = new HashMap<>();
+    private volatile boolean stale;
+
+    public FakeWebElement(String text) {
+        this.text = text;
+    }
+
+    public FakeWebElement withAttribute(String name, String value) {
+        attributes.put(name, value);
+        return this;
+    }
+
+    /**
+     * Make every further call fail with StaleElementReferenceException
+     */
+    public void makeStale() {
+        stale = true;
+    }
+
+    private void checkStale() {
+        if (stale) {
+            throw new StaleElementReferenceException("Fake element is no longer attached to the DOM");
+        }
+    }
+
+    @Override
+    public void click() {
+        checkStale();
+    }
+
+    @Override
+    public void submit() {
+        checkStale();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        checkStale();
+    }
+
+    @Override
+    public void clear() {
+        checkStale();
+    }
+
+    @Override
+    public String getTagName() {
+        checkStale();
+        return "div";
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        checkStale();
+        return attributes.get(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        checkStale();
+        return false;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        checkStale();
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        checkStale();
+        return text;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        checkStale();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        throw new UnsupportedOperationException("Nested lookups are not supported by FakeWebElement");
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        checkStale();
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        checkStale();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        checkStale();
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        checkStale();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedOperationException("Screenshots are not supported by FakeWebElement");
+    }
+}